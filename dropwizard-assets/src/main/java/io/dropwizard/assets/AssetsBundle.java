@@ -3,7 +3,10 @@ package io.dropwizard.assets;
 import io.dropwizard.core.Configuration;
 import io.dropwizard.core.ConfiguredBundle;
 import io.dropwizard.core.setup.Environment;
+import io.dropwizard.servlets.assets.AssetCacheConfiguration;
 import io.dropwizard.servlets.assets.AssetServlet;
+import io.dropwizard.util.DataSize;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,6 +29,12 @@ public class AssetsBundle implements ConfiguredBundle<Configuration> {
     private final String assetsName;
     private final String defaultMediaType;
 
+    @Nullable
+    private final AssetCacheConfiguration cacheConfiguration;
+
+    @Nullable
+    private final DataSize fileStreamingThreshold;
+
     /**
      * Creates a new AssetsBundle which serves up static assets from
      * {@code src/main/resources/assets/*} as {@code /assets/*}.
@@ -110,6 +119,49 @@ public class AssetsBundle implements ConfiguredBundle<Configuration> {
      */
     public AssetsBundle(String resourcePath, String uriPath, String indexFile, String assetsName,
                         String defaultMediaType) {
+        this(resourcePath, uriPath, indexFile, assetsName, defaultMediaType, null);
+    }
+
+    /**
+     * Creates a new AssetsBundle which will configure the application to serve the static files
+     * located in {@code src/main/resources/${resourcePath}} as {@code /${uriPath}}. If no file name is
+     * in ${uriPath}, ${indexFile} is appended before serving. If {@code cacheConfiguration} is given,
+     * served assets are kept in a bounded in-memory cache together with their {@code ETag} and compressed
+     * variants.
+     *
+     * @param resourcePath       the resource path (in the classpath) of the static asset files
+     * @param uriPath            the uri path for the static asset files
+     * @param indexFile          the name of the index file to use
+     * @param assetsName         the name of servlet mapping used for this assets bundle
+     * @param defaultMediaType   the default media type for unknown file extensions
+     * @param cacheConfiguration the configuration of the asset cache, or null to disable caching
+     * @see AssetCacheConfiguration
+     * @since 4.0.11
+     */
+    public AssetsBundle(String resourcePath, String uriPath, String indexFile, String assetsName,
+                        String defaultMediaType, @Nullable AssetCacheConfiguration cacheConfiguration) {
+        this(resourcePath, uriPath, indexFile, assetsName, defaultMediaType, cacheConfiguration, null);
+    }
+
+    /**
+     * Creates a new AssetsBundle which will configure the application to serve the static files
+     * located in {@code src/main/resources/${resourcePath}} as {@code /${uriPath}}. If no file name is
+     * in ${uriPath}, ${indexFile} is appended before serving. Assets which are files on the local
+     * file system and at least as large as {@code fileStreamingThreshold} are streamed from disk
+     * instead of being read onto the heap.
+     *
+     * @param resourcePath           the resource path (in the classpath) of the static asset files
+     * @param uriPath                the uri path for the static asset files
+     * @param indexFile              the name of the index file to use
+     * @param assetsName             the name of servlet mapping used for this assets bundle
+     * @param defaultMediaType       the default media type for unknown file extensions
+     * @param cacheConfiguration     the configuration of the asset cache, or null to disable caching
+     * @param fileStreamingThreshold the minimum size of streamed files, or null to disable streaming
+     * @since 4.0.11
+     */
+    public AssetsBundle(String resourcePath, String uriPath, String indexFile, String assetsName,
+                        String defaultMediaType, @Nullable AssetCacheConfiguration cacheConfiguration,
+                        @Nullable DataSize fileStreamingThreshold) {
         if (!resourcePath.startsWith("/")) {
             throw new IllegalArgumentException(resourcePath + " is not an absolute path");
         }
@@ -123,13 +175,15 @@ public class AssetsBundle implements ConfiguredBundle<Configuration> {
         this.indexFile = indexFile;
         this.assetsName = assetsName;
         this.defaultMediaType = defaultMediaType;
+        this.cacheConfiguration = cacheConfiguration;
+        this.fileStreamingThreshold = fileStreamingThreshold;
     }
 
     @Override
     public void run(Configuration configuration, Environment environment) {
         final String pathPattern = uriPath + '*';
         LOGGER.info("Registering AssetBundle with name: {} for path {}", assetsName, pathPattern);
-        environment.servlets().addServlet(assetsName, createServlet()).addMapping(pathPattern);
+        environment.servlets().addServlet(assetsName, createServlet(environment)).addMapping(pathPattern);
     }
 
     public String getResourcePath() {
@@ -151,7 +205,41 @@ public class AssetsBundle implements ConfiguredBundle<Configuration> {
         return defaultMediaType;
     }
 
+    /**
+     * @since 4.0.11
+     */
+    @Nullable
+    public AssetCacheConfiguration getCacheConfiguration() {
+        return cacheConfiguration;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    @Nullable
+    public DataSize getFileStreamingThreshold() {
+        return fileStreamingThreshold;
+    }
+
     protected AssetServlet createServlet() {
         return new AssetServlet(resourcePath, uriPath, indexFile, defaultMediaType, StandardCharsets.UTF_8);
     }
+
+    /**
+     * Creates the servlet serving the assets of this bundle. If caching is enabled, the servlet
+     * gets an asset cache reporting its metrics to the environment's metric registry. If neither
+     * caching nor file streaming is enabled, {@link #createServlet()} is used.
+     *
+     * @param environment the application's environment
+     * @return the servlet serving the assets of this bundle
+     * @since 4.0.11
+     */
+    protected AssetServlet createServlet(Environment environment) {
+        if (cacheConfiguration == null && fileStreamingThreshold == null) {
+            return createServlet();
+        }
+        return new AssetServlet(resourcePath, uriPath, indexFile, defaultMediaType, StandardCharsets.UTF_8,
+            cacheConfiguration == null ? null : cacheConfiguration.build(environment.metrics(), assetsName),
+            fileStreamingThreshold);
+    }
 }
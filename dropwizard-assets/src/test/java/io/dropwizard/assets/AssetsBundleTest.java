@@ -1,10 +1,13 @@
 package io.dropwizard.assets;
 
+import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.core.Configuration;
 import io.dropwizard.core.setup.Environment;
 import io.dropwizard.jetty.setup.ServletEnvironment;
+import io.dropwizard.servlets.assets.AssetCacheConfiguration;
 import io.dropwizard.servlets.assets.AssetServlet;
 import io.dropwizard.servlets.assets.ResourceURL;
+import io.dropwizard.util.DataSize;
 import jakarta.servlet.ServletRegistration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -141,6 +144,34 @@ class AssetsBundleTest {
         assertThat(servlet.getDefaultMediaType()).isEqualTo("text/plain");
     }
 
+    @Test
+    void canEnableAssetCache() {
+        when(environment.metrics()).thenReturn(new MetricRegistry());
+        final AssetCacheConfiguration cacheConfiguration = new AssetCacheConfiguration();
+        runBundle(new AssetsBundle("/assets", "/assets", "index.html", "assets", "text/plain", cacheConfiguration));
+
+        assertThat(servletPath).isEqualTo("/assets/*");
+        assertThat(servlet.getCache()).isNotNull()
+            .satisfies(cache -> assertThat(cache.getConfiguration()).isSameAs(cacheConfiguration));
+    }
+
+    @Test
+    void doesNotCacheAssetsByDefault() {
+        runBundle(new AssetsBundle());
+
+        assertThat(servlet.getCache()).isNull();
+        assertThat(servlet.getFileStreamingThreshold()).isNull();
+    }
+
+    @Test
+    void canEnableFileStreaming() {
+        runBundle(new AssetsBundle("/assets", "/assets", "index.html", "assets", "text/plain", null,
+            DataSize.mebibytes(1)));
+
+        assertThat(servlet.getCache()).isNull();
+        assertThat(servlet.getFileStreamingThreshold()).isEqualTo(DataSize.mebibytes(1));
+    }
+
     private URL normalize(String path) {
         return ResourceURL.appendTrailingSlash(getClass().getResource(path));
     }
@@ -7,14 +7,18 @@ import com.codahale.metrics.caffeine.MetricsStatsCounter;
 import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.security.Principal;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -23,7 +27,8 @@ import static com.codahale.metrics.MetricRegistry.name;
 
 /**
  * An {@link Authenticator} decorator which uses a Caffeine cache to temporarily
- * cache credentials and their corresponding principals.
+ * cache credentials and their corresponding principals. Entries can be refreshed in the background
+ * before they expire, see {@link Caffeine#refreshAfterWrite(Duration)}.
  *
  * @param <C> the type of credentials the authenticator can authenticate
  * @param <P> the type of principals the authenticator returns
@@ -31,6 +36,7 @@ import static com.codahale.metrics.MetricRegistry.name;
 public class CachingAuthenticator<C, P extends Principal> implements Authenticator<C, P> {
     private final LoadingCache<C, Optional<P>> cache;
     private final Meter cacheMisses;
+    private final Meter cacheRefreshes;
     private final Timer gets;
 
     /**
@@ -88,28 +94,68 @@ public class CachingAuthenticator<C, P extends Principal> implements Authenticat
                                 final Caffeine<Object, Object> builder,
                                 final boolean cacheNegativeResult,
                                 final Supplier<StatsCounter> supplier) {
+        this(metricRegistry, authenticator, builder, cacheNegativeResult, supplier, null);
+    }
+
+    /**
+     * Creates a new cached authenticator.
+     * <p/>
+     * Principals are loaded on the calling thread, and concurrent requests for the same credentials wait for a single
+     * load. If the builder refreshes entries after write, the cached principal is returned while it's reloaded on the
+     * executor of the builder. If the reload doesn't return a principal and negative results aren't cached, the entry
+     * is discarded.
+     *
+     * @param metricRegistry      the application's registry of metrics
+     * @param authenticator       the underlying authenticator
+     * @param builder             a {@link Caffeine}
+     * @param cacheNegativeResult the boolean to enable negative cache
+     * @param supplier            a {@link Supplier<StatsCounter>}
+     * @param timeToLive          the function returning how long a result is cached, e.g. until the credentials expire,
+     *                            or {@code null} to use the expiration of the builder. The builder must not expire
+     *                            entries itself if it's set.
+     * @since 4.0.11
+     */
+    public CachingAuthenticator(final MetricRegistry metricRegistry,
+                                final Authenticator<C, P> authenticator,
+                                final Caffeine<Object, Object> builder,
+                                final boolean cacheNegativeResult,
+                                final Supplier<StatsCounter> supplier,
+                                @Nullable final Function<Optional<P>, Duration> timeToLive) {
         this.cacheMisses = metricRegistry.meter(name(authenticator.getClass(), "cache-misses"));
+        this.cacheRefreshes = metricRegistry.meter(name(authenticator.getClass(), "cache-refreshes"));
         this.gets = metricRegistry.timer(name(authenticator.getClass(), "gets"));
-        CacheLoader<C, Optional<P>> loader;
-        if (cacheNegativeResult) {
-            loader = key -> {
-                cacheMisses.mark();
-                return authenticator.authenticate(key);
-            };
-        } else {
-            loader = key -> {
+        final CacheLoader<C, Optional<P>> loader = new CacheLoader<C, Optional<P>>() {
+            @Override
+            public Optional<P> load(C key) throws Exception {
                 cacheMisses.mark();
                 final Optional<P> optPrincipal = authenticator.authenticate(key);
-                if (optPrincipal.isEmpty()) {
+                if (!cacheNegativeResult && optPrincipal.isEmpty()) {
                     // Prevent caching of unknown credentials
                     throw new InvalidCredentialsException();
                 }
                 return optPrincipal;
-            };
+            }
+
+            @Override
+            @Nullable
+            public Optional<P> reload(C key, Optional<P> oldValue) throws Exception {
+                cacheRefreshes.mark();
+                final Optional<P> optPrincipal = authenticator.authenticate(key);
+                if (!cacheNegativeResult && optPrincipal.isEmpty()) {
+                    // Discard credentials which are no longer valid
+                    return null;
+                }
+                return optPrincipal;
+            }
+        };
+        final Caffeine<Object, Object> statsBuilder = builder.recordStats(supplier);
+        if (timeToLive == null) {
+            this.cache = statsBuilder.build(loader);
+        } else {
+            this.cache = statsBuilder
+                    .expireAfter(new TimeToLiveExpiry<C, P>(timeToLive))
+                    .build(loader);
         }
-        this.cache = builder
-                .recordStats(supplier)
-                .build(loader);
     }
 
     @Override
@@ -193,4 +239,42 @@ public class CachingAuthenticator<C, P extends Principal> implements Authenticat
     @SuppressWarnings("serial")
     private static class InvalidCredentialsException extends Exception {
     }
+
+    /**
+     * Expires each entry after the time to live of its result. A refreshed entry gets the time to live of its new
+     * result, and reads don't extend it.
+     */
+    private static class TimeToLiveExpiry<C, P> implements Expiry<C, Optional<P>> {
+        private final Function<Optional<P>, Duration> timeToLive;
+
+        private TimeToLiveExpiry(Function<Optional<P>, Duration> timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+        @Override
+        public long expireAfterCreate(C key, Optional<P> value, long currentTime) {
+            return toNanos(timeToLive.apply(value));
+        }
+
+        @Override
+        public long expireAfterUpdate(C key, Optional<P> value, long currentTime, long currentDuration) {
+            return toNanos(timeToLive.apply(value));
+        }
+
+        @Override
+        public long expireAfterRead(C key, Optional<P> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private static long toNanos(Duration duration) {
+            if (duration.isNegative()) {
+                return 0;
+            }
+            try {
+                return duration.toNanos();
+            } catch (ArithmeticException e) {
+                return Long.MAX_VALUE;
+            }
+        }
+    }
 }
@@ -1,7 +1,9 @@
 package io.dropwizard.auth;
 
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.caffeine.MetricsStatsCounter;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,8 +11,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.Principal;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -129,4 +139,102 @@ class CachingAuthenticatorTest {
         verify(underlying).authenticate("credentials");
         assertThat(cached.size()).isEqualTo(1);
     }
+
+    @Test
+    void refreshesCachedPrincipalsInTheBackground() throws Exception {
+        final AtomicLong ticker = new AtomicLong();
+        when(underlying.authenticate(anyString()))
+            .thenReturn(Optional.of(new PrincipalImpl("first")))
+            .thenReturn(Optional.of(new PrincipalImpl("second")));
+        cached = new CachingAuthenticator<>(new MetricRegistry(), underlying, Caffeine.newBuilder()
+            .refreshAfterWrite(Duration.ofMinutes(1))
+            .ticker(ticker::get)
+            .executor(Runnable::run));
+
+        assertThat(cached.authenticate("credentials")).contains(new PrincipalImpl("first"));
+        ticker.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        assertThat(cached.authenticate("credentials")).contains(new PrincipalImpl("first"));
+        assertThat(cached.authenticate("credentials")).contains(new PrincipalImpl("second"));
+        verify(underlying, times(2)).authenticate("credentials");
+    }
+
+    @Test
+    void discardsRefreshedCredentialsWhichAreNoLongerValid() throws Exception {
+        final AtomicLong ticker = new AtomicLong();
+        when(underlying.authenticate(anyString()))
+            .thenReturn(Optional.of(new PrincipalImpl("principal")))
+            .thenReturn(Optional.empty());
+        cached = new CachingAuthenticator<>(new MetricRegistry(), underlying, Caffeine.newBuilder()
+            .refreshAfterWrite(Duration.ofMinutes(1))
+            .ticker(ticker::get)
+            .executor(Runnable::run));
+
+        cached.authenticate("credentials");
+        ticker.addAndGet(Duration.ofMinutes(2).toNanos());
+        cached.authenticate("credentials");
+
+        assertThat(cached.size()).isZero();
+    }
+
+    @Test
+    void expiresEntriesAfterTheirTimeToLive() throws Exception {
+        final AtomicLong ticker = new AtomicLong();
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        cached = new CachingAuthenticator<>(metricRegistry, underlying, Caffeine.newBuilder()
+            .ticker(ticker::get)
+            .executor(Runnable::run), false, () -> new MetricsStatsCounter(metricRegistry, "cache"),
+            principal -> Duration.ofSeconds(10));
+
+        cached.authenticate("credentials");
+        ticker.addAndGet(Duration.ofSeconds(9).toNanos());
+        cached.authenticate("credentials");
+        verify(underlying, times(1)).authenticate("credentials");
+
+        ticker.addAndGet(Duration.ofSeconds(2).toNanos());
+        cached.authenticate("credentials");
+        verify(underlying, times(2)).authenticate("credentials");
+    }
+
+    @Test
+    void loadsConcurrentlyRequestedCredentialsOnce() throws Exception {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(underlying.authenticate(anyString())).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return Optional.of(new PrincipalImpl("principal"));
+        });
+        cached = new CachingAuthenticator<>(new MetricRegistry(), underlying, Caffeine.newBuilder());
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Optional<Principal>> first = executorService.submit(() -> cached.authenticate("credentials"));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            final Future<Optional<Principal>> second = executorService.submit(() -> cached.authenticate("credentials"));
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).contains(new PrincipalImpl("principal"));
+            assertThat(second.get(5, TimeUnit.SECONDS)).contains(new PrincipalImpl("principal"));
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(underlying, times(1)).authenticate("credentials");
+    }
+
+    @Test
+    void loadsPrincipalsOnTheCallingThreadWithSoftValues() throws Exception {
+        final AtomicReference<Thread> loadingThread = new AtomicReference<>();
+        when(underlying.authenticate(anyString())).thenAnswer(invocation -> {
+            loadingThread.set(Thread.currentThread());
+            return Optional.of(new PrincipalImpl("principal"));
+        });
+        cached = new CachingAuthenticator<>(new MetricRegistry(), underlying,
+            CaffeineSpec.parse("maximumSize=10, softValues"));
+
+        assertThat(cached.authenticate("credentials")).contains(new PrincipalImpl("principal"));
+        assertThat(cached.authenticate("credentials")).contains(new PrincipalImpl("principal"));
+        assertThat(loadingThread).hasValue(Thread.currentThread());
+        verify(underlying, times(1)).authenticate("credentials");
+    }
 }
@@ -0,0 +1,73 @@
+package io.dropwizard.benchmarks.db;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.db.DataSourceFactory;
+import io.dropwizard.db.HikariDataSourceFactory;
+import io.dropwizard.db.ManagedDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of borrowing a connection from the pool and returning it, with more threads than
+ * connections in the pool.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(16)
+public class ConnectionPoolBenchmark {
+
+    @Param({"tomcat", "hikari"})
+    private String pool = "tomcat";
+
+    private ManagedDataSource dataSource;
+
+    @Setup
+    public void setUp() throws Exception {
+        final DataSourceFactory factory = "hikari".equals(pool) ? new HikariDataSourceFactory() : new DataSourceFactory();
+        factory.setUrl("jdbc:h2:mem:pool-benchmark;DB_CLOSE_DELAY=-1");
+        factory.setDriverClass("org.h2.Driver");
+        factory.setUser("sa");
+        factory.setInitialSize(8);
+        factory.setMinSize(8);
+        factory.setMaxSize(8);
+        dataSource = factory.build(new MetricRegistry(), "benchmark");
+        dataSource.start();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        dataSource.stop();
+    }
+
+    @Benchmark
+    public boolean borrowAndReturn() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getAutoCommit();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ConnectionPoolBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+}
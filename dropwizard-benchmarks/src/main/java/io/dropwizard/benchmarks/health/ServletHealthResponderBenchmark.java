@@ -0,0 +1,153 @@
+package io.dropwizard.benchmarks.health;
+
+import io.dropwizard.health.HealthCheckType;
+import io.dropwizard.health.HealthStateAggregator;
+import io.dropwizard.health.HealthStateView;
+import io.dropwizard.health.response.JsonHealthResponseProvider;
+import io.dropwizard.health.response.ServletHealthResponder;
+import io.dropwizard.jackson.Jackson;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long the {@link ServletHealthResponder} takes to answer the health check requests typically sent by
+ * load balancers, with the views of twenty health checks.
+ * <p/>
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ServletHealthResponderBenchmark {
+
+    @Param({"", "type=ready", "name=all"})
+    private String query = "";
+
+    private ServletHealthResponder responder;
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        final List<HealthStateView> views = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            views.add(new HealthStateView("check-" + i, true, i % 4 == 0 ? HealthCheckType.ALIVE : HealthCheckType.READY,
+                i % 2 == 0));
+        }
+        final HealthStateAggregator aggregator = new HealthStateAggregator() {
+            @Override
+            public Collection<HealthStateView> healthStateViews() {
+                return views;
+            }
+
+            @Override
+            public Optional<HealthStateView> healthStateView(String name) {
+                return views.stream().filter(view -> view.getName().equals(name)).findFirst();
+            }
+
+            @Override
+            public long healthStateVersion() {
+                return 1L;
+            }
+        };
+        responder = new ServletHealthResponder(
+            new JsonHealthResponseProvider(type -> true, aggregator, Jackson.newObjectMapper()), true, "no-store");
+
+        final Map<String, String[]> parameters;
+        if (query.isEmpty()) {
+            parameters = Collections.emptyMap();
+        } else {
+            final String[] parameter = query.split("=", 2);
+            parameters = Collections.singletonMap(parameter[0], new String[]{parameter[1]});
+        }
+        request = proxy(HttpServletRequest.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getMethod":
+                    return "GET";
+                case "getParameterMap":
+                    return parameters;
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+
+        final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+        response = proxy(HttpServletResponse.class, (proxy, method, args) -> {
+            if ("getOutputStream".equals(method.getName())) {
+                return outputStream;
+            }
+            return defaultValue(method.getReturnType());
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(ServletHealthResponderBenchmark.class.getClassLoader(),
+            new Class<?>[]{type}, handler));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+
+    @Benchmark
+    public HttpServletResponse respond() throws Exception {
+        responder.service(request, response);
+        return response;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ServletHealthResponderBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+}
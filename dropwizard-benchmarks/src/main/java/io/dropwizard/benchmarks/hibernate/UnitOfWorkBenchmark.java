@@ -0,0 +1,110 @@
+package io.dropwizard.benchmarks.hibernate;
+
+import io.dropwizard.hibernate.UnitOfWork;
+import io.dropwizard.hibernate.UnitOfWorkApplicationListener;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time Jersey takes to handle a request to an endpoint with and without {@link UnitOfWork}, with and
+ * without the {@link UnitOfWorkApplicationListener} being registered.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class UnitOfWorkBenchmark {
+
+    private static final URI BASE_URI = URI.create("http://localhost/");
+    private static final URI ANNOTATED_URI = URI.create("http://localhost/annotated");
+    private static final URI UNANNOTATED_URI = URI.create("http://localhost/unannotated");
+
+    @Path("/")
+    public static class BenchmarkResource {
+        @GET
+        @Path("annotated")
+        @UnitOfWork(transactional = false)
+        public String annotated() {
+            return "annotated";
+        }
+
+        @GET
+        @Path("unannotated")
+        public String unannotated() {
+            return "unannotated";
+        }
+    }
+
+    @Param({"true", "false"})
+    private boolean listener = true;
+
+    private SessionFactory sessionFactory;
+    private ApplicationHandler applicationHandler;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+            .setProperty(AvailableSettings.DRIVER, "org.h2.Driver")
+            .setProperty(AvailableSettings.URL, "jdbc:h2:mem:unit-of-work-benchmark;DB_CLOSE_DELAY=-1")
+            .setProperty(AvailableSettings.USER, "sa")
+            .buildSessionFactory();
+
+        final DropwizardResourceConfig resourceConfig = DropwizardResourceConfig.forTesting();
+        resourceConfig.register(new BenchmarkResource());
+        if (listener) {
+            resourceConfig.register(new UnitOfWorkApplicationListener("hibernate", sessionFactory));
+        }
+        applicationHandler = new ApplicationHandler(resourceConfig);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public int annotated() throws Exception {
+        return handle(ANNOTATED_URI);
+    }
+
+    @Benchmark
+    public int unannotated() throws Exception {
+        return handle(UNANNOTATED_URI);
+    }
+
+    private int handle(URI requestUri) throws Exception {
+        final ContainerRequest request = new ContainerRequest(BASE_URI, requestUri, "GET", null,
+            new MapPropertiesDelegate(), applicationHandler.getConfiguration());
+        return applicationHandler.apply(request).get().getStatus();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(UnitOfWorkBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+}
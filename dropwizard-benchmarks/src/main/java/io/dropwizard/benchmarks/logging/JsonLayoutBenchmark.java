@@ -0,0 +1,114 @@
+package io.dropwizard.benchmarks.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.pattern.RootCauseFirstThrowableProxyConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.logging.json.EventAttribute;
+import io.dropwizard.logging.json.layout.EventJsonLayout;
+import io.dropwizard.logging.json.layout.JsonFormatter;
+import io.dropwizard.logging.json.layout.TimestampFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.MDC;
+
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding logging events with the JSON layout wrapped in a {@link LayoutWrappingEncoder} to streaming
+ * them through the layout's {@link io.dropwizard.logging.json.layout.JsonEncoder}.
+ * <p/>
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JsonLayoutBenchmark {
+
+    private ILoggingEvent event;
+    private Encoder<ILoggingEvent> layoutEncoder;
+    private Encoder<ILoggingEvent> streamingEncoder;
+
+    @Setup
+    public void setUp() {
+        final LoggerContext context = new LoggerContext();
+        final Logger logger = context.getLogger("com.example.user.service");
+
+        MDC.put("userId", "18");
+        MDC.put("requestId", "4b2d1c9e-2f1a-4c6e-9a3b-7d5e8f0a1b2c");
+        try {
+            final LoggingEvent loggingEvent = new LoggingEvent(Logger.class.getName(), logger, Level.INFO,
+                "User[{}] has been registered with {} roles", null, new Object[]{18, 3});
+            loggingEvent.setMDCPropertyMap(MDC.getCopyOfContextMap());
+            loggingEvent.prepareForDeferredProcessing();
+            event = loggingEvent;
+        } finally {
+            MDC.clear();
+        }
+
+        layoutEncoder = encoder(context, false);
+        streamingEncoder = encoder(context, true);
+    }
+
+    private static Encoder<ILoggingEvent> encoder(LoggerContext context, boolean streaming) {
+        final EventJsonLayout layout = new EventJsonLayout(
+            new JsonFormatter(Jackson.newObjectMapper(), false, true),
+            new TimestampFormatter("yyyy-MM-dd'T'HH:mm:ss.SSSZ", ZoneId.of("UTC")),
+            new RootCauseFirstThrowableProxyConverter(),
+            EnumSet.of(EventAttribute.TIMESTAMP, EventAttribute.LEVEL, EventAttribute.THREAD_NAME,
+                EventAttribute.MDC, EventAttribute.LOGGER_NAME, EventAttribute.MESSAGE, EventAttribute.EXCEPTION),
+            Collections.emptyMap(), Map.of("service", "users"), Collections.emptySet(), false);
+        layout.setContext(context);
+        layout.setStreaming(streaming);
+        layout.start();
+
+        if (streaming) {
+            final Encoder<ILoggingEvent> encoder = Objects.requireNonNull(layout.buildEncoder());
+            encoder.setContext(context);
+            encoder.start();
+            return encoder;
+        }
+        final LayoutWrappingEncoder<ILoggingEvent> encoder = new LayoutWrappingEncoder<>();
+        encoder.setContext(context);
+        encoder.setLayout(layout);
+        encoder.start();
+        return encoder;
+    }
+
+    @Benchmark
+    public byte[] layout() {
+        return layoutEncoder.encode(event);
+    }
+
+    @Benchmark
+    public byte[] streaming() {
+        return streamingEncoder.encode(event);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(JsonLayoutBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,88 @@
+package io.dropwizard.benchmarks.servlets;
+
+import io.dropwizard.servlets.RequestDescriptor;
+import io.dropwizard.servlets.ThreadNameFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead the {@link ThreadNameFilter} adds to a filter chain in each of its modes.
+ * <p/>
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ThreadNameFilterBenchmark {
+
+    @Param({"DESCRIPTOR", "MDC", "RENAME"})
+    private ThreadNameFilter.Mode mode = ThreadNameFilter.Mode.DESCRIPTOR;
+
+    private ThreadNameFilter filter;
+    private HttpServletRequest request;
+    private ServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        filter = new ThreadNameFilter(mode);
+        request = proxy(HttpServletRequest.class);
+        response = proxy(ServletResponse.class);
+        // Reading the descriptor's URL mimics a SlowRequestFilter or log statement further down the chain
+        chain = (req, res) -> {
+            final RequestDescriptor descriptor = RequestDescriptor.current();
+            blackhole.consume(descriptor == null ? null : descriptor.getFullUrl());
+        };
+    }
+
+    private static <T> T proxy(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(ThreadNameFilterBenchmark.class.getClassLoader(),
+            new Class<?>[]{type}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getMethod":
+                        return "GET";
+                    case "getRequestURI":
+                        return "/api/users/18/roles";
+                    case "getQueryString":
+                        return "expand=permissions";
+                    default:
+                        return null;
+                }
+            }));
+    }
+
+    @Benchmark
+    public void unfiltered() throws Exception {
+        chain.doFilter(request, response);
+    }
+
+    @Benchmark
+    public void filtered() throws Exception {
+        filter.doFilter(request, response, chain);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ThreadNameFilterBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+}
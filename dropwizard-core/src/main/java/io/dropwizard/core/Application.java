@@ -6,6 +6,7 @@ import io.dropwizard.core.cli.Cli;
 import io.dropwizard.core.cli.ServerCommand;
 import io.dropwizard.core.setup.Bootstrap;
 import io.dropwizard.core.setup.Environment;
+import io.dropwizard.lifecycle.StartupTimeline;
 import io.dropwizard.logging.common.BootstrapLogging;
 import io.dropwizard.util.Generics;
 import io.dropwizard.util.JarLocation;
@@ -85,7 +86,9 @@ public abstract class Application<T extends Configuration> {
     public void run(String... arguments) throws Exception {
         final Bootstrap<T> bootstrap = new Bootstrap<>(this);
         addDefaultCommands(bootstrap);
-        initialize(bootstrap);
+        try (StartupTimeline.Span ignored = bootstrap.getStartupTimeline().start("application.initialize")) {
+            initialize(bootstrap);
+        }
         // Should be called after initialize to give an opportunity to set a custom metric registry
         bootstrap.registerMetrics();
 
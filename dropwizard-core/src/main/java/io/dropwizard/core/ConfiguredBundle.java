@@ -29,4 +29,31 @@ public interface ConfiguredBundle<T> {
     default void initialize(Bootstrap<?> bootstrap) {
         // Do nothing
     }
+
+    /**
+     * Returns whether {@link #run(Object, Environment)} may be called concurrently with the {@code run} methods of
+     * other parallel-safe bundles, if {@link Bootstrap#setBundleRunParallelism(int) enabled}. A bundle which isn't
+     * parallel-safe never runs concurrently with another bundle.
+     * <p/>
+     * Only these calls of a parallel-safe bundle may be made without synchronization:
+     * <ul>
+     *     <li>registering, removing and reading metrics of {@link Environment#metrics()},</li>
+     *     <li>registering, unregistering and running health checks of {@link Environment#healthChecks()},</li>
+     *     <li>{@link Environment#getName()}, {@link Environment#getObjectMapper()}, {@link Environment#getValidator()}
+     *     and {@link Environment#getHealthCheckExecutorService()}, and (de)serializing or validating with the returned
+     *     object mapper or validator.</li>
+     * </ul>
+     * Every other call, e.g. registering resources with {@link Environment#jersey()}, servlets and filters with
+     * {@link Environment#servlets()} or {@link Environment#admin()}, managed objects with
+     * {@link Environment#lifecycle()} or configuring the object mapper, changes state which isn't thread-safe. The
+     * parallel-safe bundles have to make these calls while holding the lock of the environment, e.g.
+     * {@code synchronized (environment) { environment.jersey().register(...); }}, so that they don't interfere with
+     * each other.
+     *
+     * @return {@code true} if the bundle can run concurrently with other parallel-safe bundles
+     * @since 4.0.11
+     */
+    default boolean isParallelSafe() {
+        return false;
+    }
 }
@@ -4,6 +4,8 @@ import io.dropwizard.core.Application;
 import io.dropwizard.core.Configuration;
 import io.dropwizard.core.setup.Bootstrap;
 import io.dropwizard.core.setup.Environment;
+import io.dropwizard.core.setup.StartupTimelineServlet;
+import io.dropwizard.lifecycle.StartupTimeline;
 import net.sourceforge.argparse4j.inf.Namespace;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -44,26 +46,37 @@ public abstract class EnvironmentCommand<T extends Configuration> extends Config
     @SuppressWarnings("NullAway")
     @Override
     protected void run(Bootstrap<T> bootstrap, Namespace namespace, T configuration) throws Exception {
-        this.environment = new Environment(bootstrap.getApplication().getName(),
-                                           bootstrap.getObjectMapper(),
-                                           bootstrap.getValidatorFactory(),
-                                           bootstrap.getMetricRegistry(),
-                                           bootstrap.getClassLoader(),
-                                           bootstrap.getHealthCheckRegistry(),
-                                           configuration);
-        configuration.getMetricsFactory().configure(environment.lifecycle(),
-                                                    bootstrap.getMetricRegistry());
-        configuration.getServerFactory().configure(environment);
-        configuration.getHealthFactory().ifPresent(health -> health.configure(
-                environment.lifecycle(),
-                environment.servlets(),
-                environment.jersey(),
-                environment.health(),
-                environment.getObjectMapper(),
-                application.getName()));
+        final StartupTimeline startupTimeline = bootstrap.getStartupTimeline();
+        try (StartupTimeline.Span ignored = startupTimeline.start("environment.configure")) {
+            this.environment = new Environment(bootstrap.getApplication().getName(),
+                                               bootstrap.getObjectMapper(),
+                                               bootstrap.getValidatorFactory(),
+                                               bootstrap.getMetricRegistry(),
+                                               bootstrap.getClassLoader(),
+                                               bootstrap.getHealthCheckRegistry(),
+                                               configuration);
+            environment.lifecycle().setStartupTimeline(startupTimeline);
+            environment.admin().addServlet("startup", new StartupTimelineServlet(startupTimeline,
+                                                                                 environment.getObjectMapper()))
+                .addMapping("/startup");
+            configuration.getMetricsFactory().configure(environment.lifecycle(),
+                                                        bootstrap.getMetricRegistry());
+            configuration.getServerFactory().configure(environment);
+            configuration.getHealthFactory().ifPresent(health -> health.configure(
+                    environment.lifecycle(),
+                    environment.servlets(),
+                    environment.jersey(),
+                    environment.health(),
+                    environment.getObjectMapper(),
+                    application.getName()));
+        }
 
-        bootstrap.run(configuration, environment);
-        application.run(configuration, environment);
+        try (StartupTimeline.Span ignored = startupTimeline.start("bundles.run")) {
+            bootstrap.run(configuration, environment);
+        }
+        try (StartupTimeline.Span ignored = startupTimeline.start("application.run")) {
+            application.run(configuration, environment);
+        }
         run(environment, namespace, configuration);
     }
 
@@ -3,12 +3,16 @@ package io.dropwizard.core.cli;
 import io.dropwizard.core.Application;
 import io.dropwizard.core.Configuration;
 import io.dropwizard.core.setup.Environment;
+import io.dropwizard.lifecycle.StartupTimeline;
 import net.sourceforge.argparse4j.inf.Namespace;
+import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.util.component.LifeCycle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+
 /**
  * Runs a application as an HTTP server.
  *
@@ -45,18 +49,42 @@ public class ServerCommand<T extends Configuration> extends EnvironmentCommand<T
 
     @Override
     protected void run(Environment environment, Namespace namespace, T configuration) throws Exception {
-        final Server server = configuration.getServerFactory().build(environment);
+        final Server server = startServer(environment, configuration);
+        new Thread(() -> {
+            try {
+                server.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "dw-awaiter").start();
+    }
+
+    /**
+     * Builds and starts the server of the application, recording both in the startup timeline. Once the server is
+     * stopped, the command is cleaned up. If the server fails to start, it's stopped again and the command is cleaned
+     * up right away.
+     *
+     * @param environment   the application environment
+     * @param configuration the application configuration
+     * @return the started server
+     * @throws Exception if the server can't be built or started
+     * @since 4.0.11
+     */
+    protected Server startServer(Environment environment, T configuration) throws Exception {
+        final StartupTimeline startupTimeline = environment.lifecycle().getStartupTimeline();
+        final Server server;
+        try (StartupTimeline.Span ignored = startupTimeline.start("server.build")) {
+            server = configuration.getServerFactory().build(environment);
+        }
         try {
             server.addEventListener(new LifeCycleListener());
+            for (Connector connector : server.getConnectors()) {
+                connector.addEventListener(startupTimeline.lifeCycleListener("connector.start:" + connector.getName()));
+            }
             cleanupAsynchronously();
-            server.start();
-            new Thread(() -> {
-                try {
-                    server.join();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }, "dw-awaiter").start();
+            try (StartupTimeline.Span ignored = startupTimeline.start("server.start")) {
+                server.start();
+            }
         } catch (Exception e) {
             LOGGER.error("Unable to start server, shutting down", e);
             try {
@@ -71,6 +99,15 @@ public class ServerCommand<T extends Configuration> extends EnvironmentCommand<T
             }
             throw e;
         }
+        // the server is running, so failing to log the timeline must not stop it
+        if (LOGGER.isInfoEnabled()) {
+            try {
+                LOGGER.info("Startup timeline: {}", environment.getObjectMapper().writeValueAsString(startupTimeline));
+            } catch (IOException e) {
+                LOGGER.warn("Unable to serialize the startup timeline", e);
+            }
+        }
+        return server;
     }
 
     private class LifeCycleListener implements LifeCycle.Listener {
@@ -0,0 +1,192 @@
+package io.dropwizard.core.cli;
+
+import io.dropwizard.core.Application;
+import io.dropwizard.core.Configuration;
+import io.dropwizard.core.setup.Environment;
+import net.sourceforge.argparse4j.impl.Arguments;
+import net.sourceforge.argparse4j.inf.Namespace;
+import net.sourceforge.argparse4j.inf.Subparser;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runs the application as an HTTP server, requests its warmup URLs and stops it again. It's meant to be run as a
+ * training run for a class data sharing archive, so that later starts load the classes the application needs from
+ * the archive.
+ * <p/>
+ * The archive is either written by the JVM when it exits, if it was started with
+ * {@code -XX:ArchiveClassesAtExit=<archive>} or {@code -XX:AOTMode=record}, or dumped by this command at the path
+ * given by {@code --archive}, if the JVM supports dynamic dumps and was started with
+ * {@code -XX:+RecordDynamicDumpInfo}.
+ * <p/>
+ * The server is started like by the {@link ServerCommand}, so the startup timeline and the cleanup once the server
+ * is stopped are the same.
+ * <p/>
+ * The command stops the server but doesn't end the process, so that it can run within other code. The JVM only exits,
+ * and thereby writes an archive requested with {@code -XX:ArchiveClassesAtExit}, once all non-daemon threads have
+ * finished, which threads of the application or of its libraries may prevent. Applications using this command should
+ * therefore call {@link System#exit(int)} once {@link Application#run(String...)} has returned from it:
+ * <pre>{@code
+ * public static void main(String[] args) throws Exception {
+ *     new MyApplication().run(args);
+ *     if (args.length > 0 && "train".equals(args[0])) {
+ *         System.exit(0);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <T> the {@link Configuration} subclass which is loaded from the configuration file
+ * @since 4.0.11
+ */
+public class TrainCommand<T extends Configuration> extends ServerCommand<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrainCommand.class);
+    private static final List<String> ARCHIVE_AT_EXIT_OPTIONS = List.of(
+        "-XX:ArchiveClassesAtExit=", "-XX:AOTMode=record", "-XX:AOTCacheOutput=");
+    private static final List<String> ALL_INTERFACES = List.of("0.0.0.0", "::", "[::]");
+
+    public TrainCommand(Application<T> application) {
+        this(application, "train", "Runs the Dropwizard application, requests its warmup URLs and stops it, "
+            + "to create a class data sharing archive");
+    }
+
+    /**
+     * A constructor to allow reuse of the train command as a different name
+     * @param application the application using this command
+     * @param name the argument name to invoke this command
+     * @param description a summary of what the command does
+     */
+    protected TrainCommand(Application<T> application, String name, String description) {
+        super(application, name, description);
+    }
+
+    @Override
+    public void configure(Subparser subparser) {
+        super.configure(subparser);
+        subparser.addArgument("-u", "--warmup-url")
+                 .dest("warmupUrls")
+                 .action(Arguments.append())
+                 .help("URL to request after the application has started, either absolute or a path relative to "
+                     + "the first application connector (repeatable)");
+        subparser.addArgument("-n", "--warmup-requests")
+                 .dest("warmupRequests")
+                 .type(Integer.class)
+                 .setDefault(10)
+                 .help("Number of times each warmup URL is requested (default: 10)");
+        subparser.addArgument("-a", "--archive")
+                 .dest("archive")
+                 .help("Dump a dynamic class data sharing archive to <file> before stopping the application");
+    }
+
+    @Override
+    protected void run(Environment environment, Namespace namespace, T configuration) throws Exception {
+        final Server server = startServer(environment, configuration);
+        try {
+            final List<String> warmupUrls = Optional.ofNullable(namespace.<String>getList("warmupUrls"))
+                .orElse(Collections.emptyList());
+            final Integer warmupRequests = namespace.getInt("warmupRequests");
+            warmUp(server, warmupUrls, warmupRequests == null ? 1 : warmupRequests);
+
+            final String archive = namespace.getString("archive");
+            if (archive != null) {
+                dumpArchive(Paths.get(archive));
+            } else if (isArchivedAtExit()) {
+                LOGGER.info("The class data sharing archive is written when the JVM exits");
+            } else {
+                LOGGER.warn("No class data sharing archive is created. Start the JVM with "
+                    + "-XX:ArchiveClassesAtExit=<archive> or pass --archive.");
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    private void warmUp(Server server, List<String> warmupUrls, int warmupRequests) throws InterruptedException {
+        if (warmupUrls.isEmpty()) {
+            return;
+        }
+        final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        for (String warmupUrl : warmupUrls) {
+            final URI uri = resolve(server, warmupUrl);
+            int failures = 0;
+            for (int i = 0; i < warmupRequests; i++) {
+                try {
+                    final HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 400) {
+                        failures++;
+                    }
+                } catch (IOException e) {
+                    LOGGER.debug("Unable to request {}", uri, e);
+                    failures++;
+                }
+            }
+            if (failures > 0) {
+                LOGGER.warn("{} of {} warmup requests to {} failed", failures, warmupRequests, uri);
+            } else {
+                LOGGER.info("Requested {} {} times", uri, warmupRequests);
+            }
+        }
+    }
+
+    private static URI resolve(Server server, String warmupUrl) {
+        final URI uri = URI.create(warmupUrl);
+        if (uri.isAbsolute()) {
+            return uri;
+        }
+        final ServerConnector connector = firstServerConnector(server);
+        // connectors which listen on all interfaces are reached through the loopback interface
+        final String host = connector.getHost() == null || ALL_INTERFACES.contains(connector.getHost())
+            ? "localhost" : connector.getHost();
+        final String path = warmupUrl.startsWith("/") ? warmupUrl : "/" + warmupUrl;
+        return URI.create("http://" + host + ":" + connector.getLocalPort() + path);
+    }
+
+    private static ServerConnector firstServerConnector(Server server) {
+        for (Connector connector : server.getConnectors()) {
+            if (connector instanceof ServerConnector) {
+                return (ServerConnector) connector;
+            }
+        }
+        throw new IllegalStateException("The server has no connector to send warmup requests to");
+    }
+
+    private static boolean isArchivedAtExit() {
+        return ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+            .anyMatch(argument -> ARCHIVE_AT_EXIT_OPTIONS.stream().anyMatch(argument::startsWith));
+    }
+
+    private static void dumpArchive(Path archive) throws Exception {
+        final String output;
+        try {
+            output = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                "vmCds",
+                new Object[]{new String[]{"dynamic_dump", archive.toAbsolutePath().toString()}},
+                new String[]{String[].class.getName()});
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to dump a class data sharing archive. Dynamic dumps require "
+                + "JDK 17 or later started with -XX:+RecordDynamicDumpInfo, otherwise start the JVM with "
+                + "-XX:ArchiveClassesAtExit=" + archive + " instead.", e);
+        }
+        LOGGER.info("Dumped the class data sharing archive {}: {}", archive, output);
+    }
+}
@@ -12,9 +12,11 @@ import io.dropwizard.jersey.filter.AllowedMethodsFilter;
 import io.dropwizard.jersey.jackson.JacksonFeature;
 import io.dropwizard.jersey.setup.JerseyEnvironment;
 import io.dropwizard.jersey.validation.HibernateValidationBinder;
+import io.dropwizard.jetty.AdaptiveConcurrencyLimitFactory;
 import io.dropwizard.jetty.GzipHandlerFactory;
 import io.dropwizard.jetty.MutableServletContextHandler;
 import io.dropwizard.jetty.ServerPushFilterFactory;
+import io.dropwizard.jetty.VirtualThreadsFactory;
 import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import io.dropwizard.metrics.jetty11.InstrumentedHandler;
 import io.dropwizard.metrics.jetty11.InstrumentedQueuedThreadPool;
@@ -44,6 +46,7 @@ import org.eclipse.jetty.setuid.RLimit;
 import org.eclipse.jetty.setuid.SetUIDListener;
 import org.eclipse.jetty.util.BlockingArrayQueue;
 import org.eclipse.jetty.util.VirtualThreads;
+import org.eclipse.jetty.util.component.LifeCycle;
 import org.eclipse.jetty.util.thread.ThreadPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -218,8 +221,17 @@ import static com.codahale.metrics.annotation.ResponseMeteredLevel.COARSE;
  *         <td>{@code enableThreadNameFilter}</td>
  *         <td>true</td>
  *         <td>
- *           Whether or not to apply the {@code ThreadNameFilter} that adjusts thread names to include the request
- *           method and request URI.
+ *           Whether or not to apply the {@code ThreadNameFilter} that makes the request method and request URI
+ *           available to the thread processing the request.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code threadNameFilterMode}</td>
+ *         <td>descriptor</td>
+ *         <td>
+ *           How the {@code ThreadNameFilter} makes the request available. {@code descriptor} only binds a
+ *           {@link io.dropwizard.servlets.RequestDescriptor} to the thread, {@code mdc} also puts the request
+ *           method and URI into the logging MDC, and {@code rename} also adds them to the thread name.
  *         </td>
  *     </tr>
  *     <tr>
@@ -243,6 +255,22 @@ import static com.codahale.metrics.annotation.ResponseMeteredLevel.COARSE;
  *             Whether to use virtual threads for Jetty's thread pool.
  *         </td>
  *     </tr>
+ *     <tr>
+ *         <td>{@code virtualThreads}</td>
+ *         <td></td>
+ *         <td>
+ *             Configures handling requests on virtual threads with bounded concurrency.
+ *             See {@link VirtualThreadsFactory} for details.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code concurrencyLimit}</td>
+ *         <td></td>
+ *         <td>
+ *             Configures shedding load from the application context with an adaptive concurrency limit.
+ *             See {@link AdaptiveConcurrencyLimitFactory} for details.
+ *         </td>
+ *     </tr>
  * </table>
  *
  * @see DefaultServerFactory
@@ -320,12 +348,23 @@ public abstract class AbstractServerFactory implements ServerFactory {
 
     private boolean enableThreadNameFilter = true;
 
+    @NotNull
+    private ThreadNameFilter.Mode threadNameFilterMode = ThreadNameFilter.Mode.DESCRIPTOR;
+
     private boolean dumpAfterStart = false;
 
     private boolean dumpBeforeStop = false;
 
     private boolean enableVirtualThreads = false;
 
+    @Valid
+    @NotNull
+    private VirtualThreadsFactory virtualThreads = new VirtualThreadsFactory();
+
+    @Valid
+    @NotNull
+    private AdaptiveConcurrencyLimitFactory concurrencyLimit = new AdaptiveConcurrencyLimitFactory();
+
     @JsonIgnore
     @ValidationMethod(message = "must have a smaller minThreads than maxThreads")
     public boolean isThreadPoolSizedCorrectly() {
@@ -563,6 +602,16 @@ public abstract class AbstractServerFactory implements ServerFactory {
         this.enableThreadNameFilter = enableThreadNameFilter;
     }
 
+    @JsonProperty
+    public ThreadNameFilter.Mode getThreadNameFilterMode() {
+        return threadNameFilterMode;
+    }
+
+    @JsonProperty
+    public void setThreadNameFilterMode(ThreadNameFilter.Mode threadNameFilterMode) {
+        this.threadNameFilterMode = threadNameFilterMode;
+    }
+
     /**
      * @since 2.0
      */
@@ -605,6 +654,38 @@ public abstract class AbstractServerFactory implements ServerFactory {
         this.enableVirtualThreads = enableVirtualThreads;
     }
 
+    /**
+     * @since 4.0.11
+     */
+    @JsonProperty
+    public VirtualThreadsFactory getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    @JsonProperty
+    public void setVirtualThreads(VirtualThreadsFactory virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    @JsonProperty
+    public AdaptiveConcurrencyLimitFactory getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    @JsonProperty
+    public void setConcurrencyLimit(AdaptiveConcurrencyLimitFactory concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
     protected Handler createAdminServlet(Server server,
                                          MutableServletContextHandler handler,
                                          MetricRegistry metrics,
@@ -619,6 +700,9 @@ public abstract class AbstractServerFactory implements ServerFactory {
         final String allowedMethodsParam = String.join(",", allowedMethods);
         handler.addFilter(AllowedMethodsFilter.class, "/*", EnumSet.of(DispatcherType.REQUEST))
                 .setInitParameter(AllowedMethodsFilter.ALLOWED_METHODS_PARAM, allowedMethodsParam);
+        if (virtualThreads.isEnabled()) {
+            return virtualThreads.limitAdminRequests(server, handler, metrics);
+        }
         return handler;
     }
 
@@ -644,7 +728,8 @@ public abstract class AbstractServerFactory implements ServerFactory {
         handler.addFilter(AllowedMethodsFilter.class, "/*", EnumSet.of(DispatcherType.REQUEST))
                 .setInitParameter(AllowedMethodsFilter.ALLOWED_METHODS_PARAM, allowedMethodsParam);
         if (enableThreadNameFilter) {
-            handler.addFilter(ThreadNameFilter.class, "/*", EnumSet.of(DispatcherType.REQUEST));
+            handler.addFilter(ThreadNameFilter.class, "/*", EnumSet.of(DispatcherType.REQUEST))
+                    .setInitParameter(ThreadNameFilter.MODE_PARAM, threadNameFilterMode.name());
         }
         serverPush.addFilter(handler);
         if (jerseyContainer != null) {
@@ -659,7 +744,14 @@ public abstract class AbstractServerFactory implements ServerFactory {
         @SuppressWarnings("NullAway")
         final InstrumentedHandler instrumented = new InstrumentedHandler(metricRegistry, metricPrefix, responseMeteredLevel);
         instrumented.setServer(server);
-        instrumented.setHandler(handler);
+        Handler limited = handler;
+        if (virtualThreads.isEnabled()) {
+            limited = virtualThreads.limitApplicationRequests(server, limited, metricRegistry);
+        }
+        if (concurrencyLimit.isEnabled()) {
+            limited = concurrencyLimit.build(server, limited, metricRegistry, "application");
+        }
+        instrumented.setHandler(limited);
         return instrumented;
     }
 
@@ -668,9 +760,15 @@ public abstract class AbstractServerFactory implements ServerFactory {
         final InstrumentedQueuedThreadPool threadPool =
                 new InstrumentedQueuedThreadPool(metricRegistry, maxThreads, minThreads,
                     (int) idleThreadTimeout.toMilliseconds(), queue);
-        if (enableVirtualThreads) {
+        if (enableVirtualThreads || virtualThreads.isEnabled()) {
             threadPool.setVirtualThreadsExecutor(getVirtualThreadsExecutorService());
         }
+        if (virtualThreads.isEnabled()) {
+            final LifeCycle pinnedThreadMonitor = virtualThreads.buildPinnedThreadMonitor(metricRegistry);
+            if (pinnedThreadMonitor != null) {
+                threadPool.addBean(pinnedThreadMonitor);
+            }
+        }
         threadPool.setName("dw");
         return threadPool;
     }
@@ -4,12 +4,12 @@ import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.health.HealthCheckRegistry;
 import com.codahale.metrics.jmx.JmxReporter;
 import com.codahale.metrics.jvm.BufferPoolMetricSet;
+import com.codahale.metrics.jvm.CachedThreadStatesGaugeSet;
 import com.codahale.metrics.jvm.ClassLoadingGaugeSet;
 import com.codahale.metrics.jvm.FileDescriptorRatioGauge;
 import com.codahale.metrics.jvm.GarbageCollectorMetricSet;
 import com.codahale.metrics.jvm.JvmAttributeGaugeSet;
 import com.codahale.metrics.jvm.MemoryUsageGaugeSet;
-import com.codahale.metrics.jvm.ThreadStatesGaugeSet;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dropwizard.configuration.ConfigurationFactoryFactory;
 import io.dropwizard.configuration.ConfigurationSourceProvider;
@@ -22,12 +22,26 @@ import io.dropwizard.core.cli.Command;
 import io.dropwizard.core.cli.ConfiguredCommand;
 import io.dropwizard.jackson.Jackson;
 import io.dropwizard.jersey.validation.Validators;
+import io.dropwizard.lifecycle.StartupTimeline;
 import jakarta.validation.ValidatorFactory;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Objects.requireNonNull;
 
@@ -38,9 +52,12 @@ import static java.util.Objects.requireNonNull;
  * @param <T> the configuration type
  */
 public class Bootstrap<T extends Configuration> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Bootstrap.class);
+
     private final Application<T> application;
     private final List<ConfiguredBundle<? super T>> configuredBundles;
     private final List<Command> commands;
+    private final StartupTimeline startupTimeline;
 
     private ObjectMapper objectMapper;
     private MetricRegistry metricRegistry;
@@ -52,6 +69,9 @@ public class Bootstrap<T extends Configuration> {
     private ValidatorFactory validatorFactory;
 
     private boolean metricsAreRegistered;
+    private Set<JvmMetrics> jvmMetrics;
+    private boolean jmxReporterEnabled;
+    private int bundleRunParallelism;
     private HealthCheckRegistry healthCheckRegistry;
 
     /**
@@ -60,40 +80,114 @@ public class Bootstrap<T extends Configuration> {
      * @param application a Dropwizard {@link Application}
      */
     public Bootstrap(Application<T> application) {
+        this.startupTimeline = new StartupTimeline();
         this.application = application;
-        this.objectMapper = Jackson.newObjectMapper();
+        try (StartupTimeline.Span ignored = startupTimeline.start("bootstrap.objectMapper")) {
+            this.objectMapper = Jackson.newObjectMapper();
+        }
         this.configuredBundles = new ArrayList<>();
         this.commands = new ArrayList<>();
-        this.validatorFactory = Validators.newValidatorFactory();
+        try (StartupTimeline.Span ignored = startupTimeline.start("bootstrap.validatorFactory")) {
+            this.validatorFactory = Validators.newValidatorFactory();
+        }
         this.metricRegistry = new MetricRegistry();
         this.configurationSourceProvider = new FileConfigurationSourceProvider();
         this.classLoader = Thread.currentThread().getContextClassLoader();
         this.configurationFactoryFactory = new DefaultConfigurationFactoryFactory<>();
         this.healthCheckRegistry = new HealthCheckRegistry();
+        this.jvmMetrics = EnumSet.allOf(JvmMetrics.class);
+        this.jmxReporterEnabled = true;
+        this.bundleRunParallelism = 1;
     }
 
     /**
      * Registers the JVM metrics to the metric registry and start to report
      * the registry metrics via JMX.
+     *
+     * @see #setJvmMetrics(Set)
+     * @see #setJmxReporterEnabled(boolean)
      */
     public void registerMetrics() {
         if (metricsAreRegistered) {
             return;
         }
 
-        getMetricRegistry().register("jvm.attribute", new JvmAttributeGaugeSet());
-        getMetricRegistry().register("jvm.buffers", new BufferPoolMetricSet(ManagementFactory
-                                                                               .getPlatformMBeanServer()));
-        getMetricRegistry().register("jvm.classloader", new ClassLoadingGaugeSet());
-        getMetricRegistry().register("jvm.filedescriptor", new FileDescriptorRatioGauge());
-        getMetricRegistry().register("jvm.gc", new GarbageCollectorMetricSet());
-        getMetricRegistry().register("jvm.memory", new MemoryUsageGaugeSet());
-        getMetricRegistry().register("jvm.threads", new ThreadStatesGaugeSet());
+        try (StartupTimeline.Span ignored = startupTimeline.start("bootstrap.registerMetrics")) {
+            registerJvmMetrics();
+        }
+        metricsAreRegistered = true;
+    }
+
+    private void registerJvmMetrics() {
+        if (jvmMetrics.contains(JvmMetrics.ATTRIBUTES)) {
+            getMetricRegistry().register("jvm.attribute", new JvmAttributeGaugeSet());
+        }
+        if (jvmMetrics.contains(JvmMetrics.BUFFERS)) {
+            getMetricRegistry().register("jvm.buffers", new BufferPoolMetricSet(ManagementFactory
+                                                                                   .getPlatformMBeanServer()));
+        }
+        if (jvmMetrics.contains(JvmMetrics.CLASS_LOADING)) {
+            getMetricRegistry().register("jvm.classloader", new ClassLoadingGaugeSet());
+        }
+        if (jvmMetrics.contains(JvmMetrics.FILE_DESCRIPTORS)) {
+            getMetricRegistry().register("jvm.filedescriptor", new FileDescriptorRatioGauge());
+        }
+        if (jvmMetrics.contains(JvmMetrics.GARBAGE_COLLECTORS)) {
+            getMetricRegistry().register("jvm.gc", new GarbageCollectorMetricSet());
+        }
+        if (jvmMetrics.contains(JvmMetrics.MEMORY)) {
+            getMetricRegistry().register("jvm.memory", new MemoryUsageGaugeSet());
+        }
+        if (jvmMetrics.contains(JvmMetrics.THREADS)) {
+            getMetricRegistry().register("jvm.threads", new CachedThreadStatesGaugeSet(
+                ManagementFactory.getThreadMXBean(), new CachedThreadDeadlockDetector(1, TimeUnit.SECONDS),
+                1, TimeUnit.SECONDS));
+        }
 
-        jmxReporter = JmxReporter.forRegistry(metricRegistry).build();
-        jmxReporter.start();
+        if (jmxReporterEnabled) {
+            jmxReporter = JmxReporter.forRegistry(metricRegistry).build();
+            jmxReporter.start();
+        }
+    }
 
-        metricsAreRegistered = true;
+    /**
+     * Returns the sets of JVM metrics which are registered by {@link #registerMetrics()}.
+     *
+     * @since 4.0.11
+     */
+    public Set<JvmMetrics> getJvmMetrics() {
+        return EnumSet.copyOf(jvmMetrics);
+    }
+
+    /**
+     * Sets the sets of JVM metrics which are registered by {@link #registerMetrics()}. All of them are registered by
+     * default.
+     *
+     * @param jvmMetrics the sets of JVM metrics to register
+     * @since 4.0.11
+     */
+    public void setJvmMetrics(Set<JvmMetrics> jvmMetrics) {
+        this.jvmMetrics = jvmMetrics.isEmpty() ? EnumSet.noneOf(JvmMetrics.class) : EnumSet.copyOf(jvmMetrics);
+    }
+
+    /**
+     * Returns whether {@link #registerMetrics()} starts a {@link JmxReporter}.
+     *
+     * @since 4.0.11
+     */
+    public boolean isJmxReporterEnabled() {
+        return jmxReporterEnabled;
+    }
+
+    /**
+     * Sets whether {@link #registerMetrics()} starts a {@link JmxReporter}, which registers an MBean for every metric
+     * of the registry. It's started by default.
+     *
+     * @param jmxReporterEnabled whether to report the metrics via JMX
+     * @since 4.0.11
+     */
+    public void setJmxReporterEnabled(boolean jmxReporterEnabled) {
+        this.jmxReporterEnabled = jmxReporterEnabled;
     }
 
     /**
@@ -147,7 +241,9 @@ public class Bootstrap<T extends Configuration> {
      * @param bundle a {@link ConfiguredBundle}
      */
     public void addBundle(ConfiguredBundle<? super T> bundle) {
-        bundle.initialize(this);
+        try (StartupTimeline.Span ignored = startupTimeline.start("bundle.initialize:" + bundle.getClass().getName())) {
+            bundle.initialize(this);
+        }
         configuredBundles.add(bundle);
     }
 
@@ -188,16 +284,144 @@ public class Bootstrap<T extends Configuration> {
     }
 
     /**
-     * Runs the bootstrap's bundles with the given configuration and environment.
+     * Runs the bootstrap's bundles with the given configuration and environment. If the bundle run parallelism is
+     * greater than one, consecutive bundles which are {@link ConfiguredBundle#isParallelSafe() parallel-safe} are run
+     * concurrently. The time each bundle takes to run is recorded in the timer
+     * {@code io.dropwizard.core.ConfiguredBundle.<bundle class>.run}. If several bundles of the same class are added,
+     * the second one is recorded as {@code <bundle class>-2}, the third one as {@code <bundle class>-3}, and so on.
      *
      * @param configuration the parsed configuration
      * @param environment   the application environment
      * @throws Exception if a bundle throws an exception
+     * @see #setBundleRunParallelism(int)
      */
     public void run(T configuration, Environment environment) throws Exception {
+        final List<String> bundleNames = bundleNames();
+        if (bundleRunParallelism <= 1) {
+            for (int i = 0; i < configuredBundles.size(); i++) {
+                runBundle(configuredBundles.get(i), bundleNames.get(i), configuration, environment);
+            }
+            return;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(bundleRunParallelism, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                final Thread thread = new Thread(runnable, "bundle-run-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            final List<Integer> parallelSafeBundles = new ArrayList<>();
+            for (int i = 0; i < configuredBundles.size(); i++) {
+                final ConfiguredBundle<? super T> bundle = configuredBundles.get(i);
+                if (bundle.isParallelSafe()) {
+                    parallelSafeBundles.add(i);
+                } else {
+                    runConcurrently(parallelSafeBundles, bundleNames, configuration, environment, executor);
+                    parallelSafeBundles.clear();
+                    runBundle(bundle, bundleNames.get(i), configuration, environment);
+                }
+            }
+            runConcurrently(parallelSafeBundles, bundleNames, configuration, environment, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs the bundles at the given indexes concurrently and waits for all of them.
+     */
+    private void runConcurrently(List<Integer> indexes, List<String> bundleNames, T configuration,
+                                 Environment environment, ExecutorService executor) throws Exception {
+        final List<Future<?>> futures = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            futures.add(executor.submit(() -> {
+                runBundle(configuredBundles.get(index), bundleNames.get(index), configuration, environment);
+                return null;
+            }));
+        }
+
+        // wait for all bundles, so that every failure is reported
+        Exception failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                final Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns the names the bundles are recorded with, i.e. their class names, suffixed with {@code -<n>} for the n-th
+     * bundle of a class.
+     */
+    private List<String> bundleNames() {
+        final Map<String, Integer> counts = new HashMap<>();
+        final List<String> names = new ArrayList<>(configuredBundles.size());
         for (ConfiguredBundle<? super T> bundle : configuredBundles) {
+            final String className = bundle.getClass().getName();
+            final int count = counts.merge(className, 1, Integer::sum);
+            names.add(count == 1 ? className : className + "-" + count);
+        }
+        return names;
+    }
+
+    private void runBundle(ConfiguredBundle<? super T> bundle, String bundleName, T configuration,
+                           Environment environment) throws Exception {
+        final long startNanos = System.nanoTime();
+        try (StartupTimeline.Span ignored = startupTimeline.start("bundle.run:" + bundleName)) {
             bundle.run(configuration, environment);
+        } finally {
+            final long elapsedNanos = System.nanoTime() - startNanos;
+            environment.metrics().timer(MetricRegistry.name(ConfiguredBundle.class, bundleName, "run"))
+                .update(elapsedNanos, TimeUnit.NANOSECONDS);
+            LOGGER.debug("Ran bundle {} in {} ms", bundleName, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    /**
+     * Returns the maximum number of bundles which are run concurrently.
+     *
+     * @since 4.0.11
+     */
+    public int getBundleRunParallelism() {
+        return bundleRunParallelism;
+    }
+
+    /**
+     * Sets the maximum number of {@link ConfiguredBundle#isParallelSafe() parallel-safe} bundles which are run
+     * concurrently. The default of one runs all bundles one after the other.
+     *
+     * @param bundleRunParallelism the maximum number of bundles to run concurrently
+     * @since 4.0.11
+     */
+    public void setBundleRunParallelism(int bundleRunParallelism) {
+        if (bundleRunParallelism < 1) {
+            throw new IllegalArgumentException("The bundle run parallelism must be positive");
         }
+        this.bundleRunParallelism = bundleRunParallelism;
+    }
+
+    /**
+     * Returns the timeline which records the phases of the application's startup.
+     *
+     * @since 4.0.11
+     */
+    public StartupTimeline getStartupTimeline() {
+        return startupTimeline;
     }
 
     /**
@@ -0,0 +1,29 @@
+package io.dropwizard.core.setup;
+
+import com.codahale.metrics.CachedGauge;
+import com.codahale.metrics.jvm.ThreadDeadlockDetector;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ThreadDeadlockDetector} which detects deadlocked threads at most once per interval, so that the deadlock
+ * gauges of a {@link com.codahale.metrics.jvm.CachedThreadStatesGaugeSet} are cached like its thread states.
+ */
+class CachedThreadDeadlockDetector extends ThreadDeadlockDetector {
+    private final CachedGauge<Set<String>> deadlockedThreads;
+
+    CachedThreadDeadlockDetector(long interval, TimeUnit unit) {
+        this.deadlockedThreads = new CachedGauge<Set<String>>(interval, unit) {
+            @Override
+            protected Set<String> loadValue() {
+                return CachedThreadDeadlockDetector.super.getDeadlockedThreads();
+            }
+        };
+    }
+
+    @Override
+    public Set<String> getDeadlockedThreads() {
+        return deadlockedThreads.getValue();
+    }
+}
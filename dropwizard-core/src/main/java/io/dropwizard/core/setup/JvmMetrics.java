@@ -0,0 +1,46 @@
+package io.dropwizard.core.setup;
+
+/**
+ * The sets of JVM metrics which {@link Bootstrap#registerMetrics()} registers.
+ *
+ * @see Bootstrap#setJvmMetrics(java.util.Set)
+ * @since 4.0.11
+ */
+public enum JvmMetrics {
+    /**
+     * The name, vendor and uptime of the JVM, registered as {@code jvm.attribute}.
+     */
+    ATTRIBUTES,
+
+    /**
+     * The direct and mapped buffer pools, registered as {@code jvm.buffers}.
+     */
+    BUFFERS,
+
+    /**
+     * The number of loaded and unloaded classes, registered as {@code jvm.classloader}.
+     */
+    CLASS_LOADING,
+
+    /**
+     * The ratio of used file descriptors, registered as {@code jvm.filedescriptor}.
+     */
+    FILE_DESCRIPTORS,
+
+    /**
+     * The number and duration of garbage collections, registered as {@code jvm.gc}.
+     */
+    GARBAGE_COLLECTORS,
+
+    /**
+     * The usage of the heap and the memory pools, registered as {@code jvm.memory}.
+     */
+    MEMORY,
+
+    /**
+     * The number of threads per state and deadlocked threads, registered as {@code jvm.threads}.
+     *
+     * @see com.codahale.metrics.jvm.CachedThreadStatesGaugeSet
+     */
+    THREADS
+}
@@ -0,0 +1,35 @@
+package io.dropwizard.core.setup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dropwizard.lifecycle.StartupTimeline;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * A servlet which returns the {@link StartupTimeline} of the application as JSON.
+ *
+ * @since 4.0.11
+ */
+public class StartupTimelineServlet extends HttpServlet {
+    private static final long serialVersionUID = -2458732214069163487L;
+    private static final String CONTENT_TYPE = "application/json";
+
+    private final StartupTimeline startupTimeline;
+    private final ObjectMapper objectMapper;
+
+    public StartupTimelineServlet(StartupTimeline startupTimeline, ObjectMapper objectMapper) {
+        this.startupTimeline = startupTimeline;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        resp.setStatus(HttpServletResponse.SC_OK);
+        resp.setContentType(CONTENT_TYPE);
+        resp.setHeader("Cache-Control", "must-revalidate,no-cache,no-store");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(resp.getOutputStream(), startupTimeline);
+    }
+}
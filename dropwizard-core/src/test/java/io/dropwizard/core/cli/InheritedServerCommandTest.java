@@ -1,5 +1,6 @@
 package io.dropwizard.core.cli;
 
+import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.configuration.ConfigurationFactory;
 import io.dropwizard.configuration.ConfigurationSourceProvider;
 import io.dropwizard.core.Application;
@@ -7,6 +8,8 @@ import io.dropwizard.core.Configuration;
 import io.dropwizard.core.server.ServerFactory;
 import io.dropwizard.core.setup.Bootstrap;
 import io.dropwizard.core.setup.Environment;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import io.dropwizard.logging.common.LoggingFactory;
 import io.dropwizard.util.JarLocation;
 import net.sourceforge.argparse4j.inf.Argument;
@@ -56,6 +59,8 @@ class InheritedServerCommandTest {
     void setUp() throws Exception {
         when(serverFactory.build(environment)).thenReturn(server);
         when(configuration.getServerFactory()).thenReturn(serverFactory);
+        when(environment.lifecycle()).thenReturn(new LifecycleEnvironment(new MetricRegistry()));
+        when(environment.getObjectMapper()).thenReturn(Jackson.newObjectMapper());
     }
 
     @AfterEach
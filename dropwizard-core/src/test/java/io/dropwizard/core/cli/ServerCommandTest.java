@@ -1,9 +1,12 @@
 package io.dropwizard.core.cli;
 
+import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.core.Application;
 import io.dropwizard.core.Configuration;
 import io.dropwizard.core.server.ServerFactory;
 import io.dropwizard.core.setup.Environment;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import net.sourceforge.argparse4j.inf.Namespace;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.util.component.AbstractLifeCycle;
@@ -48,6 +51,8 @@ class ServerCommandTest {
     void setUp() throws Exception {
         when(serverFactory.build(environment)).thenReturn(server);
         when(configuration.getServerFactory()).thenReturn(serverFactory);
+        when(environment.lifecycle()).thenReturn(new LifecycleEnvironment(new MetricRegistry()));
+        when(environment.getObjectMapper()).thenReturn(Jackson.newObjectMapper());
     }
 
     @AfterEach
@@ -0,0 +1,84 @@
+package io.dropwizard.core.cli;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.core.Application;
+import io.dropwizard.core.Configuration;
+import io.dropwizard.core.server.ServerFactory;
+import io.dropwizard.core.setup.Environment;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.sourceforge.argparse4j.inf.Namespace;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TrainCommandTest {
+    private static class MyApplication extends Application<Configuration> {
+        @Override
+        public void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    private final TrainCommand<Configuration> command = new TrainCommand<>(new MyApplication());
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final Server server = new Server(0);
+    private final Environment environment = mock(Environment.class);
+    private final ServerFactory serverFactory = mock(ServerFactory.class);
+    private final Configuration configuration = mock(Configuration.class);
+    private final Map<String, Object> arguments = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        server.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, Request baseRequest, HttpServletRequest request,
+                               HttpServletResponse response) {
+                requests.add(target);
+                response.setStatus(HttpServletResponse.SC_OK);
+                baseRequest.setHandled(true);
+            }
+        });
+        when(serverFactory.build(environment)).thenReturn(server);
+        when(configuration.getServerFactory()).thenReturn(serverFactory);
+        when(environment.lifecycle()).thenReturn(new LifecycleEnvironment(new MetricRegistry()));
+        when(environment.getObjectMapper()).thenReturn(Jackson.newObjectMapper());
+        arguments.put("warmupRequests", 2);
+    }
+
+    @Test
+    void hasAName() {
+        assertThat(command.getName())
+                .isEqualTo("train");
+    }
+
+    @Test
+    void requestsTheWarmupUrlsAndStopsTheServer() throws Exception {
+        arguments.put("warmupUrls", List.of("/ping", "users"));
+
+        command.run(environment, new Namespace(arguments), configuration);
+
+        assertThat(requests).containsExactly("/ping", "/ping", "/users", "/users");
+        assertThat(server.isStopped()).isTrue();
+    }
+
+    @Test
+    void stopsTheServerWithoutWarmupUrls() throws Exception {
+        command.run(environment, new Namespace(arguments), configuration);
+
+        assertThat(requests).isEmpty();
+        assertThat(server.isStopped()).isTrue();
+    }
+}
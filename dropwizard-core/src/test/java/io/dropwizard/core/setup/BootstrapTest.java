@@ -9,14 +9,25 @@ import io.dropwizard.configuration.DefaultConfigurationFactoryFactory;
 import io.dropwizard.configuration.FileConfigurationSourceProvider;
 import io.dropwizard.core.Application;
 import io.dropwizard.core.Configuration;
+import io.dropwizard.core.ConfiguredBundle;
 import io.dropwizard.jackson.Jackson;
+import io.dropwizard.lifecycle.StartupTimeline;
 import jakarta.validation.Validation;
 import jakarta.validation.ValidatorFactory;
 import org.hibernate.validator.HibernateValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 class BootstrapTest {
     private final Application<Configuration> application = new Application<Configuration>() {
@@ -101,6 +112,104 @@ class BootstrapTest {
         assertThat(bootstrap.getJmxReporter()).isNotNull();
     }
 
+    @Test
+    void registersOnlyTheSelectedJvmMetrics() {
+        bootstrap.setJvmMetrics(EnumSet.of(JvmMetrics.MEMORY, JvmMetrics.THREADS));
+        bootstrap.registerMetrics();
+
+        assertThat(bootstrap.getMetricRegistry().getNames())
+                .contains("jvm.memory.heap.usage", "jvm.threads.count", "jvm.threads.deadlock.count")
+                .noneMatch(name -> name.startsWith("jvm.buffers") || name.startsWith("jvm.attribute"));
+    }
+
+    @Test
+    void doesNotStartAJmxReporterIfDisabled() {
+        bootstrap.setJmxReporterEnabled(false);
+        bootstrap.registerMetrics();
+
+        assertThat(bootstrap.getJmxReporter()).isNull();
+        assertThat(bootstrap.getMetricRegistry().getNames()).contains("jvm.threads.count");
+    }
+
+    @Test
+    void runsParallelSafeBundlesConcurrently() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(2);
+        final List<String> events = new CopyOnWriteArrayList<>();
+        bootstrap.setBundleRunParallelism(2);
+        bootstrap.addBundle(recordingBundle("first", false, events));
+        bootstrap.addBundle(awaitingBundle(latch, events));
+        bootstrap.addBundle(awaitingBundle(latch, events));
+        bootstrap.addBundle(recordingBundle("last", false, events));
+
+        bootstrap.run(new Configuration(), new Environment("test"));
+
+        assertThat(events).containsExactly("first", "parallel", "parallel", "last");
+    }
+
+    @Test
+    void recordsTheRunTimeOfEachBundleOfTheSameClass() throws Exception {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final ConfiguredBundle<Configuration> first = recordingBundle("first", false, events);
+        bootstrap.addBundle(first);
+        bootstrap.addBundle(recordingBundle("second", false, events));
+        final Environment environment = new Environment("test");
+
+        bootstrap.run(new Configuration(), environment);
+
+        final String bundleClass = first.getClass().getName();
+        assertThat(environment.metrics().getTimers())
+                .containsKeys("io.dropwizard.core.ConfiguredBundle." + bundleClass + ".run",
+                        "io.dropwizard.core.ConfiguredBundle." + bundleClass + "-2.run");
+    }
+
+    @Test
+    void reportsAllFailuresOfParallelSafeBundles() {
+        bootstrap.setBundleRunParallelism(2);
+        bootstrap.addBundle(failingBundle("first"));
+        bootstrap.addBundle(failingBundle("second"));
+
+        final Throwable failure = catchThrowable(() -> bootstrap.run(new Configuration(), new Environment("test")));
+
+        assertThat(failure)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageMatching("first|second");
+        assertThat(failure.getSuppressed())
+                .singleElement()
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void recordsTheRunTimeOfBundles() throws Exception {
+        final ConfiguredBundle<Configuration> bundle = recordingBundle("bundle", false, new ArrayList<>());
+        bootstrap.addBundle(bundle);
+        final Environment environment = new Environment("test");
+
+        bootstrap.run(new Configuration(), environment);
+
+        assertThat(environment.metrics()
+                .timer("io.dropwizard.core.ConfiguredBundle." + bundle.getClass().getName() + ".run")
+                .getCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void recordsTheInitializationAndRunOfBundlesInTheStartupTimeline() throws Exception {
+        final ConfiguredBundle<Configuration> bundle = recordingBundle("bundle", false, new ArrayList<>());
+        bootstrap.addBundle(bundle);
+
+        bootstrap.run(new Configuration(), new Environment("test"));
+
+        assertThat(bootstrap.getStartupTimeline().getPhases())
+                .extracting(StartupTimeline.Phase::getName)
+                .containsSubsequence("bootstrap.objectMapper", "bootstrap.validatorFactory",
+                        "bundle.initialize:" + bundle.getClass().getName(), "bundle.run:" + bundle.getClass().getName());
+    }
+
+    @Test
+    void rejectsNonPositiveBundleRunParallelism() {
+        assertThatIllegalArgumentException().isThrownBy(() -> bootstrap.setBundleRunParallelism(0));
+    }
+
     @Test
     void canUseCustomValidatorFactory() throws Exception {
         ValidatorFactory factory = Validation
@@ -126,4 +235,50 @@ class BootstrapTest {
         assertThat(bootstrap.getHealthCheckRegistry()).isSameAs(healthCheckRegistry);
     }
 
+    private static ConfiguredBundle<Configuration> recordingBundle(String name, boolean parallelSafe,
+                                                                   List<String> events) {
+        return new ConfiguredBundle<Configuration>() {
+            @Override
+            public void run(Configuration configuration, Environment environment) {
+                events.add(name);
+            }
+
+            @Override
+            public boolean isParallelSafe() {
+                return parallelSafe;
+            }
+        };
+    }
+
+    private static ConfiguredBundle<Configuration> awaitingBundle(CountDownLatch latch, List<String> events) {
+        return new ConfiguredBundle<Configuration>() {
+            @Override
+            public void run(Configuration configuration, Environment environment) throws Exception {
+                latch.countDown();
+                if (!latch.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Not run concurrently");
+                }
+                events.add("parallel");
+            }
+
+            @Override
+            public boolean isParallelSafe() {
+                return true;
+            }
+        };
+    }
+
+    private static ConfiguredBundle<Configuration> failingBundle(String message) {
+        return new ConfiguredBundle<Configuration>() {
+            @Override
+            public void run(Configuration configuration, Environment environment) {
+                throw new IllegalStateException(message);
+            }
+
+            @Override
+            public boolean isParallelSafe() {
+                return true;
+            }
+        };
+    }
 }
@@ -3,9 +3,12 @@ package io.dropwizard.db;
 import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
 import io.dropwizard.util.Duration;
 import io.dropwizard.validation.MinDuration;
 import io.dropwizard.validation.ValidationMethod;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
@@ -306,8 +309,28 @@ import java.util.concurrent.TimeUnit;
  *             Set to false if you want to fail the initialization of the pool by throwing exception.
  *         </td>
  *     </tr>
+ *     <tr>
+ *         <td>{@code slowHoldThreshold}</td>
+ *         <td>(none)</td>
+ *         <td>
+ *             If set, a warning with the stack trace of the borrowing code is logged for sampled connections which
+ *             have been held for longer than this period.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code slowHoldSamplingRate}</td>
+ *         <td>0.01</td>
+ *         <td>
+ *             The fraction of borrowed connections for which the stack trace is captured, so that they can be
+ *             reported if they are held for longer than the {@code slowHoldThreshold}.
+ *         </td>
+ *     </tr>
  * </table>
+ * <p/>
+ * The connection pool is Tomcat JDBC, unless another pool is selected with the {@code type} property, e.g.
+ * {@code hikari} for the {@link HikariDataSourceFactory}.
  */
+@JsonTypeName("tomcat")
 public class DataSourceFactory implements PooledDataSourceFactory {
 
     private static final String DEFAULT_VALIDATION_QUERY = "/* Health Check */ SELECT 1";
@@ -435,6 +458,14 @@ public class DataSourceFactory implements PooledDataSourceFactory {
 
     private boolean ignoreExceptionOnPreLoad = false;
 
+    @MinDuration(value = 0, unit = TimeUnit.MILLISECONDS, inclusive = false)
+    @Nullable
+    private Duration slowHoldThreshold;
+
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double slowHoldSamplingRate = 0.01;
+
     @JsonProperty
     @Override
     public boolean isAutoCommentsEnabled() {
@@ -836,6 +867,38 @@ public class DataSourceFactory implements PooledDataSourceFactory {
         this.ignoreExceptionOnPreLoad = ignoreExceptionOnPreLoad;
     }
 
+    /**
+     * @since 4.0.11
+     */
+    @JsonProperty
+    public Optional<Duration> getSlowHoldThreshold() {
+        return Optional.ofNullable(slowHoldThreshold);
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    @JsonProperty
+    public void setSlowHoldThreshold(@Nullable Duration slowHoldThreshold) {
+        this.slowHoldThreshold = slowHoldThreshold;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    @JsonProperty
+    public double getSlowHoldSamplingRate() {
+        return slowHoldSamplingRate;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    @JsonProperty
+    public void setSlowHoldSamplingRate(double slowHoldSamplingRate) {
+        this.slowHoldSamplingRate = slowHoldSamplingRate;
+    }
+
     @Override
     public void asSingleConnectionPool() {
         minSize = 1;
@@ -890,6 +953,6 @@ public class DataSourceFactory implements PooledDataSourceFactory {
         getValidationQueryTimeout().map(x -> (int) x.toSeconds()).ifPresent(poolConfig::setValidationQueryTimeout);
         validatorClassName.ifPresent(poolConfig::setValidatorClassName);
         jdbcInterceptors.ifPresent(poolConfig::setJdbcInterceptors);
-        return new ManagedPooledDataSource(poolConfig, metricRegistry);
+        return new ManagedPooledDataSource(poolConfig, metricRegistry, slowHoldThreshold, slowHoldSamplingRate);
     }
 }
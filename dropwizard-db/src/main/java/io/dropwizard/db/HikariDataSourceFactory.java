@@ -0,0 +1,123 @@
+package io.dropwizard.db;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import io.dropwizard.util.Duration;
+
+import java.util.Properties;
+
+/**
+ * A factory for {@link ManagedDataSource}s backed by a HikariCP connection pool.
+ * <p/>
+ * Selected with {@code type: hikari}, it accepts the same configuration as the {@link DataSourceFactory}. The
+ * parameters are mapped to HikariCP as follows:
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>HikariCP property</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code url}, {@code driverClass}, {@code user}, {@code password}, {@code properties}</td>
+ *         <td>{@code jdbcUrl}, {@code driverClassName}, {@code username}, {@code password},
+ *         {@code dataSourceProperties}</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code autoCommitByDefault}, {@code readOnlyByDefault}, {@code defaultCatalog},
+ *         {@code defaultTransactionIsolation}</td>
+ *         <td>{@code autoCommit}, {@code readOnly}, {@code catalog}, {@code transactionIsolation}</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code minSize}, {@code maxSize}</td>
+ *         <td>{@code minimumIdle}, {@code maximumPoolSize}</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxWaitForConnection}, {@code minIdleTime}, {@code maxConnectionAge}</td>
+ *         <td>{@code connectionTimeout}, {@code idleTimeout}, {@code maxLifetime}</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code initializationQuery}, {@code validationQueryTimeout}</td>
+ *         <td>{@code connectionInitSql}, {@code validationTimeout}</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code logAbandonedConnections}, {@code removeAbandonedTimeout}</td>
+ *         <td>{@code leakDetectionThreshold}</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code initialSize} of 0, {@code ignoreExceptionOnPreLoad}</td>
+ *         <td>{@code initializationFailTimeout} of -1</td>
+ *     </tr>
+ * </table>
+ * HikariCP validates connections with {@link java.sql.Connection#isValid(int)} before handing them out, so the
+ * {@code validationQuery} is only used by health checks. The parameters specific to Tomcat JDBC, like
+ * {@code jdbcInterceptors}, {@code useFairQueue} or {@code slowHoldThreshold}, are ignored.
+ * <p/>
+ * Besides the {@code active}, {@code idle}, {@code waiting} and {@code size} gauges of the
+ * {@link ManagedHikariDataSource}, HikariCP registers its own metrics under {@code <name>.pool}, e.g. the
+ * {@code Wait} timer of the connection acquisition.
+ * <p/>
+ * HikariCP is an optional dependency, so applications using this factory have to add {@code com.zaxxer:HikariCP}
+ * to their dependencies.
+ *
+ * @since 4.0.11
+ */
+@JsonTypeName("hikari")
+public class HikariDataSourceFactory extends DataSourceFactory {
+    private static final String HIKARI_DATA_SOURCE = "com.zaxxer.hikari.HikariDataSource";
+
+    @Override
+    public ManagedDataSource build(MetricRegistry metricRegistry, String name) {
+        requireHikari();
+
+        final Properties dbProperties = new Properties();
+        getProperties().forEach(dbProperties::setProperty);
+
+        final ManagedHikariDataSource dataSource = new ManagedHikariDataSource(metricRegistry);
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(getUrl());
+        final String driverClass = getDriverClass();
+        if (driverClass != null) {
+            dataSource.setDriverClassName(driverClass);
+        }
+        dataSource.setUsername(getUser());
+        dataSource.setPassword(getUser() != null && getPassword() == null ? "" : getPassword());
+        dataSource.setDataSourceProperties(dbProperties);
+
+        final Boolean autoCommitByDefault = getAutoCommitByDefault();
+        if (autoCommitByDefault != null) {
+            dataSource.setAutoCommit(autoCommitByDefault);
+        }
+        final Boolean readOnlyByDefault = getReadOnlyByDefault();
+        if (readOnlyByDefault != null) {
+            dataSource.setReadOnly(readOnlyByDefault);
+        }
+        dataSource.setCatalog(getDefaultCatalog());
+        if (getDefaultTransactionIsolation() != TransactionIsolation.DEFAULT) {
+            dataSource.setTransactionIsolation("TRANSACTION_" + getDefaultTransactionIsolation().name());
+        }
+
+        dataSource.setMinimumIdle(getMinSize());
+        dataSource.setMaximumPoolSize(getMaxSize());
+        dataSource.setConnectionTimeout(getMaxWaitForConnection().toMilliseconds());
+        dataSource.setIdleTimeout(getMinIdleTime().toMilliseconds());
+        getMaxConnectionAge().map(Duration::toMilliseconds).ifPresent(dataSource::setMaxLifetime);
+
+        dataSource.setConnectionInitSql(getInitializationQuery());
+        getValidationQueryTimeout().map(Duration::toMilliseconds).ifPresent(dataSource::setValidationTimeout);
+        if (getLogAbandonedConnections()) {
+            dataSource.setLeakDetectionThreshold(getRemoveAbandonedTimeout().toMilliseconds());
+        }
+        if (getInitialSize() == 0 || isIgnoreExceptionOnPreLoad()) {
+            // start without connecting, like Tomcat JDBC
+            dataSource.setInitializationFailTimeout(-1);
+        }
+        return dataSource;
+    }
+
+    private static void requireHikari() {
+        try {
+            Class.forName(HIKARI_DATA_SOURCE, false, HikariDataSourceFactory.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("The hikari connection pool requires com.zaxxer:HikariCP on the class path", e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.dropwizard.db;
+
+import com.codahale.metrics.Histogram;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records how long a borrowed {@link Connection} is held until it is closed, i.e. returned to the pool.
+ */
+class InstrumentedConnection extends DelegatingConnection {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InstrumentedConnection.class);
+
+    private final Connection delegate;
+    private final Histogram usage;
+    private final String poolName;
+    private final long slowHoldThresholdNanos;
+    @Nullable
+    private final Throwable borrowedAt;
+    private final long borrowedNanos = System.nanoTime();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    /**
+     * @param usage                  the histogram of the hold times in milliseconds
+     * @param slowHoldThresholdNanos the hold time from which a connection is reported as held too long
+     * @param borrowedAt             where the connection has been borrowed, or {@code null} if it isn't reported
+     */
+    InstrumentedConnection(Connection delegate, Histogram usage, String poolName, long slowHoldThresholdNanos,
+                           @Nullable Throwable borrowedAt) {
+        this.delegate = delegate;
+        this.usage = usage;
+        this.poolName = poolName;
+        this.slowHoldThresholdNanos = slowHoldThresholdNanos;
+        this.borrowedAt = borrowedAt;
+    }
+
+    @Override
+    protected Connection delegate() {
+        return delegate;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (closed.compareAndSet(false, true)) {
+            returned();
+        }
+        delegate.close();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    private void returned() {
+        final long heldNanos = System.nanoTime() - borrowedNanos;
+        usage.update(TimeUnit.NANOSECONDS.toMillis(heldNanos));
+        if (borrowedAt != null && heldNanos >= slowHoldThresholdNanos) {
+            LOGGER.warn("Connection of pool {} was held for {} ms", poolName, TimeUnit.NANOSECONDS.toMillis(heldNanos),
+                borrowedAt);
+        }
+    }
+}
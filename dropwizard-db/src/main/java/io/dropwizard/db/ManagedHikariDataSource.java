@@ -0,0 +1,68 @@
+package io.dropwizard.db;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.sql.Connection;
+import java.util.function.ToIntFunction;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A {@link ManagedDataSource} which is backed by a HikariCP pooled {@link javax.sql.DataSource}.
+ * <p/>
+ * Like the {@link ManagedPooledDataSource}, the pool is created on start or on the first request for a connection,
+ * whichever comes first.
+ *
+ * @since 4.0.11
+ */
+public class ManagedHikariDataSource extends HikariDataSource implements ManagedDataSource {
+    private final MetricRegistry metricRegistry;
+
+    /**
+     * Create a new data source, which has to be configured before it is started.
+     *
+     * @param metricRegistry the registry for the metrics of the pool
+     */
+    public ManagedHikariDataSource(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+        setMetricRegistry(metricRegistry);
+    }
+
+    @Override
+    public void start() throws Exception {
+        if (getInitializationFailTimeout() >= 0) {
+            // creates the pool, failing if the database can't be reached
+            try (Connection ignored = getConnection()) {
+                // only needed to start the pool
+            }
+        }
+
+        metricRegistry.register(name(getClass(), getPoolName(), "active"),
+            gauge(HikariPoolMXBean::getActiveConnections));
+
+        metricRegistry.register(name(getClass(), getPoolName(), "idle"),
+            gauge(HikariPoolMXBean::getIdleConnections));
+
+        metricRegistry.register(name(getClass(), getPoolName(), "waiting"),
+            gauge(HikariPoolMXBean::getThreadsAwaitingConnection));
+
+        metricRegistry.register(name(getClass(), getPoolName(), "size"),
+            gauge(HikariPoolMXBean::getTotalConnections));
+    }
+
+    private Gauge<Integer> gauge(ToIntFunction<HikariPoolMXBean> value) {
+        return () -> {
+            // not available before the pool has been created
+            final HikariPoolMXBean pool = getHikariPoolMXBean();
+            return pool == null ? 0 : value.applyAsInt(pool);
+        };
+    }
+
+    @Override
+    public void stop() throws Exception {
+        close();
+    }
+}
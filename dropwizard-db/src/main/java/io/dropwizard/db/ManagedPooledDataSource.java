@@ -1,21 +1,39 @@
 package io.dropwizard.db;
 
 import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.dropwizard.util.Duration;
 import org.apache.tomcat.jdbc.pool.ConnectionPool;
 import org.apache.tomcat.jdbc.pool.DataSourceProxy;
 import org.apache.tomcat.jdbc.pool.PoolConfiguration;
+import org.apache.tomcat.jdbc.pool.PoolExhaustedException;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Logger;
 
 import static com.codahale.metrics.MetricRegistry.name;
 
 /**
  * A {@link ManagedDataSource} which is backed by a Tomcat pooled {@link javax.sql.DataSource}.
+ * <p/>
+ * Besides the gauges of the pool, it records how long it takes to acquire a connection in the {@code acquire} timer,
+ * how many requests for a connection timed out in the {@code timeouts} meter, and how many milliseconds connections
+ * are held in the {@code usage} histogram.
  */
 public class ManagedPooledDataSource extends DataSourceProxy implements ManagedDataSource {
     private final MetricRegistry metricRegistry;
+    private final Timer acquire;
+    private final Meter timeouts;
+    private final Histogram usage;
+    private final long slowHoldThresholdNanos;
+    private final double slowHoldSamplingRate;
 
     /**
      * Create a new data source with the given connection pool configuration.
@@ -23,8 +41,57 @@ public class ManagedPooledDataSource extends DataSourceProxy implements ManagedD
      * @param config the connection pool configuration
      */
     public ManagedPooledDataSource(PoolConfiguration config, MetricRegistry metricRegistry) {
+        this(config, metricRegistry, null, 0.0);
+    }
+
+    /**
+     * Create a new data source with the given connection pool configuration, which reports connections held for a
+     * long time.
+     *
+     * @param config               the connection pool configuration
+     * @param slowHoldThreshold    the time from which a connection is reported as held too long, or {@code null} if
+     *                             none are reported
+     * @param slowHoldSamplingRate the fraction of the borrowed connections whose stack trace is captured, so that they
+     *                             can be reported
+     * @since 4.0.11
+     */
+    public ManagedPooledDataSource(PoolConfiguration config, MetricRegistry metricRegistry,
+                                   @Nullable Duration slowHoldThreshold, double slowHoldSamplingRate) {
         super(config);
         this.metricRegistry = metricRegistry;
+        this.acquire = metricRegistry.timer(name(getClass(), config.getName(), "acquire"));
+        this.timeouts = metricRegistry.meter(name(getClass(), config.getName(), "timeouts"));
+        this.usage = metricRegistry.histogram(name(getClass(), config.getName(), "usage"));
+        this.slowHoldThresholdNanos = slowHoldThreshold == null ? 0L : slowHoldThreshold.toNanoseconds();
+        this.slowHoldSamplingRate = slowHoldThreshold == null ? 0.0 : slowHoldSamplingRate;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrument(super::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return instrument(() -> super.getConnection(username, password));
+    }
+
+    private Connection instrument(ConnectionSupplier borrow) throws SQLException {
+        final Connection connection;
+        final Timer.Context context = acquire.time();
+        try {
+            connection = borrow.get();
+        } catch (PoolExhaustedException e) {
+            timeouts.mark();
+            throw e;
+        } finally {
+            context.stop();
+        }
+
+        final boolean sampled = slowHoldSamplingRate > 0.0
+            && ThreadLocalRandom.current().nextDouble() < slowHoldSamplingRate;
+        return new InstrumentedConnection(connection, usage, getPoolProperties().getName(), slowHoldThresholdNanos,
+            sampled ? new Throwable("Connection borrowed here") : null);
     }
 
     @Override
@@ -73,4 +140,8 @@ public class ManagedPooledDataSource extends DataSourceProxy implements ManagedD
     public void stop() throws Exception {
         close();
     }
+
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
 }
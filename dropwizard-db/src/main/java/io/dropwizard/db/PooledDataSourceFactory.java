@@ -1,6 +1,9 @@
 package io.dropwizard.db;
 
 import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.annotation.JsonTypeResolver;
+import io.dropwizard.jackson.Discoverable;
 import io.dropwizard.util.Duration;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -10,8 +13,14 @@ import java.util.Optional;
 /**
  * Interface of a factory that produces JDBC data sources
  * backed by the connection pool.
+ * <p/>
+ * Implementations are discovered via {@code META-INF/services/io.dropwizard.db.PooledDataSourceFactory} and selected
+ * with the {@code type} property. Without it, a {@link DataSourceFactory} is created, or an instance of the declared
+ * type if that is a concrete subclass of {@link DataSourceFactory}.
  */
-public interface PooledDataSourceFactory {
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type", defaultImpl = DataSourceFactory.class)
+@JsonTypeResolver(PooledDataSourceFactoryTypeResolver.class)
+public interface PooledDataSourceFactory extends Discoverable {
 
     /**
      * Whether ORM tools allowed to add comments to SQL queries.
@@ -0,0 +1,21 @@
+package io.dropwizard.db;
+
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.jsontype.impl.StdTypeResolverBuilder;
+
+/**
+ * Resolves the type of a {@link PooledDataSourceFactory} without a {@code type} property to the declared type if
+ * that type is concrete and the default {@link DataSourceFactory} isn't assignable to it, e.g. for a configuration
+ * field declared as a subclass of {@link DataSourceFactory}.
+ */
+class PooledDataSourceFactoryTypeResolver extends StdTypeResolverBuilder {
+    @Override
+    protected JavaType defineDefaultImpl(DeserializationConfig config, JavaType baseType) {
+        final JavaType defaultImpl = super.defineDefaultImpl(config, baseType);
+        if (defaultImpl == null && !baseType.isAbstract()) {
+            return baseType;
+        }
+        return defaultImpl;
+    }
+}
@@ -0,0 +1,65 @@
+package io.dropwizard.db;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A hint for the {@link RoutingManagedDataSource} whether the connections requested by the current thread are only
+ * used for reading, so that they can be served by a read replica.
+ * <p/>
+ * Usage:
+ * <pre>
+ * {@code
+ *   final Boolean previous = ReadOnlyHint.set(true);
+ *   try (Connection connection = dataSource.getConnection()) {
+ *     ...                               // only read
+ *   } finally {
+ *     ReadOnlyHint.restore(previous);
+ *   }
+ * }
+ * </pre>
+ *
+ * @since 4.0.11
+ */
+public final class ReadOnlyHint {
+    private static final ThreadLocal<@Nullable Boolean> CURRENT = new ThreadLocal<>();
+
+    private ReadOnlyHint() {
+    }
+
+    /**
+     * Returns the hint of the current thread.
+     *
+     * @return {@code true} if connections are only used for reading, {@code false} if they are used for writing, or
+     * {@code null} if there is no hint
+     */
+    @Nullable
+    public static Boolean current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Sets the hint of the current thread.
+     *
+     * @param readOnly whether connections are only used for reading
+     * @return the previous hint, which has to be restored afterwards
+     */
+    @Nullable
+    public static Boolean set(boolean readOnly) {
+        final Boolean previous = CURRENT.get();
+        CURRENT.set(readOnly);
+        return previous;
+    }
+
+    /**
+     * Restores a previous hint of the current thread.
+     *
+     * @param previous the hint returned by {@link #set(boolean)}
+     */
+    public static void restore(@Nullable Boolean previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.dropwizard.db;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A factory for a {@link RoutingManagedDataSource}, which routes connections to one writer or to several read
+ * replicas.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code writer}</td>
+ *         <td><b>REQUIRED</b></td>
+ *         <td>The {@link DataSourceFactory} of the primary database. ORM tools and health checks use its settings.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code readers}</td>
+ *         <td>(none)</td>
+ *         <td>
+ *             The {@link DataSourceFactory DataSourceFactories} of the read replicas. Their pools are named after the
+ *             pool of the writer, with the suffix {@code -reader-1}, {@code -reader-2}, etc.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code readerCheckInterval}</td>
+ *         <td>10 seconds</td>
+ *         <td>
+ *             The time between validations of a connection of each reader. A reader is ejected while its validation
+ *             fails, waiting up to the {@code validationQueryTimeout} of the writer, or 5 seconds if it isn't set.
+ *         </td>
+ *     </tr>
+ * </table>
+ *
+ * @since 4.0.11
+ */
+@JsonTypeName("routing")
+public class RoutingDataSourceFactory implements PooledDataSourceFactory {
+    @Valid
+    @NotNull
+    private DataSourceFactory writer = new DataSourceFactory();
+
+    @Valid
+    @NotNull
+    private List<DataSourceFactory> readers = new ArrayList<>();
+
+    @NotNull
+    @MinDuration(value = 0, unit = TimeUnit.MILLISECONDS, inclusive = false)
+    private Duration readerCheckInterval = Duration.seconds(10);
+
+    @JsonProperty
+    public DataSourceFactory getWriter() {
+        return writer;
+    }
+
+    @JsonProperty
+    public void setWriter(DataSourceFactory writer) {
+        this.writer = writer;
+    }
+
+    @JsonProperty
+    public List<DataSourceFactory> getReaders() {
+        return readers;
+    }
+
+    @JsonProperty
+    public void setReaders(List<DataSourceFactory> readers) {
+        this.readers = readers;
+    }
+
+    @JsonProperty
+    public Duration getReaderCheckInterval() {
+        return readerCheckInterval;
+    }
+
+    @JsonProperty
+    public void setReaderCheckInterval(Duration readerCheckInterval) {
+        this.readerCheckInterval = readerCheckInterval;
+    }
+
+    @Override
+    public boolean isAutoCommentsEnabled() {
+        return writer.isAutoCommentsEnabled();
+    }
+
+    @Override
+    public Map<String, String> getProperties() {
+        return writer.getProperties();
+    }
+
+    @Override
+    public Optional<Duration> getValidationQueryTimeout() {
+        return writer.getValidationQueryTimeout();
+    }
+
+    @Override
+    public Optional<String> getValidationQuery() {
+        return writer.getValidationQuery();
+    }
+
+    @Override
+    @Nullable
+    public String getDriverClass() {
+        return writer.getDriverClass();
+    }
+
+    @Override
+    public String getUrl() {
+        return writer.getUrl();
+    }
+
+    /**
+     * Configures the writer as a single connection pool, and drops the readers, e.g. for database migrations.
+     */
+    @Override
+    public void asSingleConnectionPool() {
+        writer.asSingleConnectionPool();
+        readers = new ArrayList<>();
+    }
+
+    @Override
+    public ManagedDataSource build(MetricRegistry metricRegistry, String name) {
+        final Map<String, ManagedDataSource> readerDataSources = new LinkedHashMap<>();
+        for (int i = 0; i < readers.size(); i++) {
+            final String readerName = name + "-reader-" + (i + 1);
+            readerDataSources.put(readerName, readers.get(i).build(metricRegistry, readerName));
+        }
+        return new RoutingManagedDataSource(writer.build(metricRegistry, name), readerDataSources, readerCheckInterval,
+            writer.getValidationQueryTimeout().orElse(Duration.seconds(5)));
+    }
+}
@@ -0,0 +1,374 @@
+package io.dropwizard.db;
+
+import com.codahale.metrics.health.HealthCheck;
+import io.dropwizard.util.Duration;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link ManagedDataSource} which routes connections to a writer or to one of several read replicas.
+ * <p/>
+ * A connection is served by a reader if
+ * <ul>
+ *     <li>the {@link ReadOnlyHint} of the current thread is {@code true}, or</li>
+ *     <li>{@link Connection#setReadOnly(boolean) setReadOnly(true)} is called before the connection is used
+ *     otherwise. The physical connection is only acquired when it's first used.</li>
+ * </ul>
+ * All other connections are served by the writer. The healthy reader with the fewest outstanding connections is
+ * chosen. While the data source is started, it validates a connection of each reader periodically. A reader is
+ * ejected as soon as it fails to serve a connection or to be validated, and is routed to again once it is validated
+ * successfully. If no reader is healthy, the writer serves all connections.
+ *
+ * @since 4.0.11
+ */
+public class RoutingManagedDataSource implements ManagedDataSource {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RoutingManagedDataSource.class);
+
+    private final ManagedDataSource writer;
+    private final List<Reader> readers;
+    private final AtomicInteger nextReader = new AtomicInteger();
+    private final Duration checkInterval;
+    private final int validationTimeoutSeconds;
+    @Nullable
+    private ScheduledExecutorService checker;
+
+    /**
+     * Creates a data source which validates the readers every 10 seconds, waiting up to 5 seconds for each.
+     *
+     * @param writer  the data source for writing
+     * @param readers the data sources of the read replicas by their names
+     */
+    public RoutingManagedDataSource(ManagedDataSource writer, Map<String, ManagedDataSource> readers) {
+        this(writer, readers, Duration.seconds(10), Duration.seconds(5));
+    }
+
+    /**
+     * @param writer            the data source for writing
+     * @param readers           the data sources of the read replicas by their names
+     * @param checkInterval     the time between validations of the readers
+     * @param validationTimeout the time to wait for the validation of a reader's connection
+     */
+    public RoutingManagedDataSource(ManagedDataSource writer, Map<String, ManagedDataSource> readers,
+                                    Duration checkInterval, Duration validationTimeout) {
+        this.writer = writer;
+        final List<Reader> list = new ArrayList<>(readers.size());
+        readers.forEach((name, dataSource) -> list.add(new Reader(name, dataSource)));
+        this.readers = Collections.unmodifiableList(list);
+        this.checkInterval = checkInterval;
+        this.validationTimeoutSeconds = (int) Math.max(1, Math.ceil(validationTimeout.toMilliseconds() / 1000.0));
+    }
+
+    public ManagedDataSource getWriter() {
+        return writer;
+    }
+
+    /**
+     * Returns health checks of the readers by their names, which report whether a reader is ejected. They don't
+     * access the readers themselves, so ejection doesn't depend on them being run.
+     *
+     * @return the health checks by the names of the readers
+     */
+    public Map<String, HealthCheck> getReaderHealthChecks() {
+        final Map<String, HealthCheck> checks = new LinkedHashMap<>();
+        for (Reader reader : readers) {
+            checks.put(reader.name, new ReaderHealthCheck(reader));
+        }
+        return checks;
+    }
+
+    /**
+     * Validates a connection of each reader, ejecting the readers which fail and routing to the others again.
+     */
+    void checkReaders() {
+        for (Reader reader : readers) {
+            reader.check(validationTimeoutSeconds);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        final Boolean readOnly = ReadOnlyHint.current();
+        if (readers.isEmpty() || Boolean.FALSE.equals(readOnly)) {
+            return writer.getConnection();
+        }
+
+        final RoutingConnection routing = new RoutingConnection();
+        if (Boolean.TRUE.equals(readOnly)) {
+            routing.acquire(true);
+        }
+        return routing;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return writer.getConnection(username, password);
+    }
+
+    @Nullable
+    private Reader leastOutstanding() {
+        final int size = readers.size();
+        // start at a different reader each time to spread ties
+        final int offset = Math.floorMod(nextReader.getAndIncrement(), size);
+        Reader least = null;
+        for (int i = 0; i < size; i++) {
+            final Reader reader = readers.get((offset + i) % size);
+            if (reader.healthy && (least == null || reader.outstanding.get() < least.outstanding.get())) {
+                least = reader;
+            }
+        }
+        return least;
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return writer.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        writer.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        writer.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return writer.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return writer.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return writer.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || writer.isWrapperFor(iface);
+    }
+
+    @Override
+    public void start() throws Exception {
+        writer.start();
+        for (Reader reader : readers) {
+            try {
+                reader.dataSource.start();
+            } catch (Exception e) {
+                LOGGER.warn("Unable to start reader {}", reader.name, e);
+                reader.eject(e.toString());
+            }
+        }
+        if (!readers.isEmpty()) {
+            final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "routing-data-source-checker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            final long interval = checkInterval.toMilliseconds();
+            executor.scheduleWithFixedDelay(this::checkReaders, interval, interval, TimeUnit.MILLISECONDS);
+            checker = executor;
+        }
+    }
+
+    @Override
+    public void stop() throws Exception {
+        final ScheduledExecutorService executor = checker;
+        if (executor != null) {
+            executor.shutdownNow();
+            checker = null;
+        }
+        try {
+            for (Reader reader : readers) {
+                try {
+                    reader.dataSource.stop();
+                } catch (Exception e) {
+                    LOGGER.warn("Unable to stop reader {}", reader.name, e);
+                }
+            }
+        } finally {
+            writer.stop();
+        }
+    }
+
+    private static final class Reader {
+        private final String name;
+        private final ManagedDataSource dataSource;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private volatile boolean healthy = true;
+        @Nullable
+        private volatile String failure;
+
+        private Reader(String name, ManagedDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void check(int validationTimeoutSeconds) {
+            try (Connection connection = dataSource.getConnection()) {
+                if (connection.isValid(validationTimeoutSeconds)) {
+                    restore();
+                } else {
+                    eject("Connection::isValid returned false.");
+                }
+            } catch (SQLException | RuntimeException e) {
+                eject(e.toString());
+            }
+        }
+
+        private void eject(String reason) {
+            failure = reason;
+            if (healthy) {
+                LOGGER.warn("Reader {} is unhealthy, ejecting it: {}", name, reason);
+                healthy = false;
+            }
+        }
+
+        private void restore() {
+            if (!healthy) {
+                LOGGER.info("Reader {} is healthy again, routing reads to it", name);
+                healthy = true;
+            }
+            failure = null;
+        }
+    }
+
+    private static final class ReaderHealthCheck extends HealthCheck {
+        private final Reader reader;
+
+        private ReaderHealthCheck(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        protected Result check() {
+            if (reader.healthy) {
+                return Result.healthy();
+            }
+            return Result.unhealthy("Reader is ejected: " + reader.failure);
+        }
+    }
+
+    /**
+     * A connection which is acquired from the writer or a reader when it's first used, and which keeps track of the
+     * outstanding connections of the readers.
+     */
+    private final class RoutingConnection extends DelegatingConnection {
+        @Nullable
+        private Connection target;
+        @Nullable
+        private Reader reader;
+        private boolean readOnly = false;
+        private boolean closed = false;
+
+        private Connection acquire(boolean readOnly) throws SQLException {
+            final Reader least = readOnly ? leastOutstanding() : null;
+            if (least != null) {
+                least.outstanding.incrementAndGet();
+                try {
+                    final Connection connection = least.dataSource.getConnection();
+                    target = connection;
+                    reader = least;
+                    return connection;
+                } catch (SQLException | RuntimeException e) {
+                    least.outstanding.decrementAndGet();
+                    least.eject(e.toString());
+                    LOGGER.debug("Unable to get a connection from reader {}, using the writer", least.name, e);
+                }
+            }
+            final Connection connection = writer.getConnection();
+            target = connection;
+            return connection;
+        }
+
+        @Override
+        protected Connection delegate() throws SQLException {
+            if (closed) {
+                throw new SQLException("Connection is closed");
+            }
+            Connection connection = target;
+            if (connection == null) {
+                connection = acquire(readOnly);
+                if (readOnly) {
+                    connection.setReadOnly(true);
+                }
+            }
+            return connection;
+        }
+
+        @Override
+        public void setReadOnly(boolean readOnly) throws SQLException {
+            if (target == null && !closed) {
+                this.readOnly = readOnly;
+            } else {
+                delegate().setReadOnly(readOnly);
+            }
+        }
+
+        @Override
+        public boolean isReadOnly() throws SQLException {
+            if (target == null && !closed) {
+                return readOnly;
+            }
+            return delegate().isReadOnly();
+        }
+
+        @Override
+        public boolean isClosed() throws SQLException {
+            final Connection connection = target;
+            if (closed || connection == null) {
+                return closed;
+            }
+            return connection.isClosed();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            final Connection connection = target;
+            if (connection == null) {
+                return;
+            }
+            try {
+                connection.close();
+            } finally {
+                final Reader borrowedFrom = reader;
+                if (borrowedFrom != null) {
+                    borrowedFrom.outstanding.decrementAndGet();
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "RoutingConnection{target=" + target + "}";
+        }
+    }
+}
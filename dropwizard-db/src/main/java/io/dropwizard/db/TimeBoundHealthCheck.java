@@ -2,30 +2,116 @@ package io.dropwizard.db;
 
 import com.codahale.metrics.health.HealthCheck;
 import io.dropwizard.util.Duration;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Runs a health check on an {@link ExecutorService} and waits a limited time for its result.
+ * <p/>
+ * At most one check is in flight at any time: callers arriving while a check is still running wait for its result
+ * instead of submitting another one. A check which doesn't complete in time is cancelled, and until it has actually
+ * returned, callers are answered with an unhealthy result right away. A hanging database therefore occupies at most
+ * one thread of the executor.
+ */
 public class TimeBoundHealthCheck {
-    private final ExecutorService executorService; 
+    private final ExecutorService executorService;
     private final Duration duration;
-     
+    private final AtomicReference<@Nullable InFlightCheck> inFlight = new AtomicReference<>();
+
     public TimeBoundHealthCheck(ExecutorService executorService, Duration duration) {
         this.executorService = executorService;
         this.duration = duration;
     }
-    
+
     public HealthCheck.Result check(Callable<HealthCheck.Result> c) {
+        final InFlightCheck check = inFlightCheck(c);
         try {
-            return executorService.submit(c).get(duration.getQuantity(), duration.getUnit());
+            return check.result.get(duration.getQuantity(), duration.getUnit());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            check.cancel();
         } catch (Exception ignored) {
         }
         return unhealthy();
     }
 
+    private InFlightCheck inFlightCheck(Callable<HealthCheck.Result> c) {
+        while (true) {
+            final InFlightCheck current = inFlight.get();
+            if (current != null) {
+                return current;
+            }
+            final InFlightCheck check = new InFlightCheck(c);
+            if (inFlight.compareAndSet(null, check)) {
+                check.submit();
+                return check;
+            }
+        }
+    }
+
     private HealthCheck.Result unhealthy() {
         return HealthCheck.Result.unhealthy("Unable to successfully check in %s", duration);
     }
+
+    private final class InFlightCheck implements Runnable {
+        private final Callable<HealthCheck.Result> callable;
+        private final CompletableFuture<HealthCheck.Result> result = new CompletableFuture<>();
+        // set by whoever first decides the fate of the check: the executor running it or a caller cancelling it
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+        @Nullable
+        private volatile Future<?> future;
+
+        private InFlightCheck(Callable<HealthCheck.Result> callable) {
+            this.callable = callable;
+        }
+
+        private void submit() {
+            try {
+                future = executorService.submit(this);
+            } catch (RejectedExecutionException e) {
+                complete(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                result.complete(callable.call());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                inFlight.compareAndSet(this, null);
+            }
+        }
+
+        private void cancel() {
+            // callers arriving until the cancelled check returns are answered right away
+            result.completeExceptionally(new TimeoutException());
+            if (claimed.compareAndSet(false, true)) {
+                // the check never started, so nothing is left running
+                inFlight.compareAndSet(this, null);
+            }
+            final Future<?> submitted = future;
+            if (submitted != null) {
+                submitted.cancel(true);
+            }
+        }
+
+        private void complete(Throwable t) {
+            result.completeExceptionally(t);
+            inFlight.compareAndSet(this, null);
+        }
+    }
 }
@@ -99,6 +99,41 @@ class DataSourceConfigurationTest {
         assertThat(ds.isIgnoreExceptionOnPreLoad()).isFalse();
     }
 
+    @Test
+    void testPoolTypeConfiguration() throws Exception {
+        DataSourceFactory ds = getDataSourceFactory("yaml/hikari_db_pool.yml");
+
+        assertThat(ds).isInstanceOf(HikariDataSourceFactory.class);
+        assertThat(ds.getUrl()).isEqualTo("jdbc:postgresql://db.example.com/db-prod");
+        assertThat(ds.getMaxSize()).isEqualTo(32);
+        assertThat(getDataSourceFactory("yaml/minimal_db_pool.yml")).isExactlyInstanceOf(DataSourceFactory.class);
+    }
+
+    @Test
+    void testSubclassConfigurationWithoutPoolType() throws Exception {
+        CustomDataSourceFactory ds = getFactory(CustomDataSourceFactory.class, "yaml/minimal_db_pool.yml");
+
+        assertThat(ds).isExactlyInstanceOf(CustomDataSourceFactory.class);
+        assertThat(ds.getUrl()).isEqualTo("jdbc:postgresql://db.example.com/db-prod");
+    }
+
+    @Test
+    void testRoutingConfiguration() throws Exception {
+        PooledDataSourceFactory factory = getFactory(PooledDataSourceFactory.class, "yaml/routing_db_pool.yml");
+
+        assertThat(factory).isInstanceOf(RoutingDataSourceFactory.class);
+        RoutingDataSourceFactory routing = (RoutingDataSourceFactory) factory;
+        assertThat(routing.getUrl()).isEqualTo("jdbc:postgresql://db.example.com/db-prod");
+        assertThat(routing.getWriter()).isExactlyInstanceOf(DataSourceFactory.class);
+        assertThat(routing.getReaders())
+            .extracting(DataSourceFactory::getUrl)
+            .containsExactly("jdbc:postgresql://replica-1.example.com/db-prod",
+                "jdbc:postgresql://replica-2.example.com/db-prod");
+        assertThat(routing.getReaders().get(0)).isExactlyInstanceOf(DataSourceFactory.class);
+        assertThat(routing.getReaders().get(1)).isExactlyInstanceOf(HikariDataSourceFactory.class);
+        assertThat(routing.getReaderCheckInterval()).isEqualTo(Duration.seconds(30));
+    }
+
     @Test
     void testInlineUserPasswordConfiguration() throws Exception {
         DataSourceFactory ds = getDataSourceFactory("yaml/inline_user_pass_db_pool.yml");
@@ -120,8 +155,15 @@ class DataSourceConfigurationTest {
     }
 
     private DataSourceFactory getDataSourceFactory(String resourceName) throws Exception {
-        return new YamlConfigurationFactory<>(DataSourceFactory.class,
+        return getFactory(DataSourceFactory.class, resourceName);
+    }
+
+    private <T extends PooledDataSourceFactory> T getFactory(Class<T> klass, String resourceName) throws Exception {
+        return new YamlConfigurationFactory<>(klass,
                 Validators.newValidator(), Jackson.newObjectMapper(), "dw")
                 .build(new ResourceConfigurationSourceProvider(), resourceName);
     }
+
+    public static class CustomDataSourceFactory extends DataSourceFactory {
+    }
 }
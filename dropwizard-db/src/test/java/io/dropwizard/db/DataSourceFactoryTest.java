@@ -167,4 +167,36 @@ class DataSourceFactoryTest {
                 "io.dropwizard.db.ManagedPooledDataSource.test.removeAbandoned");
     }
 
+    @Test
+    void connectionAcquisitionAndUsageRecorded() throws Exception {
+        factory.setSlowHoldThreshold(Duration.milliseconds(1));
+        factory.setSlowHoldSamplingRate(1.0);
+
+        try (Connection connection = dataSource().getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+
+        assertThat(metricRegistry.timer("io.dropwizard.db.ManagedPooledDataSource.test.acquire").getCount())
+            .isEqualTo(1L);
+        assertThat(metricRegistry.histogram("io.dropwizard.db.ManagedPooledDataSource.test.usage").getCount())
+            .isEqualTo(1L);
+        assertThat(metricRegistry.meter("io.dropwizard.db.ManagedPooledDataSource.test.timeouts").getCount())
+            .isZero();
+    }
+
+    @Test
+    void connectionTimeoutsRecorded() throws Exception {
+        factory.setInitialSize(1);
+        factory.setMinSize(1);
+        factory.setMaxSize(1);
+        factory.setMaxWaitForConnection(Duration.milliseconds(10));
+
+        final ManagedDataSource source = dataSource();
+        try (Connection ignored = source.getConnection()) {
+            assertThatExceptionOfType(SQLException.class).isThrownBy(source::getConnection);
+        }
+
+        assertThat(metricRegistry.meter("io.dropwizard.db.ManagedPooledDataSource.test.timeouts").getCount())
+            .isEqualTo(1L);
+    }
 }
@@ -0,0 +1,100 @@
+package io.dropwizard.db;
+
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.util.Duration;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class HikariDataSourceFactoryTest {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+
+    private HikariDataSourceFactory factory;
+
+    @Nullable
+    private ManagedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        factory = new HikariDataSourceFactory();
+        factory.setUrl("jdbc:h2:mem:HikariTest-" + System.currentTimeMillis() + ";user=sa");
+        factory.setDriverClass("org.h2.Driver");
+        factory.setMinSize(1);
+        factory.setMaxSize(4);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (null != dataSource) {
+            dataSource.stop();
+        }
+    }
+
+    private ManagedDataSource dataSource() throws Exception {
+        dataSource = factory.build(metricRegistry, "test");
+        dataSource.start();
+        return dataSource;
+    }
+
+    @Test
+    void buildsAConnectionPoolToTheDatabase() throws Exception {
+        try (Connection connection = dataSource().getConnection();
+             PreparedStatement statement = connection.prepareStatement("select 1");
+             ResultSet set = statement.executeQuery()) {
+            assertThat(set.next()).isTrue();
+            assertThat(set.getInt(1)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void mapsTheConfiguration() throws Exception {
+        factory.setMaxWaitForConnection(Duration.seconds(5));
+        factory.setMaxConnectionAge(Duration.minutes(10));
+        factory.setValidationQueryTimeout(Duration.seconds(2));
+        factory.setDefaultTransactionIsolation(DataSourceFactory.TransactionIsolation.SERIALIZABLE);
+        factory.setReadOnlyByDefault(true);
+
+        assertThat(dataSource()).isInstanceOfSatisfying(ManagedHikariDataSource.class, source -> {
+            assertThat(source.getPoolName()).isEqualTo("test");
+            assertThat(source.getMinimumIdle()).isEqualTo(1);
+            assertThat(source.getMaximumPoolSize()).isEqualTo(4);
+            assertThat(source.getConnectionTimeout()).isEqualTo(5000L);
+            assertThat(source.getMaxLifetime()).isEqualTo(600_000L);
+            assertThat(source.getValidationTimeout()).isEqualTo(2000L);
+            assertThat(source.getTransactionIsolation()).isEqualTo("TRANSACTION_SERIALIZABLE");
+            assertThat(source.isReadOnly()).isTrue();
+        });
+    }
+
+    @Test
+    void testInitialSizeIsZero() {
+        factory.setUrl("jdbc:h2:tcp://localhost:1/nonexistent");
+        factory.setInitialSize(0);
+        dataSource = factory.build(metricRegistry, "test");
+        assertThatNoException().isThrownBy(dataSource::start);
+    }
+
+    @Test
+    void metricsRecorded() throws Exception {
+        try (Connection ignored = dataSource().getConnection()) {
+            assertThat(metricRegistry.getGauges(MetricFilter.startsWith("io.dropwizard.db.ManagedHikariDataSource.test.")))
+                .containsOnlyKeys(
+                    "io.dropwizard.db.ManagedHikariDataSource.test.active",
+                    "io.dropwizard.db.ManagedHikariDataSource.test.idle",
+                    "io.dropwizard.db.ManagedHikariDataSource.test.waiting",
+                    "io.dropwizard.db.ManagedHikariDataSource.test.size")
+                .hasEntrySatisfying("io.dropwizard.db.ManagedHikariDataSource.test.active",
+                    gauge -> assertThat(gauge.getValue()).isEqualTo(1));
+        }
+        assertThat(metricRegistry.getTimers()).containsKey("test.pool.Wait");
+    }
+}
@@ -0,0 +1,196 @@
+package io.dropwizard.db;
+
+import com.codahale.metrics.health.HealthCheck;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoutingManagedDataSourceTest {
+    private final ManagedDataSource writer = mock(ManagedDataSource.class);
+    private final ManagedDataSource reader1 = mock(ManagedDataSource.class);
+    private final ManagedDataSource reader2 = mock(ManagedDataSource.class);
+    private final Connection writerConnection = mock(Connection.class);
+    private final Connection reader1Connection = mock(Connection.class);
+    private final Connection reader2Connection = mock(Connection.class);
+
+    private RoutingManagedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(writer.getConnection()).thenReturn(writerConnection);
+        when(reader1.getConnection()).thenReturn(reader1Connection);
+        when(reader2.getConnection()).thenReturn(reader2Connection);
+
+        final Map<String, ManagedDataSource> readers = new LinkedHashMap<>();
+        readers.put("db-reader-1", reader1);
+        readers.put("db-reader-2", reader2);
+        dataSource = new RoutingManagedDataSource(writer, readers);
+    }
+
+    @Test
+    void routesConnectionsWithoutHintToTheWriter() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement("UPDATE t SET x = 1");
+        }
+
+        verify(writerConnection).prepareStatement("UPDATE t SET x = 1");
+        verify(writerConnection).close();
+        verify(reader1, never()).getConnection();
+        verify(reader2, never()).getConnection();
+    }
+
+    @Test
+    void routesConnectionsWithWritingHintToTheWriter() throws Exception {
+        final Boolean previous = ReadOnlyHint.set(false);
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection).isSameAs(writerConnection);
+        } finally {
+            ReadOnlyHint.restore(previous);
+        }
+    }
+
+    @Test
+    void routesConnectionsWithReadOnlyHintToAReader() throws Exception {
+        final Boolean previous = ReadOnlyHint.set(true);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        } finally {
+            ReadOnlyHint.restore(previous);
+        }
+
+        verify(writer, never()).getConnection();
+        verify(reader1Connection).createStatement();
+        verify(reader1Connection).close();
+    }
+
+    @Test
+    void routesConnectionsSetToReadOnlyBeforeFirstUseToAReader() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            assertThat(connection.isReadOnly()).isTrue();
+            verify(reader1, never()).getConnection();
+            verify(reader2, never()).getConnection();
+
+            connection.createStatement();
+        }
+
+        verify(writer, never()).getConnection();
+        verify(reader1Connection).createStatement();
+        verify(reader1Connection).close();
+    }
+
+    @Test
+    void closingAnUnusedConnectionDoesNotAcquireOne() throws Exception {
+        final Connection connection = dataSource.getConnection();
+        connection.close();
+
+        assertThat(connection.isClosed()).isTrue();
+        verify(writer, never()).getConnection();
+        verify(reader1, never()).getConnection();
+        verify(reader2, never()).getConnection();
+    }
+
+    @Test
+    void balancesReadsByOutstandingConnections() throws Exception {
+        final Boolean previous = ReadOnlyHint.set(true);
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            first.createStatement();
+            second.createStatement();
+        } finally {
+            ReadOnlyHint.restore(previous);
+        }
+
+        verify(reader1).getConnection();
+        verify(reader2).getConnection();
+        verify(reader1Connection).close();
+        verify(reader2Connection).close();
+    }
+
+    @Test
+    void ejectsReadersWhichFailTheirCheck() throws Exception {
+        when(reader1Connection.isValid(anyInt())).thenReturn(false);
+        when(reader2Connection.isValid(anyInt())).thenReturn(true);
+
+        dataSource.checkReaders();
+
+        final Map<String, HealthCheck> healthChecks = dataSource.getReaderHealthChecks();
+        assertThat(healthChecks).containsOnlyKeys("db-reader-1", "db-reader-2");
+        assertThat(healthChecks.get("db-reader-1").execute().isHealthy()).isFalse();
+        assertThat(healthChecks.get("db-reader-2").execute().isHealthy()).isTrue();
+
+        final Boolean previous = ReadOnlyHint.set(true);
+        try {
+            for (int i = 0; i < 4; i++) {
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.createStatement();
+                }
+            }
+        } finally {
+            ReadOnlyHint.restore(previous);
+        }
+
+        // one connection for the check, four for reading
+        verify(reader1, times(1)).getConnection();
+        verify(reader2, times(5)).getConnection();
+    }
+
+    @Test
+    void routesToReadersAgainOnceTheyPassTheirCheck() throws Exception {
+        when(reader1Connection.isValid(anyInt())).thenReturn(false, true);
+        when(reader2Connection.isValid(anyInt())).thenReturn(true);
+
+        dataSource.checkReaders();
+        assertThat(dataSource.getReaderHealthChecks().get("db-reader-1").execute().isHealthy()).isFalse();
+
+        dataSource.checkReaders();
+        assertThat(dataSource.getReaderHealthChecks().get("db-reader-1").execute().isHealthy()).isTrue();
+    }
+
+    @Test
+    void ejectsReadersWhichFailToServeAConnection() throws Exception {
+        when(reader1.getConnection()).thenThrow(new SQLException("down"));
+        when(reader2.getConnection()).thenThrow(new SQLException("down"));
+
+        final Boolean previous = ReadOnlyHint.set(true);
+        try {
+            for (int i = 0; i < 3; i++) {
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.createStatement();
+                }
+            }
+        } finally {
+            ReadOnlyHint.restore(previous);
+        }
+
+        verify(writerConnection, times(3)).createStatement();
+        verify(reader1, times(1)).getConnection();
+        verify(reader2, times(1)).getConnection();
+        assertThat(dataSource.getReaderHealthChecks().values())
+            .allSatisfy(healthCheck -> assertThat(healthCheck.execute().isHealthy()).isFalse());
+    }
+
+    @Test
+    void startsAndStopsAllDataSources() throws Exception {
+        dataSource.start();
+        dataSource.stop();
+
+        verify(writer).start();
+        verify(reader1).start();
+        verify(reader2).start();
+        verify(writer).stop();
+        verify(reader1).stop();
+        verify(reader2).stop();
+    }
+}
@@ -2,36 +2,125 @@ package io.dropwizard.db;
 
 import com.codahale.metrics.health.HealthCheck;
 import io.dropwizard.util.Duration;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class TimeBoundHealthCheckTest {
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void testCheck() {
+        final HealthCheck.Result result = new TimeBoundHealthCheck(executorService, Duration.seconds(5))
+            .check(HealthCheck.Result::healthy);
+
+        assertThat(result.isHealthy()).isTrue();
+    }
+
+    @Test
+    void failingCheckIsUnhealthy() {
+        final HealthCheck.Result result = new TimeBoundHealthCheck(executorService, Duration.seconds(5))
+            .check(() -> {
+                throw new IllegalStateException("no connection");
+            });
+
+        assertThat(result.isHealthy()).isFalse();
+    }
+
+    @Test
+    void timedOutCheckIsCancelledAndNotSubmittedAgainWhileRunning() throws Exception {
+        final AtomicInteger started = new AtomicInteger();
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final TimeBoundHealthCheck check = new TimeBoundHealthCheck(executorService, Duration.milliseconds(50));
+
+        final HealthCheck.Result first = check.check(() -> {
+            started.incrementAndGet();
+            try {
+                TimeUnit.SECONDS.sleep(10);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                // a JDBC driver ignoring the interrupt keeps the thread busy
+                release.await();
+            }
+            return HealthCheck.Result.healthy();
+        });
+        assertThat(first.isHealthy()).isFalse();
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // the cancelled check is still running, so no other check is started
+        final HealthCheck.Result second = check.check(() -> {
+            started.incrementAndGet();
+            return HealthCheck.Result.healthy();
+        });
+        assertThat(second.isHealthy()).isFalse();
+        assertThat(started).hasValue(1);
+
+        release.countDown();
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void concurrentChecksAreCoalesced() throws Exception {
+        final AtomicInteger started = new AtomicInteger();
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final TimeBoundHealthCheck check = new TimeBoundHealthCheck(executorService, Duration.seconds(5));
+
+        final ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            final Future<HealthCheck.Result> first = callers.submit(() -> check.check(() -> {
+                started.incrementAndGet();
+                running.countDown();
+                release.await();
+                return HealthCheck.Result.healthy();
+            }));
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            final Future<HealthCheck.Result> second = callers.submit(() -> check.check(() -> {
+                started.incrementAndGet();
+                return HealthCheck.Result.unhealthy("not coalesced");
+            }));
+
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).isHealthy()).isTrue();
+            assertThat(second.get(5, TimeUnit.SECONDS).isHealthy()).isTrue();
+            assertThat(started).hasValue(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
 
     @Test
-    @SuppressWarnings("unchecked")
-    void testCheck() throws InterruptedException, ExecutionException, TimeoutException {
-        final ExecutorService executorService = mock(ExecutorService.class);
-        final Duration duration = mock(Duration.class);
-        when(duration.getQuantity()).thenReturn(5L);
-        when(duration.getUnit()).thenReturn(TimeUnit.SECONDS);
-
-        final Callable<HealthCheck.Result> callable = mock(Callable.class);
-        final Future<HealthCheck.Result> future = mock(Future.class);
-        when(executorService.submit(callable)).thenReturn(future);
-
-        new TimeBoundHealthCheck(executorService, duration).check(callable);
-        verify(executorService, times(1)).submit(callable);
-        verify(future, times(1)).get(duration.getQuantity(), duration.getUnit());
+    void checkNeverStartedIsCancelledWithoutBlockingLaterChecks() {
+        final ExecutorService saturated = mock(ExecutorService.class);
+        final Future<?> future = mock(Future.class);
+        when(saturated.submit(any(Runnable.class))).thenAnswer(invocation -> future);
+        final TimeBoundHealthCheck check = new TimeBoundHealthCheck(saturated, Duration.milliseconds(10));
+
+        assertThat(check.check(HealthCheck.Result::healthy).isHealthy()).isFalse();
+        assertThat(check.check(HealthCheck.Result::healthy).isHealthy()).isFalse();
+
+        verify(saturated, times(2)).submit(any(Runnable.class));
+        verify(future, times(2)).cancel(true);
     }
 }
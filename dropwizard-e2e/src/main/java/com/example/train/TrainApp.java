@@ -0,0 +1,27 @@
+package com.example.train;
+
+import io.dropwizard.core.Application;
+import io.dropwizard.core.Configuration;
+import io.dropwizard.core.cli.TrainCommand;
+import io.dropwizard.core.setup.Bootstrap;
+import io.dropwizard.core.setup.Environment;
+
+public class TrainApp extends Application<Configuration> {
+    public static void main(String[] args) throws Exception {
+        new TrainApp().run(args);
+        if (args.length > 0 && "train".equals(args[0])) {
+            // the JVM writes the class data sharing archive when it exits
+            System.exit(0);
+        }
+    }
+
+    @Override
+    public void initialize(Bootstrap<Configuration> bootstrap) {
+        bootstrap.addCommand(new TrainCommand<>(this));
+    }
+
+    @Override
+    public void run(Configuration configuration, Environment environment) throws Exception {
+        environment.jersey().register(new TrainResource());
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.train;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Path("/ping")
+public class TrainResource {
+    public static final AtomicInteger PINGS = new AtomicInteger();
+
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    public String ping() {
+        PINGS.incrementAndGet();
+        return "pong";
+    }
+}
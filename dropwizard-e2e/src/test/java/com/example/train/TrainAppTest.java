@@ -0,0 +1,84 @@
+package com.example.train;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.dropwizard.testing.ResourceHelpers.resourceFilePath;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrainAppTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrainAppTest.class);
+    private static final String CONFIG_PATH = "train/config.yml";
+    private static final int MEASURED_RUNS = 3;
+
+    @Test
+    void requestsTheWarmupUrlsAndStops() throws Exception {
+        final int pings = TrainResource.PINGS.get();
+
+        new TrainApp() {
+            @Override
+            protected void onFatalError(Throwable t) {
+                throw new AssertionError("The training run failed", t);
+            }
+        }.run("train", "--warmup-url", "/ping", "--warmup-requests", "3", resourceFilePath(CONFIG_PATH));
+
+        assertThat(TrainResource.PINGS.get() - pings).isEqualTo(3);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_13)
+    void startsWithTheClassDataSharingArchiveOfATrainingRun(@TempDir Path tempDir) throws Exception {
+        final Path archive = tempDir.resolve("train.jsa");
+
+        assertThat(runTrainApp("-XX:ArchiveClassesAtExit=" + archive, "--warmup-url", "/ping")).isZero();
+        assertThat(archive).isRegularFile();
+
+        // the times vary too much between machines to assert a speedup, so they are only reported
+        final long withoutArchive = measureStartup("-Xshare:auto");
+        final long withArchive = measureStartup("-XX:SharedArchiveFile=" + archive);
+        LOGGER.info("Started and stopped the application in {} ms without and in {} ms with the archive",
+            withoutArchive, withArchive);
+    }
+
+    private static long measureStartup(String jvmOption) throws Exception {
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            final long start = System.nanoTime();
+            assertThat(runTrainApp(jvmOption)).isZero();
+            fastest = Math.min(fastest, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return fastest;
+    }
+
+    private static int runTrainApp(String jvmOption, String... arguments) throws Exception {
+        final List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add(jvmOption);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(TrainApp.class.getName());
+        command.add("train");
+        command.addAll(List.of(arguments));
+        command.add(resourceFilePath(CONFIG_PATH));
+
+        final Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        if (!process.waitFor(2, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            throw new AssertionError("The application didn't stop in time");
+        }
+        return process.exitValue();
+    }
+}
@@ -17,8 +17,10 @@ import io.dropwizard.jetty.setup.ServletEnvironment;
 import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import io.dropwizard.util.Duration;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,6 +63,11 @@ public class DefaultHealthFactory implements HealthFactory {
     @JsonProperty
     private List<String> healthCheckUrlPaths = singletonList(DEFAULT_PATH);
 
+    @Nullable
+    @Min(1)
+    @JsonProperty
+    private Integer maxConcurrentChecks = null;
+
     @Valid
     @JsonProperty("responseProvider")
     private HealthResponseProviderFactory healthResponseProviderFactory =
@@ -120,6 +127,21 @@ public class DefaultHealthFactory implements HealthFactory {
         this.healthCheckUrlPaths = healthCheckUrlPaths;
     }
 
+    /**
+     * @since 4.0.11
+     */
+    @Nullable
+    public Integer getMaxConcurrentChecks() {
+        return maxConcurrentChecks;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    public void setMaxConcurrentChecks(@Nullable Integer maxConcurrentChecks) {
+        this.maxConcurrentChecks = maxConcurrentChecks;
+    }
+
     public HealthResponseProviderFactory getHealthResponseProviderFactory() {
         return healthResponseProviderFactory;
     }
@@ -152,12 +174,16 @@ public class DefaultHealthFactory implements HealthFactory {
         final List<HealthCheckConfiguration> healthCheckConfigs = getHealthCheckConfigurations();
 
         // setup schedules for configured health checks
+        // no more threads than checks allowed to run at the same time are needed
+        final int schedulerThreads = maxConcurrentChecks == null
+                ? healthCheckConfigs.size()
+                : Math.min(healthCheckConfigs.size(), maxConcurrentChecks);
         final ScheduledExecutorService scheduledHealthCheckExecutor = createScheduledExecutorForHealthChecks(
-                healthCheckConfigs.size(), metrics, lifecycle, fullName);
+                schedulerThreads, metrics, lifecycle, fullName);
         final HealthCheckScheduler scheduler = new HealthCheckScheduler(scheduledHealthCheckExecutor);
         // configure health manager to receive registered health state listeners from HealthEnvironment (via reference)
         final HealthCheckManager healthCheckManager = new HealthCheckManager(healthCheckConfigs, scheduler, metrics,
-                shutdownWaitPeriod, initialOverallState, health.healthStateListeners());
+                shutdownWaitPeriod, initialOverallState, health.healthStateListeners(), maxConcurrentChecks);
         healthCheckManager.initializeAppHealth();
 
         // setup response provider and responder to respond to health check requests
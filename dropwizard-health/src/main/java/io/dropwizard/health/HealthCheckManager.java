@@ -3,6 +3,7 @@ package io.dropwizard.health;
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.codahale.metrics.health.HealthCheck;
 import com.codahale.metrics.health.HealthCheckRegistryListener;
 import io.dropwizard.util.Duration;
@@ -17,8 +18,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -30,6 +33,7 @@ class HealthCheckManager implements HealthCheckRegistryListener, HealthStatusChe
     private final AtomicBoolean isAppHealthy = new AtomicBoolean(false);
     private final AtomicInteger unhealthyCriticalHealthChecks = new AtomicInteger();
     private final AtomicInteger unhealthyCriticalAliveChecks = new AtomicInteger();
+    private final AtomicLong healthStateVersion = new AtomicLong();
     @NonNull
     private final HealthCheckScheduler scheduler;
     @NonNull
@@ -44,6 +48,8 @@ class HealthCheckManager implements HealthCheckRegistryListener, HealthStatusChe
     private final String aggregateHealthyName;
     @NonNull
     private final String aggregateUnhealthyName;
+    @Nullable
+    private final Semaphore inFlightLimit;
     @NonNull
     private Map<String, ScheduledHealthCheck> checks;
     private volatile boolean shuttingDown = false;
@@ -54,6 +60,20 @@ class HealthCheckManager implements HealthCheckRegistryListener, HealthStatusChe
                               final Duration shutdownWaitPeriod,
                               final boolean initialOverallState,
                               final Collection<HealthStateListener> healthStateListeners) {
+        this(configs, scheduler, metrics, shutdownWaitPeriod, initialOverallState, healthStateListeners, null);
+    }
+
+    /**
+     * @param maxConcurrentChecks the maximum number of health checks running at the same time, or {@code null} if
+     *                            it isn't limited
+     */
+    public HealthCheckManager(final List<HealthCheckConfiguration> configs,
+                              final HealthCheckScheduler scheduler,
+                              final MetricRegistry metrics,
+                              final Duration shutdownWaitPeriod,
+                              final boolean initialOverallState,
+                              final Collection<HealthStateListener> healthStateListeners,
+                              @Nullable final Integer maxConcurrentChecks) {
         this.configs = configs.stream()
             .collect(Collectors.toMap(HealthCheckConfiguration::getName, Function.identity()));
         this.scheduler = Objects.requireNonNull(scheduler);
@@ -62,6 +82,7 @@ class HealthCheckManager implements HealthCheckRegistryListener, HealthStatusChe
         this.initialOverallState = initialOverallState;
         this.checks = new HashMap<>();
         this.healthStateListeners = Objects.requireNonNull(healthStateListeners);
+        this.inFlightLimit = maxConcurrentChecks == null ? null : new Semaphore(maxConcurrentChecks);
 
         this.aggregateHealthyName = MetricRegistry.name("health", "aggregate", "healthy");
         this.aggregateUnhealthyName = MetricRegistry.name("health", "aggregate", "unhealthy");
@@ -72,6 +93,7 @@ class HealthCheckManager implements HealthCheckRegistryListener, HealthStatusChe
     // visible for testing
     void setChecks(final Map<String, ScheduledHealthCheck> checks) {
         this.checks = checks;
+        healthStateVersion.incrementAndGet();
     }
 
     @Override
@@ -92,10 +114,12 @@ class HealthCheckManager implements HealthCheckRegistryListener, HealthStatusChe
         final State state = new State(name, schedule.getFailureAttempts(), schedule.getSuccessAttempts(), initialState, this);
         final Counter healthyCheckCounter = metrics.counter(MetricRegistry.name("health", name, "healthy"));
         final Counter unhealthyCheckCounter = metrics.counter(MetricRegistry.name("health", name, "unhealthy"));
+        final Timer executionTimer = metrics.timer(MetricRegistry.name("health", name, "duration"));
 
         final ScheduledHealthCheck check = new ScheduledHealthCheck(name, type, critical, healthCheck, schedule, state,
-            healthyCheckCounter, unhealthyCheckCounter);
+            healthyCheckCounter, unhealthyCheckCounter, executionTimer, inFlightLimit);
         checks.put(name, check);
+        healthStateVersion.incrementAndGet();
 
         // handle initial state of 'false' to ensure counts line up
         if (!initialState && critical) {
@@ -120,6 +144,8 @@ class HealthCheckManager implements HealthCheckRegistryListener, HealthStatusChe
             return;
         }
 
+        healthStateVersion.incrementAndGet();
+
         if (check.isCritical()) {
             handleCriticalHealthChange(check, isNowHealthy);
         } else {
@@ -300,4 +326,9 @@ class HealthCheckManager implements HealthCheckRegistryListener, HealthStatusChe
         return Optional.ofNullable(checks.get(name))
             .map(ScheduledHealthCheck::view);
     }
+
+    @Override
+    public long healthStateVersion() {
+        return healthStateVersion.get();
+    }
 }
@@ -1,13 +1,16 @@
 package io.dropwizard.health;
 
 import io.dropwizard.util.Duration;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 class HealthCheckScheduler {
@@ -15,6 +18,7 @@ class HealthCheckScheduler {
 
     private final ScheduledExecutorService executorService;
     private final Map<String, ScheduledFuture<?>> futures = new ConcurrentHashMap<>();
+    private final Map<String, AdaptiveTask> adaptiveTasks = new ConcurrentHashMap<>();
 
     public HealthCheckScheduler(final ScheduledExecutorService executorService) {
         this.executorService = executorService;
@@ -28,7 +32,7 @@ class HealthCheckScheduler {
             interval = check.getSchedule().getDowntimeInterval();
         }
 
-        schedule(check, check.getSchedule().getInitialDelay(), interval);
+        schedule(check, check.isHealthy(), check.getSchedule().getInitialDelay(), interval);
     }
 
     public void schedule(final ScheduledHealthCheck check, final boolean healthy) {
@@ -41,10 +45,19 @@ class HealthCheckScheduler {
             interval = check.getSchedule().getDowntimeInterval();
         }
 
-        schedule(check, interval, interval);
+        schedule(check, healthy, interval, interval);
     }
 
-    private void schedule(final ScheduledHealthCheck check, final Duration initialDelay, final Duration delay) {
+    private void schedule(final ScheduledHealthCheck check, final boolean healthy, final Duration initialDelay,
+                          final Duration delay) {
+        if (check.getSchedule().isAdaptive()) {
+            final AdaptiveTask task = new AdaptiveTask(check, healthy);
+            adaptiveTasks.put(check.getName(), task);
+            task.scheduleAfter(jitter(check.getSchedule(), initialDelay.toMilliseconds()));
+            LOGGER.debug("Scheduled adaptive check: check={}", check);
+            return;
+        }
+
         final ScheduledFuture<?> taskFuture = executorService.scheduleWithFixedDelay(check,
             initialDelay.toMilliseconds(), delay.toMilliseconds(), TimeUnit.MILLISECONDS);
         futures.put(check.getName(), taskFuture);
@@ -58,5 +71,83 @@ class HealthCheckScheduler {
             futures.remove(name);
             LOGGER.debug("Unscheduled check: name={}", name);
         }
+        final AdaptiveTask task = adaptiveTasks.remove(name);
+        if (task != null) {
+            task.cancel();
+            LOGGER.debug("Unscheduled adaptive check: name={}", name);
+        }
+    }
+
+    // visible for testing
+    static long nextDelay(final Schedule schedule, final boolean healthy, final int runs) {
+        if (healthy) {
+            return jitter(schedule, schedule.getCheckInterval().toMilliseconds());
+        }
+
+        final long downtimeInterval = schedule.getDowntimeInterval().toMilliseconds();
+        final long maxDowntimeInterval = Math.max(downtimeInterval, schedule.getMaxDowntimeInterval().toMilliseconds());
+        final double backedOff = downtimeInterval * Math.pow(schedule.getBackoffMultiplier(), runs);
+        return jitter(schedule, (long) Math.min(backedOff, maxDowntimeInterval));
+    }
+
+    private static long jitter(final Schedule schedule, final long delay) {
+        final double jitter = schedule.getJitter();
+        if (jitter <= 0.0 || delay <= 0L) {
+            return delay;
+        }
+        final double factor = 1.0 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Math.max(0L, Math.round(delay * factor));
+    }
+
+    /**
+     * Runs a check with a delay which is calculated anew after each run.
+     */
+    private final class AdaptiveTask implements Runnable {
+        private final ScheduledHealthCheck check;
+        private final boolean healthy;
+        private int runs = 0;
+        private volatile boolean cancelled = false;
+        @Nullable
+        private volatile ScheduledFuture<?> future;
+
+        private AdaptiveTask(final ScheduledHealthCheck check, final boolean healthy) {
+            this.check = check;
+            this.healthy = healthy;
+        }
+
+        @Override
+        public void run() {
+            try {
+                check.run();
+            } finally {
+                scheduleAfter(nextDelay(check.getSchedule(), healthy, ++runs));
+            }
+        }
+
+        private void scheduleAfter(final long delay) {
+            if (cancelled) {
+                return;
+            }
+            try {
+                future = executorService.schedule(this, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("Could not schedule check, the executor is shut down: name={}", check.getName());
+            }
+            if (cancelled) {
+                cancelFuture();
+            }
+        }
+
+        private void cancel() {
+            cancelled = true;
+            cancelFuture();
+        }
+
+        private void cancelFuture() {
+            final ScheduledFuture<?> scheduled = future;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
     }
 }
@@ -11,4 +11,16 @@ public interface HealthStateAggregator {
 
     @NonNull
     Optional<HealthStateView> healthStateView(@NonNull String name);
+
+    /**
+     * Returns the version of the health states, which changes whenever any of the views returned by
+     * {@link #healthStateViews()} changes. This allows responses built from the views to be reused until the next
+     * change.
+     *
+     * @return the current version, or a negative number if changes of the health states are not tracked
+     * @since 4.0.11
+     */
+    default long healthStateVersion() {
+        return -1L;
+    }
 }
@@ -1,7 +1,10 @@
 package io.dropwizard.health;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.dropwizard.util.Duration;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -30,6 +33,19 @@ public class Schedule {
     @JsonProperty
     private int successAttempts = 2;
 
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    @JsonProperty
+    private double jitter = 0.0;
+
+    @DecimalMin("1.0")
+    @JsonProperty
+    private double backoffMultiplier = 1.0;
+
+    @Nullable
+    @JsonProperty
+    private Duration maxDowntimeInterval = null;
+
     public Duration getInitialDelay() {
         // default to checkInterval value
         return initialDelay == null ? getCheckInterval() : initialDelay;
@@ -71,6 +87,65 @@ public class Schedule {
         this.successAttempts = successAttempts;
     }
 
+    /**
+     * @return the fraction by which every delay is randomly shortened or lengthened, between {@code 0.0} (no jitter)
+     * and {@code 1.0}
+     * @since 4.0.11
+     */
+    public double getJitter() {
+        return jitter;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    public void setJitter(final double jitter) {
+        this.jitter = jitter;
+    }
+
+    /**
+     * @return the factor by which the delay between consecutive checks of an unhealthy dependency grows, where
+     * {@code 1.0} disables backing off
+     * @since 4.0.11
+     */
+    public double getBackoffMultiplier() {
+        return backoffMultiplier;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    public void setBackoffMultiplier(final double backoffMultiplier) {
+        this.backoffMultiplier = backoffMultiplier;
+    }
+
+    /**
+     * @return the maximum delay between checks of an unhealthy dependency when backing off
+     * @since 4.0.11
+     */
+    public Duration getMaxDowntimeInterval() {
+        // default to ten times the downtimeInterval value
+        return maxDowntimeInterval == null
+            ? Duration.milliseconds(getDowntimeInterval().toMilliseconds() * 10)
+            : maxDowntimeInterval;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    public void setMaxDowntimeInterval(final Duration maxDowntimeInterval) {
+        this.maxDowntimeInterval = maxDowntimeInterval;
+    }
+
+    /**
+     * @return whether checks on this schedule have varying delays, due to jitter or backing off
+     * @since 4.0.11
+     */
+    @JsonIgnore
+    public boolean isAdaptive() {
+        return jitter > 0.0 || backoffMultiplier > 1.0;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -78,6 +153,9 @@ public class Schedule {
         final Schedule schedule = (Schedule) o;
         return failureAttempts == schedule.failureAttempts &&
             successAttempts == schedule.successAttempts &&
+            Double.compare(jitter, schedule.jitter) == 0 &&
+            Double.compare(backoffMultiplier, schedule.backoffMultiplier) == 0 &&
+            Objects.equals(maxDowntimeInterval, schedule.maxDowntimeInterval) &&
             Objects.equals(initialDelay, schedule.initialDelay) &&
             Objects.equals(checkInterval, schedule.checkInterval) &&
             Objects.equals(downtimeInterval, schedule.downtimeInterval);
@@ -85,6 +163,7 @@ public class Schedule {
 
     @Override
     public int hashCode() {
-        return Objects.hash(initialDelay, checkInterval, downtimeInterval, failureAttempts, successAttempts);
+        return Objects.hash(initialDelay, checkInterval, downtimeInterval, failureAttempts, successAttempts, jitter,
+            backoffMultiplier, maxDowntimeInterval);
     }
 }
@@ -1,11 +1,19 @@
 package io.dropwizard.health;
 
 import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.codahale.metrics.health.HealthCheck;
+import io.dropwizard.health.check.AsyncHealthCheck;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 class ScheduledHealthCheck implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(ScheduledHealthCheck.class);
@@ -18,7 +26,11 @@ class ScheduledHealthCheck implements Runnable {
     private final State state;
     private final Counter healthyCheckCounter;
     private final Counter unhealthyCheckCounter;
-    private boolean previouslyRecovered = false;
+    private final Timer executionTimer;
+    @Nullable
+    private final Semaphore inFlightLimit;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile boolean previouslyRecovered = false;
 
     ScheduledHealthCheck(final String name,
                          final HealthCheckType type,
@@ -28,6 +40,25 @@ class ScheduledHealthCheck implements Runnable {
                          final State state,
                          final Counter healthyCheckCounter,
                          final Counter unhealthyCheckCounter) {
+        this(name, type, critical, healthCheck, schedule, state, healthyCheckCounter, unhealthyCheckCounter, new Timer(),
+            null);
+    }
+
+    /**
+     * @param executionTimer the timer recording how long the check takes
+     * @param inFlightLimit  the permits shared by all checks which limit how many of them run at the same time, or
+     *                       {@code null} if they aren't limited
+     */
+    ScheduledHealthCheck(final String name,
+                         final HealthCheckType type,
+                         final boolean critical,
+                         final HealthCheck healthCheck,
+                         final Schedule schedule,
+                         final State state,
+                         final Counter healthyCheckCounter,
+                         final Counter unhealthyCheckCounter,
+                         final Timer executionTimer,
+                         @Nullable final Semaphore inFlightLimit) {
         this.name = Objects.requireNonNull(name);
         this.type = type;
         this.critical = critical;
@@ -36,6 +67,8 @@ class ScheduledHealthCheck implements Runnable {
         this.state = Objects.requireNonNull(state);
         this.healthyCheckCounter = Objects.requireNonNull(healthyCheckCounter);
         this.unhealthyCheckCounter = Objects.requireNonNull(unhealthyCheckCounter);
+        this.executionTimer = Objects.requireNonNull(executionTimer);
+        this.inFlightLimit = inFlightLimit;
     }
 
     public String getName() {
@@ -66,16 +99,87 @@ class ScheduledHealthCheck implements Runnable {
     public void run() {
         LOGGER.trace("executing health check: name={}", name);
 
+        if (healthCheck instanceof AsyncHealthCheck) {
+            runAsync((AsyncHealthCheck) healthCheck);
+            return;
+        }
+
+        if (!acquire()) {
+            return;
+        }
+
         final boolean previousState = state.getHealthy().get();
 
         HealthCheck.Result result;
+        final Timer.Context context = executionTimer.time();
         try {
             result = healthCheck.execute();
         } catch (final Exception e) {
             LOGGER.warn("Check for name={} failed exceptionally", name, e);
             result = HealthCheck.Result.unhealthy(e);
+        } finally {
+            context.stop();
+            release();
         }
 
+        handleResult(previousState, result);
+    }
+
+    private void runAsync(final AsyncHealthCheck asyncHealthCheck) {
+        if (!running.compareAndSet(false, true)) {
+            LOGGER.debug("skipping health check, previous check still running: name={}", name);
+            return;
+        }
+        if (!acquire()) {
+            running.set(false);
+            return;
+        }
+
+        final boolean previousState = state.getHealthy().get();
+
+        final Timer.Context context = executionTimer.time();
+        CompletableFuture<HealthCheck.Result> future;
+        try {
+            future = asyncHealthCheck.checkAsync();
+        } catch (final RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        // A future which never completes would keep the check from being started again
+        future.orTimeout(schedule.getCheckInterval().toMilliseconds(), TimeUnit.MILLISECONDS)
+            .whenComplete((result, throwable) -> {
+                context.stop();
+                release();
+                try {
+                    if (throwable == null) {
+                        handleResult(previousState, result);
+                    } else {
+                        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause() : throwable;
+                        LOGGER.warn("Check for name={} failed exceptionally", name, cause);
+                        handleResult(previousState, HealthCheck.Result.unhealthy(cause));
+                    }
+                } finally {
+                    running.set(false);
+                }
+            });
+    }
+
+    private boolean acquire() {
+        if (inFlightLimit == null || inFlightLimit.tryAcquire()) {
+            return true;
+        }
+        LOGGER.debug("skipping health check, too many checks in flight: name={}", name);
+        return false;
+    }
+
+    private void release() {
+        if (inFlightLimit != null) {
+            inFlightLimit.release();
+        }
+    }
+
+    private void handleResult(final boolean previousState, final HealthCheck.Result result) {
         if (result.isHealthy()) {
             LOGGER.trace("health check result: name={} result=success", name);
             state.success();
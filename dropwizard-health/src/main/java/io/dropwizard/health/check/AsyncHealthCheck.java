@@ -0,0 +1,40 @@
+package io.dropwizard.health.check;
+
+import com.codahale.metrics.health.HealthCheck;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A health check which performs its check without blocking the calling thread.
+ * <p/>
+ * Scheduled health checks only start an asynchronous check and handle its result once the returned future completes,
+ * so a few scheduler threads can drive many checks of slow dependencies. A check is not started again while its
+ * previous run is still in progress, and a run which doesn't complete within the check interval of its schedule
+ * counts as failed. When run synchronously, e.g. by the admin servlet, the check waits for the result.
+ *
+ * @since 4.0.11
+ */
+public abstract class AsyncHealthCheck extends HealthCheck {
+
+    /**
+     * Starts checking the health of the component. This method must not block.
+     *
+     * @return a future completed with the result of the check, or completed exceptionally if the component is
+     * unhealthy
+     */
+    public abstract CompletableFuture<Result> checkAsync();
+
+    @Override
+    protected Result check() throws Exception {
+        try {
+            return checkAsync().get();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+}
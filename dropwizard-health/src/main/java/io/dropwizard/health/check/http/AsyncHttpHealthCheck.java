@@ -0,0 +1,142 @@
+package io.dropwizard.health.check.http;
+
+import io.dropwizard.health.check.AsyncHealthCheck;
+import jakarta.ws.rs.core.Response;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link AsyncHealthCheck} performing an HTTP request against an external dependency with the non-blocking
+ * {@link HttpClient} of the JDK.
+ * <p/>
+ * By default, all checks share one client, and thereby its selector and connection pool. Unless
+ * {@link #isBodyRequired()} is overridden, only the status of the response is checked and its body is discarded
+ * without being read.
+ *
+ * @see HttpHealthCheck
+ * @since 4.0.11
+ */
+public class AsyncHttpHealthCheck extends AsyncHealthCheck {
+    // visible for testing
+    static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(2);
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncHttpHealthCheck.class);
+
+    @NonNull
+    private final URI uri;
+    @NonNull
+    private final HttpClient client;
+    @NonNull
+    private final Duration timeout;
+
+    public AsyncHttpHealthCheck(@NonNull final String url) {
+        this(url, DEFAULT_TIMEOUT);
+    }
+
+    public AsyncHttpHealthCheck(@NonNull final String url, final Duration timeout) {
+        this(url, SharedClient.INSTANCE, timeout);
+    }
+
+    /**
+     * @param url     the URL to check
+     * @param client  the client to perform the request with
+     * @param timeout the maximum time to wait for the response, including establishing the connection
+     */
+    public AsyncHttpHealthCheck(@NonNull final String url, @NonNull final HttpClient client, final Duration timeout) {
+        this.uri = URI.create(Objects.requireNonNull(url));
+        this.client = Objects.requireNonNull(client);
+        if (timeout.toMillis() <= 0L) {
+            throw new IllegalStateException("timeout must be a positive value.");
+        }
+        this.timeout = timeout;
+    }
+
+    @Override
+    public CompletableFuture<Result> checkAsync() {
+        return httpCheck(uri)
+            .thenApply(httpHealthResponse -> {
+                if (isHealthResponseValid(httpHealthResponse)) {
+                    LOGGER.debug("Health check against url={} successful", uri);
+                    return Result.healthy();
+                }
+
+                LOGGER.debug("Health check against url={} failed with response={}", uri, httpHealthResponse);
+                return Result.unhealthy("Http health check against url=%s failed with response=%s", uri,
+                    httpHealthResponse);
+            });
+    }
+
+    /**
+     * Performs a health check via HTTP against an external dependency.
+     * The body of the response is only read if {@link #isBodyRequired()} returns {@code true}, otherwise the
+     * returned response has an empty body.
+     *
+     * @param uri the URI to check.
+     * @return a future completed with the response from the health check.
+     */
+    protected CompletableFuture<HttpHealthResponse> httpCheck(final URI uri) {
+        final HttpRequest request = HttpRequest.newBuilder(uri)
+            .timeout(timeout)
+            .GET()
+            .build();
+
+        if (isBodyRequired()) {
+            return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> new HttpHealthResponse(response.statusCode(), response.body()));
+        }
+
+        // the stream is handed out as soon as the headers have arrived, closing it discards the body
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+            .thenApply(response -> {
+                closeQuietly(response.body());
+                return new HttpHealthResponse(response.statusCode(), "");
+            });
+    }
+
+    /**
+     * Whether {@link #isHealthResponseValid(HttpHealthResponse)} needs the body of the response.
+     * By default only the status is validated, so the body isn't read.
+     *
+     * @return {@code true} if the body of the response has to be read.
+     */
+    protected boolean isBodyRequired() {
+        return false;
+    }
+
+    /**
+     * Validates the response from the health check.
+     * By default checks if the response status is 2xx.
+     *
+     * @param httpHealthResponse The response resulting from the http health check.
+     * @return healthiness flag.
+     */
+    protected boolean isHealthResponseValid(final HttpHealthResponse httpHealthResponse) {
+        final Response.Status.Family statusFamily = Response.Status.Family.familyOf(httpHealthResponse.getStatus());
+
+        return statusFamily == Response.Status.Family.SUCCESSFUL;
+    }
+
+    private static void closeQuietly(final InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            LOGGER.trace("Failed to discard the body of a health check response", e);
+        }
+    }
+
+    private static class SharedClient {
+        private static final HttpClient INSTANCE = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    }
+}
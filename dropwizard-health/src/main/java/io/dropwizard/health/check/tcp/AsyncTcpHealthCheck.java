@@ -0,0 +1,165 @@
+package io.dropwizard.health.check.tcp;
+
+import io.dropwizard.health.check.AsyncHealthCheck;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.AsynchronousChannelGroup;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.CompletionHandler;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link AsyncHealthCheck} connecting to an external dependency with an {@link AsynchronousSocketChannel}.
+ * <p/>
+ * By default, all checks share one {@link AsynchronousChannelGroup} with two daemon threads. The host name is
+ * resolved when the check is created, so that checks don't block the scheduler on name lookups. It's only resolved
+ * again by later checks while it can't be resolved, e.g. because the dependency isn't deployed yet.
+ *
+ * @see TcpHealthCheck
+ * @since 4.0.11
+ */
+public class AsyncTcpHealthCheck extends AsyncHealthCheck {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncTcpHealthCheck.class);
+
+    private static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
+
+    @NonNull
+    private final String host;
+    private final int port;
+    private final Duration connectionTimeout;
+    @NonNull
+    private final AsynchronousChannelGroup channelGroup;
+    private volatile InetSocketAddress address;
+
+    public AsyncTcpHealthCheck(@NonNull final String host,
+                               final int port) {
+        this(host, port, DEFAULT_CONNECTION_TIMEOUT);
+    }
+
+    public AsyncTcpHealthCheck(@NonNull final String host,
+                               final int port,
+                               final Duration connectionTimeout) {
+        this(host, port, connectionTimeout, SharedChannelGroup.INSTANCE);
+    }
+
+    public AsyncTcpHealthCheck(@NonNull final String host,
+                               final int port,
+                               final Duration connectionTimeout,
+                               @NonNull final AsynchronousChannelGroup channelGroup) {
+        this.host = Objects.requireNonNull(host);
+        this.port = port;
+        if (connectionTimeout.isNegative() || connectionTimeout.isZero()) {
+            throw new IllegalStateException("connectionTimeout must be a positive value.");
+        }
+        this.connectionTimeout = connectionTimeout;
+        this.channelGroup = Objects.requireNonNull(channelGroup);
+        this.address = new InetSocketAddress(host, port);
+    }
+
+    @Override
+    public CompletableFuture<Result> checkAsync() {
+        return tcpCheck(host, port)
+            .thenApply(isHealthy -> {
+                if (isHealthy) {
+                    LOGGER.debug("Health check against url={}:{} successful", host, port);
+                    return Result.healthy();
+                }
+
+                LOGGER.debug("Health check against url={}:{} failed", host, port);
+                return Result.unhealthy("TCP health check against host=%s port=%s failed", host, port);
+            });
+    }
+
+    /**
+     * Performs a health check via TCP against an external dependency.
+     * By default uses an {@link AsynchronousSocketChannel}, but can be overridden to allow for different behavior.
+     *
+     * @param host the host to check.
+     * @param port the port to check.
+     * @return a future completed with whether the check was successful or not, or completed exceptionally if the
+     * connection failed or timed out.
+     */
+    protected CompletableFuture<Boolean> tcpCheck(final String host, final int port) {
+        final AsynchronousSocketChannel channel;
+        try {
+            channel = AsynchronousSocketChannel.open(channelGroup);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        final CompletableFuture<Boolean> connected = new CompletableFuture<>();
+        try {
+            channel.connect(resolve(host, port), connected,
+                new CompletionHandler<Void, CompletableFuture<Boolean>>() {
+                    @Override
+                    public void completed(Void result, CompletableFuture<Boolean> future) {
+                        future.complete(true);
+                    }
+
+                    @Override
+                    public void failed(Throwable exc, CompletableFuture<Boolean> future) {
+                        future.completeExceptionally(exc);
+                    }
+                });
+        } catch (RuntimeException e) {
+            connected.completeExceptionally(e);
+        }
+
+        return connected
+            .orTimeout(connectionTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            .whenComplete((result, throwable) -> closeQuietly(channel));
+    }
+
+    private InetSocketAddress resolve(final String host, final int port) {
+        if (!this.host.equals(host) || this.port != port) {
+            return new InetSocketAddress(host, port);
+        }
+        InetSocketAddress resolved = address;
+        if (resolved.isUnresolved()) {
+            resolved = new InetSocketAddress(host, port);
+            address = resolved;
+        }
+        return resolved;
+    }
+
+    private static void closeQuietly(final AsynchronousSocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.trace("Failed to close health check connection", e);
+        }
+    }
+
+    // visible for testing
+    Duration getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    private static class SharedChannelGroup {
+        private static final AsynchronousChannelGroup INSTANCE = create();
+
+        private static AsynchronousChannelGroup create() {
+            final AtomicInteger threadNum = new AtomicInteger();
+            final ThreadFactory threadFactory = runnable -> {
+                final Thread thread = new Thread(runnable, "async-tcp-health-check-" + threadNum.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            try {
+                return AsynchronousChannelGroup.withFixedThreadPool(2, threadFactory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
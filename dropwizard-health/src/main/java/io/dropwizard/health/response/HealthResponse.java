@@ -1,9 +1,12 @@
 package io.dropwizard.health.response;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Objects;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 public final class HealthResponse {
     private final boolean healthy;
     @NonNull
@@ -11,13 +14,36 @@ public final class HealthResponse {
     @NonNull
     private final String contentType;
     private final int status;
+    @Nullable
+    private final byte[] body;
+    @Nullable
+    private final String entityTag;
 
     public HealthResponse(boolean healthy, @NonNull final String message, @NonNull final String contentType,
                           int status) {
+        this(healthy, message, contentType, status, null, null);
+    }
+
+    /**
+     * Creates a response whose message has already been encoded.
+     *
+     * @param healthy     whether the application is healthy
+     * @param message     the message of the response
+     * @param contentType the content type of the message
+     * @param status      the HTTP status of the response
+     * @param body        the message encoded as UTF-8, which is shared and must not be modified, or {@code null} to
+     *                    encode the message on demand
+     * @param entityTag   the entity tag identifying the message and status, or {@code null} if there is none
+     * @since 4.0.11
+     */
+    public HealthResponse(boolean healthy, @NonNull final String message, @NonNull final String contentType,
+                          int status, @Nullable final byte[] body, @Nullable final String entityTag) {
         this.healthy = healthy;
         this.message = Objects.requireNonNull(message);
         this.contentType = Objects.requireNonNull(contentType);
         this.status = status;
+        this.body = body;
+        this.entityTag = entityTag;
     }
 
     public boolean isHealthy() {
@@ -38,17 +64,36 @@ public final class HealthResponse {
         return status;
     }
 
+    /**
+     * @return the message encoded as UTF-8, which must not be modified
+     * @since 4.0.11
+     */
+    @NonNull
+    public byte[] getBody() {
+        return body != null ? body : message.getBytes(UTF_8);
+    }
+
+    /**
+     * @return the entity tag identifying the message and status, if any
+     * @since 4.0.11
+     */
+    @Nullable
+    public String getEntityTag() {
+        return entityTag;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof HealthResponse)) return false;
         HealthResponse that = (HealthResponse) o;
-        return healthy == that.healthy && status == that.status && message.equals(that.message) && contentType.equals(that.contentType);
+        return healthy == that.healthy && status == that.status && message.equals(that.message) && contentType.equals(that.contentType)
+            && Objects.equals(entityTag, that.entityTag);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(healthy, message, contentType, status);
+        return Objects.hash(healthy, message, contentType, status, entityTag);
     }
 
     @Override
@@ -58,6 +103,7 @@ public final class HealthResponse {
             ", message='" + message + '\'' +
             ", contentType='" + contentType + '\'' +
             ", status=" + status +
+            ", entityTag=" + entityTag +
             '}';
     }
 }
@@ -6,6 +6,7 @@ import io.dropwizard.health.HealthStateView;
 import io.dropwizard.health.HealthStatusChecker;
 import jakarta.ws.rs.core.MediaType;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,13 +19,25 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Responds to health check requests with the JSON representation of the requested {@link HealthStateView}s.
+ * <p/>
+ * The responses to requests for no views and for all views are cached. The latter are reused until the
+ * {@link HealthStateAggregator#healthStateVersion() version} of the health states changes, so that frequent polling
+ * doesn't serialize the views again and again. Cached responses carry an entity tag derived from their content and
+ * status.
+ */
 public class JsonHealthResponseProvider implements HealthResponseProvider {
     public static final String CHECK_TYPE_QUERY_PARAM = "type";
     public static final String NAME_QUERY_PARAM = "name";
     public static final String ALL_VALUE = "all";
     private static final Logger LOGGER = LoggerFactory.getLogger(JsonHealthResponseProvider.class);
     private static final String MEDIA_TYPE = MediaType.APPLICATION_JSON;
+    private static final Snapshot NO_VIEWS = new Snapshot(-1L, "[]");
 
     @NonNull
     private final HealthStatusChecker healthStatusChecker;
@@ -32,6 +45,8 @@ public class JsonHealthResponseProvider implements HealthResponseProvider {
     private final HealthStateAggregator healthStateAggregator;
     @NonNull
     private final ObjectMapper mapper;
+    @Nullable
+    private volatile Snapshot allViews;
 
     public JsonHealthResponseProvider(@NonNull final HealthStatusChecker healthStatusChecker,
                                       @NonNull final HealthStateAggregator healthStateAggregator,
@@ -44,57 +59,110 @@ public class JsonHealthResponseProvider implements HealthResponseProvider {
     @NonNull
     @Override
     public HealthResponse healthResponse(final Map<String, Collection<String>> queryParams) {
-        final String type = queryParams.getOrDefault(CHECK_TYPE_QUERY_PARAM, Collections.emptyList())
-            .stream()
-            .findFirst()
-            .orElse(null);
-
-        final Collection<HealthStateView> views = getViews(queryParams);
+        final String type = getFirst(queryParams.get(CHECK_TYPE_QUERY_PARAM));
+        final Collection<String> names = queryParams.getOrDefault(NAME_QUERY_PARAM, Collections.emptyList());
 
-        final String responseBody;
-        try {
-            responseBody = mapper.writeValueAsString(views);
-        } catch (final Exception e) {
-            LOGGER.error("Failed to serialize health state views: {}", views, e);
-            throw new RuntimeException(e);
+        final Snapshot snapshot;
+        if (names.isEmpty()) {
+            snapshot = NO_VIEWS;
+        } else {
+            final Set<String> normalizedNames = normalizeNames(names);
+            if (!shouldReturnAllViews(normalizedNames)) {
+                final String responseBody = serialize(getViews(normalizedNames));
+                final boolean healthy = healthStatusChecker.isHealthy(type);
+                return new HealthResponse(healthy, responseBody, MEDIA_TYPE, status(healthy));
+            }
+            snapshot = getAllViews();
         }
+
         final boolean healthy = healthStatusChecker.isHealthy(type);
+        final int status = status(healthy);
+        return new HealthResponse(healthy, snapshot.message, MEDIA_TYPE, status, snapshot.body,
+            snapshot.entityTag(status));
+    }
 
-        final int status;
+    private static int status(final boolean healthy) {
         if (healthy) {
             // HTTP OK
-            status = 200;
+            return 200;
         } else {
             // HTTP Service unavailable
-            status = 503;
+            return 503;
         }
+    }
+
+    @Nullable
+    private static String getFirst(@Nullable final Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return values.iterator().next();
+    }
 
-        return new HealthResponse(healthy, responseBody, MEDIA_TYPE, status);
+    private Snapshot getAllViews() {
+        final long version = healthStateAggregator.healthStateVersion();
+        final Snapshot cached = allViews;
+        if (version >= 0 && cached != null && cached.version == version) {
+            return cached;
+        }
+
+        // the version is read before the views, so a concurrent change only ever causes another rebuild
+        final Snapshot snapshot = new Snapshot(version, serialize(List.copyOf(healthStateAggregator.healthStateViews())));
+        if (version >= 0) {
+            allViews = snapshot;
+        }
+        return snapshot;
     }
 
-    private Set<String> getNamesFromQueryParams(final Map<String, Collection<String>> queryParams) {
-        return queryParams.getOrDefault(NAME_QUERY_PARAM, Collections.emptyList())
-            .stream()
+    private String serialize(final Collection<HealthStateView> views) {
+        try {
+            return mapper.writeValueAsString(views);
+        } catch (final Exception e) {
+            LOGGER.error("Failed to serialize health state views: {}", views, e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Set<String> normalizeNames(final Collection<String> names) {
+        return names.stream()
             // normalize all names to lowercase
             .map(String::toLowerCase)
             // maintain order by using a linked hash set
             .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
-    private Collection<HealthStateView> getViews(final Map<String, Collection<String>> queryParams) {
-        final Set<String> names = getNamesFromQueryParams(queryParams);
-
-        if (shouldReturnAllViews(names)) {
-            return List.copyOf(healthStateAggregator.healthStateViews());
-        } else {
-            return names.stream()
-                .map(healthStateAggregator::healthStateView)
-                .flatMap(Optional::stream)
-                .collect(Collectors.toUnmodifiableList());
-        }
+    private Collection<HealthStateView> getViews(final Set<String> names) {
+        return names.stream()
+            .map(healthStateAggregator::healthStateView)
+            .flatMap(Optional::stream)
+            .collect(Collectors.toUnmodifiableList());
     }
 
     private boolean shouldReturnAllViews(final Set<String> names) {
         return names.contains(ALL_VALUE);
     }
+
+    private static final class Snapshot {
+        private final long version;
+        private final String message;
+        private final byte[] body;
+        private final String healthyEntityTag;
+        private final String unhealthyEntityTag;
+
+        private Snapshot(final long version, final String message) {
+            this.version = version;
+            this.message = message;
+            this.body = message.getBytes(UTF_8);
+
+            final CRC32 crc = new CRC32();
+            crc.update(body);
+            final String checksum = Long.toHexString(crc.getValue());
+            this.healthyEntityTag = '"' + checksum + "-" + status(true) + '"';
+            this.unhealthyEntityTag = '"' + checksum + "-" + status(false) + '"';
+        }
+
+        private String entityTag(final int status) {
+            return status == status(true) ? healthyEntityTag : unhealthyEntityTag;
+        }
+    }
 }
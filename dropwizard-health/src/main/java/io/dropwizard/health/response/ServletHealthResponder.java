@@ -8,10 +8,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 
@@ -35,22 +37,28 @@ public class ServletHealthResponder extends HttpServlet {
             response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControlValue);
         }
 
-        final Map<String, Collection<String>> queryParameters = request.getParameterMap()
-            .entrySet()
-            .stream()
-            .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                entry -> Arrays.asList(entry.getValue())
-            ));
+        final HealthResponse healthResponse = healthResponseProvider.healthResponse(
+            getQueryParameters(request.getParameterMap()));
 
-        final HealthResponse healthResponse = healthResponseProvider.healthResponse(queryParameters);
+        final String entityTag = healthResponse.getEntityTag();
+        if (entityTag != null) {
+            response.setHeader(HttpHeaders.ETAG, entityTag);
+            // only healthy responses may be revalidated, an unhealthy status must never be hidden behind a 304
+            if (healthResponse.isHealthy() && entityTag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
 
+        final byte[] body = healthResponse.getBody();
         response.setContentType(healthResponse.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(body.length);
+        response.setStatus(healthResponse.getStatus());
 
         try {
-            response.getWriter()
-                .write(healthResponse.getMessage());
-            response.setStatus(healthResponse.getStatus());
+            response.getOutputStream()
+                .write(body);
         } catch (IOException ioException) {
             LOGGER.error("Failed to write response", ioException);
             if (!response.isCommitted()) {
@@ -59,4 +67,16 @@ public class ServletHealthResponder extends HttpServlet {
             }
         }
     }
+
+    private static Map<String, Collection<String>> getQueryParameters(final Map<String, String[]> parameterMap) {
+        if (parameterMap.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, Collection<String>> queryParameters = new HashMap<>();
+        for (Map.Entry<String, String[]> entry : parameterMap.entrySet()) {
+            queryParameters.put(entry.getKey(), Arrays.asList(entry.getValue()));
+        }
+        return queryParameters;
+    }
 }
@@ -245,6 +245,28 @@ class HealthCheckManagerTest {
             .containsExactly(false, true);
     }
 
+    @Test
+    void shouldChangeHealthStateVersionWhenChecksAreAddedOrChangeState() {
+        final HealthCheckConfiguration config = new HealthCheckConfiguration();
+        config.setName(NAME);
+        config.setCritical(true);
+        config.setSchedule(new Schedule());
+        final HealthCheckManager manager = new HealthCheckManager(singletonList(config), scheduler,
+            new MetricRegistry(), SHUTDOWN_WAIT, true, Collections.emptyList());
+
+        final long initialVersion = manager.healthStateVersion();
+        manager.onHealthCheckAdded(NAME, mock(HealthCheck.class));
+        final long addedVersion = manager.healthStateVersion();
+        manager.onHealthyCheck(NAME);
+        manager.onUnhealthyCheck(NAME);
+        assertThat(manager.healthStateVersion()).isEqualTo(addedVersion);
+        manager.onStateChanged(NAME, false);
+
+        assertThat(initialVersion).isNotNegative();
+        assertThat(addedVersion).isNotEqualTo(initialVersion);
+        assertThat(manager.healthStateVersion()).isNotEqualTo(addedVersion);
+    }
+
     @Test
     void shouldNotChangeServerStateWhenNonCriticalHealthCheckFails() {
         final HealthCheckConfiguration config = new HealthCheckConfiguration();
@@ -1,8 +1,10 @@
 package io.dropwizard.health;
 
+import io.dropwizard.util.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -10,8 +12,11 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.AdditionalMatchers.or;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -175,4 +180,61 @@ class HealthCheckSchedulerTest {
         assertThatCode(() -> scheduler.unschedule(name))
             .doesNotThrowAnyException();
     }
+
+    @Test
+    void shouldBackOffWhileUnhealthy() {
+        final Schedule schedule = new Schedule();
+        schedule.setDowntimeInterval(Duration.seconds(1));
+        schedule.setBackoffMultiplier(2.0);
+        schedule.setMaxDowntimeInterval(Duration.seconds(5));
+
+        assertThat(HealthCheckScheduler.nextDelay(schedule, false, 0)).isEqualTo(1000L);
+        assertThat(HealthCheckScheduler.nextDelay(schedule, false, 1)).isEqualTo(2000L);
+        assertThat(HealthCheckScheduler.nextDelay(schedule, false, 2)).isEqualTo(4000L);
+        assertThat(HealthCheckScheduler.nextDelay(schedule, false, 3)).isEqualTo(5000L);
+        assertThat(HealthCheckScheduler.nextDelay(schedule, true, 3))
+            .isEqualTo(schedule.getCheckInterval().toMilliseconds());
+    }
+
+    @Test
+    void shouldApplyJitterToDelays() {
+        final Schedule schedule = new Schedule();
+        schedule.setCheckInterval(Duration.seconds(1));
+        schedule.setJitter(0.5);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(HealthCheckScheduler.nextDelay(schedule, true, i)).isBetween(500L, 1500L);
+        }
+    }
+
+    @Test
+    void shouldRescheduleAdaptiveCheckAfterEachRun() {
+        final String name = "test";
+        final Schedule schedule = new Schedule();
+        schedule.setDowntimeInterval(Duration.seconds(1));
+        schedule.setBackoffMultiplier(3.0);
+        final ScheduledFuture future = mock(ScheduledFuture.class);
+
+        final ScheduledHealthCheck check = mock(ScheduledHealthCheck.class);
+        when(check.getName()).thenReturn(name);
+        when(check.getSchedule()).thenReturn(schedule);
+        when(executor.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS)))
+            .thenReturn(future);
+
+        scheduler.schedule(check, false);
+
+        final ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(task.capture(), eq(1000L), eq(TimeUnit.MILLISECONDS));
+
+        task.getValue().run();
+
+        verify(check).run();
+        verify(executor).schedule(task.getValue(), 3000L, TimeUnit.MILLISECONDS);
+
+        scheduler.unschedule(name);
+        task.getValue().run();
+
+        verify(future).cancel(false);
+        verify(executor, times(2)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
 }
@@ -24,5 +24,17 @@ class ScheduleTest {
         assertThat(schedule.getDowntimeInterval().toSeconds()).isEqualTo(25L);
         assertThat(schedule.getFailureAttempts()).isEqualTo(2);
         assertThat(schedule.getSuccessAttempts()).isEqualTo(1);
+        assertThat(schedule.getJitter()).isEqualTo(0.2);
+        assertThat(schedule.getBackoffMultiplier()).isEqualTo(2.0);
+        assertThat(schedule.getMaxDowntimeInterval().toMinutes()).isEqualTo(5L);
+        assertThat(schedule.isAdaptive()).isTrue();
+    }
+
+    @Test
+    void shouldNotBeAdaptiveByDefault() {
+        final Schedule schedule = new Schedule();
+
+        assertThat(schedule.isAdaptive()).isFalse();
+        assertThat(schedule.getMaxDowntimeInterval().toSeconds()).isEqualTo(300L);
     }
 }
@@ -2,12 +2,20 @@ package io.dropwizard.health;
 
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.codahale.metrics.health.HealthCheck;
+import io.dropwizard.health.check.AsyncHealthCheck;
+import io.dropwizard.util.Duration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -81,4 +89,107 @@ class ScheduledHealthCheckTest {
         assertThat(healthyCounter.getCount()).isZero();
         assertThat(unhealthyCounter.getCount()).isEqualTo(1L);
     }
+
+    @Test
+    void asyncCheckShouldBeHandledOnCompletion() {
+        when(schedule.getSuccessAttempts()).thenReturn(1);
+        when(schedule.getFailureAttempts()).thenReturn(1);
+        when(schedule.getCheckInterval()).thenReturn(Duration.seconds(5));
+
+        final String name = "test";
+        final Counter healthyCounter = metrics.counter("test.healthy");
+        final Counter unhealthyCounter = metrics.counter("test.unhealthy");
+        final State state = new State(name, schedule.getFailureAttempts(), schedule.getSuccessAttempts(), true, LISTENER);
+        final CompletableFuture<HealthCheck.Result> result = new CompletableFuture<>();
+        final AtomicInteger started = new AtomicInteger();
+        final AsyncHealthCheck asyncHealthCheck = new AsyncHealthCheck() {
+            @Override
+            public CompletableFuture<Result> checkAsync() {
+                started.incrementAndGet();
+                return result;
+            }
+        };
+        final ScheduledHealthCheck scheduledHealthCheck = new ScheduledHealthCheck(name, HealthCheckType.READY, true,
+            asyncHealthCheck, schedule, state, healthyCounter, unhealthyCounter);
+
+        scheduledHealthCheck.run();
+        // the previous check is still running, so no other check is started
+        scheduledHealthCheck.run();
+
+        assertThat(started).hasValue(1);
+        assertThat(scheduledHealthCheck.isHealthy()).isTrue();
+        assertThat(unhealthyCounter.getCount()).isZero();
+
+        result.completeExceptionally(new IOException("connection refused"));
+
+        assertThat(scheduledHealthCheck.isHealthy()).isFalse();
+        assertThat(healthyCounter.getCount()).isZero();
+        assertThat(unhealthyCounter.getCount()).isEqualTo(1L);
+
+        scheduledHealthCheck.run();
+
+        assertThat(started).hasValue(2);
+    }
+
+    @Test
+    void asyncCheckShouldFailWhenItDoesNotCompleteWithinTheCheckInterval() throws Exception {
+        when(schedule.getSuccessAttempts()).thenReturn(1);
+        when(schedule.getFailureAttempts()).thenReturn(1);
+        when(schedule.getCheckInterval()).thenReturn(Duration.milliseconds(10));
+
+        final String name = "test";
+        final Counter healthyCounter = metrics.counter("test.healthy");
+        final Counter unhealthyCounter = metrics.counter("test.unhealthy");
+        final State state = new State(name, schedule.getFailureAttempts(), schedule.getSuccessAttempts(), true, LISTENER);
+        final AtomicInteger started = new AtomicInteger();
+        final AsyncHealthCheck asyncHealthCheck = new AsyncHealthCheck() {
+            @Override
+            public CompletableFuture<Result> checkAsync() {
+                started.incrementAndGet();
+                return new CompletableFuture<>();
+            }
+        };
+        final ScheduledHealthCheck scheduledHealthCheck = new ScheduledHealthCheck(name, HealthCheckType.READY, true,
+            asyncHealthCheck, schedule, state, healthyCounter, unhealthyCounter);
+
+        scheduledHealthCheck.run();
+        // the check is only started again once the first run timed out
+        for (int i = 0; i < 500 && started.get() < 2; i++) {
+            Thread.sleep(10);
+            scheduledHealthCheck.run();
+        }
+
+        assertThat(started).hasValue(2);
+        assertThat(scheduledHealthCheck.isHealthy()).isFalse();
+        assertThat(unhealthyCounter.getCount()).isPositive();
+    }
+
+    @Test
+    void checkShouldBeSkippedWhenTooManyChecksAreInFlight() {
+        when(schedule.getSuccessAttempts()).thenReturn(1);
+        when(schedule.getFailureAttempts()).thenReturn(1);
+
+        final String name = "test";
+        final Counter healthyCounter = metrics.counter("test.healthy");
+        final Counter unhealthyCounter = metrics.counter("test.unhealthy");
+        final Timer timer = metrics.timer("test.duration");
+        final Semaphore inFlightLimit = new Semaphore(1);
+        final State state = new State(name, schedule.getFailureAttempts(), schedule.getSuccessAttempts(), false, LISTENER);
+        final ScheduledHealthCheck scheduledHealthCheck = new ScheduledHealthCheck(name, HealthCheckType.READY, true,
+            healthCheck, schedule, state, healthyCounter, unhealthyCounter, timer, inFlightLimit);
+        when(healthCheck.execute()).thenReturn(HealthCheck.Result.healthy());
+
+        inFlightLimit.acquireUninterruptibly();
+        scheduledHealthCheck.run();
+
+        assertThat(scheduledHealthCheck.isHealthy()).isFalse();
+        assertThat(timer.getCount()).isZero();
+
+        inFlightLimit.release();
+        scheduledHealthCheck.run();
+
+        assertThat(scheduledHealthCheck.isHealthy()).isTrue();
+        assertThat(timer.getCount()).isEqualTo(1L);
+        assertThat(inFlightLimit.availablePermits()).isEqualTo(1);
+    }
 }
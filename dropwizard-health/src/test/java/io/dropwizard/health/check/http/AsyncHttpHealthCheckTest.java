@@ -0,0 +1,121 @@
+package io.dropwizard.health.check.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class AsyncHttpHealthCheckTest {
+    private static final String SUCCESS_PATH = "/ping";
+    private static final String FAIL_PATH = "/fail";
+    private static final String TIMEOUT_PATH = "/timeout";
+    private static final String BODY_PATH = "/body";
+    private static final String BASE_URI = "http://127.0.0.1:";
+
+    private HttpServer httpServer;
+
+    @BeforeEach
+    void setup() throws Exception {
+        httpServer = HttpServer.create(new InetSocketAddress(0), 0);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        httpServer.stop(0);
+    }
+
+    @Test
+    void asyncHttpHealthCheckShouldConsiderA200ResponseHealthy() throws Exception {
+        httpServer.createContext(SUCCESS_PATH, httpExchange -> {
+            try {
+                httpExchange.sendResponseHeaders(200, 0);
+            } finally {
+                httpExchange.close();
+            }
+        });
+        httpServer.start();
+        final AsyncHttpHealthCheck httpHealthCheck = new AsyncHttpHealthCheck(BASE_URI +
+            httpServer.getAddress().getPort() + SUCCESS_PATH);
+        assertThat(httpHealthCheck.checkAsync().get().isHealthy()).isTrue();
+    }
+
+    @Test
+    void asyncHttpHealthCheckShouldConsiderA500ResponseUnhealthy() {
+        httpServer.createContext(FAIL_PATH, httpExchange -> {
+            try {
+                httpExchange.sendResponseHeaders(500, 0);
+            } finally {
+                httpExchange.close();
+            }
+        });
+        httpServer.start();
+        final AsyncHttpHealthCheck httpHealthCheck = new AsyncHttpHealthCheck(BASE_URI +
+            httpServer.getAddress().getPort() + FAIL_PATH);
+        assertThat(httpHealthCheck.execute().isHealthy()).isFalse();
+    }
+
+    @Test
+    void asyncHttpHealthCheckShouldConsiderATimeoutUnhealthy() {
+        httpServer.createContext(TIMEOUT_PATH, httpExchange -> {
+            try {
+                Thread.sleep(AsyncHttpHealthCheck.DEFAULT_TIMEOUT.toMillis());
+                httpExchange.sendResponseHeaders(200, 0);
+            } catch (InterruptedException e) {
+                httpExchange.sendResponseHeaders(500, 0);
+            } finally {
+                httpExchange.close();
+            }
+        });
+        httpServer.start();
+        final AsyncHttpHealthCheck httpHealthCheck = new AsyncHttpHealthCheck(BASE_URI +
+            httpServer.getAddress().getPort() + TIMEOUT_PATH, Duration.ofMillis(100));
+
+        assertThatExceptionOfType(HttpTimeoutException.class).isThrownBy(httpHealthCheck::check);
+    }
+
+    @Test
+    void asyncHttpHealthCheckShouldOnlyReadBodyIfRequired() throws Exception {
+        httpServer.createContext(BODY_PATH, httpExchange -> {
+            try {
+                final byte[] body = "{\"status\":\"down\"}".getBytes(UTF_8);
+                httpExchange.sendResponseHeaders(200, body.length);
+                try (OutputStream outputStream = httpExchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            } finally {
+                httpExchange.close();
+            }
+        });
+        httpServer.start();
+        final String url = BASE_URI + httpServer.getAddress().getPort() + BODY_PATH;
+        final AsyncHttpHealthCheck statusOnly = new AsyncHttpHealthCheck(url) {
+            @Override
+            protected boolean isHealthResponseValid(HttpHealthResponse httpHealthResponse) {
+                return httpHealthResponse.getBody().isEmpty();
+            }
+        };
+        final AsyncHttpHealthCheck bodyValidating = new AsyncHttpHealthCheck(url) {
+            @Override
+            protected boolean isBodyRequired() {
+                return true;
+            }
+
+            @Override
+            protected boolean isHealthResponseValid(HttpHealthResponse httpHealthResponse) {
+                return !httpHealthResponse.getBody().contains("down");
+            }
+        };
+
+        assertThat(statusOnly.checkAsync().get().isHealthy()).isTrue();
+        assertThat(bodyValidating.checkAsync().get().isHealthy()).isFalse();
+    }
+}
@@ -0,0 +1,54 @@
+package io.dropwizard.health.check.tcp;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class AsyncTcpHealthCheckTest {
+    private ServerSocket serverSocket;
+    private AsyncTcpHealthCheck tcpHealthCheck;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverSocket = new ServerSocket(0);
+        tcpHealthCheck = new AsyncTcpHealthCheck("127.0.0.1", serverSocket.getLocalPort());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        serverSocket.close();
+    }
+
+    @Test
+    void asyncTcpHealthCheckShouldReturnHealthyIfCanConnect() throws Exception {
+        assertThat(tcpHealthCheck.checkAsync().get().isHealthy())
+            .isTrue();
+    }
+
+    @Test
+    void asyncTcpHealthCheckShouldFailIfCannotConnect() throws IOException {
+        serverSocket.close();
+        assertThatExceptionOfType(ExecutionException.class)
+            .isThrownBy(() -> tcpHealthCheck.checkAsync().get())
+            .withCauseInstanceOf(ConnectException.class);
+        assertThat(tcpHealthCheck.execute().isHealthy())
+            .isFalse();
+    }
+
+    @Test
+    void asyncTcpHealthCheckShouldRejectNonPositiveTimeouts() {
+        assertThatIllegalStateException()
+            .isThrownBy(() -> new AsyncTcpHealthCheck("127.0.0.1", 1, Duration.ZERO));
+        assertThat(tcpHealthCheck.getConnectionTimeout()).isEqualTo(Duration.ofSeconds(2));
+    }
+}
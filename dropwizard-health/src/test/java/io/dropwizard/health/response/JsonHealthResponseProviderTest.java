@@ -29,6 +29,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -105,6 +107,68 @@ class JsonHealthResponseProviderTest {
         verifyNoInteractions(healthStateAggregator);
     }
 
+    @Test
+    void shouldReuseAllHealthStateViewsUntilVersionChanges() throws IOException {
+        // given
+        final HealthStateView fooView = new HealthStateView("foo", true, HealthCheckType.READY, true);
+        final HealthStateView unhealthyFooView = new HealthStateView("foo", false, HealthCheckType.READY, true);
+        final Map<String, Collection<String>> queryParams = Collections.singletonMap(
+            JsonHealthResponseProvider.NAME_QUERY_PARAM, Collections.singleton(JsonHealthResponseProvider.ALL_VALUE));
+
+        // when
+        when(healthStateAggregator.healthStateVersion()).thenReturn(1L, 1L, 2L);
+        when(healthStateAggregator.healthStateViews())
+            .thenReturn(Collections.singletonList(fooView), Collections.singletonList(unhealthyFooView));
+        when(healthStatusChecker.isHealthy(isNull())).thenReturn(true, true, false);
+        final HealthResponse first = jsonHealthResponseProvider.healthResponse(queryParams);
+        final HealthResponse second = jsonHealthResponseProvider.healthResponse(queryParams);
+        final HealthResponse third = jsonHealthResponseProvider.healthResponse(queryParams);
+
+        // then
+        assertThat(mapper.readTree(first.getMessage())).isEqualTo(mapper.readTree("[" + mapper.writeValueAsString(fooView) + "]"));
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(second.getEntityTag()).isNotNull().isEqualTo(first.getEntityTag());
+        assertThat(mapper.readTree(third.getMessage())).isEqualTo(mapper.readTree("[" + mapper.writeValueAsString(unhealthyFooView) + "]"));
+        assertThat(third.getStatus()).isEqualTo(503);
+        assertThat(third.getEntityTag()).isNotNull().isNotEqualTo(first.getEntityTag());
+        verify(healthStateAggregator, times(2)).healthStateViews();
+    }
+
+    @Test
+    void shouldNotReuseAllHealthStateViewsWithoutVersion() {
+        // given
+        final Map<String, Collection<String>> queryParams = Collections.singletonMap(
+            JsonHealthResponseProvider.NAME_QUERY_PARAM, Collections.singleton(JsonHealthResponseProvider.ALL_VALUE));
+
+        // when
+        when(healthStateAggregator.healthStateVersion()).thenReturn(-1L);
+        when(healthStateAggregator.healthStateViews()).thenReturn(Collections.emptyList());
+        when(healthStatusChecker.isHealthy(isNull())).thenReturn(true);
+        jsonHealthResponseProvider.healthResponse(queryParams);
+        jsonHealthResponseProvider.healthResponse(queryParams);
+
+        // then
+        verify(healthStateAggregator, times(2)).healthStateViews();
+    }
+
+    @Test
+    void shouldTagResponsesWithoutHealthStateViewsByStatus() {
+        // given
+        // when
+        when(healthStatusChecker.isHealthy("ready")).thenReturn(true, false);
+        final Map<String, Collection<String>> queryParams = Collections.singletonMap(
+            JsonHealthResponseProvider.CHECK_TYPE_QUERY_PARAM, Collections.singletonList("ready"));
+        final HealthResponse healthy = jsonHealthResponseProvider.healthResponse(queryParams);
+        final HealthResponse unhealthy = jsonHealthResponseProvider.healthResponse(queryParams);
+
+        // then
+        assertThat(healthy.getStatus()).isEqualTo(200);
+        assertThat(unhealthy.getStatus()).isEqualTo(503);
+        assertThat(healthy.getBody()).isEqualTo("[]".getBytes(UTF_8));
+        assertThat(healthy.getEntityTag()).isNotNull().isNotEqualTo(unhealthy.getEntityTag());
+        verifyNoInteractions(healthStateAggregator);
+    }
+
     @Test
     void shouldThrowExceptionWhenJsonProcessorExceptionOccurs() throws IOException {
         // given
@@ -145,6 +145,50 @@ class ServletHealthResponderTest {
             .isEqualTo(NO_STORE);
     }
 
+    @Test
+    void shouldReturnNotModifiedWhenHealthyEntityTagMatches() throws Exception {
+        // given
+        final ServletHealthResponder servletHealthResponder = new ServletHealthResponder(healthResponseProvider, true,
+            "no-store");
+        final HealthResponse tagged = new HealthResponse(true, "healthy", MediaType.TEXT_PLAIN, Response.SC_OK,
+            null, "\"tag-200\"");
+
+        // when
+        when(healthResponseProvider.healthResponse(Collections.emptyMap())).thenReturn(tagged);
+        servletTester.addServlet(new ServletHolder(servletHealthResponder), HEALTH_CHECK_URI);
+        servletTester.start();
+        final HttpTester.Response response = executeRequest(request);
+        request.setHeader(HttpHeader.IF_NONE_MATCH.asString(), "\"tag-200\"");
+        final HttpTester.Response revalidated = executeRequest(request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(Response.SC_OK);
+        assertThat(response.get(HttpHeader.ETAG)).isEqualTo("\"tag-200\"");
+        assertThat(response.getContent()).isEqualTo("healthy");
+        assertThat(revalidated.getStatus()).isEqualTo(Response.SC_NOT_MODIFIED);
+        assertThat(revalidated.get(HttpHeader.ETAG)).isEqualTo("\"tag-200\"");
+    }
+
+    @Test
+    void shouldNotReturnNotModifiedWhenUnhealthy() throws Exception {
+        // given
+        final ServletHealthResponder servletHealthResponder = new ServletHealthResponder(healthResponseProvider, true,
+            "no-store");
+        final HealthResponse tagged = new HealthResponse(false, "unhealthy", MediaType.TEXT_PLAIN,
+            Response.SC_SERVICE_UNAVAILABLE, null, "\"tag-503\"");
+
+        // when
+        when(healthResponseProvider.healthResponse(Collections.emptyMap())).thenReturn(tagged);
+        servletTester.addServlet(new ServletHolder(servletHealthResponder), HEALTH_CHECK_URI);
+        servletTester.start();
+        request.setHeader(HttpHeader.IF_NONE_MATCH.asString(), "\"tag-503\"");
+        final HttpTester.Response response = executeRequest(request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(Response.SC_SERVICE_UNAVAILABLE);
+        assertThat(response.getContent()).isEqualTo("unhealthy");
+    }
+
     private HttpTester.Response executeRequest(HttpTester.Request request) throws Exception {
         return HttpTester.parseResponse(servletTester.getResponses(request.generate()));
     }
@@ -25,6 +25,15 @@ public abstract class HibernateBundle<T> implements ConfiguredBundle<T>, Databas
     protected SessionFactory sessionFactory;
     protected boolean lazyLoadingEnabled = true;
 
+    /**
+     * The settings of the session factories built by the {@link SessionFactoryFactory}, which are resolved from the
+     * configuration when the bundle is run. The defaults apply while it's {@code null}.
+     *
+     * @since 4.0.11
+     */
+    @Nullable
+    protected HibernateSettings hibernateSettings;
+
     protected final List<Class<?>> entities;
     protected final SessionFactoryFactory sessionFactoryFactory;
 
@@ -67,11 +76,20 @@ public abstract class HibernateBundle<T> implements ConfiguredBundle<T>, Databas
         return DEFAULT_NAME;
     }
 
+    /**
+     * Override to configure statement batching, fetching and the second-level cache, e.g. from the configuration.
+     *
+     * @since 4.0.11
+     */
+    protected HibernateSettings getHibernateSettings(T configuration) {
+        return new HibernateSettings();
+    }
+
     @Override
     public void run(T configuration, Environment environment) throws Exception {
         final PooledDataSourceFactory dbConfig = getDataSourceFactory(configuration);
-        this.sessionFactory = requireNonNull(sessionFactoryFactory.build(this, environment, dbConfig,
-            entities, name()));
+        this.hibernateSettings = getHibernateSettings(configuration);
+        this.sessionFactory = requireNonNull(sessionFactoryFactory.build(this, environment, dbConfig, entities, name()));
         registerUnitOfWorkListenerIfAbsent(environment).registerSessionFactory(name(), sessionFactory);
         environment.healthChecks().register(name(),
                                             new SessionFactoryHealthCheck(
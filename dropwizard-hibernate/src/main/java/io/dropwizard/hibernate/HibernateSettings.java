@@ -0,0 +1,177 @@
+package io.dropwizard.hibernate;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Settings of a Hibernate {@link org.hibernate.SessionFactory} for statement batching, fetching and the second-level
+ * cache. Properties of the {@link io.dropwizard.db.PooledDataSourceFactory} take precedence over these settings.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code jdbcBatchSize}</td>
+ *         <td>(none)</td>
+ *         <td>
+ *             The number of statements which are sent to the database in one JDBC batch. {@code 0} disables batching.
+ *             The default of Hibernate if not set, which doesn't batch statements.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code orderInserts}</td>
+ *         <td>true</td>
+ *         <td>Whether inserts are ordered by entity type, so that more of them can be batched.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code orderUpdates}</td>
+ *         <td>true</td>
+ *         <td>Whether updates are ordered by entity type and primary key, so that more of them can be batched.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code jdbcFetchSize}</td>
+ *         <td>(none)</td>
+ *         <td>The number of rows fetched from the database at once. The default of the JDBC driver if not set.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code secondLevelCacheEnabled}</td>
+ *         <td>false</td>
+ *         <td>
+ *             Whether entities annotated with {@code @Cacheable} are cached in the second-level cache. Requires
+ *             {@code org.hibernate.orm:hibernate-jcache} and a JCache provider, e.g.
+ *             {@code com.github.ben-manes.caffeine:jcache}, on the class path.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code queryCacheEnabled}</td>
+ *         <td>false</td>
+ *         <td>Whether the results of cacheable queries are cached. Requires the second-level cache.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code cacheProvider}</td>
+ *         <td>{@code com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider}</td>
+ *         <td>The JCache provider which backs the caches.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code cacheConfigUri}</td>
+ *         <td>(none)</td>
+ *         <td>
+ *             The URI of the configuration of the cache provider, e.g. {@code classpath:application.conf} for Caffeine.
+ *             Caches which aren't configured are created with the defaults of the provider.
+ *         </td>
+ *     </tr>
+ * </table>
+ *
+ * @since 4.0.11
+ */
+public class HibernateSettings {
+    @Nullable
+    @Min(0)
+    private Integer jdbcBatchSize;
+
+    private boolean orderInserts = true;
+
+    private boolean orderUpdates = true;
+
+    @Nullable
+    @Min(0)
+    private Integer jdbcFetchSize;
+
+    private boolean secondLevelCacheEnabled = false;
+
+    private boolean queryCacheEnabled = false;
+
+    @NotEmpty
+    private String cacheProvider = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+
+    @Nullable
+    private String cacheConfigUri;
+
+    @JsonProperty
+    public Optional<Integer> getJdbcBatchSize() {
+        return Optional.ofNullable(jdbcBatchSize);
+    }
+
+    @JsonProperty
+    public void setJdbcBatchSize(@Nullable Integer jdbcBatchSize) {
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+
+    @JsonProperty
+    public boolean isOrderInserts() {
+        return orderInserts;
+    }
+
+    @JsonProperty
+    public void setOrderInserts(boolean orderInserts) {
+        this.orderInserts = orderInserts;
+    }
+
+    @JsonProperty
+    public boolean isOrderUpdates() {
+        return orderUpdates;
+    }
+
+    @JsonProperty
+    public void setOrderUpdates(boolean orderUpdates) {
+        this.orderUpdates = orderUpdates;
+    }
+
+    @JsonProperty
+    public Optional<Integer> getJdbcFetchSize() {
+        return Optional.ofNullable(jdbcFetchSize);
+    }
+
+    @JsonProperty
+    public void setJdbcFetchSize(@Nullable Integer jdbcFetchSize) {
+        this.jdbcFetchSize = jdbcFetchSize;
+    }
+
+    @JsonProperty
+    public boolean isSecondLevelCacheEnabled() {
+        return secondLevelCacheEnabled;
+    }
+
+    @JsonProperty
+    public void setSecondLevelCacheEnabled(boolean secondLevelCacheEnabled) {
+        this.secondLevelCacheEnabled = secondLevelCacheEnabled;
+    }
+
+    @JsonProperty
+    public boolean isQueryCacheEnabled() {
+        return queryCacheEnabled;
+    }
+
+    @JsonProperty
+    public void setQueryCacheEnabled(boolean queryCacheEnabled) {
+        this.queryCacheEnabled = queryCacheEnabled;
+    }
+
+    @JsonProperty
+    public String getCacheProvider() {
+        return cacheProvider;
+    }
+
+    @JsonProperty
+    public void setCacheProvider(String cacheProvider) {
+        this.cacheProvider = cacheProvider;
+    }
+
+    @JsonProperty
+    public Optional<String> getCacheConfigUri() {
+        return Optional.ofNullable(cacheConfigUri);
+    }
+
+    @JsonProperty
+    public void setCacheConfigUri(@Nullable String cacheConfigUri) {
+        this.cacheConfigUri = cacheConfigUri;
+    }
+}
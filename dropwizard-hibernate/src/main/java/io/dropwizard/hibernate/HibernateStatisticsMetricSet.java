@@ -0,0 +1,74 @@
+package io.dropwizard.hibernate;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.codahale.metrics.RatioGauge;
+import org.hibernate.stat.Statistics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Gauges of the {@link Statistics} of a Hibernate {@link org.hibernate.SessionFactory}, e.g. statement counts and the
+ * hit ratios of the second-level and query caches. The counts are cumulative since the session factory was built.
+ *
+ * @since 4.0.11
+ */
+public class HibernateStatisticsMetricSet implements MetricSet {
+    private final Statistics statistics;
+
+    public HibernateStatisticsMetricSet(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        final Map<String, Metric> gauges = new HashMap<>();
+        gauges.put("sessions.opened", count(statistics::getSessionOpenCount));
+        gauges.put("sessions.closed", count(statistics::getSessionCloseCount));
+        gauges.put("connections.obtained", count(statistics::getConnectCount));
+        gauges.put("transactions.total", count(statistics::getTransactionCount));
+        gauges.put("transactions.successful", count(statistics::getSuccessfulTransactionCount));
+        gauges.put("transactions.optimistic-failures", count(statistics::getOptimisticFailureCount));
+        gauges.put("statements.prepared", count(statistics::getPrepareStatementCount));
+        gauges.put("statements.closed", count(statistics::getCloseStatementCount));
+        gauges.put("flushes", count(statistics::getFlushCount));
+        gauges.put("entities.loaded", count(statistics::getEntityLoadCount));
+        gauges.put("entities.fetched", count(statistics::getEntityFetchCount));
+        gauges.put("entities.inserted", count(statistics::getEntityInsertCount));
+        gauges.put("entities.updated", count(statistics::getEntityUpdateCount));
+        gauges.put("entities.deleted", count(statistics::getEntityDeleteCount));
+        gauges.put("collections.loaded", count(statistics::getCollectionLoadCount));
+        gauges.put("collections.fetched", count(statistics::getCollectionFetchCount));
+        gauges.put("queries.executed", count(statistics::getQueryExecutionCount));
+        gauges.put("queries.max-time", count(statistics::getQueryExecutionMaxTime));
+        gauges.put("second-level-cache.hits", count(statistics::getSecondLevelCacheHitCount));
+        gauges.put("second-level-cache.misses", count(statistics::getSecondLevelCacheMissCount));
+        gauges.put("second-level-cache.puts", count(statistics::getSecondLevelCachePutCount));
+        gauges.put("second-level-cache.hit-ratio",
+            ratio(statistics::getSecondLevelCacheHitCount, statistics::getSecondLevelCacheMissCount));
+        gauges.put("query-cache.hits", count(statistics::getQueryCacheHitCount));
+        gauges.put("query-cache.misses", count(statistics::getQueryCacheMissCount));
+        gauges.put("query-cache.puts", count(statistics::getQueryCachePutCount));
+        gauges.put("query-cache.hit-ratio",
+            ratio(statistics::getQueryCacheHitCount, statistics::getQueryCacheMissCount));
+        return Collections.unmodifiableMap(gauges);
+    }
+
+    private static Gauge<Long> count(LongSupplier supplier) {
+        return supplier::getAsLong;
+    }
+
+    private static RatioGauge ratio(LongSupplier hits, LongSupplier misses) {
+        return new RatioGauge() {
+            @Override
+            protected Ratio getRatio() {
+                final long hitCount = hits.getAsLong();
+                return Ratio.of(hitCount, (double) hitCount + misses.getAsLong());
+            }
+        };
+    }
+}
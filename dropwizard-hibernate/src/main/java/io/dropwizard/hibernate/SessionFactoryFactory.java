@@ -1,8 +1,11 @@
 package io.dropwizard.hibernate;
 
+import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.core.setup.Environment;
 import io.dropwizard.db.ManagedDataSource;
 import io.dropwizard.db.PooledDataSourceFactory;
+import io.dropwizard.db.RoutingManagedDataSource;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.registry.BootstrapServiceRegistry;
 import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
@@ -25,6 +28,11 @@ import java.util.stream.Collectors;
 public class SessionFactoryFactory {
     private static final Logger LOGGER = LoggerFactory.getLogger(SessionFactoryFactory.class);
     private static final String DEFAULT_NAME = "hibernate";
+    // hibernate-jcache is an optional runtime dependency, which applications add to use the second-level cache
+    private static final String JCACHE_REGION_FACTORY = "org.hibernate.cache.jcache.internal.JCacheRegionFactory";
+    private static final String JCACHE_PROVIDER = "hibernate.javax.cache.provider";
+    private static final String JCACHE_CONFIG_URI = "hibernate.javax.cache.uri";
+    private static final String JCACHE_MISSING_CACHE_STRATEGY = "hibernate.javax.cache.missing_cache_strategy";
 
     public SessionFactory build(HibernateBundle<?> bundle,
                                 Environment environment,
@@ -38,27 +46,94 @@ public class SessionFactoryFactory {
                                 PooledDataSourceFactory dbConfig,
                                 List<Class<?>> entities,
                                 String name) {
+        return build(bundle, environment, dbConfig, settingsOf(bundle), entities, name);
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    public SessionFactory build(HibernateBundle<?> bundle,
+                                Environment environment,
+                                PooledDataSourceFactory dbConfig,
+                                HibernateSettings settings,
+                                List<Class<?>> entities,
+                                String name) {
         final ManagedDataSource dataSource = dbConfig.build(environment.metrics(), name);
-        return build(bundle, environment, dbConfig, dataSource, entities);
+        return build(bundle, environment, dbConfig, settings, dataSource, entities, name);
     }
 
+    /**
+     * Builds a {@link SessionFactory} without publishing its {@link org.hibernate.stat.Statistics}, because it has no
+     * name to publish them with.
+     */
     public SessionFactory build(HibernateBundle<?> bundle,
                                 Environment environment,
                                 PooledDataSourceFactory dbConfig,
                                 ManagedDataSource dataSource,
                                 List<Class<?>> entities) {
+        return buildAndManage(bundle, environment, dbConfig, settingsOf(bundle), dataSource, entities, null);
+    }
+
+    /**
+     * Builds a {@link SessionFactory} and publishes its {@link org.hibernate.stat.Statistics} to the metric registry
+     * of the environment, with the prefix {@code org.hibernate.SessionFactory.<name>}.
+     *
+     * @throws IllegalArgumentException if the statistics of a session factory with the same name are already published
+     * @since 4.0.11
+     */
+    public SessionFactory build(HibernateBundle<?> bundle,
+                                Environment environment,
+                                PooledDataSourceFactory dbConfig,
+                                HibernateSettings settings,
+                                ManagedDataSource dataSource,
+                                List<Class<?>> entities,
+                                String name) {
+        return buildAndManage(bundle, environment, dbConfig, settings, dataSource, entities, name);
+    }
+
+    private static HibernateSettings settingsOf(HibernateBundle<?> bundle) {
+        final HibernateSettings settings = bundle.hibernateSettings;
+        return settings == null ? new HibernateSettings() : settings;
+    }
+
+    private SessionFactory buildAndManage(HibernateBundle<?> bundle,
+                                          Environment environment,
+                                          PooledDataSourceFactory dbConfig,
+                                          HibernateSettings settings,
+                                          ManagedDataSource dataSource,
+                                          List<Class<?>> entities,
+                                          @Nullable String statisticsName) {
         final ConnectionProvider provider = buildConnectionProvider(dataSource,
             dbConfig.getProperties());
         final SessionFactory factory = buildSessionFactory(bundle,
             dbConfig,
+            settings,
             provider,
             dbConfig.getProperties(),
             entities);
+        if (statisticsName != null) {
+            registerStatistics(environment.metrics(), factory, statisticsName);
+        }
         final SessionFactoryManager managedFactory = new SessionFactoryManager(factory, dataSource);
         environment.lifecycle().manage(managedFactory);
+        if (dataSource instanceof RoutingManagedDataSource) {
+            ((RoutingManagedDataSource) dataSource).getReaderHealthChecks()
+                .forEach(environment.healthChecks()::register);
+        }
         return factory;
     }
 
+    private void registerStatistics(MetricRegistry metricRegistry, SessionFactory factory, String name) {
+        final String prefix = MetricRegistry.name(SessionFactory.class, name);
+        try {
+            metricRegistry.register(prefix, new HibernateStatisticsMetricSet(factory.getStatistics()));
+        } catch (IllegalArgumentException e) {
+            factory.close();
+            throw new IllegalArgumentException("The statistics of a session factory named " + name
+                + " are already published, give each Hibernate bundle a unique name", e);
+        }
+    }
+
     private ConnectionProvider buildConnectionProvider(DataSource dataSource,
                                                        Map<String, String> properties) {
         final DatasourceConnectionProviderImpl connectionProvider = new DatasourceConnectionProviderImpl();
@@ -70,6 +145,7 @@ public class SessionFactoryFactory {
 
     private SessionFactory buildSessionFactory(HibernateBundle<?> bundle,
                                                PooledDataSourceFactory dbConfig,
+                                               HibernateSettings settings,
                                                ConnectionProvider connectionProvider,
                                                Map<String, String> properties,
                                                List<Class<?>> entities) {
@@ -83,8 +159,21 @@ public class SessionFactoryFactory {
         configuration.setProperty(AvailableSettings.USE_GET_GENERATED_KEYS, "true");
         configuration.setProperty(AvailableSettings.GENERATE_STATISTICS, "true");
         configuration.setProperty(AvailableSettings.USE_REFLECTION_OPTIMIZER, "true");
-        configuration.setProperty(AvailableSettings.ORDER_UPDATES, "true");
-        configuration.setProperty(AvailableSettings.ORDER_INSERTS, "true");
+        configuration.setProperty(AvailableSettings.ORDER_UPDATES, Boolean.toString(settings.isOrderUpdates()));
+        configuration.setProperty(AvailableSettings.ORDER_INSERTS, Boolean.toString(settings.isOrderInserts()));
+        settings.getJdbcBatchSize().ifPresent(batchSize ->
+            configuration.setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString(batchSize)));
+        settings.getJdbcFetchSize().ifPresent(fetchSize ->
+            configuration.setProperty(AvailableSettings.STATEMENT_FETCH_SIZE, Integer.toString(fetchSize)));
+        if (settings.isSecondLevelCacheEnabled()) {
+            requireJCache();
+            configuration.setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+            configuration.setProperty(AvailableSettings.USE_QUERY_CACHE, Boolean.toString(settings.isQueryCacheEnabled()));
+            configuration.setProperty(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            configuration.setProperty(JCACHE_PROVIDER, settings.getCacheProvider());
+            configuration.setProperty(JCACHE_MISSING_CACHE_STRATEGY, "create");
+            settings.getCacheConfigUri().ifPresent(uri -> configuration.setProperty(JCACHE_CONFIG_URI, uri));
+        }
 
         for (Map.Entry<String, String> property : properties.entrySet()) {
             configuration.setProperty(property.getKey(), property.getValue());
@@ -103,6 +192,15 @@ public class SessionFactoryFactory {
         return configuration.buildSessionFactory(registry);
     }
 
+    private static void requireJCache() {
+        try {
+            Class.forName(JCACHE_REGION_FACTORY, false, SessionFactoryFactory.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("The second-level cache requires org.hibernate.orm:hibernate-jcache and "
+                + "a JCache provider, e.g. com.github.ben-manes.caffeine:jcache, on the class path", e);
+        }
+    }
+
     protected void configure(Configuration configuration, ServiceRegistry registry) {
         // Default implementation is a no-op
     }
@@ -7,6 +7,7 @@ import io.dropwizard.util.Duration;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
+import org.hibernate.query.NativeQuery;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -28,7 +29,7 @@ public class SessionFactoryHealthCheck extends HealthCheck {
                                      Optional<String> validationQuery) {
         this.sessionFactory = sessionFactory;
         this.validationQuery = validationQuery;
-        this.validationQueryTimeout = (int) duration.toSeconds();
+        this.validationQueryTimeout = (int) Math.ceil(duration.toMilliseconds() / 1000.0);
         this.timeBoundHealthCheck = new TimeBoundHealthCheck(executorService, duration);
     }
 
@@ -49,7 +50,10 @@ public class SessionFactoryHealthCheck extends HealthCheck {
                 final Transaction txn = session.beginTransaction();
                 try {
                     if (validationQuery.isPresent()) {
-                        session.createNativeQuery(validationQuery.get()).list();
+                        final NativeQuery<?> query = session.createNativeQuery(validationQuery.get());
+                        // stops the query on the database side, even if the check has been abandoned
+                        query.setTimeout(validationQueryTimeout);
+                        query.list();
                     } else if (!isValidConnection(session)){
                         result = Result.unhealthy("Connection::isValid returned false.");
                     }
@@ -1,8 +1,11 @@
 package io.dropwizard.hibernate;
 
 import jakarta.ws.rs.ext.Provider;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.glassfish.jersey.server.internal.process.MappableException;
+import org.glassfish.jersey.server.model.Resource;
 import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.model.ResourceModel;
 import org.glassfish.jersey.server.monitoring.ApplicationEvent;
 import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
@@ -10,26 +13,33 @@ import org.glassfish.jersey.server.monitoring.RequestEventListener;
 import org.hibernate.SessionFactory;
 
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 /**
  * An application event listener that listens for Jersey application initialization to
- * be finished, then creates a map of resource method that have metrics annotations.
+ * be finished, then creates a map of resource methods that have {@link UnitOfWork} annotations.
+ * If no resource method can have one, no request listener is created at all.
  *
  * Finally, it listens for method start events, and returns a {@link RequestEventListener}
- * that updates the relevant metric for suitably annotated methods when it gets the
- * request events indicating that the method is about to be invoked, or just got done
- * being invoked.
+ * that opens a unit of work for suitably annotated methods when it gets the
+ * request events indicating that the method is about to be invoked, and finishes it when
+ * the method got done being invoked.
  */
 @Provider
 public class UnitOfWorkApplicationListener implements ApplicationEventListener {
 
-    private final ConcurrentMap<ResourceMethod, Collection<UnitOfWork>> methodMap = new ConcurrentHashMap<>();
+    private static final UnitOfWork[] NO_UNITS_OF_WORK = new UnitOfWork[0];
+    private static final @Nullable UnitOfWorkAspect[] NO_ASPECTS = new UnitOfWorkAspect[0];
+
+    private final ConcurrentMap<ResourceMethod, UnitOfWork[]> methodMap = new ConcurrentHashMap<>();
     private final Map<String, SessionFactory> sessionFactories = new HashMap<>();
+    // whether any resource method needs a unit of work, or null until the application is initialized
+    @Nullable
+    private volatile Boolean requiresUnitOfWork;
 
     public UnitOfWorkApplicationListener() {
     }
@@ -59,11 +69,12 @@ public class UnitOfWorkApplicationListener implements ApplicationEventListener {
     }
 
     private static class UnitOfWorkEventListener implements RequestEventListener {
-        private final ConcurrentMap<ResourceMethod, Collection<UnitOfWork>> methodMap;
-        private final ConcurrentMap<String, UnitOfWorkAspect> unitOfWorkAspects = new ConcurrentHashMap<>();
+        private final ConcurrentMap<ResourceMethod, UnitOfWork[]> methodMap;
         private final Map<String, SessionFactory> sessionFactories;
+        // the aspects of the matched resource method, in the order of its annotations
+        private @Nullable UnitOfWorkAspect[] unitOfWorkAspects = NO_ASPECTS;
 
-        UnitOfWorkEventListener(ConcurrentMap<ResourceMethod, Collection<UnitOfWork>> methodMap,
+        UnitOfWorkEventListener(ConcurrentMap<ResourceMethod, UnitOfWork[]> methodMap,
                                 Map<String, SessionFactory> sessionFactories) {
             this.methodMap = methodMap;
             this.sessionFactories = sessionFactories;
@@ -73,14 +84,18 @@ public class UnitOfWorkApplicationListener implements ApplicationEventListener {
         public void onEvent(RequestEvent event) {
             final RequestEvent.Type eventType = event.getType();
             if (eventType == RequestEvent.Type.RESOURCE_METHOD_START) {
+                final UnitOfWork[] unitsOfWork = methodMap.computeIfAbsent(
+                    event.getUriInfo().getMatchedResourceMethod(), UnitOfWorkApplicationListener::registerUnitOfWorkAnnotations);
+                if (unitsOfWork.length == 0) {
+                    return;
+                }
+                unitOfWorkAspects = new UnitOfWorkAspect[unitsOfWork.length];
                 try {
-                    methodMap
-                        .computeIfAbsent(event.getUriInfo().getMatchedResourceMethod(), UnitOfWorkEventListener::registerUnitOfWorkAnnotations)
-                        .forEach(unitOfWork ->
-                            unitOfWorkAspects
-                                .computeIfAbsent(unitOfWork.value(), hibernateName -> new UnitOfWorkAspect(sessionFactories))
-                                .beforeStart(unitOfWork)
-                    );
+                    for (int i = 0; i < unitsOfWork.length; i++) {
+                        final UnitOfWorkAspect aspect = new UnitOfWorkAspect(sessionFactories);
+                        unitOfWorkAspects[i] = aspect;
+                        aspect.beforeStart(unitsOfWork[i]);
+                    }
                 } catch (IllegalArgumentException e) {
                     throw e;
                 } catch (Exception e) {
@@ -88,40 +103,81 @@ public class UnitOfWorkApplicationListener implements ApplicationEventListener {
                 }
             } else if (eventType == RequestEvent.Type.RESP_FILTERS_START) {
                 try {
-                    unitOfWorkAspects
-                        .values()
-                        .forEach(UnitOfWorkAspect::afterEnd);
+                    for (UnitOfWorkAspect aspect : unitOfWorkAspects) {
+                        if (aspect != null) {
+                            aspect.afterEnd();
+                        }
+                    }
                 } catch (Exception e) {
                     throw new MappableException(e);
                 }
             } else if (eventType == RequestEvent.Type.ON_EXCEPTION) {
-                unitOfWorkAspects
-                        .values()
-                        .forEach(UnitOfWorkAspect::onError);
+                for (UnitOfWorkAspect aspect : unitOfWorkAspects) {
+                    if (aspect != null) {
+                        aspect.onError();
+                    }
+                }
             } else if (eventType == RequestEvent.Type.FINISHED) {
-                unitOfWorkAspects
-                        .values()
-                        .forEach(UnitOfWorkAspect::onFinish);
+                for (UnitOfWorkAspect aspect : unitOfWorkAspects) {
+                    if (aspect != null) {
+                        aspect.onFinish();
+                    }
+                }
             }
         }
+    }
 
-        private static Collection<UnitOfWork> registerUnitOfWorkAnnotations(ResourceMethod method) {
-            Map<String, UnitOfWork> unitOfWorkMap = new HashMap<>();
-            Arrays.stream(method.getInvocable().getHandlingMethod().getAnnotationsByType(UnitOfWork.class))
-                .forEach(unitOfWork -> unitOfWorkMap.put(unitOfWork.value(), unitOfWork));
-            Arrays.stream(method.getInvocable().getDefinitionMethod().getAnnotationsByType(UnitOfWork.class))
-                .forEach(unitOfWork -> unitOfWorkMap.put(unitOfWork.value(), unitOfWork));
-            return unitOfWorkMap.values();
-        }
+    private static UnitOfWork[] registerUnitOfWorkAnnotations(ResourceMethod method) {
+        Map<String, UnitOfWork> unitOfWorkMap = new LinkedHashMap<>();
+        Arrays.stream(method.getInvocable().getHandlingMethod().getAnnotationsByType(UnitOfWork.class))
+            .forEach(unitOfWork -> unitOfWorkMap.put(unitOfWork.value(), unitOfWork));
+        Arrays.stream(method.getInvocable().getDefinitionMethod().getAnnotationsByType(UnitOfWork.class))
+            .forEach(unitOfWork -> unitOfWorkMap.put(unitOfWork.value(), unitOfWork));
+        return unitOfWorkMap.isEmpty() ? NO_UNITS_OF_WORK : unitOfWorkMap.values().toArray(new UnitOfWork[0]);
     }
 
     @Override
     public void onEvent(ApplicationEvent event) {
-        // Nothing to do
+        if (event.getType() == ApplicationEvent.Type.INITIALIZATION_FINISHED) {
+            final ResourceModel resourceModel = event.getResourceModel();
+            if (resourceModel != null) {
+                boolean unitOfWorkPossible = false;
+                for (Resource resource : resourceModel.getResources()) {
+                    unitOfWorkPossible |= registerResource(resource);
+                }
+                requiresUnitOfWork = unitOfWorkPossible;
+            }
+        }
+    }
+
+    /**
+     * Caches the annotations of the methods of the resource and its child resources.
+     *
+     * @return whether a method of the resource may need a unit of work, including sub-resource locators, whose
+     * resources are only known at runtime
+     */
+    private boolean registerResource(Resource resource) {
+        boolean unitOfWorkPossible = false;
+        for (ResourceMethod method : resource.getAllMethods()) {
+            if (method.getType() == ResourceMethod.JaxrsType.SUB_RESOURCE_LOCATOR) {
+                unitOfWorkPossible = true;
+            } else {
+                unitOfWorkPossible |= methodMap.computeIfAbsent(method,
+                    UnitOfWorkApplicationListener::registerUnitOfWorkAnnotations).length > 0;
+            }
+        }
+        for (Resource childResource : resource.getChildResources()) {
+            unitOfWorkPossible |= registerResource(childResource);
+        }
+        return unitOfWorkPossible;
     }
 
     @Override
+    @Nullable
     public RequestEventListener onRequest(RequestEvent event) {
+        if (Boolean.FALSE.equals(requiresUnitOfWork)) {
+            return null;
+        }
         return new UnitOfWorkEventListener(methodMap, sessionFactories);
     }
 
@@ -1,5 +1,6 @@
 package io.dropwizard.hibernate;
 
+import io.dropwizard.db.ReadOnlyHint;
 import io.dropwizard.hibernate.dual.DualSessionFactory;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.Session;
@@ -13,7 +14,9 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * An aspect providing operations around a method with the {@link UnitOfWork} annotation.
- * It opens a Hibernate session and optionally a transaction.
+ * It opens a Hibernate session and optionally a transaction. For a read-only unit of work, it sets the
+ * {@link ReadOnlyHint} of the current thread until the unit of work is finished, so that a
+ * {@link io.dropwizard.db.RoutingManagedDataSource} serves its connections from a read replica.
  * <p>It should be created for every invocation of the method.</p>
  * <p>Usage :</p>
  * <pre>
@@ -57,6 +60,10 @@ public class UnitOfWorkAspect {
     private boolean sessionCreated;
     // do we manage the transaction or did we join an existing one?
     private boolean transactionStarted;
+    // did we set the read-only hint, and which one has to be restored?
+    private boolean readOnlyHintSet;
+    @Nullable
+    private Boolean previousReadOnlyHint;
 
     public void beforeStart(@Nullable UnitOfWork unitOfWork) {
         if (unitOfWork == null) {
@@ -79,6 +86,11 @@ public class UnitOfWorkAspect {
             ((DualSessionFactory) sessionFactory).prepare(unitOfWork.readOnly());
         }
 
+        if (unitOfWork.readOnly()) {
+            previousReadOnlyHint = ReadOnlyHint.set(true);
+            readOnlyHintSet = true;
+        }
+
         Session existingSession = null;
         if(ManagedSessionContext.hasBind(sessionFactory)) {
             existingSession = sessionFactory.getCurrentSession();
@@ -141,6 +153,10 @@ public class UnitOfWorkAspect {
             if(sessionCreated) {
                 ManagedSessionContext.unbind(sessionFactory);
             }
+            if (readOnlyHintSet) {
+                ReadOnlyHint.restore(previousReadOnlyHint);
+                readOnlyHintSet = false;
+            }
         }
     }
 
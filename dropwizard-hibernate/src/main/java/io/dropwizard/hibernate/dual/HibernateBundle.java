@@ -33,6 +33,7 @@ public abstract class HibernateBundle<T> extends io.dropwizard.hibernate.Hiberna
         final String name = name();
         final String primaryName = name + PRIMARY;
         final String readerName = name + READER;
+        this.hibernateSettings = getHibernateSettings(configuration);
         final PooledDataSourceFactory primaryConfig = getDataSourceFactory(configuration);
         final SessionFactory primary = requireNonNull(sessionFactoryFactory.build(this, environment, primaryConfig,
             entities, primaryName));
@@ -129,6 +129,34 @@ class HibernateBundleTest {
         verify(healthChecks).register(eq("custom-hibernate"), captor.capture());
     }
 
+    @Test
+    void buildsTheSessionFactoryWithTheSettingsOfTheConfiguration() throws Exception {
+        final HibernateSettings settings = new HibernateSettings();
+        final HibernateBundle<Configuration> customBundle = new HibernateBundle<Configuration>(entities, factory) {
+            @Override
+            public DataSourceFactory getDataSourceFactory(Configuration configuration) {
+                return dbConfig;
+            }
+
+            @Override
+            protected HibernateSettings getHibernateSettings(Configuration configuration) {
+                return settings;
+            }
+        };
+        when(factory.build(eq(customBundle),
+                any(Environment.class),
+                any(DataSourceFactory.class),
+                anyList(),
+                eq("hibernate"))).thenAnswer(invocation -> {
+                    assertThat(customBundle.hibernateSettings).isSameAs(settings);
+                    return sessionFactory;
+                });
+
+        customBundle.run(configuration, environment);
+
+        verify(factory).build(customBundle, environment, dbConfig, entities, "hibernate");
+    }
+
     @Test
     void hasASessionFactory() throws Exception {
         bundle.run(configuration, environment);
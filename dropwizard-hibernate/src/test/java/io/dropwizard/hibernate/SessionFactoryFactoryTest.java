@@ -11,6 +11,7 @@ import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
 import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.internal.EmptyInterceptor;
 import org.hibernate.service.ServiceRegistry;
@@ -23,9 +24,11 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Properties;
 
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -133,6 +136,81 @@ class SessionFactoryFactoryTest {
         }
     }
 
+    @Test
+    void appliesTheHibernateSettings() {
+        final HibernateSettings settings = new HibernateSettings();
+        settings.setJdbcBatchSize(50);
+        settings.setOrderInserts(false);
+        settings.setJdbcFetchSize(100);
+
+        this.sessionFactory = factory.build(bundle, environment, config, settings,
+            Collections.singletonList(Person.class), "hibernate");
+
+        assertThat(sessionFactory.getSessionFactoryOptions().getJdbcBatchSize()).isEqualTo(50);
+        assertThat(sessionFactory.getSessionFactoryOptions().isOrderInsertsEnabled()).isFalse();
+        assertThat(sessionFactory.getSessionFactoryOptions().isOrderUpdatesEnabled()).isTrue();
+        assertThat(sessionFactory.getSessionFactoryOptions().getJdbcFetchSize()).isEqualTo(100);
+        assertThat(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()).isFalse();
+    }
+
+    @Test
+    void leavesStatementBatchingToHibernateByDefault() {
+        final Properties properties = new Properties();
+        final SessionFactoryFactory customFactory = new SessionFactoryFactory() {
+            @Override
+            protected void configure(Configuration configuration, ServiceRegistry registry) {
+                properties.putAll(configuration.getProperties());
+            }
+        };
+        sessionFactory = customFactory.build(bundle,
+            environment,
+            config,
+            Collections.singletonList(Person.class));
+
+        assertThat(properties)
+            .containsEntry(AvailableSettings.ORDER_INSERTS, "true")
+            .doesNotContainKeys(AvailableSettings.STATEMENT_BATCH_SIZE, AvailableSettings.USE_SECOND_LEVEL_CACHE);
+    }
+
+    @Test
+    void enablesTheSecondLevelAndQueryCaches() {
+        final HibernateSettings settings = new HibernateSettings();
+        settings.setSecondLevelCacheEnabled(true);
+        settings.setQueryCacheEnabled(true);
+
+        this.sessionFactory = factory.build(bundle, environment, config, settings,
+            Collections.singletonList(Person.class), "hibernate");
+
+        assertThat(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()).isTrue();
+        assertThat(sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()).isTrue();
+    }
+
+    @Test
+    void publishesTheStatistics() {
+        build();
+
+        try (Session session = requireNonNull(sessionFactory).openSession()) {
+            assertThat(session.isOpen()).isTrue();
+        }
+
+        assertThat(metricRegistry.getGauges())
+            .containsKeys("org.hibernate.SessionFactory.hibernate.statements.prepared",
+                "org.hibernate.SessionFactory.hibernate.second-level-cache.hit-ratio",
+                "org.hibernate.SessionFactory.hibernate.query-cache.hit-ratio");
+        assertThat(metricRegistry.getGauges().get("org.hibernate.SessionFactory.hibernate.sessions.opened").getValue())
+            .isEqualTo(1L);
+    }
+
+    @Test
+    void rejectsSessionFactoriesWithTheSameName() {
+        build();
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> factory.build(bundle, environment, config, Collections.singletonList(Person.class)))
+            .withMessage("The statistics of a session factory named hibernate are already published, "
+                + "give each Hibernate bundle a unique name");
+    }
+
     @Test
     void configureRunsBeforeSessionFactoryCreation() {
         final SessionFactoryFactory customFactory = new SessionFactoryFactory() {
@@ -1,5 +1,7 @@
 package io.dropwizard.hibernate;
 
+import io.dropwizard.util.DirectExecutorService;
+import io.dropwizard.util.Duration;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.HibernateException;
 import org.hibernate.Session;
@@ -60,6 +62,25 @@ class SessionFactoryHealthCheckTest {
         inOrder.verify(session).close();
     }
 
+    @Test
+    void limitsTheDurationOfTheValidationQuery() throws Exception {
+        final Session session = mock(Session.class);
+        when(factory.openSession()).thenReturn(session);
+        when(session.beginTransaction()).thenReturn(mock(Transaction.class));
+
+        final NativeQuery<?> query = mock(NativeQuery.class);
+        when(session.createNativeQuery(anyString())).thenReturn(query);
+
+        final SessionFactoryHealthCheck healthCheck = new SessionFactoryHealthCheck(new DirectExecutorService(),
+            Duration.milliseconds(1500), factory, Optional.of("SELECT 1"));
+
+        assertThat(healthCheck.execute().isHealthy()).isTrue();
+
+        final InOrder inOrder = inOrder(query);
+        inOrder.verify(query).setTimeout(2);
+        inOrder.verify(query).list();
+    }
+
     @Test
     void isHealthyIfIsValid() {
         final Session session = mock(Session.class);
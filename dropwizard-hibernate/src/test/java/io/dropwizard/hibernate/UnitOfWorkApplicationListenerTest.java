@@ -1,8 +1,11 @@
 package io.dropwizard.hibernate;
 
+import io.dropwizard.db.ReadOnlyHint;
 import org.glassfish.jersey.server.ExtendedUriInfo;
 import org.glassfish.jersey.server.internal.process.MappableException;
 import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceModel;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
 import org.glassfish.jersey.server.monitoring.RequestEventListener;
 import org.hibernate.CacheMode;
@@ -17,6 +20,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -108,6 +113,84 @@ class UnitOfWorkApplicationListenerTest {
         verify(session).setDefaultReadOnly(true);
     }
 
+    @Test
+    void setsTheReadOnlyHintDuringAReadOnlyUnitOfWork() throws Exception {
+        prepareResourceMethod("methodWithReadOnlyAnnotation");
+        final AtomicReference<Boolean> hint = new AtomicReference<>();
+        doAnswer(invocation -> {
+            hint.set(ReadOnlyHint.current());
+            return transaction;
+        }).when(session).beginTransaction();
+
+        execute();
+
+        assertThat(hint).hasValue(true);
+        assertThat(ReadOnlyHint.current()).isNull();
+    }
+
+    @Test
+    void doesNotSetTheReadOnlyHintDuringAWritingUnitOfWork() throws Exception {
+        final AtomicReference<Boolean> hint = new AtomicReference<>(false);
+        doAnswer(invocation -> {
+            hint.set(ReadOnlyHint.current());
+            return transaction;
+        }).when(session).beginTransaction();
+
+        execute();
+
+        assertThat(hint.get()).isNull();
+    }
+
+    @Test
+    void createsNoRequestListenerWithoutUnitOfWorkMethods() throws Exception {
+        final Resource.Builder resource = Resource.builder("/");
+        resource.addMethod("GET")
+            .handledBy(new MockResource(), MockResource.class.getMethod("methodWithoutAnnotation"))
+            .build();
+
+        initialize(resource.build());
+
+        assertThat(listener.onRequest(requestStartEvent)).isNull();
+    }
+
+    @Test
+    void createsRequestListenerWithUnitOfWorkMethods() throws Exception {
+        final Resource.Builder child = Resource.builder("/child");
+        child.addMethod("GET")
+            .handledBy(new MockResource(), MockResource.class.getMethod("methodWithDefaultAnnotation"))
+            .build();
+        final Resource.Builder parent = Resource.builder("/parent");
+        parent.addMethod("GET")
+            .handledBy(new MockResource(), MockResource.class.getMethod("methodWithoutAnnotation"))
+            .build();
+        parent.addChildResource(child.build());
+
+        initialize(parent.build());
+
+        assertThat(listener.onRequest(requestStartEvent)).isNotNull();
+    }
+
+    @Test
+    void createsRequestListenerWithSubResourceLocators() throws Exception {
+        final Resource.Builder resource = Resource.builder("/");
+        resource.addMethod()
+            .handledBy(new MockResource(), MockResource.class.getMethod("methodWithoutAnnotation"))
+            .build();
+
+        initialize(resource.build());
+
+        assertThat(listener.onRequest(requestStartEvent)).isNotNull();
+    }
+
+    @Test
+    void doesNotOpenASessionForMethodsWithoutAnnotation() throws Exception {
+        prepareResourceMethod("methodWithoutAnnotation");
+
+        executeWithException();
+
+        verifyNoInteractions(sessionFactory, analyticsSessionFactory);
+    }
+
     @Test
     void configuresTheSessionsCacheMode() throws Exception {
         prepareResourceMethod("methodWithCacheModeIgnoreAnnotation");
@@ -279,6 +362,13 @@ class UnitOfWorkApplicationListenerTest {
         return false;
     }
 
+    private void initialize(Resource... resources) {
+        final ApplicationEvent event = mock(ApplicationEvent.class);
+        when(event.getType()).thenReturn(ApplicationEvent.Type.INITIALIZATION_FINISHED);
+        when(event.getResourceModel()).thenReturn(new ResourceModel.Builder(Arrays.asList(resources), false).build());
+        listener.onEvent(event);
+    }
+
     private void execute() {
         RequestEventListener requestListener = listener.onRequest(requestStartEvent);
         requestListener.onEvent(requestMethodStartEvent);
@@ -296,6 +386,9 @@ class UnitOfWorkApplicationListenerTest {
 
     public static class MockResource implements MockResourceInterface {
 
+        public void methodWithoutAnnotation() {
+        }
+
         @UnitOfWork(readOnly = false, cacheMode = CacheMode.NORMAL, transactional = true, flushMode = FlushMode.AUTO)
         public void methodWithDefaultAnnotation() {
         }
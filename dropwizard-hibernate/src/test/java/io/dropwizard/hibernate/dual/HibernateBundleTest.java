@@ -8,6 +8,7 @@ import io.dropwizard.core.Configuration;
 import io.dropwizard.core.setup.Bootstrap;
 import io.dropwizard.core.setup.Environment;
 import io.dropwizard.db.DataSourceFactory;
+import io.dropwizard.hibernate.HibernateSettings;
 import io.dropwizard.hibernate.Person;
 import io.dropwizard.hibernate.SessionFactoryFactory;
 import io.dropwizard.hibernate.SessionFactoryHealthCheck;
@@ -67,12 +68,14 @@ public class HibernateBundleTest {
         when(factory.build(eq(bundle),
                            any(Environment.class),
                            any(DataSourceFactory.class),
+                           any(HibernateSettings.class),
                            anyList(),
                            eq(PREFIX + PRIMARY))).thenReturn(sessionFactory);
 
         when(factory.build(eq(bundle),
                            any(Environment.class),
                            any(DataSourceFactory.class),
+                           any(HibernateSettings.class),
                            anyList(),
                            eq(PREFIX + READER))).thenReturn(readFactory);
     }
@@ -96,7 +99,8 @@ public class HibernateBundleTest {
     public void buildsASessionFactory() throws Exception {
         bundle.run(configuration, environment);
 
-        verify(factory).build(bundle, environment, dbConfig, entities, PREFIX + PRIMARY);
+        verify(factory).build(eq(bundle), eq(environment), eq(dbConfig), any(HibernateSettings.class), eq(entities),
+            eq(PREFIX + PRIMARY));
     }
 
     @Test
@@ -148,11 +152,13 @@ public class HibernateBundleTest {
         when(factory.build(eq(customBundle),
                 any(Environment.class),
                 any(DataSourceFactory.class),
+                any(HibernateSettings.class),
                 anyList(),
                 eq(name + PRIMARY))).thenReturn(sessionFactory);
         when(factory.build(eq(customBundle),
                 any(Environment.class),
                 any(DataSourceFactory.class),
+                any(HibernateSettings.class),
                 anyList(),
                 eq(name + READER))).thenReturn(readFactory);
 
@@ -7,6 +7,7 @@ import com.codahale.metrics.jdbi3.strategies.StatementNameStrategy;
 import io.dropwizard.core.setup.Environment;
 import io.dropwizard.db.ManagedDataSource;
 import io.dropwizard.db.PooledDataSourceFactory;
+import io.dropwizard.db.RoutingManagedDataSource;
 import io.dropwizard.util.Duration;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.statement.SqlStatements;
@@ -73,11 +74,16 @@ public class JdbiFactory {
 
         // Setup the required health checks.
         final Optional<String> validationQuery = configuration.getValidationQuery();
+        final Duration validationQueryTimeout = configuration.getValidationQueryTimeout().orElseGet(() -> Duration.seconds(5));
         environment.healthChecks().register(name, new JdbiHealthCheck(
             environment.getHealthCheckExecutorService(),
-            configuration.getValidationQueryTimeout().orElseGet(() -> Duration.seconds(5)),
+            validationQueryTimeout,
             jdbi,
             validationQuery));
+        if (dataSource instanceof RoutingManagedDataSource) {
+            ((RoutingManagedDataSource) dataSource).getReaderHealthChecks()
+                .forEach(environment.healthChecks()::register);
+        }
 
         // Setup the SQL logger
         jdbi.setSqlLogger(buildSQLLogger(environment.metrics(), nameStrategy));
@@ -6,6 +6,7 @@ import io.dropwizard.util.DirectExecutorService;
 import io.dropwizard.util.Duration;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.Update;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -19,7 +20,7 @@ public class JdbiHealthCheck extends HealthCheck {
     public JdbiHealthCheck(ExecutorService executorService, Duration duration, Jdbi jdbi, Optional<String> validationQuery) {
         this.jdbi = jdbi;
         this.validationQuery = validationQuery;
-        this.validationQueryTimeout = (int) duration.toSeconds();
+        this.validationQueryTimeout = (int) Math.ceil(duration.toMilliseconds() / 1000.0);
         this.timeBoundHealthCheck = new TimeBoundHealthCheck(executorService, duration);
     }
 
@@ -32,7 +33,11 @@ public class JdbiHealthCheck extends HealthCheck {
         return timeBoundHealthCheck.check(() -> {
                 try (Handle handle = jdbi.open()) {
                     if (validationQuery.isPresent()) {
-                        handle.execute(validationQuery.get());
+                        try (Update update = handle.createUpdate(validationQuery.get())) {
+                            // stops the query on the database side, even if the check has been abandoned
+                            update.setQueryTimeout(validationQueryTimeout);
+                            update.execute();
+                        }
                     } else if (!handle.getConnection().isValid(validationQueryTimeout)) {
                         return Result.unhealthy("Connection::isValid returned false.");
                     }
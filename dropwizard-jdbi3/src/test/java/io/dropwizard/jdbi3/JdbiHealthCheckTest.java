@@ -5,6 +5,7 @@ import io.dropwizard.util.Duration;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.Update;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +29,7 @@ class JdbiHealthCheckTest {
     private Jdbi jdbi;
     private Handle handle;
     private Connection connection;
+    private Update update;
     private ExecutorService executorService;
 
     @BeforeEach
@@ -35,9 +37,11 @@ class JdbiHealthCheckTest {
         jdbi = mock(Jdbi.class);
         handle = mock(Handle.class);
         connection = mock(Connection.class);
+        update = mock(Update.class);
 
         when(jdbi.open()).thenReturn(handle);
         when(handle.getConnection()).thenReturn(connection);
+        when(handle.createUpdate(VALIDATION_QUERY)).thenReturn(update);
 
         executorService = Executors.newSingleThreadExecutor();
     }
@@ -49,13 +53,22 @@ class JdbiHealthCheckTest {
 
     @Test
     void testNoTimeoutReturnsHealthy() throws Exception {
-        when(handle.execute(VALIDATION_QUERY)).thenReturn(0);
+        when(update.execute()).thenReturn(0);
 
         HealthCheck.Result result = healthCheck(VALIDATION_QUERY).check();
 
         assertThat(result.isHealthy()).isTrue();
     }
 
+    @Test
+    void testValidationQueryIsTimeBoundOnTheDatabase() throws Exception {
+        HealthCheck.Result result = healthCheck(VALIDATION_QUERY).check();
+
+        assertThat(result.isHealthy()).isTrue();
+        verify(update).setQueryTimeout(1);
+        verify(update).close();
+    }
+
     @Test
     void tesHealthyAfterWhenMissingValidationQuery() throws Exception {
         when(connection.isValid(anyInt())).thenReturn(true);
@@ -68,7 +81,7 @@ class JdbiHealthCheckTest {
 
     @Test
     void testItTimesOutProperly() throws Exception {
-        when(handle.execute(VALIDATION_QUERY)).thenAnswer((Answer<Integer>) invocation -> {
+        when(update.execute()).thenAnswer((Answer<Integer>) invocation -> {
             TimeUnit.SECONDS.sleep(10);
             return null;
         });
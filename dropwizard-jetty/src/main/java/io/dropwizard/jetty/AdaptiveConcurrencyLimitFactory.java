@@ -0,0 +1,308 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+import io.dropwizard.validation.ValidationMethod;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Server;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds an {@link AdaptiveConcurrencyLimitingHandler}, which sheds load once the number of requests in flight
+ * reaches a limit adapted to the observed latency.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code enabled}</td>
+ *         <td>false</td>
+ *         <td>Whether to limit the concurrency of the application context.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code algorithm}</td>
+ *         <td>gradient</td>
+ *         <td>
+ *             The algorithm adjusting the limit. {@code aimd} increases the limit by one per successful request
+ *             and multiplies it with {@code backoffRatio} whenever a request is dropped or slower than
+ *             {@code latencyThreshold}. {@code gradient} scales the limit with the ratio between the long-term
+ *             and the current latency.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code initialLimit}</td>
+ *         <td>100</td>
+ *         <td>The limit before any request completed.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code minLimit}</td>
+ *         <td>10</td>
+ *         <td>The lower bound of the limit.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxLimit}</td>
+ *         <td>1000</td>
+ *         <td>The upper bound of the limit.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code backoffRatio}</td>
+ *         <td>0.9</td>
+ *         <td>The factor the limit is multiplied with on overload ({@code aimd} only).</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code latencyThreshold}</td>
+ *         <td>1 second</td>
+ *         <td>The latency above which a request counts as overload ({@code aimd} only).</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code tolerance}</td>
+ *         <td>1.5</td>
+ *         <td>
+ *             How much the current latency may exceed the long-term latency before the limit shrinks
+ *             ({@code gradient} only).
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code smoothing}</td>
+ *         <td>0.2</td>
+ *         <td>The weight of each new estimate of the limit ({@code gradient} only).</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code priorityPaths}</td>
+ *         <td>(empty)</td>
+ *         <td>The path prefixes of requests, e.g. health checks, which may use the headroom of the limit.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code priorityHeadroom}</td>
+ *         <td>0.1</td>
+ *         <td>The fraction of the limit reserved for requests matching {@code priorityPaths}.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code retryAfter}</td>
+ *         <td>1 second</td>
+ *         <td>The value of the {@code Retry-After} header of rejected requests.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 4.0.11
+ */
+public class AdaptiveConcurrencyLimitFactory {
+    /**
+     * The algorithms adjusting the limit.
+     */
+    public enum Algorithm {
+        AIMD, GRADIENT
+    }
+
+    private boolean enabled = false;
+
+    @NotNull
+    private Algorithm algorithm = Algorithm.GRADIENT;
+
+    @Min(1)
+    private int initialLimit = 100;
+
+    @Min(1)
+    private int minLimit = 10;
+
+    @Min(1)
+    private int maxLimit = 1000;
+
+    @DecimalMin("0.5")
+    @DecimalMax(value = "1.0", inclusive = false)
+    private double backoffRatio = 0.9;
+
+    @NotNull
+    @MinDuration(value = 1, unit = TimeUnit.MILLISECONDS)
+    private Duration latencyThreshold = Duration.seconds(1);
+
+    @DecimalMin("1.0")
+    private double tolerance = 1.5;
+
+    @DecimalMin(value = "0.0", inclusive = false)
+    @DecimalMax("1.0")
+    private double smoothing = 0.2;
+
+    @NotNull
+    private Set<String> priorityPaths = Collections.emptySet();
+
+    @DecimalMin("0.0")
+    @DecimalMax(value = "1.0", inclusive = false)
+    private double priorityHeadroom = 0.1;
+
+    @NotNull
+    @MinDuration(value = 1, unit = TimeUnit.SECONDS)
+    private Duration retryAfter = Duration.seconds(1);
+
+    @JsonIgnore
+    @ValidationMethod(message = "must have a minLimit not greater than maxLimit")
+    public boolean isLimitRangeValid() {
+        return minLimit <= maxLimit;
+    }
+
+    @JsonProperty
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @JsonProperty
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @JsonProperty
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    @JsonProperty
+    public void setAlgorithm(Algorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    @JsonProperty
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    @JsonProperty
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    @JsonProperty
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    @JsonProperty
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    @JsonProperty
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    @JsonProperty
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    @JsonProperty
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    @JsonProperty
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    @JsonProperty
+    public Duration getLatencyThreshold() {
+        return latencyThreshold;
+    }
+
+    @JsonProperty
+    public void setLatencyThreshold(Duration latencyThreshold) {
+        this.latencyThreshold = latencyThreshold;
+    }
+
+    @JsonProperty
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    @JsonProperty
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    @JsonProperty
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    @JsonProperty
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    @JsonProperty
+    public Set<String> getPriorityPaths() {
+        return priorityPaths;
+    }
+
+    @JsonProperty
+    public void setPriorityPaths(Set<String> priorityPaths) {
+        this.priorityPaths = priorityPaths;
+    }
+
+    @JsonProperty
+    public double getPriorityHeadroom() {
+        return priorityHeadroom;
+    }
+
+    @JsonProperty
+    public void setPriorityHeadroom(double priorityHeadroom) {
+        this.priorityHeadroom = priorityHeadroom;
+    }
+
+    @JsonProperty
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @JsonProperty
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Builds the configured {@link ConcurrencyLimit}.
+     *
+     * @return a new limit
+     */
+    public ConcurrencyLimit buildLimit() {
+        switch (algorithm) {
+            case AIMD:
+                return new AimdConcurrencyLimit(initialLimit, minLimit, maxLimit, backoffRatio, latencyThreshold);
+            case GRADIENT:
+            default:
+                return new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance, smoothing);
+        }
+    }
+
+    /**
+     * Wraps a handler in an {@link AdaptiveConcurrencyLimitingHandler}.
+     *
+     * @param server         the server
+     * @param handler        the handler to limit
+     * @param metricRegistry the registry of metrics
+     * @param name           the name of the limited context, used in metric names
+     * @return the limited handler
+     */
+    public Handler build(Server server, Handler handler, MetricRegistry metricRegistry, String name) {
+        final AdaptiveConcurrencyLimitingHandler limitingHandler = new AdaptiveConcurrencyLimitingHandler(
+            metricRegistry, name, buildLimit(), priorityPaths, priorityHeadroom, retryAfter);
+        limitingHandler.setServer(server);
+        limitingHandler.setHandler(handler);
+        return limitingHandler;
+    }
+}
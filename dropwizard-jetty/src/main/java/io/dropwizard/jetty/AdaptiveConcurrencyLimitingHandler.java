@@ -0,0 +1,198 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.util.Duration;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A handler which sheds load once the number of requests in flight reaches an adaptive {@link ConcurrencyLimit}.
+ * <p/>
+ * Requests exceeding the limit are rejected immediately with {@code 503 Service Unavailable} and a
+ * {@code Retry-After} header instead of being queued, so that the latency of admitted requests stays flat when
+ * traffic exceeds the capacity of the server. The limit is continuously adjusted from the latency of completed
+ * requests, including asynchronous ones.
+ * <p/>
+ * Requests are admitted in two lanes: requests whose path starts with one of the priority paths (e.g. health checks)
+ * may use the whole limit, while all other requests are rejected once the limit minus a reserved headroom is reached.
+ * <p/>
+ * The following metrics are registered, prefixed with
+ * {@code io.dropwizard.jetty.AdaptiveConcurrencyLimitingHandler.<name>}:
+ * <ul>
+ *     <li>{@code limit}: a gauge of the current limit</li>
+ *     <li>{@code in-flight}: a gauge of the number of requests in flight</li>
+ *     <li>{@code rejected}: a meter of rejected requests</li>
+ *     <li>{@code priority-rejected}: a meter of rejected requests in the priority lane</li>
+ * </ul>
+ *
+ * @since 4.0.11
+ */
+public class AdaptiveConcurrencyLimitingHandler extends HandlerWrapper {
+    private final ConcurrencyLimit limit;
+    private final List<String> priorityPaths;
+    private final double priorityHeadroom;
+    private final String retryAfter;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Meter rejected;
+    private final Meter priorityRejected;
+
+    /**
+     * Creates a new adaptive concurrency limiting handler.
+     *
+     * @param metricRegistry   the registry of metrics
+     * @param name             the name of the limited context, used in metric names
+     * @param limit            the algorithm estimating the limit
+     * @param priorityPaths    the path prefixes of requests in the priority lane
+     * @param priorityHeadroom the fraction of the limit reserved for the priority lane, between 0 and 1
+     * @param retryAfter       the delay after which rejected clients should retry
+     */
+    public AdaptiveConcurrencyLimitingHandler(MetricRegistry metricRegistry, String name, ConcurrencyLimit limit,
+                                              Collection<String> priorityPaths, double priorityHeadroom,
+                                              Duration retryAfter) {
+        if (priorityHeadroom < 0.0 || priorityHeadroom >= 1.0) {
+            throw new IllegalArgumentException("priorityHeadroom must be in [0.0, 1.0)");
+        }
+        this.limit = limit;
+        this.priorityPaths = new ArrayList<>(priorityPaths);
+        this.priorityHeadroom = priorityHeadroom;
+        this.retryAfter = Long.toString(Math.max(1, retryAfter.toSeconds()));
+        this.rejected = metricRegistry.meter(name(AdaptiveConcurrencyLimitingHandler.class, name, "rejected"));
+        this.priorityRejected =
+            metricRegistry.meter(name(AdaptiveConcurrencyLimitingHandler.class, name, "priority-rejected"));
+        metricRegistry.gauge(name(AdaptiveConcurrencyLimitingHandler.class, name, "limit"),
+            () -> (Gauge<Integer>) limit::getLimit);
+        metricRegistry.gauge(name(AdaptiveConcurrencyLimitingHandler.class, name, "in-flight"),
+            () -> (Gauge<Integer>) inFlight::get);
+    }
+
+    public ConcurrencyLimit getLimit() {
+        return limit;
+    }
+
+    public int getInFlightRequests() {
+        return inFlight.get();
+    }
+
+    @Override
+    public void handle(String target, Request baseRequest, HttpServletRequest request,
+                       HttpServletResponse response) throws IOException, ServletException {
+        if (baseRequest.getDispatcherType() == DispatcherType.ASYNC) {
+            // The request was admitted when it was first dispatched and is released once it completes
+            super.handle(target, baseRequest, request, response);
+            return;
+        }
+
+        final boolean priority = isPriority(target);
+        final int admitted = tryAcquire(priority);
+        if (admitted < 0) {
+            rejected.mark();
+            if (priority) {
+                priorityRejected.mark();
+            }
+            baseRequest.setHandled(true);
+            response.setHeader(HttpHeader.RETRY_AFTER.asString(), retryAfter);
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            super.handle(target, baseRequest, request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener(start, admitted));
+            } else {
+                release(start, admitted, failed || isDropped(response));
+            }
+        }
+    }
+
+    private boolean isPriority(String target) {
+        for (String path : priorityPaths) {
+            if (target.startsWith(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of requests in flight including the admitted one, or {@code -1} if the request is rejected.
+     */
+    private int tryAcquire(boolean priority) {
+        final int currentLimit = limit.getLimit();
+        final int laneLimit = priority ? currentLimit : Math.max(1, (int) (currentLimit * (1 - priorityHeadroom)));
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= laneLimit) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    private void release(long start, int admitted, boolean dropped) {
+        inFlight.decrementAndGet();
+        limit.onSample(System.nanoTime() - start, admitted, dropped);
+    }
+
+    private static boolean isDropped(HttpServletResponse response) {
+        final int status = response.getStatus();
+        return status == HttpServletResponse.SC_SERVICE_UNAVAILABLE
+            || status == HttpServletResponse.SC_GATEWAY_TIMEOUT;
+    }
+
+    private class ReleasingListener implements AsyncListener {
+        private final long start;
+        private final int admitted;
+        private volatile boolean failed;
+
+        ReleasingListener(long start, int admitted) {
+            this.start = start;
+            this.admitted = admitted;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            final boolean dropped = failed || (event.getSuppliedResponse() instanceof HttpServletResponse
+                && isDropped((HttpServletResponse) event.getSuppliedResponse()));
+            release(start, admitted, dropped);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.dropwizard.jetty;
+
+import io.dropwizard.util.Duration;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link ConcurrencyLimit} which grows additively while requests complete within a latency threshold and shrinks
+ * multiplicatively when a request is dropped or exceeds the threshold.
+ * <p/>
+ * The limit is only increased while at least half of it is in use, so it doesn't grow unbounded while the server is
+ * underutilized. Samples update the limit with a compare-and-set, so completing requests never block each other.
+ *
+ * @since 4.0.11
+ */
+public class AimdConcurrencyLimit implements ConcurrencyLimit {
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger limit;
+
+    /**
+     * Creates a new AIMD limit.
+     *
+     * @param initialLimit     the limit before any request completed
+     * @param minLimit         the lower bound of the limit
+     * @param maxLimit         the upper bound of the limit
+     * @param backoffRatio     the factor the limit is multiplied with on overload, between 0.5 and 1
+     * @param latencyThreshold the latency above which a request counts as overload
+     */
+    public AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                Duration latencyThreshold) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("minLimit must be positive and not greater than maxLimit");
+        }
+        if (backoffRatio < 0.5 || backoffRatio >= 1.0) {
+            throw new IllegalArgumentException("backoffRatio must be in [0.5, 1.0)");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanoseconds();
+        this.limit = new AtomicInteger(Math.max(minLimit, Math.min(maxLimit, initialLimit)));
+    }
+
+    @Override
+    public int getLimit() {
+        return limit.get();
+    }
+
+    @Override
+    public void onSample(long latencyNanos, int inFlight, boolean dropped) {
+        final boolean overload = dropped || latencyNanos > latencyThresholdNanos;
+        int current;
+        int next;
+        do {
+            current = limit.get();
+            if (overload) {
+                next = Math.max(minLimit, (int) (current * backoffRatio));
+            } else if (inFlight * 2 >= current) {
+                next = Math.min(maxLimit, current + 1);
+            } else {
+                next = current;
+            }
+            if (next == current) {
+                return;
+            }
+        } while (!limit.compareAndSet(current, next));
+    }
+}
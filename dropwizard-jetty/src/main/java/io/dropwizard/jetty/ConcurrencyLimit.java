@@ -0,0 +1,27 @@
+package io.dropwizard.jetty;
+
+/**
+ * An algorithm which estimates the number of requests a server can handle concurrently from the latency of
+ * completed requests.
+ *
+ * @see AimdConcurrencyLimit
+ * @see GradientConcurrencyLimit
+ * @since 4.0.11
+ */
+public interface ConcurrencyLimit {
+    /**
+     * Returns the current estimated limit.
+     *
+     * @return the maximum number of requests which should be handled concurrently
+     */
+    int getLimit();
+
+    /**
+     * Updates the limit with a completed request.
+     *
+     * @param latencyNanos the latency of the request, in nanoseconds
+     * @param inFlight     the number of requests in flight when the request was admitted, including itself
+     * @param dropped      whether the request failed in a way indicating overload
+     */
+    void onSample(long latencyNanos, int inFlight, boolean dropped);
+}
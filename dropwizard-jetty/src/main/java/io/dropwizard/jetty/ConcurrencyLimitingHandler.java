@@ -0,0 +1,108 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.dropwizard.util.Duration;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A handler which limits the number of requests concurrently handled by the wrapped handler.
+ * <p/>
+ * Each request has to acquire a permit from a semaphore before it is handled. If no permit becomes available within
+ * the configured maximum queue wait, the request is rejected with {@code 503 Service Unavailable}. This keeps
+ * downstream resources protected when requests are dispatched to virtual threads, where the size of the thread pool
+ * no longer bounds concurrency. Permits are released when the wrapped handler returns, so asynchronous requests
+ * only hold a permit while they are dispatched.
+ * <p/>
+ * The following metrics are registered, prefixed with {@code io.dropwizard.jetty.ConcurrencyLimitingHandler.<name>}:
+ * <ul>
+ *     <li>{@code queue-wait}: a timer of the time spent waiting for a permit</li>
+ *     <li>{@code rejected}: a meter of requests rejected because no permit became available</li>
+ *     <li>{@code in-flight}: a gauge of the number of requests currently holding a permit</li>
+ *     <li>{@code limit}: a gauge of the maximum number of concurrent requests</li>
+ * </ul>
+ *
+ * @since 4.0.11
+ */
+public class ConcurrencyLimitingHandler extends HandlerWrapper {
+    private final int maxConcurrentRequests;
+    private final long maxQueueWaitNanos;
+    private final Semaphore permits;
+    private final Timer queueWait;
+    private final Meter rejected;
+
+    /**
+     * Creates a new concurrency limiting handler.
+     *
+     * @param metricRegistry        the registry of metrics
+     * @param name                  the name of the limited context, used in metric names
+     * @param maxConcurrentRequests the maximum number of requests handled concurrently
+     * @param maxQueueWait          the maximum time a request waits for a permit before it is rejected
+     */
+    public ConcurrencyLimitingHandler(MetricRegistry metricRegistry, String name, int maxConcurrentRequests,
+                                      Duration maxQueueWait) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxQueueWaitNanos = maxQueueWait.toNanoseconds();
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.queueWait = metricRegistry.timer(name(ConcurrencyLimitingHandler.class, name, "queue-wait"));
+        this.rejected = metricRegistry.meter(name(ConcurrencyLimitingHandler.class, name, "rejected"));
+        metricRegistry.gauge(name(ConcurrencyLimitingHandler.class, name, "in-flight"),
+            () -> (Gauge<Integer>) this::getInFlightRequests);
+        metricRegistry.gauge(name(ConcurrencyLimitingHandler.class, name, "limit"),
+            () -> (Gauge<Integer>) this::getMaxConcurrentRequests);
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int getInFlightRequests() {
+        return maxConcurrentRequests - permits.availablePermits();
+    }
+
+    @Override
+    public void handle(String target, Request baseRequest, HttpServletRequest request,
+                       HttpServletResponse response) throws IOException, ServletException {
+        if (!acquire()) {
+            rejected.mark();
+            baseRequest.setHandled(true);
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        try {
+            super.handle(target, baseRequest, request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean acquire() {
+        if (permits.tryAcquire()) {
+            queueWait.update(0, TimeUnit.NANOSECONDS);
+            return true;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            return permits.tryAcquire(maxQueueWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            queueWait.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
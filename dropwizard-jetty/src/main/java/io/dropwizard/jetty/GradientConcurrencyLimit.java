@@ -0,0 +1,126 @@
+package io.dropwizard.jetty;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ConcurrencyLimit} which adjusts the limit by the ratio between the long-term and the current latency.
+ * <p/>
+ * While the current latency is close to the long-term average, the limit grows by a small queue allowance. Once
+ * queueing makes the current latency exceed the long-term average by more than the configured tolerance, the limit
+ * shrinks proportionally, by at most half per window. The current latency is the mean latency of the last window and
+ * the long-term latency is an exponentially weighted moving average over the windows, which decays towards the
+ * current one if the latter is much lower, so the limit recovers after the latency profile of the service changed.
+ * <p/>
+ * Samples are only added to the statistics of the current window of {@value #SAMPLE_WINDOW} requests, so completing
+ * requests never block each other. The limit is updated once a window closes.
+ *
+ * @since 4.0.11
+ */
+public class GradientConcurrencyLimit implements ConcurrencyLimit {
+    private static final int SAMPLE_WINDOW = 10;
+    private static final double LONG_WINDOW_ALPHA = 2.0 / (60 + 1);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+
+    private final AtomicInteger windowSamples = new AtomicInteger();
+    private final LongAdder windowLatencySum = new LongAdder();
+    private final LongAdder windowLatencyCount = new LongAdder();
+    private final LongAccumulator windowMaxInFlight = new LongAccumulator(Math::max, 0);
+    private final LongAdder windowDrops = new LongAdder();
+
+    // guarded by this, only used when a window closes
+    private double estimatedLimit;
+    private double longLatency;
+    private volatile int limit;
+
+    /**
+     * Creates a new gradient limit.
+     *
+     * @param initialLimit the limit before any request completed
+     * @param minLimit     the lower bound of the limit
+     * @param maxLimit     the upper bound of the limit
+     * @param tolerance    how much the current latency may exceed the long-term latency before the limit shrinks,
+     *                     at least 1
+     * @param smoothing    the weight of a new estimate of the limit, between 0 (exclusive) and 1
+     */
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance,
+                                    double smoothing) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("minLimit must be positive and not greater than maxLimit");
+        }
+        if (tolerance < 1.0) {
+            throw new IllegalArgumentException("tolerance must be at least 1.0");
+        }
+        if (smoothing <= 0.0 || smoothing > 1.0) {
+            throw new IllegalArgumentException("smoothing must be in (0.0, 1.0]");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public void onSample(long latencyNanos, int inFlight, boolean dropped) {
+        windowLatencySum.add(latencyNanos);
+        windowLatencyCount.increment();
+        windowMaxInFlight.accumulate(inFlight);
+        if (dropped) {
+            windowDrops.increment();
+        }
+        if (windowSamples.incrementAndGet() == SAMPLE_WINDOW) {
+            closeWindow();
+        }
+    }
+
+    private synchronized void closeWindow() {
+        windowSamples.set(0);
+        // A sample completing concurrently may be split between this window and the next one, which barely skews them
+        final long count = windowLatencyCount.sumThenReset();
+        final long latencySum = windowLatencySum.sumThenReset();
+        final long maxInFlight = windowMaxInFlight.getThenReset();
+        final boolean dropped = windowDrops.sumThenReset() > 0;
+        if (count == 0) {
+            return;
+        }
+
+        final double shortLatency = (double) latencySum / count;
+        if (longLatency == 0) {
+            longLatency = shortLatency;
+        } else {
+            longLatency += LONG_WINDOW_ALPHA * (shortLatency - longLatency);
+        }
+
+        // Let the long-term latency follow quickly if the service became faster
+        if (longLatency > 2 * shortLatency) {
+            longLatency *= 0.95;
+        }
+
+        double newLimit;
+        if (dropped) {
+            newLimit = estimatedLimit / 2;
+        } else if (maxInFlight * 2 < estimatedLimit) {
+            // The server is underutilized, so the latency says nothing about the limit
+            return;
+        } else {
+            final double gradient = Math.max(0.5, Math.min(1.0, tolerance * longLatency / Math.max(1.0, shortLatency)));
+            newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        }
+
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,93 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.dropwizard.util.Duration;
+import jdk.jfr.consumer.RecordedEvent;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Monitors virtual threads which pin their carrier thread, e.g. by blocking inside a {@code synchronized} block,
+ * using the {@code jdk.VirtualThreadPinned} JFR event.
+ * <p/>
+ * The JFR event stream API is only available on Java 14 and later and the event is only emitted by Java 21 and
+ * later, so the monitor is accessed reflectively and does nothing on older runtimes. If the JFR recording cannot
+ * be started, a warning is logged and the server starts without the monitor.
+ * <p/>
+ * The following metrics are registered:
+ * <ul>
+ *     <li>{@code io.dropwizard.jetty.VirtualThreadPinnedMonitor.pinned}: a timer of the durations for which
+ *     carrier threads were pinned</li>
+ * </ul>
+ *
+ * @since 4.0.11
+ */
+public class VirtualThreadPinnedMonitor extends AbstractLifeCycle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadPinnedMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private final Timer pinned;
+
+    @Nullable
+    private AutoCloseable recordingStream;
+
+    /**
+     * Creates a new monitor for pinned virtual threads.
+     *
+     * @param metricRegistry the registry of metrics
+     * @param threshold      the minimum duration of a pinning to be recorded
+     */
+    public VirtualThreadPinnedMonitor(MetricRegistry metricRegistry, Duration threshold) {
+        this.threshold = threshold;
+        this.pinned = metricRegistry.timer(name(VirtualThreadPinnedMonitor.class, "pinned"));
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        final Class<?> streamClass;
+        try {
+            streamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+        } catch (ClassNotFoundException e) {
+            LOGGER.info("JFR event streaming is not available, pinned virtual threads will not be monitored");
+            return;
+        }
+
+        AutoCloseable stream = null;
+        try {
+            stream = (AutoCloseable) streamClass.getConstructor().newInstance();
+            final Object settings = streamClass.getMethod("enable", String.class).invoke(stream, PINNED_EVENT);
+            settings.getClass().getMethod("withThreshold", java.time.Duration.class)
+                .invoke(settings, java.time.Duration.ofNanos(threshold.toNanoseconds()));
+            final Consumer<RecordedEvent> onPinned =
+                event -> pinned.update(event.getDuration().toNanos(), TimeUnit.NANOSECONDS);
+            streamClass.getMethod("onEvent", String.class, Consumer.class).invoke(stream, PINNED_EVENT, onPinned);
+            streamClass.getMethod("startAsync").invoke(stream);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // The monitor is a diagnostic aid, so it must not keep the server from starting
+            LOGGER.warn("Unable to record JFR events, pinned virtual threads will not be monitored", e);
+            if (stream != null) {
+                stream.close();
+            }
+            return;
+        }
+        recordingStream = stream;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        final AutoCloseable stream = recordingStream;
+        recordingStream = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
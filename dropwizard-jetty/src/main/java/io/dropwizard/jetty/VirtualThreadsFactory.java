@@ -0,0 +1,197 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.util.component.LifeCycle;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures serving requests on virtual threads.
+ * <p/>
+ * When enabled, Jetty dispatches requests to a new virtual thread each, while its thread pool only runs
+ * selectors and acceptors. Since the thread pool no longer bounds the number of concurrent requests, the
+ * application and admin contexts are protected by {@link ConcurrencyLimitingHandler concurrency limits}
+ * instead. Requests which can't acquire a permit within {@code maxQueueWait} are rejected with
+ * {@code 503 Service Unavailable}.
+ * <p/>
+ * Virtual threads require Java 21 or later.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code enabled}</td>
+ *         <td>false</td>
+ *         <td>Whether to handle requests on virtual threads.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxConcurrentRequests}</td>
+ *         <td>1024</td>
+ *         <td>The maximum number of requests the application context handles concurrently.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxConcurrentAdminRequests}</td>
+ *         <td>64</td>
+ *         <td>
+ *             The maximum number of requests the admin context handles concurrently. Set it to {@code null}
+ *             explicitly to leave the admin context unlimited.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxQueueWait}</td>
+ *         <td>1 second</td>
+ *         <td>The maximum time a request waits for a free slot before it is rejected.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code monitorPinnedThreads}</td>
+ *         <td>false</td>
+ *         <td>Whether to record the time virtual threads pin their carrier thread.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code pinnedThreshold}</td>
+ *         <td>20 milliseconds</td>
+ *         <td>The minimum duration of a pinned carrier thread to be recorded.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 4.0.11
+ */
+public class VirtualThreadsFactory {
+    private boolean enabled = false;
+
+    @Min(1)
+    private int maxConcurrentRequests = 1024;
+
+    @Nullable
+    @Min(1)
+    private Integer maxConcurrentAdminRequests = 64;
+
+    @NotNull
+    @MinDuration(value = 0, unit = TimeUnit.MILLISECONDS)
+    private Duration maxQueueWait = Duration.seconds(1);
+
+    private boolean monitorPinnedThreads = false;
+
+    @NotNull
+    private Duration pinnedThreshold = Duration.milliseconds(20);
+
+    @JsonProperty
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @JsonProperty
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @JsonProperty
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    @JsonProperty
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    @JsonProperty
+    @Nullable
+    public Integer getMaxConcurrentAdminRequests() {
+        return maxConcurrentAdminRequests;
+    }
+
+    @JsonProperty
+    public void setMaxConcurrentAdminRequests(@Nullable Integer maxConcurrentAdminRequests) {
+        this.maxConcurrentAdminRequests = maxConcurrentAdminRequests;
+    }
+
+    @JsonProperty
+    public Duration getMaxQueueWait() {
+        return maxQueueWait;
+    }
+
+    @JsonProperty
+    public void setMaxQueueWait(Duration maxQueueWait) {
+        this.maxQueueWait = maxQueueWait;
+    }
+
+    @JsonProperty
+    public boolean isMonitorPinnedThreads() {
+        return monitorPinnedThreads;
+    }
+
+    @JsonProperty
+    public void setMonitorPinnedThreads(boolean monitorPinnedThreads) {
+        this.monitorPinnedThreads = monitorPinnedThreads;
+    }
+
+    @JsonProperty
+    public Duration getPinnedThreshold() {
+        return pinnedThreshold;
+    }
+
+    @JsonProperty
+    public void setPinnedThreshold(Duration pinnedThreshold) {
+        this.pinnedThreshold = pinnedThreshold;
+    }
+
+    /**
+     * Wraps the handler of the application context in a {@link ConcurrencyLimitingHandler}.
+     *
+     * @param server         the server
+     * @param handler        the handler of the application context
+     * @param metricRegistry the registry of metrics
+     * @return the limited handler
+     */
+    public Handler limitApplicationRequests(Server server, Handler handler, MetricRegistry metricRegistry) {
+        return limit(server, handler, metricRegistry, "application", maxConcurrentRequests);
+    }
+
+    /**
+     * Wraps the handler of the admin context in a {@link ConcurrencyLimitingHandler}, if admin requests are limited.
+     *
+     * @param server         the server
+     * @param handler        the handler of the admin context
+     * @param metricRegistry the registry of metrics
+     * @return the limited handler, or the given handler if admin requests are not limited
+     */
+    public Handler limitAdminRequests(Server server, Handler handler, MetricRegistry metricRegistry) {
+        if (maxConcurrentAdminRequests == null) {
+            return handler;
+        }
+        return limit(server, handler, metricRegistry, "admin", maxConcurrentAdminRequests);
+    }
+
+    private Handler limit(Server server, Handler handler, MetricRegistry metricRegistry, String name,
+                          int maxConcurrent) {
+        final ConcurrencyLimitingHandler limitingHandler =
+            new ConcurrencyLimitingHandler(metricRegistry, name, maxConcurrent, maxQueueWait);
+        limitingHandler.setServer(server);
+        limitingHandler.setHandler(handler);
+        return limitingHandler;
+    }
+
+    /**
+     * Builds a monitor of virtual threads pinning their carrier thread, if enabled.
+     *
+     * @param metricRegistry the registry of metrics
+     * @return the monitor, or {@code null} if pinned threads are not monitored
+     */
+    @Nullable
+    public LifeCycle buildPinnedThreadMonitor(MetricRegistry metricRegistry) {
+        return monitorPinnedThreads ? new VirtualThreadPinnedMonitor(metricRegistry, pinnedThreshold) : null;
+    }
+}
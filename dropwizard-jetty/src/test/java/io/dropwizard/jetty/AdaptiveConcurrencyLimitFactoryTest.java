@@ -0,0 +1,63 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
+import io.dropwizard.configuration.YamlConfigurationFactory;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.BaseValidator;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Server;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class AdaptiveConcurrencyLimitFactoryTest {
+    private AdaptiveConcurrencyLimitFactory concurrencyLimit;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.concurrencyLimit = new YamlConfigurationFactory<>(AdaptiveConcurrencyLimitFactory.class,
+                BaseValidator.newValidator(), Jackson.newObjectMapper(), "dw")
+                .build(new ResourceConfigurationSourceProvider(), "yaml/concurrency-limit.yml");
+    }
+
+    @Test
+    void hasConfiguredValues() {
+        assertThat(concurrencyLimit.isEnabled()).isTrue();
+        assertThat(concurrencyLimit.getAlgorithm()).isEqualTo(AdaptiveConcurrencyLimitFactory.Algorithm.AIMD);
+        assertThat(concurrencyLimit.getInitialLimit()).isEqualTo(20);
+        assertThat(concurrencyLimit.getMinLimit()).isEqualTo(5);
+        assertThat(concurrencyLimit.getMaxLimit()).isEqualTo(50);
+        assertThat(concurrencyLimit.getBackoffRatio()).isEqualTo(0.75);
+        assertThat(concurrencyLimit.getLatencyThreshold()).isEqualTo(Duration.milliseconds(200));
+        assertThat(concurrencyLimit.getPriorityPaths()).containsExactly("/healthcheck");
+        assertThat(concurrencyLimit.getPriorityHeadroom()).isEqualTo(0.2);
+        assertThat(concurrencyLimit.getRetryAfter()).isEqualTo(Duration.seconds(5));
+    }
+
+    @Test
+    void isDisabledByDefault() {
+        final AdaptiveConcurrencyLimitFactory defaults = new AdaptiveConcurrencyLimitFactory();
+        assertThat(defaults.isEnabled()).isFalse();
+        assertThat(defaults.getPriorityPaths()).isEqualTo(Collections.emptySet());
+        assertThat(defaults.buildLimit()).isInstanceOf(GradientConcurrencyLimit.class);
+    }
+
+    @Test
+    void buildsLimitingHandler() {
+        final Handler handler = mock(Handler.class);
+
+        final Handler limited = concurrencyLimit.build(new Server(), handler, new MetricRegistry(), "application");
+
+        assertThat(limited).isInstanceOfSatisfying(AdaptiveConcurrencyLimitingHandler.class, limitingHandler -> {
+            assertThat(limitingHandler.getHandler()).isSameAs(handler);
+            assertThat(limitingHandler.getLimit()).isInstanceOf(AimdConcurrencyLimit.class);
+            assertThat(limitingHandler.getLimit().getLimit()).isEqualTo(20);
+        });
+    }
+}
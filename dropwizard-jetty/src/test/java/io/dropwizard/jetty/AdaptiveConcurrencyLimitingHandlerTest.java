@@ -0,0 +1,110 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.util.Duration;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpTester;
+import org.eclipse.jetty.server.LocalConnector;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitingHandlerTest {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final Server server = new Server();
+    private final LocalConnector connector = new LocalConnector(server);
+    private final AimdConcurrencyLimit limit = new AimdConcurrencyLimit(2, 1, 2, 0.5, Duration.seconds(10));
+    private final AdaptiveConcurrencyLimitingHandler handler = new AdaptiveConcurrencyLimitingHandler(metricRegistry,
+        "app", limit, Collections.singleton("/healthcheck"), 0.5, Duration.seconds(3));
+    private final AtomicReference<String> nestedTarget = new AtomicReference<>();
+    private final AtomicReference<HttpTester.Response> nestedResponse = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        handler.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, Request baseRequest, HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+                final String nested = nestedTarget.getAndSet(null);
+                if (nested != null) {
+                    // Issue a concurrent request while this one holds a slot
+                    try {
+                        nestedResponse.set(HttpTester.parseResponse(connector.getResponse(get(nested))));
+                    } catch (Exception e) {
+                        throw new IOException(e);
+                    }
+                }
+                baseRequest.setHandled(true);
+                response.setStatus(HttpServletResponse.SC_OK);
+            }
+        });
+        server.addConnector(connector);
+        server.setHandler(handler);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.stop();
+    }
+
+    private static String get(String path) {
+        return "GET " + path + " HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n";
+    }
+
+    @Test
+    void admitsRequestsWithinLimit() throws Exception {
+        final HttpTester.Response response = HttpTester.parseResponse(connector.getResponse(get("/app")));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(handler.getInFlightRequests()).isZero();
+        assertThat(metricRegistry.meter("io.dropwizard.jetty.AdaptiveConcurrencyLimitingHandler.app.rejected")
+            .getCount()).isZero();
+    }
+
+    @Test
+    void rejectsRequestsBeyondLaneLimitWithRetryAfter() throws Exception {
+        nestedTarget.set("/app");
+
+        final HttpTester.Response response = HttpTester.parseResponse(connector.getResponse(get("/app")));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        final HttpTester.Response nested = requireNonNull(nestedResponse.get());
+        assertThat(nested.getStatus()).isEqualTo(503);
+        assertThat(nested.get(HttpHeader.RETRY_AFTER)).isEqualTo("3");
+        assertThat(metricRegistry.meter("io.dropwizard.jetty.AdaptiveConcurrencyLimitingHandler.app.rejected")
+            .getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void admitsPriorityRequestsIntoHeadroom() throws Exception {
+        nestedTarget.set("/healthcheck");
+
+        final HttpTester.Response response = HttpTester.parseResponse(connector.getResponse(get("/app")));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(requireNonNull(nestedResponse.get()).getStatus()).isEqualTo(200);
+        assertThat(handler.getInFlightRequests()).isZero();
+    }
+
+    @Test
+    void registersGauges() {
+        assertThat(metricRegistry.getGauges())
+            .hasEntrySatisfying("io.dropwizard.jetty.AdaptiveConcurrencyLimitingHandler.app.limit",
+                gauge -> assertThat(gauge.getValue()).isEqualTo(2))
+            .hasEntrySatisfying("io.dropwizard.jetty.AdaptiveConcurrencyLimitingHandler.app.in-flight",
+                gauge -> assertThat(gauge.getValue()).isEqualTo(0));
+    }
+}
@@ -0,0 +1,97 @@
+package io.dropwizard.jetty;
+
+import io.dropwizard.util.Duration;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ConcurrencyLimitTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void aimdIncreasesAdditivelyWhileUtilized() {
+        final AimdConcurrencyLimit limit = new AimdConcurrencyLimit(10, 1, 12, 0.5, Duration.milliseconds(100));
+
+        limit.onSample(FAST, 5, false);
+        assertThat(limit.getLimit()).isEqualTo(11);
+
+        limit.onSample(FAST, 1, false);
+        assertThat(limit.getLimit()).isEqualTo(11);
+
+        limit.onSample(FAST, 11, false);
+        limit.onSample(FAST, 11, false);
+        assertThat(limit.getLimit()).isEqualTo(12);
+    }
+
+    @Test
+    void aimdDecreasesMultiplicativelyOnOverload() {
+        final AimdConcurrencyLimit limit = new AimdConcurrencyLimit(10, 4, 100, 0.5, Duration.milliseconds(100));
+
+        limit.onSample(SLOW, 10, false);
+        assertThat(limit.getLimit()).isEqualTo(5);
+
+        limit.onSample(FAST, 5, true);
+        assertThat(limit.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void gradientGrowsWhileLatencyIsStable() {
+        final GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 1, 1000, 1.5, 0.2);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(FAST, limit.getLimit(), false);
+        }
+
+        assertThat(limit.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    void gradientShrinksWhenLatencyIncreases() {
+        final GradientConcurrencyLimit limit = new GradientConcurrencyLimit(100, 1, 1000, 1.5, 0.2);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(FAST, 60, false);
+        }
+        final int stable = limit.getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(SLOW, limit.getLimit(), false);
+        }
+
+        assertThat(limit.getLimit()).isLessThan(stable);
+    }
+
+    @Test
+    void gradientIgnoresLatencyWhileUnderutilized() {
+        final GradientConcurrencyLimit limit = new GradientConcurrencyLimit(100, 1, 1000, 1.5, 0.2);
+
+        limit.onSample(FAST, 1, false);
+        limit.onSample(SLOW, 1, false);
+
+        assertThat(limit.getLimit()).isEqualTo(100);
+    }
+
+    @Test
+    void gradientUpdatesTheLimitOncePerWindow() {
+        final GradientConcurrencyLimit limit = new GradientConcurrencyLimit(100, 1, 1000, 1.5, 0.2);
+
+        for (int i = 0; i < 9; i++) {
+            limit.onSample(FAST, 100, false);
+        }
+        assertThat(limit.getLimit()).isEqualTo(100);
+
+        limit.onSample(FAST, 100, false);
+        assertThat(limit.getLimit()).isGreaterThan(100);
+    }
+
+    @Test
+    void rejectsInvalidBounds() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new AimdConcurrencyLimit(10, 20, 10, 0.9, Duration.seconds(1)));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new GradientConcurrencyLimit(10, 1, 10, 0.5, 0.2));
+    }
+}
@@ -0,0 +1,78 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.util.Duration;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ConcurrencyLimitingHandlerTest {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final Request baseRequest = mock(Request.class);
+    private final HttpServletRequest request = mock(HttpServletRequest.class);
+    private final HttpServletResponse response = mock(HttpServletResponse.class);
+    private final ConcurrencyLimitingHandler handler =
+        new ConcurrencyLimitingHandler(metricRegistry, "app", 1, Duration.milliseconds(10));
+
+    @Test
+    void handlesRequestsWithinLimit() throws Exception {
+        final AtomicInteger inFlight = new AtomicInteger(-1);
+        handler.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, Request baseRequest, HttpServletRequest request,
+                               HttpServletResponse response) {
+                inFlight.set(handler.getInFlightRequests());
+                baseRequest.setHandled(true);
+            }
+        });
+
+        handler.handle("/", baseRequest, request, response);
+
+        assertThat(inFlight).hasValue(1);
+        assertThat(handler.getInFlightRequests()).isZero();
+        assertThat(metricRegistry.timer("io.dropwizard.jetty.ConcurrencyLimitingHandler.app.queue-wait").getCount())
+            .isEqualTo(1);
+        verify(response, never()).sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void rejectsRequestsExceedingLimit() throws Exception {
+        final HttpServletResponse rejectedResponse = mock(HttpServletResponse.class);
+        handler.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, Request baseRequest, HttpServletRequest request,
+                               HttpServletResponse response) throws IOException, ServletException {
+                // The only permit is held by this request, so a concurrent one has to be rejected
+                handler.handle(target, baseRequest, request, rejectedResponse);
+            }
+        });
+
+        handler.handle("/", baseRequest, request, response);
+
+        verify(rejectedResponse).sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        verify(response, never()).sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(metricRegistry.meter("io.dropwizard.jetty.ConcurrencyLimitingHandler.app.rejected").getCount())
+            .isEqualTo(1);
+        assertThat(handler.getInFlightRequests()).isZero();
+    }
+
+    @Test
+    void registersGauges() {
+        assertThat(metricRegistry.getGauges())
+            .hasEntrySatisfying("io.dropwizard.jetty.ConcurrencyLimitingHandler.app.limit",
+                gauge -> assertThat(gauge.getValue()).isEqualTo(1))
+            .hasEntrySatisfying("io.dropwizard.jetty.ConcurrencyLimitingHandler.app.in-flight",
+                gauge -> assertThat(gauge.getValue()).isEqualTo(0));
+    }
+}
@@ -0,0 +1,76 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
+import io.dropwizard.configuration.YamlConfigurationFactory;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.BaseValidator;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Server;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class VirtualThreadsFactoryTest {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private VirtualThreadsFactory virtualThreads;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.virtualThreads = new YamlConfigurationFactory<>(VirtualThreadsFactory.class,
+                BaseValidator.newValidator(), Jackson.newObjectMapper(), "dw")
+                .build(new ResourceConfigurationSourceProvider(), "yaml/virtual-threads.yml");
+    }
+
+    @Test
+    void isDisabledByDefault() {
+        final VirtualThreadsFactory defaults = new VirtualThreadsFactory();
+        assertThat(defaults.isEnabled()).isFalse();
+        assertThat(defaults.getMaxConcurrentRequests()).isEqualTo(1024);
+        assertThat(defaults.getMaxConcurrentAdminRequests()).isEqualTo(64);
+        assertThat(defaults.getMaxQueueWait()).isEqualTo(Duration.seconds(1));
+        assertThat(defaults.isMonitorPinnedThreads()).isFalse();
+    }
+
+    @Test
+    void hasConfiguredValues() {
+        assertThat(virtualThreads.isEnabled()).isTrue();
+        assertThat(virtualThreads.getMaxConcurrentRequests()).isEqualTo(256);
+        assertThat(virtualThreads.getMaxConcurrentAdminRequests()).isNull();
+        assertThat(virtualThreads.getMaxQueueWait()).isEqualTo(Duration.milliseconds(250));
+        assertThat(virtualThreads.isMonitorPinnedThreads()).isTrue();
+        assertThat(virtualThreads.getPinnedThreshold()).isEqualTo(Duration.milliseconds(50));
+    }
+
+    @Test
+    void limitsApplicationRequests() {
+        final Server server = new Server();
+        final Handler handler = mock(Handler.class);
+
+        final Handler limited = virtualThreads.limitApplicationRequests(server, handler, metricRegistry);
+
+        assertThat(limited).isInstanceOfSatisfying(ConcurrencyLimitingHandler.class, limitingHandler -> {
+            assertThat(limitingHandler.getHandler()).isSameAs(handler);
+            assertThat(limitingHandler.getMaxConcurrentRequests()).isEqualTo(256);
+        });
+        assertThat(metricRegistry.getGauges())
+            .containsKey("io.dropwizard.jetty.ConcurrencyLimitingHandler.application.limit");
+    }
+
+    @Test
+    void doesNotLimitAdminRequestsWithoutLimit() {
+        final Handler handler = mock(Handler.class);
+
+        assertThat(virtualThreads.limitAdminRequests(new Server(), handler, metricRegistry)).isSameAs(handler);
+    }
+
+    @Test
+    void buildsPinnedThreadMonitorOnlyIfEnabled() {
+        assertThat(virtualThreads.buildPinnedThreadMonitor(metricRegistry))
+            .isInstanceOf(VirtualThreadPinnedMonitor.class);
+        assertThat(new VirtualThreadsFactory().buildPinnedThreadMonitor(metricRegistry)).isNull();
+    }
+}
@@ -47,6 +47,13 @@ import java.util.TimeZone;
  * <td>empty</td>
  * <td>A map of fields to add.</td>
  * </tr>
+ * <tr>
+ * <td>{@code streaming}</td>
+ * <td>{@code false}</td>
+ * <td>Whether to encode events by writing their fields directly to a reused JSON generator, without building an
+ * intermediate map and string per event. Fields clashing with additional fields are written after the other
+ * fields, and of several fields with the same name (e.g. a flattened MDC key) only the first is written.</td>
+ * </tr>
  * </table>
  */
 public abstract class AbstractJsonLayoutBaseFactory<E extends DeferredProcessingAware>
@@ -57,6 +64,7 @@ public abstract class AbstractJsonLayoutBaseFactory<E extends DeferredProcessing
 
     private boolean prettyPrint;
     private boolean appendLineSeparator = true;
+    private boolean streaming;
 
     @NotNull
     private Map<String, String> customFieldNames = Collections.emptyMap();
@@ -95,6 +103,22 @@ public abstract class AbstractJsonLayoutBaseFactory<E extends DeferredProcessing
         this.appendLineSeparator = appendLineSeparator;
     }
 
+    /**
+     * @since 4.0.11
+     */
+    @JsonProperty
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    @JsonProperty
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     @JsonProperty
     public Map<String, String> getCustomFieldNames() {
         return customFieldNames;
@@ -112,6 +112,7 @@ public class AccessJsonLayoutBaseFactory extends AbstractJsonLayoutBaseFactory<I
         jsonLayout.setRequestHeaders(requestHeaders);
         jsonLayout.setResponseHeaders(responseHeaders);
         jsonLayout.setRequestAttributes(requestAttributes);
+        jsonLayout.setStreaming(isStreaming());
         return jsonLayout;
     }
 }
@@ -109,6 +109,7 @@ public class EventJsonLayoutBaseFactory extends AbstractJsonLayoutBaseFactory<IL
             createTimestampFormatter(timeZone), createThrowableProxyConverter(context), includes, getCustomFieldNames(),
             getAdditionalFields(), includesMdcKeys, flattenMdc);
         jsonLayout.setContext(context);
+        jsonLayout.setStreaming(isStreaming());
         return jsonLayout;
     }
 
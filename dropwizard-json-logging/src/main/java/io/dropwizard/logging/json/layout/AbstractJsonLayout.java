@@ -1,8 +1,12 @@
 package io.dropwizard.logging.json.layout;
 
 import ch.qos.logback.core.LayoutBase;
+import ch.qos.logback.core.encoder.Encoder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.dropwizard.logging.common.layout.EncoderLayout;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.IOException;
 import java.util.Map;
 
 /**
@@ -12,10 +16,12 @@ import java.util.Map;
  *
  * @param <E> represents the type of the event
  */
-public abstract class AbstractJsonLayout<E> extends LayoutBase<E> {
+public abstract class AbstractJsonLayout<E> extends LayoutBase<E> implements EncoderLayout<E> {
 
     private final JsonFormatter jsonFormatter;
 
+    private boolean streaming;
+
     protected AbstractJsonLayout(JsonFormatter jsonFormatter) {
         this.jsonFormatter = jsonFormatter;
     }
@@ -30,4 +36,49 @@ public abstract class AbstractJsonLayout<E> extends LayoutBase<E> {
      * Converts the provided logging event to a generic {@link Map}
      */
     protected abstract Map<String, Object> toJsonMap(E event);
+
+    /**
+     * Writes the provided logging event as a JSON object to the generator. By default, the map created by
+     * {@link #toJsonMap(Object)} is serialized; subclasses may write the fields directly instead.
+     *
+     * @param event     the logging event
+     * @param generator the generator to write to
+     * @return whether an object was written
+     * @throws IOException if the generator fails to write the object
+     * @since 4.0.11
+     */
+    protected boolean writeJson(E event, JsonGenerator generator) throws IOException {
+        final Map<String, Object> map = toJsonMap(event);
+        if (map.isEmpty()) {
+            return false;
+        }
+        generator.writeObject(map);
+        return true;
+    }
+
+    /**
+     * Returns a {@link JsonEncoder} if streaming is enabled, so appenders write events without formatting
+     * them to an intermediate string first.
+     *
+     * @since 4.0.11
+     */
+    @Override
+    @Nullable
+    public Encoder<E> buildEncoder() {
+        return streaming ? new JsonEncoder<>(this, jsonFormatter) : null;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
 }
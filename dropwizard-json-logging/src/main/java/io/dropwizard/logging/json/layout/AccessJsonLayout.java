@@ -1,9 +1,11 @@
 package io.dropwizard.logging.json.layout;
 
 import ch.qos.logback.access.spi.IAccessEvent;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.dropwizard.logging.json.AccessAttribute;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -32,6 +34,7 @@ public class AccessJsonLayout extends AbstractJsonLayout<IAccessEvent> {
     private final TimestampFormatter timestampFormatter;
     private final Map<String, Object> additionalFields;
     private final Map<String, String> customFieldNames;
+    private final JsonFieldWriter fieldWriter;
 
     public AccessJsonLayout(JsonFormatter jsonFormatter, TimestampFormatter timestampFormatter,
                             Set<AccessAttribute> includes, Map<String, String> customFieldNames,
@@ -41,14 +44,26 @@ public class AccessJsonLayout extends AbstractJsonLayout<IAccessEvent> {
         this.additionalFields = new HashMap<>(additionalFields);
         this.customFieldNames = new HashMap<>(customFieldNames);
         this.includes = EnumSet.copyOf(includes);
+        this.fieldWriter = new JsonFieldWriter(timestampFormatter, this.customFieldNames, this.additionalFields);
     }
 
     @Override
     protected Map<String, Object> toJsonMap(IAccessEvent event) {
-        return new MapBuilder(timestampFormatter, customFieldNames, additionalFields, includes.size())
-            .addNumber("port", isIncluded(AccessAttribute.LOCAL_PORT), event::getLocalPort)
+        return addFields(event, new MapBuilder(timestampFormatter, customFieldNames, additionalFields, includes.size()),
+            isIncluded(AccessAttribute.TIMESTAMP)).build();
+    }
+
+    @Override
+    protected boolean writeJson(IAccessEvent event, JsonGenerator generator) throws IOException {
+        // MapBuilder moves the timestamp to the front of the map, so the writer has to write it first
+        return fieldWriter.write(generator, writer -> addFields(event,
+            writer.addTimestamp("timestamp", isIncluded(AccessAttribute.TIMESTAMP), event.getTimeStamp()), false));
+    }
+
+    private <S extends JsonFieldSink<S>> S addFields(IAccessEvent event, S sink, boolean includeTimestamp) {
+        return sink.addNumber("port", isIncluded(AccessAttribute.LOCAL_PORT), event::getLocalPort)
             .addNumber("contentLength", isIncluded(AccessAttribute.CONTENT_LENGTH), event::getContentLength)
-            .addTimestamp("timestamp", isIncluded(AccessAttribute.TIMESTAMP), event.getTimeStamp())
+            .addTimestamp("timestamp", includeTimestamp, event.getTimeStamp())
             .add("method", isIncluded(AccessAttribute.METHOD), event::getMethod)
             .add("protocol", isIncluded(AccessAttribute.PROTOCOL), event::getProtocol)
             .add("requestContent", isIncluded(AccessAttribute.REQUEST_CONTENT), event::getRequestContent)
@@ -70,8 +85,7 @@ public class AccessJsonLayout extends AbstractJsonLayout<IAccessEvent> {
             .add("userAgent", isIncluded(AccessAttribute.USER_AGENT), () -> event.getRequestHeader(USER_AGENT))
             .add("version", jsonProtocolVersion != null, jsonProtocolVersion)
             .addMap("requestAttributes", !requestAttributes.isEmpty(),
-                () -> filterRequestAttributes(requestAttributes, event))
-            .build();
+                () -> filterRequestAttributes(requestAttributes, event));
     }
 
     private boolean isIncluded(AccessAttribute attribute) {
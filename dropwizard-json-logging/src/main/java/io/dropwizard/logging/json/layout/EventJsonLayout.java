@@ -2,9 +2,11 @@ package io.dropwizard.logging.json.layout;
 
 import ch.qos.logback.classic.pattern.ThrowableHandlingConverter;
 import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.dropwizard.logging.json.EventAttribute;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.IOException;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,6 +31,7 @@ public class EventJsonLayout extends AbstractJsonLayout<ILoggingEvent> {
 
     private Set<String> includesMdcKeys;
     private final boolean flattenMdc;
+    private final JsonFieldWriter fieldWriter;
 
     public EventJsonLayout(JsonFormatter jsonFormatter, TimestampFormatter timestampFormatter,
                            ThrowableHandlingConverter throwableProxyConverter, Set<EventAttribute> includes,
@@ -42,6 +45,7 @@ public class EventJsonLayout extends AbstractJsonLayout<ILoggingEvent> {
         this.includes = new HashSet<>(includes);
         this.includesMdcKeys = new HashSet<>(includesMdcKeys);
         this.flattenMdc = flattenMdc;
+        this.fieldWriter = new JsonFieldWriter(timestampFormatter, this.customFieldNames, this.additionalFields);
     }
 
     @Override
@@ -58,8 +62,17 @@ public class EventJsonLayout extends AbstractJsonLayout<ILoggingEvent> {
 
     @Override
     protected Map<String, Object> toJsonMap(ILoggingEvent event) {
-        final MapBuilder mapBuilder = new MapBuilder(timestampFormatter, customFieldNames, additionalFields, includes.size())
-            .addTimestamp("timestamp", isIncluded(EventAttribute.TIMESTAMP), event.getTimeStamp())
+        return addFields(event, new MapBuilder(timestampFormatter, customFieldNames, additionalFields, includes.size()))
+            .build();
+    }
+
+    @Override
+    protected boolean writeJson(ILoggingEvent event, JsonGenerator generator) throws IOException {
+        return fieldWriter.write(generator, writer -> addFields(event, writer));
+    }
+
+    private <S extends JsonFieldSink<S>> S addFields(ILoggingEvent event, S sink) {
+        sink.addTimestamp("timestamp", isIncluded(EventAttribute.TIMESTAMP), event.getTimeStamp())
             .add("level", isIncluded(EventAttribute.LEVEL), () -> String.valueOf(event.getLevel()))
             .add("thread", isIncluded(EventAttribute.THREAD_NAME), event::getThreadName)
             .add("marker", isIncluded(EventAttribute.MARKER) && event.getMarker() != null, () -> event.getMarker().getName())
@@ -72,22 +85,28 @@ public class EventJsonLayout extends AbstractJsonLayout<ILoggingEvent> {
 
         final boolean includeMdc = isIncluded(EventAttribute.MDC);
         if (flattenMdc) {
-            filterMdc(event.getMDCPropertyMap()).forEach((k,v) -> mapBuilder.add(k, includeMdc, v));
+            if (includeMdc) {
+                event.getMDCPropertyMap().forEach((k, v) -> {
+                    if (includesMdcKeys.isEmpty() || includesMdcKeys.contains(k)) {
+                        sink.add(k, true, v);
+                    }
+                });
+            }
         } else {
-            mapBuilder.addMap("mdc", includeMdc, () -> filterMdc(event.getMDCPropertyMap()));
+            sink.addMap("mdc", includeMdc, () -> filterMdc(event.getMDCPropertyMap()));
         }
 
         final boolean includeCallerData = isIncluded(EventAttribute.CALLER_DATA);
-        final StackTraceElement[] callerData = event.getCallerData();
-        if (includeCallerData && callerData.length >= 1) {
+        final StackTraceElement[] callerData = includeCallerData ? event.getCallerData() : null;
+        if (callerData != null && callerData.length >= 1) {
             final StackTraceElement stackTraceElement = callerData[0];
-            mapBuilder.add("caller_class_name", includeCallerData, stackTraceElement.getClassName());
-            mapBuilder.add("caller_method_name", includeCallerData, stackTraceElement.getMethodName());
-            mapBuilder.add("caller_file_name", includeCallerData, stackTraceElement.getFileName());
-            mapBuilder.addNumber("caller_line_number", includeCallerData, stackTraceElement.getLineNumber());
+            sink.add("caller_class_name", true, stackTraceElement.getClassName());
+            sink.add("caller_method_name", true, stackTraceElement.getMethodName());
+            sink.add("caller_file_name", true, stackTraceElement.getFileName());
+            sink.addNumber("caller_line_number", true, stackTraceElement.getLineNumber());
         }
 
-        return mapBuilder.build();
+        return sink;
     }
 
     private Map<String, String> filterMdc(Map<String, String> mdcPropertyMap) {
@@ -0,0 +1,75 @@
+package io.dropwizard.logging.json.layout;
+
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.encoder.EncoderBase;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes events as JSON by streaming their fields through a reused {@link JsonGenerator} into a reused buffer,
+ * without building an intermediate map or string as {@link AbstractJsonLayout#doLayout(Object)} does.
+ *
+ * @param <E> represents the type of the event
+ * @since 4.0.11
+ */
+public class JsonEncoder<E> extends EncoderBase<E> {
+    private static final byte[] EMPTY = new byte[0];
+    private static final byte[] LINE_SEPARATOR = CoreConstants.LINE_SEPARATOR.getBytes(StandardCharsets.UTF_8);
+
+    private final AbstractJsonLayout<E> layout;
+    private final JsonFormatter jsonFormatter;
+    private final ByteArrayBuilder buffer;
+
+    @Nullable
+    private JsonGenerator generator;
+
+    public JsonEncoder(AbstractJsonLayout<E> layout, JsonFormatter jsonFormatter) {
+        this.layout = layout;
+        this.jsonFormatter = jsonFormatter;
+        this.buffer = new ByteArrayBuilder(jsonFormatter.getBufferSize());
+    }
+
+    @Override
+    public byte @Nullable [] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public synchronized byte[] encode(E event) {
+        buffer.reset();
+        try {
+            JsonGenerator gen = generator;
+            if (gen == null) {
+                gen = jsonFormatter.createGenerator(buffer);
+                generator = gen;
+            }
+            if (!layout.writeJson(event, gen)) {
+                return EMPTY;
+            }
+            gen.flush();
+            if (jsonFormatter.isAppendLineSeparator()) {
+                buffer.write(LINE_SEPARATOR);
+            }
+            return buffer.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            // The generator may have been left inside an unfinished object
+            generator = null;
+            throw new IllegalArgumentException("Unable to format event as a JSON", e);
+        }
+    }
+
+    @Override
+    public byte @Nullable [] footerBytes() {
+        return null;
+    }
+
+    @Override
+    public synchronized void stop() {
+        super.stop();
+        generator = null;
+    }
+}
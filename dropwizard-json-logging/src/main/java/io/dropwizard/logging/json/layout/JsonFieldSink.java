@@ -0,0 +1,54 @@
+package io.dropwizard.logging.json.layout;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Collects the fields of a JSON log message, either into a map ({@link MapBuilder}) or directly into a
+ * JSON generator ({@link JsonFieldWriter}).
+ *
+ * @param <S> the type of the sink, returned by all methods for chaining
+ * @since 4.0.11
+ */
+public interface JsonFieldSink<S extends JsonFieldSink<S>> {
+
+    /**
+     * Adds the string value under the provided field name, if it should be included.
+     */
+    S add(String fieldName, boolean include, @Nullable String value);
+
+    /**
+     * Adds the string value under the provided field name, if it should be included.
+     * The supplier is only invoked if the field is to be included.
+     */
+    S add(String fieldName, boolean include, Supplier<String> supplier);
+
+    /**
+     * Adds the number under the provided field name, if it should be included.
+     */
+    S addNumber(String fieldName, boolean include, @Nullable Number number);
+
+    /**
+     * Adds the number value under the provided field name, if it should be included.
+     * The supplier is only invoked if the field is to be included.
+     */
+    S addNumber(String fieldName, boolean include, Supplier<Number> supplier);
+
+    /**
+     * Adds the map under the provided field name, if it should be included and isn't empty.
+     */
+    S add(String fieldName, boolean include, @Nullable Map<String, ?> mapValue);
+
+    /**
+     * Adds the map value under the provided field name, if it should be included and isn't empty.
+     * The supplier is only invoked if the field is to be included.
+     */
+    S addMap(String fieldName, boolean include, Supplier<Map<String, ?>> supplier);
+
+    /**
+     * Adds and optionally formats the timestamp under the provided field name, if it should be included.
+     */
+    S addTimestamp(String fieldName, boolean include, long timestamp);
+}
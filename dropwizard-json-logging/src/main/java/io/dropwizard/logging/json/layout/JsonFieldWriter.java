@@ -0,0 +1,167 @@
+package io.dropwizard.logging.json.layout;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writes the fields of a JSON log message directly to a {@link JsonGenerator}, producing the same JSON object as
+ * serializing the map built by a {@link MapBuilder} with the same configuration.
+ * <p/>
+ * The object is only started once the first field is written, so events without any included field produce no
+ * output. Fields whose name is also used by one of the additional fields are skipped in favour of the additional
+ * field, and a field is skipped if another field with the same name has already been written. An instance is reused
+ * for all events of a layout, calls to {@link #write(JsonGenerator, Consumer)} are serialized.
+ *
+ * @since 4.0.11
+ */
+public class JsonFieldWriter implements JsonFieldSink<JsonFieldWriter> {
+
+    private final TimestampFormatter timestampFormatter;
+    private final Map<String, String> customFieldNames;
+    private final Map<String, Object> additionalFields;
+
+    @Nullable
+    private JsonGenerator generator;
+    private String[] writtenFields = new String[16];
+    private int writtenFieldCount;
+
+    public JsonFieldWriter(TimestampFormatter timestampFormatter, Map<String, String> customFieldNames,
+                           Map<String, Object> additionalFields) {
+        this.timestampFormatter = timestampFormatter;
+        this.customFieldNames = requireNonNull(customFieldNames);
+        this.additionalFields = requireNonNull(additionalFields);
+    }
+
+    /**
+     * Writes a JSON object with the fields added by the provided consumer, followed by the additional fields.
+     *
+     * @param generator the generator to write to
+     * @param fields    adds the fields of the message to this writer
+     * @return whether an object was written, i.e. whether at least one field was included
+     * @throws IOException if the generator fails to write the object
+     */
+    public synchronized boolean write(JsonGenerator generator, Consumer<JsonFieldWriter> fields) throws IOException {
+        this.generator = generator;
+        this.writtenFieldCount = 0;
+        try {
+            fields.accept(this);
+            for (Map.Entry<String, Object> field : additionalFields.entrySet()) {
+                writeField(field.getKey(), field.getValue());
+            }
+            if (writtenFieldCount == 0) {
+                return false;
+            }
+            generator.writeEndObject();
+            return true;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            this.generator = null;
+            Arrays.fill(writtenFields, 0, writtenFieldCount, null);
+        }
+    }
+
+    @Override
+    public JsonFieldWriter add(String fieldName, boolean include, @Nullable String value) {
+        if (include && value != null) {
+            addField(fieldName, value);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonFieldWriter add(String fieldName, boolean include, Supplier<String> supplier) {
+        if (include) {
+            add(fieldName, true, supplier.get());
+        }
+        return this;
+    }
+
+    @Override
+    public JsonFieldWriter addNumber(String fieldName, boolean include, @Nullable Number number) {
+        if (include && number != null) {
+            addField(fieldName, number);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonFieldWriter addNumber(String fieldName, boolean include, Supplier<Number> supplier) {
+        if (include) {
+            addNumber(fieldName, true, supplier.get());
+        }
+        return this;
+    }
+
+    @Override
+    public JsonFieldWriter add(String fieldName, boolean include, @Nullable Map<String, ?> mapValue) {
+        if (include && mapValue != null && !mapValue.isEmpty()) {
+            addField(fieldName, mapValue);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonFieldWriter addMap(String fieldName, boolean include, Supplier<Map<String, ?>> supplier) {
+        if (include) {
+            add(fieldName, true, supplier.get());
+        }
+        return this;
+    }
+
+    @Override
+    public JsonFieldWriter addTimestamp(String fieldName, boolean include, long timestamp) {
+        if (include && timestamp > 0) {
+            addField(fieldName, timestampFormatter.format(timestamp));
+        }
+        return this;
+    }
+
+    private void addField(String fieldName, Object value) {
+        final String name = customFieldNames.getOrDefault(fieldName, fieldName);
+        if (additionalFields.containsKey(name)) {
+            return;
+        }
+        try {
+            writeField(name, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeField(String name, @Nullable Object value) throws IOException {
+        for (int i = 0; i < writtenFieldCount; i++) {
+            if (writtenFields[i].equals(name)) {
+                return;
+            }
+        }
+        if (writtenFieldCount == writtenFields.length) {
+            writtenFields = Arrays.copyOf(writtenFields, writtenFieldCount * 2);
+        }
+        writtenFields[writtenFieldCount++] = name;
+
+        final JsonGenerator gen = requireNonNull(generator);
+        if (writtenFieldCount == 1) {
+            gen.writeStartObject();
+        }
+        gen.writeFieldName(name);
+        if (value instanceof String) {
+            gen.writeString((String) value);
+        } else if (value instanceof Long) {
+            gen.writeNumber((Long) value);
+        } else if (value instanceof Integer) {
+            gen.writeNumber((Integer) value);
+        } else {
+            gen.writeObject(value);
+        }
+    }
+}
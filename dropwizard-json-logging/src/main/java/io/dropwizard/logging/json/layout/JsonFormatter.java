@@ -1,11 +1,17 @@
 package io.dropwizard.logging.json.layout;
 
 import ch.qos.logback.core.CoreConstants;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.PrettyPrinter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.core.util.Separators;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringWriter;
 import java.util.Map;
 
@@ -53,4 +59,38 @@ public class JsonFormatter {
             throw new IllegalArgumentException("Unable to format map as a JSON", e);
         }
     }
+
+    /**
+     * Creates a generator writing UTF-8 encoded JSON according to the configured JSON mapper. Root-level values
+     * aren't separated, so that the generator can be reused to write many messages.
+     *
+     * @param outputStream the stream to write to
+     * @return a new generator
+     * @throws IOException if the generator can't be created
+     * @since 4.0.11
+     */
+    public JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        final JsonGenerator generator = objectMapper.createGenerator(outputStream, JsonEncoding.UTF8);
+        generator.setRootValueSeparator(null);
+        final PrettyPrinter prettyPrinter = generator.getPrettyPrinter();
+        if (prettyPrinter instanceof DefaultPrettyPrinter) {
+            generator.setPrettyPrinter(((DefaultPrettyPrinter) prettyPrinter)
+                .withSeparators(Separators.createDefaultInstance().withRootSeparator("")));
+        }
+        return generator;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    public boolean isAppendLineSeparator() {
+        return doesAppendLineSeparator;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
 }
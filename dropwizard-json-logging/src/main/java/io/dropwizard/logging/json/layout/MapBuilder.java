@@ -11,7 +11,7 @@ import static java.util.Objects.requireNonNull;
 /**
  * Builds a Java map based on the provided configuration and customization.
  */
-public class MapBuilder {
+public class MapBuilder implements JsonFieldSink<MapBuilder> {
 
     private final TimestampFormatter timestampFormatter;
 
@@ -40,6 +40,7 @@ public class MapBuilder {
      * Adds the string value to the provided map under the provided field name,
      * if it should be included.
      */
+    @Override
     public MapBuilder add(String fieldName, boolean include, @Nullable String value) {
         if (include && value != null) {
             map.put(getFieldName(fieldName), value);
@@ -53,6 +54,7 @@ public class MapBuilder {
      *
      * @since 2.0
      */
+    @Override
     public MapBuilder add(String fieldName, boolean include, Supplier<String> supplier) {
         if (include) {
             String value = supplier.get();
@@ -66,6 +68,7 @@ public class MapBuilder {
     /**
      * Adds the number to the provided map under the provided field name if it's should be included.
      */
+    @Override
     public MapBuilder addNumber(String fieldName, boolean include, @Nullable Number number) {
         if (include && number != null) {
             map.put(getFieldName(fieldName), number);
@@ -79,6 +82,7 @@ public class MapBuilder {
      *
      * @since 2.0
      */
+    @Override
     public MapBuilder addNumber(String fieldName, boolean include, Supplier<Number> supplier) {
         if (include) {
             Number value = supplier.get();
@@ -92,6 +96,7 @@ public class MapBuilder {
     /**
      * Adds the map to the provided map under the provided field name if it's should be included.
      */
+    @Override
     public MapBuilder add(String fieldName, boolean include, @Nullable Map<String, ?> mapValue) {
         if (include && mapValue != null && !mapValue.isEmpty()) {
             map.put(getFieldName(fieldName), mapValue);
@@ -105,6 +110,7 @@ public class MapBuilder {
      *
      * @since 2.0
      */
+    @Override
     public MapBuilder addMap(String fieldName, boolean include, Supplier<Map<String, ?>> supplier) {
         if (include) {
             Map<String, ?> value = supplier.get();
@@ -120,6 +126,7 @@ public class MapBuilder {
      * Adds and optionally formats the timestamp to the provided map under the provided field name,
      * if it's should be included.
      */
+    @Override
     public MapBuilder addTimestamp(String fieldName, boolean include, long timestamp) {
         if (include && timestamp > 0) {
             map.put(getFieldName(fieldName), timestampFormatter.format(timestamp));
@@ -169,6 +169,38 @@ class LayoutIntegrationTests {
         }
     }
 
+    @Test
+    void testLogStreamingJsonToConsole() throws Exception {
+        ConsoleAppenderFactory<ILoggingEvent> consoleAppenderFactory = getAppenderFactory("yaml/json-log-streaming.yml");
+        DefaultLoggingFactory defaultLoggingFactory = new DefaultLoggingFactory();
+        defaultLoggingFactory.setAppenders(Collections.singletonList(consoleAppenderFactory));
+
+        assertThat(consoleAppenderFactory.getLayout())
+            .isInstanceOfSatisfying(EventJsonLayoutBaseFactory.class, factory -> assertThat(factory.isStreaming()).isTrue());
+
+        PrintStream old = System.out;
+        ByteArrayOutputStream redirectedStream = new ByteArrayOutputStream();
+        try {
+            System.setOut(new PrintStream(redirectedStream));
+            defaultLoggingFactory.configure(new MetricRegistry(), "json-log-test");
+            LoggerFactory.getLogger("com.example.app").info("Application log");
+            LoggerFactory.getLogger("com.example.app").warn("Another log");
+            // Need to wait, because the logger is async
+            await().atMost(1, TimeUnit.SECONDS).until(() -> redirectedStream.toString().lines().count() == 2);
+
+            final String[] lines = redirectedStream.toString().lines().toArray(String[]::new);
+            JsonNode jsonNode = objectMapper.readTree(lines[0]);
+            assertThat(jsonNode.fieldNames().next()).isEqualTo("timestamp");
+            assertThat(jsonNode.get("level").asText()).isEqualTo("INFO");
+            assertThat(jsonNode.get("logger").asText()).isEqualTo("com.example.app");
+            assertThat(jsonNode.get("message").asText()).isEqualTo("Application log");
+            assertThat(jsonNode.get("service-name").asText()).isEqualTo("user-service");
+            assertThat(objectMapper.readTree(lines[1]).get("message").asText()).isEqualTo("Another log");
+        } finally {
+            System.setOut(old);
+        }
+    }
+
     @Test
     void testLogAccessJsonToConsole() throws Exception {
         ConsoleAppenderFactory<IAccessEvent> consoleAppenderFactory = getAppenderFactory("yaml/json-access-log-default.yml");
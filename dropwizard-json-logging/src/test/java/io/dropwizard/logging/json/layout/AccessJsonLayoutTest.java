@@ -86,6 +86,13 @@ class AccessJsonLayoutTest {
             entry("userAgent", userAgent), entry("remoteAddress", remoteAddress));
     }
 
+    @Test
+    void testKeepsTheOrderOfFields() {
+        assertThat(accessJsonLayout.toJsonMap(event).keySet())
+            .containsExactly("timestamp", "contentLength", "method", "protocol", "remoteAddress", "remoteUser",
+                "requestTime", "uri", "status", "userAgent");
+    }
+
     @Test
     void testDisableRemoteAddress() {
         includes.remove(AccessAttribute.REMOTE_ADDRESS);
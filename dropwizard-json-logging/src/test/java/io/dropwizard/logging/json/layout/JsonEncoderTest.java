@@ -0,0 +1,145 @@
+package io.dropwizard.logging.json.layout;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.pattern.ThrowableProxyConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggerContextVO;
+import ch.qos.logback.core.encoder.Encoder;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.logging.json.AccessAttribute;
+import io.dropwizard.logging.json.EventAttribute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+class JsonEncoderTest {
+    private final TimestampFormatter timestampFormatter = new TimestampFormatter(null, ZoneId.of("UTC"));
+    private final ThrowableProxyConverter throwableProxyConverter = Mockito.mock(ThrowableProxyConverter.class);
+    private final ILoggingEvent event = Mockito.mock(ILoggingEvent.class);
+    private final IAccessEvent accessEvent = Mockito.mock(IAccessEvent.class);
+
+    @BeforeEach
+    void setUp() {
+        when(event.getTimeStamp()).thenReturn(1514906361000L);
+        when(event.getLevel()).thenReturn(Level.INFO);
+        when(event.getThreadName()).thenReturn("main");
+        when(event.getMDCPropertyMap()).thenReturn(Map.of("userId", "18", "level", "mdc-level"));
+        when(event.getLoggerName()).thenReturn("com.example.user.service");
+        when(event.getFormattedMessage()).thenReturn("User[18] has been \"registered\"");
+        when(event.getLoggerContextVO()).thenReturn(new LoggerContextVO("test", Collections.emptyMap(), 0));
+        when(event.getCallerData()).thenReturn(new StackTraceElement[]{
+            new StackTraceElement("declaringClass", "methodName", "fileName", 42)
+        });
+
+        when(accessEvent.getTimeStamp()).thenReturn(1514817321000L);
+        when(accessEvent.getContentLength()).thenReturn(78L);
+        when(accessEvent.getLocalPort()).thenReturn(8080);
+        when(accessEvent.getMethod()).thenReturn("GET");
+        when(accessEvent.getRequestURI()).thenReturn("/test/users");
+        when(accessEvent.getElapsedTime()).thenReturn(100L);
+        when(accessEvent.getStatusCode()).thenReturn(200);
+        when(accessEvent.getRequestHeaderMap()).thenReturn(Map.of("Host", "api.example.io"));
+    }
+
+    private EventJsonLayout eventLayout(JsonFormatter jsonFormatter, Map<String, String> customFieldNames,
+                                       Map<String, Object> additionalFields, boolean flattenMdc) {
+        final EventJsonLayout layout = new EventJsonLayout(jsonFormatter, timestampFormatter, throwableProxyConverter,
+            EnumSet.allOf(EventAttribute.class), customFieldNames, additionalFields, Collections.emptySet(),
+            flattenMdc);
+        layout.setStreaming(true);
+        return layout;
+    }
+
+    private static <E> String encode(Encoder<E> encoder, E event) {
+        return new String(encoder.encode(event), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void layoutIsOnlyEncodedIfStreaming() {
+        final EventJsonLayout layout = eventLayout(new JsonFormatter(Jackson.newObjectMapper(), false, true),
+            Collections.emptyMap(), Collections.emptyMap(), false);
+        assertThat(layout.buildEncoder()).isInstanceOf(JsonEncoder.class);
+
+        layout.setStreaming(false);
+        assertThat(layout.buildEncoder()).isNull();
+    }
+
+    @Test
+    void encodesEventsLikeTheLayout() {
+        final EventJsonLayout layout = eventLayout(new JsonFormatter(Jackson.newObjectMapper(), false, true),
+            Map.of("message", "msg"), Map.of("service", "users"), false);
+        final Encoder<ILoggingEvent> encoder = requireNonNull(layout.buildEncoder());
+
+        final String expected = layout.doLayout(event);
+        assertThat(encode(encoder, event)).isEqualTo(expected);
+        // The generator is reused without separating consecutive events
+        assertThat(encode(encoder, event)).isEqualTo(expected);
+    }
+
+    @Test
+    void encodesPrettyPrintedEventsLikeTheLayout() {
+        final EventJsonLayout layout = eventLayout(new JsonFormatter(Jackson.newObjectMapper(), true, false),
+            Collections.emptyMap(), Collections.emptyMap(), false);
+        final Encoder<ILoggingEvent> encoder = requireNonNull(layout.buildEncoder());
+
+        final String expected = layout.doLayout(event);
+        assertThat(encode(encoder, event)).isEqualTo(expected);
+        assertThat(encode(encoder, event)).isEqualTo(expected);
+    }
+
+    @Test
+    void additionalFieldsReplaceEventFields() throws Exception {
+        final EventJsonLayout layout = eventLayout(new JsonFormatter(Jackson.newObjectMapper(), false, false),
+            Collections.emptyMap(), Map.of("thread", "replaced"), false);
+        final Encoder<ILoggingEvent> encoder = requireNonNull(layout.buildEncoder());
+
+        assertThat(Jackson.newObjectMapper().readTree(encode(encoder, event)))
+            .isEqualTo(Jackson.newObjectMapper().readTree(layout.doLayout(event)));
+    }
+
+    @Test
+    void writesFirstOfDuplicateFields() {
+        final EventJsonLayout layout = eventLayout(new JsonFormatter(Jackson.newObjectMapper(), false, false),
+            Collections.emptyMap(), Collections.emptyMap(), true);
+        final Encoder<ILoggingEvent> encoder = requireNonNull(layout.buildEncoder());
+
+        assertThat(encode(encoder, event))
+            .contains("\"level\":\"INFO\"")
+            .doesNotContain("mdc-level")
+            .contains("\"userId\":\"18\"");
+    }
+
+    @Test
+    void encodesNothingWithoutFields() {
+        final EventJsonLayout layout = new EventJsonLayout(new JsonFormatter(Jackson.newObjectMapper(), false, true),
+            timestampFormatter, throwableProxyConverter, Collections.emptySet(), Collections.emptyMap(),
+            Collections.emptyMap(), Collections.emptySet(), false);
+        layout.setStreaming(true);
+
+        assertThat(requireNonNull(layout.buildEncoder()).encode(event)).isEmpty();
+    }
+
+    @Test
+    void encodesAccessEventsLikeTheLayout() {
+        final AccessJsonLayout layout = new AccessJsonLayout(new JsonFormatter(Jackson.newObjectMapper(), false, true),
+            timestampFormatter, EnumSet.of(AccessAttribute.TIMESTAMP, AccessAttribute.LOCAL_PORT,
+            AccessAttribute.CONTENT_LENGTH, AccessAttribute.METHOD, AccessAttribute.REQUEST_URI,
+            AccessAttribute.REQUEST_TIME, AccessAttribute.STATUS_CODE), Collections.emptyMap(), Collections.emptyMap());
+        layout.setRequestHeaders(Collections.singleton("Host"));
+        layout.setStreaming(true);
+        final Encoder<IAccessEvent> encoder = requireNonNull(layout.buildEncoder());
+
+        assertThat(encode(encoder, accessEvent)).isEqualTo(layout.doLayout(accessEvent));
+    }
+}
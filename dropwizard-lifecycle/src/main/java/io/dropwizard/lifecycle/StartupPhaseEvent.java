@@ -0,0 +1,23 @@
+package io.dropwizard.lifecycle;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event for a phase of the {@link StartupTimeline}.
+ */
+@Name("io.dropwizard.StartupPhase")
+@Label("Startup Phase")
+@Category("Dropwizard")
+@Description("A phase of the startup of a Dropwizard application")
+class StartupPhaseEvent extends Event {
+    @Label("Phase")
+    String phase;
+
+    StartupPhaseEvent(String phase) {
+        this.phase = phase;
+    }
+}
@@ -0,0 +1,177 @@
+package io.dropwizard.lifecycle;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.eclipse.jetty.util.component.LifeCycle;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the phases of the startup of an application, e.g. parsing the configuration, running the bundles and
+ * starting the managed objects, together with when they started and how long they took.
+ * <p/>
+ * Each phase is also emitted as a {@code io.dropwizard.StartupPhase} JFR event while a flight recording is running.
+ *
+ * @since 4.0.11
+ */
+public class StartupTimeline {
+    private final Instant startedAt = Instant.now();
+    private final long originNanos = System.nanoTime();
+    private final List<Phase> phases = new ArrayList<>();
+
+    /**
+     * Starts a phase, which is recorded once the returned span is closed.
+     *
+     * @param name the name of the phase, e.g. {@code bundle.run:com.example.ExampleBundle}
+     * @return the span of the phase
+     */
+    public Span start(String name) {
+        return new Span(name);
+    }
+
+    /**
+     * Returns a listener which records a phase from the moment a {@link LifeCycle} starts starting until it has
+     * started or failed to start.
+     *
+     * @param name the name of the phase
+     * @return a listener to add to the {@link LifeCycle}
+     */
+    public LifeCycle.Listener lifeCycleListener(String name) {
+        return new LifeCycle.Listener() {
+            // the span of the current start, or null if the life cycle isn't starting
+            @Nullable
+            private Span span;
+
+            @Override
+            public void lifeCycleStarting(LifeCycle event) {
+                span = new Span(name);
+            }
+
+            @Override
+            public void lifeCycleStarted(LifeCycle event) {
+                closeSpan();
+            }
+
+            @Override
+            public void lifeCycleFailure(LifeCycle event, Throwable cause) {
+                closeSpan();
+            }
+
+            private void closeSpan() {
+                if (span != null) {
+                    span.close();
+                    span = null;
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns when the timeline was created, i.e. when the application started to start.
+     */
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Returns the recorded phases, ordered by the time they started.
+     */
+    public List<Phase> getPhases() {
+        final List<Phase> sorted;
+        synchronized (phases) {
+            sorted = new ArrayList<>(phases);
+        }
+        sorted.sort(Comparator.comparingDouble(Phase::getStartMillis));
+        return sorted;
+    }
+
+    private void record(Phase phase) {
+        synchronized (phases) {
+            phases.add(phase);
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * A running phase of the startup.
+     */
+    public class Span implements AutoCloseable {
+        private final String name;
+        private final String thread;
+        private final long startNanos;
+        private final StartupPhaseEvent event;
+        private boolean closed;
+
+        private Span(String name) {
+            this.name = name;
+            this.thread = Thread.currentThread().getName();
+            this.event = new StartupPhaseEvent(name);
+            this.event.begin();
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * Records the phase, unless it has already been recorded.
+         */
+        @Override
+        public synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            final long endNanos = System.nanoTime();
+            event.commit();
+            record(new Phase(name, thread, toMillis(startNanos - originNanos), toMillis(endNanos - startNanos)));
+        }
+    }
+
+    /**
+     * A recorded phase of the startup.
+     */
+    public static class Phase {
+        private final String name;
+        private final String thread;
+        private final double startMillis;
+        private final double durationMillis;
+
+        public Phase(String name, String thread, double startMillis, double durationMillis) {
+            this.name = name;
+            this.thread = thread;
+            this.startMillis = startMillis;
+            this.durationMillis = durationMillis;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the name of the thread which started the phase.
+         */
+        public String getThread() {
+            return thread;
+        }
+
+        /**
+         * Returns the time the phase started, in milliseconds since the startup started.
+         */
+        public double getStartMillis() {
+            return startMillis;
+        }
+
+        public double getDurationMillis() {
+            return durationMillis;
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + durationMillis + " ms)";
+        }
+    }
+}
@@ -6,7 +6,9 @@ import io.dropwizard.lifecycle.ExecutorServiceManager;
 import io.dropwizard.lifecycle.JettyManaged;
 import io.dropwizard.lifecycle.Managed;
 import io.dropwizard.lifecycle.ServerLifecycleListener;
+import io.dropwizard.lifecycle.StartupTimeline;
 import io.dropwizard.util.Duration;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.util.component.ContainerLifeCycle;
 import org.eclipse.jetty.util.component.LifeCycle;
@@ -19,6 +21,7 @@ import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
@@ -28,11 +31,16 @@ public class LifecycleEnvironment {
     private final List<LifeCycle> managedObjects;
     private final List<LifeCycle.Listener> lifecycleListeners;
     private final MetricRegistry metricRegistry;
+    // the named managed objects, or null until the first one is registered
+    @Nullable
+    private ManagedGraph managedGraph;
+    private StartupTimeline startupTimeline;
 
     public LifecycleEnvironment(MetricRegistry metricRegistry) {
         this.managedObjects = new ArrayList<>();
         this.lifecycleListeners = new ArrayList<>();
         this.metricRegistry = metricRegistry;
+        this.startupTimeline = new StartupTimeline();
     }
 
     public List<LifeCycle> getManagedObjects() {
@@ -50,6 +58,28 @@ public class LifecycleEnvironment {
         managedObjects.add(new JettyManaged(requireNonNull(managed)));
     }
 
+    /**
+     * Returns a builder which adds the given {@link Managed} instance under the given name. Named managed objects are
+     * started concurrently, each one after the objects it depends on, and stopped concurrently in the reverse order.
+     * They are started together in place of the first of them, i.e. after the objects managed before it.
+     *
+     * @param name    the unique name of the managed object
+     * @param managed a managed object
+     * @return a builder for the dependencies and the timeout of the managed object
+     * @since 4.0.11
+     */
+    public ManagedBuilder managed(String name, Managed managed) {
+        return new ManagedBuilder(this, name, managed);
+    }
+
+    void manage(String name, Managed managed, Duration timeout, List<String> dependencies) {
+        if (managedGraph == null) {
+            managedGraph = new ManagedGraph(metricRegistry, this::getStartupTimeline);
+            managedObjects.add(managedGraph);
+        }
+        managedGraph.add(name, managed, timeout, dependencies);
+    }
+
     /**
      * Adds the given Jetty {@link LifeCycle} instances to the server's lifecycle.
      *
@@ -103,7 +133,7 @@ public class LifecycleEnvironment {
     }
 
     public void addServerLifecycleListener(ServerLifecycleListener listener) {
-        lifecycleListeners.add(new ServerListener(listener));
+        lifecycleListeners.add(new ServerListener(listener, this::getStartupTimeline));
     }
 
     public void addEventListener(LifeCycle.Listener listener) {
@@ -112,6 +142,12 @@ public class LifecycleEnvironment {
 
     public void attach(ContainerLifeCycle container) {
         for (LifeCycle object : managedObjects) {
+            // the named managed objects record their own phases
+            if (!(object instanceof ManagedGraph)) {
+                final Object managed = object instanceof JettyManaged ? ((JettyManaged) object).getManaged() : object;
+                final String name = "managed.start:" + managed.getClass().getName();
+                object.addEventListener(startupTimeline.lifeCycleListener(name));
+            }
             container.addBean(object);
         }
         container.addEventListener(new LifeCycle.Listener() {
@@ -132,17 +168,42 @@ public class LifecycleEnvironment {
         return metricRegistry;
     }
 
+    /**
+     * Returns the timeline which records the startup of the managed objects and the server lifecycle listeners.
+     *
+     * @since 4.0.11
+     */
+    public StartupTimeline getStartupTimeline() {
+        return startupTimeline;
+    }
+
+    /**
+     * Sets the timeline which records the startup of the managed objects and the server lifecycle listeners. It has to
+     * be set before the environment is {@link #attach(ContainerLifeCycle) attached}.
+     *
+     * @param startupTimeline the startup timeline of the application
+     * @since 4.0.11
+     */
+    public void setStartupTimeline(StartupTimeline startupTimeline) {
+        this.startupTimeline = requireNonNull(startupTimeline);
+    }
+
     private static class ServerListener implements LifeCycle.Listener {
         private final ServerLifecycleListener listener;
+        private final Supplier<StartupTimeline> startupTimeline;
 
-        private ServerListener(ServerLifecycleListener listener) {
+        private ServerListener(ServerLifecycleListener listener, Supplier<StartupTimeline> startupTimeline) {
             this.listener = listener;
+            this.startupTimeline = startupTimeline;
         }
 
         @Override
         public void lifeCycleStarted(LifeCycle event) {
             if (event instanceof Server) {
-                listener.serverStarted((Server) event);
+                try (StartupTimeline.Span ignored = startupTimeline.get()
+                    .start("listener.serverStarted:" + listener.getClass().getName())) {
+                    listener.serverStarted((Server) event);
+                }
             }
         }
     }
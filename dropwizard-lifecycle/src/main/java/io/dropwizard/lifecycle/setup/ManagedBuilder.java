@@ -0,0 +1,61 @@
+package io.dropwizard.lifecycle.setup;
+
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.util.Duration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Registers a named {@link Managed} object which is started concurrently with the other named managed objects, after
+ * the objects it depends on. It's stopped concurrently with them as well, before the objects it depends on.
+ * <p/>
+ * The time it takes to start and stop the object is recorded in the timers
+ * {@code io.dropwizard.lifecycle.Managed.<name>.start} and {@code io.dropwizard.lifecycle.Managed.<name>.stop}.
+ *
+ * @since 4.0.11
+ */
+public class ManagedBuilder {
+    private final LifecycleEnvironment environment;
+    private final String name;
+    private final Managed managed;
+    private final List<String> dependencies = new ArrayList<>();
+    private Duration timeout = Duration.seconds(0);
+
+    public ManagedBuilder(LifecycleEnvironment environment, String name, Managed managed) {
+        this.environment = environment;
+        this.name = requireNonNull(name);
+        this.managed = requireNonNull(managed);
+    }
+
+    /**
+     * Declares the managed objects this one depends on, which are started before and stopped after it.
+     *
+     * @param names the names of the managed objects which have to be started before and stopped after this one
+     * @return this builder
+     */
+    public ManagedBuilder dependsOn(String... names) {
+        dependencies.addAll(Arrays.asList(names));
+        return this;
+    }
+
+    /**
+     * Sets how long starting or stopping the object may take before it's reported as failed.
+     *
+     * @param timeout how long starting or stopping the object may take, or zero to wait indefinitely
+     * @return this builder
+     */
+    public ManagedBuilder timeout(Duration timeout) {
+        this.timeout = requireNonNull(timeout);
+        return this;
+    }
+
+    public Managed build() {
+        environment.manage(name, managed, timeout, Collections.unmodifiableList(new ArrayList<>(dependencies)));
+        return managed;
+    }
+}
@@ -0,0 +1,263 @@
+package io.dropwizard.lifecycle.setup;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.lifecycle.StartupTimeline;
+import io.dropwizard.util.Duration;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Starts named {@link Managed} objects concurrently, each one after the objects it depends on, and stops them
+ * concurrently in the reverse order.
+ */
+class ManagedGraph extends AbstractLifeCycle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ManagedGraph.class);
+
+    private final MetricRegistry metricRegistry;
+    private final Supplier<StartupTimeline> startupTimeline;
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+    private final Set<String> started = ConcurrentHashMap.newKeySet();
+
+    ManagedGraph(MetricRegistry metricRegistry, Supplier<StartupTimeline> startupTimeline) {
+        this.metricRegistry = metricRegistry;
+        this.startupTimeline = startupTimeline;
+    }
+
+    synchronized void add(String name, Managed managed, Duration timeout, List<String> dependencies) {
+        if (nodes.containsKey(name)) {
+            throw new IllegalArgumentException("A managed object named " + name + " is already registered");
+        }
+        nodes.put(name, new Node(name, managed, timeout, dependencies));
+    }
+
+    @Override
+    protected synchronized void doStart() throws Exception {
+        final List<Node> order = sortByDependencies();
+        final long startNanos = System.nanoTime();
+        final ExecutorService executor = newExecutor("start");
+        try {
+            final Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+            for (Node node : order) {
+                final CompletableFuture<?>[] dependencies = node.dependencies.stream()
+                    .map(futures::get)
+                    .toArray(CompletableFuture<?>[]::new);
+                final AtomicBoolean timedOut = new AtomicBoolean();
+                futures.put(node.name, CompletableFuture.allOf(dependencies)
+                    .thenCompose(ignored -> run(node, "start", () -> start(node, timedOut), executor, timedOut)));
+            }
+            await(futures.values());
+        } catch (Exception e) {
+            LOGGER.error("Unable to start managed objects, stopping the started ones", e);
+            try {
+                stopStarted(executor);
+            } catch (Exception stopFailure) {
+                e.addSuppressed(stopFailure);
+            }
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+        LOGGER.info("Started {} managed objects in {} ms", order.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    @Override
+    protected synchronized void doStop() throws Exception {
+        final ExecutorService executor = newExecutor("stop");
+        try {
+            stopStarted(executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void stopStarted(ExecutorService executor) throws Exception {
+        final Map<String, List<String>> dependents = new HashMap<>();
+        for (Node node : nodes.values()) {
+            for (String dependency : node.dependencies) {
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(node.name);
+            }
+        }
+
+        final List<Node> order = sortByDependencies();
+        Collections.reverse(order);
+        final Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+        for (Node node : order) {
+            final CompletableFuture<?>[] stoppedDependents = dependents.getOrDefault(node.name, Collections.emptyList())
+                .stream()
+                .map(futures::get)
+                .toArray(CompletableFuture<?>[]::new);
+            // stop an object after its dependents, even if stopping one of them failed
+            futures.put(node.name, CompletableFuture.allOf(stoppedDependents)
+                .handle((ignored, e) -> null)
+                .thenCompose(ignored -> started.remove(node.name)
+                    ? run(node, "stop", node.managed::stop, executor, new AtomicBoolean())
+                    : CompletableFuture.completedFuture(null)));
+        }
+        await(futures.values());
+    }
+
+    private void start(Node node, AtomicBoolean timedOut) throws Exception {
+        try (StartupTimeline.Span ignored = startupTimeline.get().start("managed.start:" + node.name)) {
+            node.managed.start();
+        }
+        started.add(node.name);
+        // The start has been reported as failed and the started objects may already have been stopped, so stop this
+        // one as well unless that happened after it was recorded as started.
+        if (timedOut.get() && started.remove(node.name)) {
+            LOGGER.warn("Managed object {} started after its timeout, stopping it", node.name);
+            node.managed.stop();
+        }
+    }
+
+    /**
+     * Runs the action of the node on the executor. If it doesn't complete within the timeout of the node, the returned
+     * future fails and {@code timedOut} is set before that failure is propagated.
+     */
+    private CompletableFuture<Void> run(Node node, String action, Action managedAction, ExecutorService executor,
+                                        AtomicBoolean timedOut) {
+        final CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+            final long startNanos = System.nanoTime();
+            try {
+                managedAction.run();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            } finally {
+                final long elapsedNanos = System.nanoTime() - startNanos;
+                metricRegistry.timer(name(Managed.class, node.name, action)).update(elapsedNanos, TimeUnit.NANOSECONDS);
+                LOGGER.info("Managed object {} took {} ms to {}", node.name,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), action);
+            }
+        }, executor);
+        if (node.timeout.getQuantity() <= 0) {
+            return future;
+        }
+        return future.orTimeout(node.timeout.getQuantity(), node.timeout.getUnit())
+            .exceptionally(e -> {
+                final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof TimeoutException) {
+                    timedOut.set(true);
+                    // the thread is interrupted when the executor is shut down
+                    throw new CompletionException(new TimeoutException(String.format(Locale.ROOT,
+                        "Managed object %s didn't %s within %s", node.name, action, node.timeout)));
+                }
+                throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+            });
+    }
+
+    private static void await(Iterable<CompletableFuture<Void>> futures) throws Exception {
+        Exception failure = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                final Throwable cause = e.getCause() == null ? e : e.getCause();
+                final Exception exception = cause instanceof Exception ? (Exception) cause : e;
+                if (failure == null) {
+                    failure = exception;
+                } else if (failure != exception) {
+                    failure.addSuppressed(exception);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Sorts the nodes so that each node comes after its dependencies, keeping the order of registration otherwise.
+     */
+    private List<Node> sortByDependencies() {
+        final Map<String, Integer> unresolved = new HashMap<>();
+        final Map<String, List<Node>> dependents = new HashMap<>();
+        final Deque<Node> ready = new ArrayDeque<>();
+        for (Node node : nodes.values()) {
+            for (String dependency : node.dependencies) {
+                if (!nodes.containsKey(dependency)) {
+                    throw new IllegalStateException("Managed object " + node.name + " depends on unknown managed object "
+                        + dependency);
+                }
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(node);
+            }
+            unresolved.put(node.name, node.dependencies.size());
+            if (node.dependencies.isEmpty()) {
+                ready.add(node);
+            }
+        }
+
+        final List<Node> order = new ArrayList<>(nodes.size());
+        while (!ready.isEmpty()) {
+            final Node node = ready.poll();
+            order.add(node);
+            for (Node dependent : dependents.getOrDefault(node.name, Collections.emptyList())) {
+                if (unresolved.merge(dependent.name, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (order.size() != nodes.size()) {
+            final List<String> cycle = new ArrayList<>(nodes.keySet());
+            order.forEach(node -> cycle.remove(node.name));
+            throw new IllegalStateException("Managed objects have cyclic dependencies: " + cycle);
+        }
+        return order;
+    }
+
+    private static ExecutorService newExecutor(String action) {
+        final AtomicInteger count = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "managed-" + action + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "ManagedGraph" + nodes.keySet();
+    }
+
+    private interface Action {
+        void run() throws Exception;
+    }
+
+    private static class Node {
+        private final String name;
+        private final Managed managed;
+        private final Duration timeout;
+        private final List<String> dependencies;
+
+        private Node(String name, Managed managed, Duration timeout, List<String> dependencies) {
+            this.name = name;
+            this.managed = managed;
+            this.timeout = timeout;
+            this.dependencies = dependencies;
+        }
+    }
+}
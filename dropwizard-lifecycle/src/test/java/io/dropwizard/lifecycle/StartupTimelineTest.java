@@ -0,0 +1,78 @@
+package io.dropwizard.lifecycle;
+
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class StartupTimelineTest {
+    private final StartupTimeline timeline = new StartupTimeline();
+
+    @Test
+    void recordsClosedSpans() throws Exception {
+        try (StartupTimeline.Span ignored = timeline.start("first")) {
+            Thread.sleep(5);
+        }
+        final StartupTimeline.Span running = timeline.start("running");
+
+        assertThat(timeline.getPhases())
+            .singleElement()
+            .satisfies(phase -> {
+                assertThat(phase.getName()).isEqualTo("first");
+                assertThat(phase.getThread()).isEqualTo(Thread.currentThread().getName());
+                assertThat(phase.getStartMillis()).isGreaterThanOrEqualTo(0);
+                assertThat(phase.getDurationMillis()).isGreaterThanOrEqualTo(5);
+            });
+        running.close();
+    }
+
+    @Test
+    void recordsASpanOnlyOnce() {
+        final StartupTimeline.Span span = timeline.start("phase");
+        span.close();
+        span.close();
+
+        assertThat(timeline.getPhases()).hasSize(1);
+    }
+
+    @Test
+    void ordersPhasesByTheirStart() {
+        final StartupTimeline.Span outer = timeline.start("outer");
+        timeline.start("inner").close();
+        outer.close();
+
+        assertThat(timeline.getPhases())
+            .extracting(StartupTimeline.Phase::getName)
+            .containsExactly("outer", "inner");
+    }
+
+    @Test
+    void recordsTheStartOfLifeCycles() throws Exception {
+        final AbstractLifeCycle lifeCycle = new AbstractLifeCycle() {
+        };
+        lifeCycle.addEventListener(timeline.lifeCycleListener("lifecycle"));
+
+        lifeCycle.start();
+
+        assertThat(timeline.getPhases())
+            .extracting(StartupTimeline.Phase::getName)
+            .containsExactly("lifecycle");
+    }
+
+    @Test
+    void recordsLifeCyclesWhichFailToStart() {
+        final AbstractLifeCycle lifeCycle = new AbstractLifeCycle() {
+            @Override
+            protected void doStart() {
+                throw new IllegalStateException("failed");
+            }
+        };
+        lifeCycle.addEventListener(timeline.lifeCycleListener("failing"));
+
+        assertThatIllegalStateException().isThrownBy(lifeCycle::start);
+        assertThat(timeline.getPhases())
+            .extracting(StartupTimeline.Phase::getName)
+            .containsExactly("failing");
+    }
+}
@@ -4,6 +4,7 @@ import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.lifecycle.ExecutorServiceManager;
 import io.dropwizard.lifecycle.JettyManaged;
 import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.lifecycle.StartupTimeline;
 import io.dropwizard.util.Duration;
 import org.eclipse.jetty.util.VirtualThreads;
 import org.eclipse.jetty.util.component.ContainerLifeCycle;
@@ -57,6 +58,24 @@ class LifecycleEnvironmentTest {
                 assertThat(jettyManaged.getManaged()).isSameAs(managed));
     }
 
+    @Test
+    void recordsTheStartOfManagedObjects() throws Exception {
+        final StartupTimeline timeline = new StartupTimeline();
+        environment.setStartupTimeline(timeline);
+        final Managed managed = mock(Managed.class);
+        environment.manage(managed);
+        environment.managed("named", mock(Managed.class)).build();
+
+        final ContainerLifeCycle container = new ContainerLifeCycle();
+        environment.attach(container);
+        container.start();
+
+        assertThat(timeline.getPhases())
+            .extracting(StartupTimeline.Phase::getName)
+            .containsExactly("managed.start:" + managed.getClass().getName(), "managed.start:named");
+        container.stop();
+    }
+
     @Test
     void scheduledExecutorServiceBuildsDaemonThreads() {
         final ScheduledExecutorService executorService = environment.scheduledExecutorService("daemon-%d", true).build();
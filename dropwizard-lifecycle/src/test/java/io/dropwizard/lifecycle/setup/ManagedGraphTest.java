@@ -0,0 +1,202 @@
+package io.dropwizard.lifecycle.setup;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.util.Duration;
+import org.eclipse.jetty.util.component.ContainerLifeCycle;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ManagedGraphTest {
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final LifecycleEnvironment environment = new LifecycleEnvironment(metricRegistry);
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @Test
+    void startsIndependentObjectsConcurrently() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(2);
+        final Managed awaitingOther = new Managed() {
+            @Override
+            public void start() throws Exception {
+                latch.countDown();
+                if (!latch.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Not started concurrently");
+                }
+            }
+        };
+        environment.managed("first", awaitingOther).build();
+        environment.managed("second", awaitingOther).build();
+
+        final ContainerLifeCycle container = attach();
+        container.start();
+
+        assertThat(container.isStarted()).isTrue();
+        container.stop();
+    }
+
+    @Test
+    void startsObjectsAfterTheirDependenciesAndStopsThemBefore() throws Exception {
+        environment.managed("web", recording("web")).dependsOn("cache", "database").build();
+        environment.managed("cache", recording("cache")).dependsOn("database").build();
+        environment.managed("database", recording("database")).build();
+
+        final ContainerLifeCycle container = attach();
+        container.start();
+        container.stop();
+
+        assertThat(events).containsExactly(
+            "start database", "start cache", "start web",
+            "stop web", "stop cache", "stop database");
+    }
+
+    @Test
+    void startsNamedObjectsInPlaceOfTheFirstOfThem() throws Exception {
+        environment.manage(recording("before"));
+        environment.managed("named", recording("named")).build();
+        environment.manage(recording("after"));
+
+        final ContainerLifeCycle container = attach();
+        container.start();
+
+        assertThat(events).containsExactly("start before", "start named", "start after");
+        container.stop();
+    }
+
+    @Test
+    void stopsStartedObjectsIfAnObjectFailsToStart() throws Exception {
+        environment.managed("database", recording("database")).build();
+        environment.managed("web", new Managed() {
+            @Override
+            public void start() {
+                throw new IllegalStateException("Port in use");
+            }
+        }).dependsOn("database").build();
+
+        final ContainerLifeCycle container = attach();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(container::start)
+            .withMessage("Port in use");
+        assertThat(events).containsExactly("start database", "stop database");
+    }
+
+    @Test
+    void failsIfAnObjectDoesNotStartInTime() {
+        environment.managed("slow", new Managed() {
+            @Override
+            public void start() throws Exception {
+                Thread.sleep(5_000);
+            }
+        }).timeout(Duration.milliseconds(50)).build();
+
+        final ContainerLifeCycle container = attach();
+
+        assertThatExceptionOfType(TimeoutException.class)
+            .isThrownBy(container::start)
+            .withMessage("Managed object slow didn't start within 50 milliseconds");
+    }
+
+    @Test
+    void stopsObjectsWhichStartAfterTheirTimeout() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch stopped = new CountDownLatch(1);
+        environment.managed("slow", new Managed() {
+            @Override
+            public void start() {
+                boolean released = false;
+                while (!released) {
+                    try {
+                        released = release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        // keep starting although the start has timed out
+                    }
+                }
+            }
+
+            @Override
+            public void stop() {
+                stopped.countDown();
+            }
+        }).timeout(Duration.milliseconds(50)).build();
+
+        final ContainerLifeCycle container = attach();
+
+        assertThatExceptionOfType(TimeoutException.class).isThrownBy(container::start);
+        release.countDown();
+        assertThat(stopped.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void failsOnCyclicDependencies() {
+        environment.managed("first", recording("first")).dependsOn("second").build();
+        environment.managed("second", recording("second")).dependsOn("first").build();
+
+        final ContainerLifeCycle container = attach();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(container::start)
+            .withMessage("Managed objects have cyclic dependencies: [first, second]");
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void failsOnUnknownDependencies() {
+        environment.managed("web", recording("web")).dependsOn("database").build();
+
+        final ContainerLifeCycle container = attach();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(container::start)
+            .withMessage("Managed object web depends on unknown managed object database");
+    }
+
+    @Test
+    void rejectsDuplicateNames() {
+        environment.managed("database", recording("database")).build();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> environment.managed("database", recording("other")).build())
+            .withMessage("A managed object named database is already registered");
+    }
+
+    @Test
+    void recordsStartAndStopTimes() throws Exception {
+        environment.managed("database", recording("database")).build();
+
+        final ContainerLifeCycle container = attach();
+        container.start();
+        container.stop();
+
+        assertThat(metricRegistry.timer("io.dropwizard.lifecycle.Managed.database.start").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.timer("io.dropwizard.lifecycle.Managed.database.stop").getCount()).isEqualTo(1);
+    }
+
+    private ContainerLifeCycle attach() {
+        final ContainerLifeCycle container = new ContainerLifeCycle();
+        environment.attach(container);
+        return container;
+    }
+
+    private Managed recording(String name) {
+        return new Managed() {
+            @Override
+            public void start() {
+                events.add("start " + name);
+            }
+
+            @Override
+            public void stop() {
+                events.add("stop " + name);
+            }
+        };
+    }
+}
@@ -2,12 +2,17 @@ package io.dropwizard.logging.common;
 
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.LayoutBase;
 import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
 import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
 import ch.qos.logback.core.spi.DeferredProcessingAware;
+import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.logging.common.async.AsyncAppenderFactory;
 import io.dropwizard.logging.common.filter.LevelFilterFactory;
+import io.dropwizard.logging.common.layout.EncoderLayout;
 import io.dropwizard.logging.common.layout.LayoutFactory;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A base implementation of {@link AppenderFactory} producing an appender based on {@link OutputStreamAppender}.
@@ -17,17 +22,61 @@ public abstract class AbstractOutputStreamAppenderFactory<E extends DeferredProc
 
     protected abstract OutputStreamAppender<E> appender(LoggerContext context);
 
+    /**
+     * Creates the appender and registers its metrics, if it exposes any.
+     *
+     * @param context        the Logback context
+     * @param metricRegistry the registry of metrics, or {@code null} if the appender is built without one
+     * @since 4.0.11
+     */
+    protected OutputStreamAppender<E> appender(LoggerContext context, @Nullable MetricRegistry metricRegistry) {
+        return appender(context);
+    }
+
     @Override
     public Appender<E> build(LoggerContext context, String applicationName, LayoutFactory<E> layoutFactory,
                              LevelFilterFactory<E> levelFilterFactory, AsyncAppenderFactory<E> asyncAppenderFactory) {
-        final OutputStreamAppender<E> appender = appender(context);
-        final LayoutWrappingEncoder<E> layoutEncoder = new LayoutWrappingEncoder<>();
-        layoutEncoder.setLayout(buildLayout(context, layoutFactory));
-        appender.setEncoder(layoutEncoder);
+        return build(context, layoutFactory, levelFilterFactory, asyncAppenderFactory, null);
+    }
+
+    @Override
+    public Appender<E> build(LoggerContext context, String applicationName, LayoutFactory<E> layoutFactory,
+                             LevelFilterFactory<E> levelFilterFactory, AsyncAppenderFactory<E> asyncAppenderFactory,
+                             MetricRegistry metricRegistry) {
+        return build(context, layoutFactory, levelFilterFactory, asyncAppenderFactory, metricRegistry);
+    }
+
+    private Appender<E> build(LoggerContext context, LayoutFactory<E> layoutFactory,
+                              LevelFilterFactory<E> levelFilterFactory, AsyncAppenderFactory<E> asyncAppenderFactory,
+                              @Nullable MetricRegistry metricRegistry) {
+        final OutputStreamAppender<E> appender = appender(context, metricRegistry);
+        appender.setEncoder(buildEncoder(context, layoutFactory));
 
         appender.addFilter(levelFilterFactory.build(threshold));
         getFilterFactories().forEach(f -> appender.addFilter(f.build()));
         appender.start();
         return wrapAsync(appender, asyncAppenderFactory);
     }
+
+    /**
+     * Builds the encoder of the appender. Layouts implementing {@link EncoderLayout} may provide their own encoder,
+     * all other layouts are wrapped in a {@link LayoutWrappingEncoder}.
+     *
+     * @since 4.0.11
+     */
+    protected Encoder<E> buildEncoder(LoggerContext context, LayoutFactory<E> layoutFactory) {
+        final LayoutBase<E> layout = buildLayout(context, layoutFactory);
+        if (layout instanceof EncoderLayout) {
+            @SuppressWarnings("unchecked")
+            final Encoder<E> encoder = ((EncoderLayout<E>) layout).buildEncoder();
+            if (encoder != null) {
+                encoder.setContext(context);
+                encoder.start();
+                return encoder;
+            }
+        }
+        final LayoutWrappingEncoder<E> layoutEncoder = new LayoutWrappingEncoder<>();
+        layoutEncoder.setLayout(layout);
+        return layoutEncoder;
+    }
 }
@@ -3,6 +3,7 @@ package io.dropwizard.logging.common;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.spi.DeferredProcessingAware;
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import io.dropwizard.jackson.Discoverable;
 import io.dropwizard.logging.common.async.AsyncAppenderFactory;
@@ -42,4 +43,26 @@ public interface AppenderFactory<E extends DeferredProcessingAware> extends Disc
                                   LayoutFactory<E> layoutFactory,
                                   LevelFilterFactory<E> levelFilterFactory,
                                   AsyncAppenderFactory<E> asyncAppenderFactory);
+
+    /**
+     * Given a Logback context, an application name, a layout, a levelFilterFactory, an asyncAppenderFactory and
+     * a registry of metrics build a new appender. Appenders which expose metrics register them in the registry.
+     *
+     * @param context         the Logback context
+     * @param applicationName the application name
+     * @param layoutFactory   the factory for the layout for logging
+     * @param levelFilterFactory the factory for the level filter
+     * @param asyncAppenderFactory   the factory for the async appender
+     * @param metricRegistry  the registry of metrics
+     * @return a new, started {@link Appender}
+     * @since 4.0.11
+     */
+    default Appender<E> build(LoggerContext context,
+                              String applicationName,
+                              LayoutFactory<E> layoutFactory,
+                              LevelFilterFactory<E> levelFilterFactory,
+                              AsyncAppenderFactory<E> asyncAppenderFactory,
+                              MetricRegistry metricRegistry) {
+        return build(context, applicationName, layoutFactory, levelFilterFactory, asyncAppenderFactory);
+    }
 }
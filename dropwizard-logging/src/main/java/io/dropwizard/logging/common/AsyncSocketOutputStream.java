@@ -0,0 +1,314 @@
+package io.dropwizard.logging.common;
+
+import ch.qos.logback.core.spi.ContextAware;
+import com.codahale.metrics.Counter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import javax.net.SocketFactory;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a persistent connection via TCP as an {@link OutputStream} which never writes to the socket on the
+ * calling thread.
+ * <p/>
+ * Written events are put into a bounded ring buffer and sent in batches by a dedicated sender thread. If the buffer is
+ * full, because the server is slow or unreachable, the {@link OverflowPolicy} decides whether the oldest or the newest
+ * event is dropped, or whether the caller blocks until there is space again. The sender thread reconnects with an
+ * exponential backoff if the connection fails.
+ *
+ * @since 4.0.11
+ */
+public class AsyncSocketOutputStream extends OutputStream {
+
+    /**
+     * What to do with an event if the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drops the oldest buffered event to make space for the new one.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Drops the new event.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Blocks the caller until there is space in the buffer.
+         */
+        BLOCK
+    }
+
+    private final String host;
+    private final int port;
+    private final int connectionTimeoutMs;
+    private final int sendBufferSize;
+    private final SocketFactory socketFactory;
+    private final BlockingQueue<byte[]> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final boolean immediateFlush;
+    private final long flushIntervalNanos;
+    private final long reconnectionDelayMs;
+    private final long maxReconnectionDelayMs;
+    private final long shutdownTimeoutMs;
+    private final Counter sentEvents;
+    private final Counter droppedEvents;
+    private final ContextAware status;
+    private final Thread sender;
+
+    private volatile boolean running = true;
+
+    @Nullable
+    private volatile Socket socket;
+
+    /**
+     * Creates a new stream and starts its sender thread.
+     *
+     * @param host                   The host or an IP address of the server.
+     * @param port                   The port on the server which accepts TCP connections.
+     * @param connectionTimeoutMs    The timeout for establishing a new TCP connection.
+     * @param sendBufferSize         The number of bytes sent to the server in one batch at most.
+     * @param socketFactory          The factory for customizing the client socket.
+     * @param queueSize              The maximum number of events waiting to be sent.
+     * @param overflowPolicy         What to do with an event if the buffer is full.
+     * @param immediateFlush         Whether to flush as soon as there are no more events waiting, or only after
+     *                               {@code flushIntervalMs} or when a batch is full.
+     * @param flushIntervalMs        The maximum time events are held back, if they aren't flushed immediately.
+     * @param reconnectionDelayMs    The initial delay before reconnecting to the server.
+     * @param maxReconnectionDelayMs The maximum delay before reconnecting to the server.
+     * @param shutdownTimeoutMs      The maximum time to wait for buffered events to be sent when the stream is closed.
+     * @param sentEvents             The counter of events sent to the server.
+     * @param droppedEvents          The counter of events which were dropped.
+     * @param status                 The component reporting errors to the logging context.
+     */
+    public AsyncSocketOutputStream(String host, int port, int connectionTimeoutMs, int sendBufferSize,
+                                   SocketFactory socketFactory, int queueSize, OverflowPolicy overflowPolicy,
+                                   boolean immediateFlush, long flushIntervalMs, long reconnectionDelayMs,
+                                   long maxReconnectionDelayMs, long shutdownTimeoutMs, Counter sentEvents,
+                                   Counter droppedEvents, ContextAware status) {
+        this.host = host;
+        this.port = port;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.sendBufferSize = sendBufferSize;
+        this.socketFactory = socketFactory;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.overflowPolicy = overflowPolicy;
+        this.immediateFlush = immediateFlush;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.reconnectionDelayMs = reconnectionDelayMs;
+        this.maxReconnectionDelayMs = maxReconnectionDelayMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.sentEvents = sentEvents;
+        this.droppedEvents = droppedEvents;
+        this.status = status;
+
+        this.sender = new Thread(this::send, "dropwizard-tcp-sender-" + host + ":" + port);
+        sender.setDaemon(true);
+        sender.start();
+    }
+
+    /**
+     * Returns the number of events waiting to be sent.
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public void write(int b) {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (len == 0) {
+            return;
+        }
+        if (!running) {
+            droppedEvents.inc();
+            return;
+        }
+
+        final byte[] event = Arrays.copyOfRange(b, off, off + len);
+        switch (overflowPolicy) {
+            case DROP_NEWEST:
+                if (!queue.offer(event)) {
+                    droppedEvents.inc();
+                }
+                break;
+            case DROP_OLDEST:
+                while (!queue.offer(event)) {
+                    if (queue.poll() != null) {
+                        droppedEvents.inc();
+                    }
+                }
+                break;
+            case BLOCK:
+                // Only block if the queue is actually full, the worker of an async appender draining its queue on
+                // stop is interrupted
+                try {
+                    if (!queue.offer(event)) {
+                        queue.put(event);
+                    }
+                } catch (InterruptedException e) {
+                    droppedEvents.inc();
+                    Thread.currentThread().interrupt();
+                }
+                break;
+        }
+    }
+
+    /**
+     * Does nothing, the sender thread decides when to flush.
+     */
+    @Override
+    public void flush() {
+        // Flushing is driven by the sender thread
+    }
+
+    /**
+     * Stops accepting events and waits up to the shutdown timeout for the buffered events to be sent.
+     */
+    @Override
+    public void close() {
+        running = false;
+        // The worker of an async appender stops its appenders while it's interrupted, wait for the sender anyway
+        boolean interrupted = Thread.interrupted();
+        try {
+            sender.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            interrupted = true;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (sender.isAlive()) {
+            sender.interrupt();
+            closeSocket();
+        }
+    }
+
+    private void send() {
+        @Nullable OutputStream out = null;
+        long reconnectionDelay = reconnectionDelayMs;
+        int unflushedEvents = 0;
+        int unflushedBytes = 0;
+        long firstUnflushedAt = 0;
+        boolean failing = false;
+
+        while (running || !queue.isEmpty()) {
+            if (out == null) {
+                try {
+                    out = connect();
+                    reconnectionDelay = reconnectionDelayMs;
+                    if (failing) {
+                        failing = false;
+                        status.addInfo("Reconnected to tcp [" + host + ":" + port + "]");
+                    }
+                } catch (IOException e) {
+                    if (!failing) {
+                        failing = true;
+                        status.addWarn("Unable to connect to tcp [" + host + ":" + port + "]", e);
+                    }
+                    if (!running || !sleep(reconnectionDelay)) {
+                        break;
+                    }
+                    reconnectionDelay = Math.min(reconnectionDelay * 2, maxReconnectionDelayMs);
+                    continue;
+                }
+            }
+
+            try {
+                final long timeout = unflushedEvents == 0 || immediateFlush
+                    ? flushIntervalNanos
+                    : Math.max(0, firstUnflushedAt + flushIntervalNanos - System.nanoTime());
+                final byte[] event = running ? queue.poll(timeout, TimeUnit.NANOSECONDS) : queue.poll();
+                if (event != null) {
+                    if (unflushedEvents == 0) {
+                        firstUnflushedAt = System.nanoTime();
+                    }
+                    out.write(event);
+                    unflushedEvents++;
+                    unflushedBytes += event.length;
+                }
+
+                if (unflushedEvents > 0 && (unflushedBytes >= sendBufferSize
+                    || (immediateFlush ? queue.isEmpty() : System.nanoTime() - firstUnflushedAt >= flushIntervalNanos)
+                    || (!running && queue.isEmpty()))) {
+                    out.flush();
+                    sentEvents.inc(unflushedEvents);
+                    unflushedEvents = 0;
+                    unflushedBytes = 0;
+                }
+            } catch (IOException e) {
+                if (!failing) {
+                    failing = true;
+                    status.addWarn("IO failure while writing to tcp [" + host + ":" + port + "]", e);
+                }
+                droppedEvents.inc(unflushedEvents);
+                unflushedEvents = 0;
+                unflushedBytes = 0;
+                closeSocket();
+                out = null;
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+
+        if (out != null && unflushedEvents > 0) {
+            try {
+                out.flush();
+                sentEvents.inc(unflushedEvents);
+            } catch (IOException e) {
+                droppedEvents.inc(unflushedEvents);
+            }
+        }
+        final int remaining = queue.size();
+        queue.clear();
+        droppedEvents.inc(remaining);
+        closeSocket();
+    }
+
+    private OutputStream connect() throws IOException {
+        closeSocket();
+        final Socket newSocket = socketFactory.createSocket();
+        socket = newSocket;
+        // Prevent automatic closing of the connection during periods of inactivity.
+        newSocket.setKeepAlive(true);
+        // Important not to cache `InetAddress` in case the host moved to a new IP address.
+        newSocket.connect(new InetSocketAddress(InetAddress.getByName(host), port), connectionTimeoutMs);
+        return new BufferedOutputStream(newSocket.getOutputStream(), sendBufferSize);
+    }
+
+    private synchronized void closeSocket() {
+        final Socket current = socket;
+        socket = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException ignored) {
+                // The socket is discarded anyway
+            }
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+}
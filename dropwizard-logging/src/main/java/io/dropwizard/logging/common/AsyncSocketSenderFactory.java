@@ -0,0 +1,143 @@
+package io.dropwizard.logging.common;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures sending the events of a {@link TcpSocketAppenderFactory TCP} or
+ * {@link TlsSocketAppenderFactory TLS} appender on a dedicated thread, see {@link AsyncSocketOutputStream}.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ * <tr>
+ * <td>Name</td>
+ * <td>Default</td>
+ * <td>Description</td>
+ * </tr>
+ * <tr>
+ * <td>{@code queueSize}</td>
+ * <td>{@code 8192}</td>
+ * <td>The maximum number of events waiting to be sent.</td>
+ * </tr>
+ * <tr>
+ * <td>{@code overflowPolicy}</td>
+ * <td>{@code DROP_OLDEST}</td>
+ * <td>What to do with an event if the queue is full: {@code DROP_OLDEST} drops the oldest waiting event,
+ * {@code DROP_NEWEST} drops the new event and {@code BLOCK} blocks the logging thread until there is space.</td>
+ * </tr>
+ * <tr>
+ * <td>{@code flushInterval}</td>
+ * <td>{@code 1 second}</td>
+ * <td>The maximum time events are held back if {@code immediateFlush} is disabled. Events are also sent as soon as
+ * {@code sendBufferSize} bytes are waiting. If {@code immediateFlush} is enabled, events are sent as soon as there are
+ * no more events waiting.</td>
+ * </tr>
+ * <tr>
+ * <td>{@code reconnectionDelay}</td>
+ * <td>{@code 500 milliseconds}</td>
+ * <td>The delay before the first attempt to reconnect to the server. The delay doubles with every failed
+ * attempt.</td>
+ * </tr>
+ * <tr>
+ * <td>{@code maxReconnectionDelay}</td>
+ * <td>{@code 30 seconds}</td>
+ * <td>The maximum delay between two attempts to reconnect to the server.</td>
+ * </tr>
+ * <tr>
+ * <td>{@code shutdownTimeout}</td>
+ * <td>{@code 5 seconds}</td>
+ * <td>The maximum time to wait for waiting events to be sent when the appender is stopped.</td>
+ * </tr>
+ * </table>
+ *
+ * @since 4.0.11
+ */
+public class AsyncSocketSenderFactory {
+
+    @Min(1)
+    private int queueSize = 8192;
+
+    @NotNull
+    private AsyncSocketOutputStream.OverflowPolicy overflowPolicy = AsyncSocketOutputStream.OverflowPolicy.DROP_OLDEST;
+
+    @NotNull
+    @MinDuration(value = 1, unit = TimeUnit.MILLISECONDS)
+    private Duration flushInterval = Duration.seconds(1);
+
+    @NotNull
+    @MinDuration(value = 1, unit = TimeUnit.MILLISECONDS)
+    private Duration reconnectionDelay = Duration.milliseconds(500);
+
+    @NotNull
+    @MinDuration(value = 1, unit = TimeUnit.MILLISECONDS)
+    private Duration maxReconnectionDelay = Duration.seconds(30);
+
+    @NotNull
+    @MinDuration(value = 0, unit = TimeUnit.MILLISECONDS)
+    private Duration shutdownTimeout = Duration.seconds(5);
+
+    @JsonProperty
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    @JsonProperty
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    @JsonProperty
+    public AsyncSocketOutputStream.OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    @JsonProperty
+    public void setOverflowPolicy(AsyncSocketOutputStream.OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @JsonProperty
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    @JsonProperty
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    @JsonProperty
+    public Duration getReconnectionDelay() {
+        return reconnectionDelay;
+    }
+
+    @JsonProperty
+    public void setReconnectionDelay(Duration reconnectionDelay) {
+        this.reconnectionDelay = reconnectionDelay;
+    }
+
+    @JsonProperty
+    public Duration getMaxReconnectionDelay() {
+        return maxReconnectionDelay;
+    }
+
+    @JsonProperty
+    public void setMaxReconnectionDelay(Duration maxReconnectionDelay) {
+        this.maxReconnectionDelay = maxReconnectionDelay;
+    }
+
+    @JsonProperty
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    @JsonProperty
+    public void setShutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+}
@@ -117,7 +117,7 @@ public class DefaultLoggingFactory implements LoggingFactory {
         final Logger root;
         CHANGE_LOGGER_CONTEXT_LOCK.lock();
         try {
-            root = configureLoggers(name);
+            root = configureLoggers(metricRegistry, name);
         } finally {
             CHANGE_LOGGER_CONTEXT_LOCK.unlock();
         }
@@ -127,7 +127,8 @@ public class DefaultLoggingFactory implements LoggingFactory {
         final LayoutFactory<ILoggingEvent> layoutFactory = new DropwizardLayoutFactory();
 
         for (AppenderFactory<ILoggingEvent> output : appenders) {
-            root.addAppender(output.build(loggerContext, name, layoutFactory, levelFilterFactory, asyncAppenderFactory));
+            root.addAppender(output.build(loggerContext, name, layoutFactory, levelFilterFactory, asyncAppenderFactory,
+                metricRegistry));
         }
 
         StatusPrinter.setPrintStream(configurationErrorsStream);
@@ -216,7 +217,7 @@ public class DefaultLoggingFactory implements LoggingFactory {
         root.addAppender(appender);
     }
 
-    private Logger configureLoggers(String name) {
+    private Logger configureLoggers(MetricRegistry metricRegistry, String name) {
         final Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
         loggerContext.reset();
 
@@ -252,7 +253,8 @@ public class DefaultLoggingFactory implements LoggingFactory {
                 logger.setAdditive(configuration.isAdditive());
 
                 for (AppenderFactory<ILoggingEvent> appender : configuration.getAppenders()) {
-                    logger.addAppender(appender.build(loggerContext, name, layoutFactory, levelFilterFactory, asyncAppenderFactory));
+                    logger.addAppender(appender.build(loggerContext, name, layoutFactory, levelFilterFactory,
+                        asyncAppenderFactory, metricRegistry));
                 }
             } else {
                 throw new IllegalArgumentException("Unsupported format of logger '" + entry.getKey() + "'");
@@ -3,18 +3,26 @@ package io.dropwizard.logging.common;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.core.OutputStreamAppender;
 import ch.qos.logback.core.spi.DeferredProcessingAware;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import io.dropwizard.logging.common.socket.DropwizardAsyncSocketAppender;
 import io.dropwizard.logging.common.socket.DropwizardSocketAppender;
 import io.dropwizard.util.DataSize;
 import io.dropwizard.util.Duration;
 import io.dropwizard.validation.MinDataSize;
 import io.dropwizard.validation.PortRange;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import javax.net.SocketFactory;
 
+import static com.codahale.metrics.MetricRegistry.name;
+
 /**
  * An {@link AppenderFactory} implementation which provides an appender that writes events to a TCP socket.
  * <p/>
@@ -51,7 +59,17 @@ import javax.net.SocketFactory;
  * <td>8KiB</td>
  * <td>The buffer size of the underlying SocketAppender. Takes into effect if immediateFlush is disabled.</td>
  * </tr>
+ * <tr>
+ * <td>{@code asyncSender}</td>
+ * <td>(none)</td>
+ * <td>If set, events are buffered and sent to the server on a dedicated thread, so that a slow or unreachable server
+ * doesn't block logging. See {@link AsyncSocketSenderFactory}.</td>
+ * </tr>
  * </table>
+ * <p/>
+ * With an {@code asyncSender}, the number of waiting, sent and dropped events is reported by the
+ * {@code io.dropwizard.logging.common.AsyncSocketOutputStream.<host>:<port>.queued}, {@code .sent} and
+ * {@code .dropped} metrics.
  */
 @JsonTypeName("tcp")
 public class TcpSocketAppenderFactory<E extends DeferredProcessingAware> extends AbstractOutputStreamAppenderFactory<E> {
@@ -70,6 +88,10 @@ public class TcpSocketAppenderFactory<E extends DeferredProcessingAware> extends
     @MinDataSize(1)
     private DataSize sendBufferSize = DataSize.kibibytes(8);
 
+    @Valid
+    @Nullable
+    private AsyncSocketSenderFactory asyncSender;
+
     @JsonProperty
     public String getHost() {
         return host;
@@ -120,16 +142,54 @@ public class TcpSocketAppenderFactory<E extends DeferredProcessingAware> extends
         this.sendBufferSize = sendBufferSize;
     }
 
+    @JsonProperty
+    @Nullable
+    public AsyncSocketSenderFactory getAsyncSender() {
+        return asyncSender;
+    }
+
+    @JsonProperty
+    public void setAsyncSender(@Nullable AsyncSocketSenderFactory asyncSender) {
+        this.asyncSender = asyncSender;
+    }
+
     @Override
     protected OutputStreamAppender<E> appender(LoggerContext context) {
-        final OutputStreamAppender<E> appender = new DropwizardSocketAppender<>(host, port,
-            (int) connectionTimeout.toMilliseconds(), (int) sendBufferSize.toBytes(), socketFactory());
+        return appender(context, null);
+    }
+
+    @Override
+    protected OutputStreamAppender<E> appender(LoggerContext context, @Nullable MetricRegistry metricRegistry) {
+        final OutputStreamAppender<E> appender = asyncSender == null
+            ? new DropwizardSocketAppender<>(host, port, (int) connectionTimeout.toMilliseconds(),
+                (int) sendBufferSize.toBytes(), socketFactory())
+            : asyncAppender(asyncSender, metricRegistry);
         appender.setContext(context);
         appender.setName("tcp-socket-appender");
         appender.setImmediateFlush(immediateFlush);
         return appender;
     }
 
+    private OutputStreamAppender<E> asyncAppender(AsyncSocketSenderFactory sender,
+                                                  @Nullable MetricRegistry metricRegistry) {
+        final String prefix = name(AsyncSocketOutputStream.class, host + ":" + port);
+        final Counter sentEvents = metricRegistry == null ? new Counter() : metricRegistry.counter(name(prefix, "sent"));
+        final Counter droppedEvents = metricRegistry == null
+            ? new Counter() : metricRegistry.counter(name(prefix, "dropped"));
+        final DropwizardAsyncSocketAppender<E> appender = new DropwizardAsyncSocketAppender<>(host, port,
+            (int) connectionTimeout.toMilliseconds(), (int) sendBufferSize.toBytes(), socketFactory(),
+            sender.getQueueSize(), sender.getOverflowPolicy(), immediateFlush,
+            sender.getFlushInterval().toMilliseconds(), sender.getReconnectionDelay().toMilliseconds(),
+            sender.getMaxReconnectionDelay().toMilliseconds(), sender.getShutdownTimeout().toMilliseconds(),
+            sentEvents, droppedEvents);
+        if (metricRegistry != null) {
+            // Replace the gauge of a previously configured appender
+            metricRegistry.remove(name(prefix, "queued"));
+            metricRegistry.register(name(prefix, "queued"), (Gauge<Integer>) appender::getQueueDepth);
+        }
+        return appender;
+    }
+
     protected SocketFactory socketFactory() {
         return SocketFactory.getDefault();
     }
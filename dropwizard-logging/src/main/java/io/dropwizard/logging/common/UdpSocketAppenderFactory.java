@@ -3,11 +3,23 @@ package io.dropwizard.logging.common;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.core.OutputStreamAppender;
 import ch.qos.logback.core.spi.DeferredProcessingAware;
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import io.dropwizard.logging.common.socket.DropwizardUdpSocketAppender;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MaxDataSize;
+import io.dropwizard.validation.MinDataSize;
+import io.dropwizard.validation.MinDuration;
 import io.dropwizard.validation.PortRange;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.codahale.metrics.MetricRegistry.name;
 
 /**
  * An {@link AppenderFactory} implementation which provides an appender that writes events to an UDP socket.
@@ -29,7 +41,34 @@ import jakarta.validation.constraints.NotEmpty;
  * <td>{@code 514}</td>
  * <td>The port on which the UDP server is listening.</td>
  * </tr>
+ * <tr>
+ * <td>{@code addressTtl}</td>
+ * <td>{@code 30 seconds}</td>
+ * <td>How long the resolved address of the UDP server is cached before it is resolved again. If set to
+ * {@code 0 seconds}, the address is resolved for every event.</td>
+ * </tr>
+ * <tr>
+ * <td>{@code maxDatagramSize}</td>
+ * <td>{@code 1472 bytes}</td>
+ * <td>The maximum size of a datagram holding several events if batching is enabled. The default fits into the
+ * MTU of an Ethernet network. Larger events are always sent in a datagram of their own.</td>
+ * </tr>
+ * <tr>
+ * <td>{@code batching}</td>
+ * <td>{@code false}</td>
+ * <td>If set to true, small events are batched into a single datagram of at most {@code maxDatagramSize}
+ * bytes.</td>
+ * </tr>
+ * <tr>
+ * <td>{@code flushInterval}</td>
+ * <td>{@code 100 milliseconds}</td>
+ * <td>The maximum time batched events are held back before they are sent.</td>
+ * </tr>
  * </table>
+ * <p/>
+ * The number of events sent and dropped is reported by the
+ * {@code io.dropwizard.logging.common.socket.DropwizardUdpSocketAppender.<host>:<port>.sent} and {@code .dropped}
+ * counters.
  */
 @JsonTypeName("udp")
 public class UdpSocketAppenderFactory<E extends DeferredProcessingAware> extends AbstractOutputStreamAppenderFactory<E> {
@@ -40,6 +79,21 @@ public class UdpSocketAppenderFactory<E extends DeferredProcessingAware> extends
     @PortRange
     private int port = 514;
 
+    @NotNull
+    @MinDuration(value = 0, unit = TimeUnit.MILLISECONDS)
+    private Duration addressTtl = Duration.seconds(30);
+
+    @NotNull
+    @MinDataSize(1)
+    @MaxDataSize(65507)
+    private DataSize maxDatagramSize = DataSize.bytes(1472);
+
+    private boolean batching = false;
+
+    @NotNull
+    @MinDuration(value = 1, unit = TimeUnit.MILLISECONDS)
+    private Duration flushInterval = Duration.milliseconds(100);
+
     @JsonProperty
     public String getHost() {
         return host;
@@ -60,11 +114,65 @@ public class UdpSocketAppenderFactory<E extends DeferredProcessingAware> extends
         this.port = port;
     }
 
+    @JsonProperty
+    public Duration getAddressTtl() {
+        return addressTtl;
+    }
+
+    @JsonProperty
+    public void setAddressTtl(Duration addressTtl) {
+        this.addressTtl = addressTtl;
+    }
+
+    @JsonProperty
+    public DataSize getMaxDatagramSize() {
+        return maxDatagramSize;
+    }
+
+    @JsonProperty
+    public void setMaxDatagramSize(DataSize maxDatagramSize) {
+        this.maxDatagramSize = maxDatagramSize;
+    }
+
+    @JsonProperty
+    public boolean isBatching() {
+        return batching;
+    }
+
+    @JsonProperty
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    @JsonProperty
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    @JsonProperty
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
     @Override
     protected OutputStreamAppender<E> appender(LoggerContext context) {
+        return appender(context, null);
+    }
+
+    @Override
+    protected OutputStreamAppender<E> appender(LoggerContext context, @Nullable MetricRegistry metricRegistry) {
         final DropwizardUdpSocketAppender<E> appender = new DropwizardUdpSocketAppender<>(host, port);
         appender.setContext(context);
         appender.setName("udp-socket-appender");
+        appender.setAddressTtl(addressTtl);
+        appender.setMaxDatagramSize(maxDatagramSize);
+        appender.setBatching(batching);
+        appender.setFlushInterval(flushInterval);
+        if (metricRegistry != null) {
+            final String prefix = name(DropwizardUdpSocketAppender.class, host + ":" + port);
+            appender.setCounters(metricRegistry.counter(name(prefix, "sent")),
+                metricRegistry.counter(name(prefix, "dropped")));
+        }
         return appender;
     }
 }
@@ -0,0 +1,23 @@
+package io.dropwizard.logging.common.layout;
+
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A layout which can encode events to bytes directly, without formatting them to an intermediate {@link String}
+ * first as a {@link LayoutWrappingEncoder} does.
+ *
+ * @param <E> The type of log event
+ * @since 4.0.11
+ */
+public interface EncoderLayout<E> {
+
+    /**
+     * Creates an encoder equivalent to wrapping this layout in a {@link LayoutWrappingEncoder}.
+     *
+     * @return a new encoder, or {@code null} if this layout should be wrapped in a {@link LayoutWrappingEncoder}
+     */
+    @Nullable
+    Encoder<E> buildEncoder();
+}
@@ -0,0 +1,173 @@
+package io.dropwizard.logging.common.socket;
+
+import ch.qos.logback.core.spi.ContextAware;
+import com.codahale.metrics.Counter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.PortUnreachableException;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+/**
+ * An {@link OutputStream} sending every written event as a datagram over a connected {@link DatagramChannel}.
+ * <p/>
+ * The address of the host is resolved at most once per {@code addressTtlNanos} and the channel is reconnected if it
+ * changes. Events are copied into a direct buffer of {@code maxDatagramSize} bytes before they are sent. If batching
+ * is enabled, events are accumulated in that buffer and only sent once the buffer is full or the stream is flushed.
+ * <p/>
+ * Failures to send are never propagated to the appender, which would otherwise stop. The affected events are counted
+ * as dropped instead.
+ */
+final class DatagramChannelOutputStream extends OutputStream {
+    private final String host;
+    private final int port;
+    private final long addressTtlNanos;
+    private final boolean batching;
+    private final ByteBuffer buffer;
+    private final Counter sentEvents;
+    private final Counter droppedEvents;
+    private final ContextAware status;
+
+    @Nullable
+    private InetSocketAddress address;
+    @Nullable
+    private DatagramChannel channel;
+    private long resolvedAt;
+    private int bufferedEvents;
+    private boolean failing;
+
+    DatagramChannelOutputStream(String host, int port, long addressTtlNanos, int maxDatagramSize, boolean batching,
+                                Counter sentEvents, Counter droppedEvents, ContextAware status) {
+        this.host = host;
+        this.port = port;
+        this.addressTtlNanos = addressTtlNanos;
+        this.batching = batching;
+        this.buffer = ByteBuffer.allocateDirect(maxDatagramSize);
+        this.sentEvents = sentEvents;
+        this.droppedEvents = droppedEvents;
+        this.status = status;
+    }
+
+    @Override
+    public void write(int b) {
+        throw new UnsupportedOperationException("Datagram doesn't work at byte level");
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+        if (len == 0) {
+            return;
+        }
+        if (len > buffer.remaining()) {
+            sendBuffer();
+        }
+        if (len > buffer.remaining()) {
+            // Larger than a datagram of the configured size, send it on its own
+            send(ByteBuffer.wrap(b, off, len), 1);
+            return;
+        }
+        buffer.put(b, off, len);
+        bufferedEvents++;
+        if (!batching) {
+            sendBuffer();
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        sendBuffer();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        sendBuffer();
+        closeChannel();
+    }
+
+    private void sendBuffer() {
+        if (bufferedEvents == 0) {
+            return;
+        }
+        buffer.flip();
+        send(buffer, bufferedEvents);
+        buffer.clear();
+        bufferedEvents = 0;
+    }
+
+    private void send(ByteBuffer datagram, int events) {
+        // The channel is closed if it's written to by an interrupted thread, which is the case for the worker of an
+        // async appender draining its queue on stop. Clear the flag for the write and restore it afterwards.
+        final boolean interrupted = Thread.interrupted();
+        try {
+            connectedChannel().write(datagram);
+            sentEvents.inc(events);
+            if (failing) {
+                failing = false;
+                status.addInfo("Recovered sending log events to " + host + ":" + port);
+            }
+        } catch (IOException e) {
+            droppedEvents.inc(events);
+            if (!failing) {
+                failing = true;
+                status.addWarn("Unable to send log events to " + host + ":" + port, e);
+            }
+            if (!(e instanceof PortUnreachableException) && !(e instanceof UnknownHostException)) {
+                closeChannel();
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private DatagramChannel connectedChannel() throws IOException {
+        InetSocketAddress target = address;
+        final long now = System.nanoTime();
+        if (target == null || now - resolvedAt >= addressTtlNanos) {
+            try {
+                final InetSocketAddress resolved = new InetSocketAddress(InetAddress.getByName(host), port);
+                if (!resolved.equals(target)) {
+                    closeChannel();
+                    address = target = resolved;
+                }
+            } catch (UnknownHostException e) {
+                if (target == null) {
+                    throw e;
+                }
+                // Keep sending to the last known address until the next refresh
+            }
+            resolvedAt = now;
+        }
+
+        DatagramChannel connected = channel;
+        if (connected == null) {
+            connected = DatagramChannel.open();
+            try {
+                connected.connect(target);
+            } catch (IOException e) {
+                connected.close();
+                throw e;
+            }
+            channel = connected;
+        }
+        return connected;
+    }
+
+    private void closeChannel() {
+        final DatagramChannel connected = channel;
+        channel = null;
+        if (connected != null) {
+            try {
+                connected.close();
+            } catch (IOException ignored) {
+                // The channel is discarded anyway
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.dropwizard.logging.common.socket;
+
+import ch.qos.logback.core.spi.DeferredProcessingAware;
+import com.codahale.metrics.Counter;
+import io.dropwizard.logging.common.AsyncSocketOutputStream;
+
+import javax.net.SocketFactory;
+import java.io.OutputStream;
+
+/**
+ * Sends log events to a TCP server without blocking the logging thread on the connection. Events are buffered and
+ * sent by a dedicated sender thread, see {@link AsyncSocketOutputStream}.
+ *
+ * @since 4.0.11
+ */
+public class DropwizardAsyncSocketAppender<E extends DeferredProcessingAware> extends DropwizardSocketAppender<E> {
+
+    private final String host;
+    private final int port;
+    private final int connectionTimeoutMs;
+    private final int sendBufferSize;
+    private final SocketFactory socketFactory;
+    private final int queueSize;
+    private final AsyncSocketOutputStream.OverflowPolicy overflowPolicy;
+    private final boolean flushWhenIdle;
+    private final long flushIntervalMs;
+    private final long reconnectionDelayMs;
+    private final long maxReconnectionDelayMs;
+    private final long shutdownTimeoutMs;
+    private final Counter sentEvents;
+    private final Counter droppedEvents;
+
+    public DropwizardAsyncSocketAppender(String host, int port, int connectionTimeoutMs, int sendBufferSize,
+                                         SocketFactory socketFactory, int queueSize,
+                                         AsyncSocketOutputStream.OverflowPolicy overflowPolicy, boolean flushWhenIdle,
+                                         long flushIntervalMs, long reconnectionDelayMs, long maxReconnectionDelayMs,
+                                         long shutdownTimeoutMs, Counter sentEvents, Counter droppedEvents) {
+        super(host, port, connectionTimeoutMs, sendBufferSize, socketFactory);
+        this.host = host;
+        this.port = port;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.sendBufferSize = sendBufferSize;
+        this.socketFactory = socketFactory;
+        this.queueSize = queueSize;
+        this.overflowPolicy = overflowPolicy;
+        this.flushWhenIdle = flushWhenIdle;
+        this.flushIntervalMs = flushIntervalMs;
+        this.reconnectionDelayMs = reconnectionDelayMs;
+        this.maxReconnectionDelayMs = maxReconnectionDelayMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.sentEvents = sentEvents;
+        this.droppedEvents = droppedEvents;
+    }
+
+    /**
+     * Returns the number of events waiting to be sent.
+     */
+    public int getQueueDepth() {
+        final OutputStream outputStream = getOutputStream();
+        return outputStream instanceof AsyncSocketOutputStream
+            ? ((AsyncSocketOutputStream) outputStream).getQueueDepth() : 0;
+    }
+
+    @Override
+    protected OutputStream socketOutputStream() {
+        return new AsyncSocketOutputStream(host, port, connectionTimeoutMs, sendBufferSize, socketFactory, queueSize,
+            overflowPolicy, flushWhenIdle, flushIntervalMs, reconnectionDelayMs, maxReconnectionDelayMs,
+            shutdownTimeoutMs, sentEvents, droppedEvents, this);
+    }
+}
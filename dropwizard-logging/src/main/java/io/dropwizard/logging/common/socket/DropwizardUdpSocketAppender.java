@@ -2,56 +2,141 @@ package io.dropwizard.logging.common.socket;
 
 import ch.qos.logback.core.OutputStreamAppender;
 import ch.qos.logback.core.spi.DeferredProcessingAware;
+import com.codahale.metrics.Counter;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.util.Duration;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.io.IOException;
 import java.io.OutputStream;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
-import java.net.InetAddress;
-import java.net.SocketException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Sends log events to a UDP server, a connection to which is represented as a stream.
+ * <p/>
+ * Events are sent over a connected {@link java.nio.channels.DatagramChannel}. The address of the server is cached
+ * for {@link #setAddressTtl(Duration) addressTtl}, so that log events don't cause a DNS lookup each. If
+ * {@link #setBatching(boolean) batching} is enabled, several events are sent in a single datagram of at most
+ * {@link #setMaxDatagramSize(DataSize) maxDatagramSize} bytes, which is flushed at least every
+ * {@link #setFlushInterval(Duration) flushInterval}.
  */
 public class DropwizardUdpSocketAppender<E extends DeferredProcessingAware> extends OutputStreamAppender<E> {
 
     private final String host;
     private final int port;
 
+    private Duration addressTtl = Duration.seconds(30);
+    private DataSize maxDatagramSize = DataSize.bytes(1472);
+    private boolean batching = false;
+    private Duration flushInterval = Duration.milliseconds(100);
+    private Counter sentEvents = new Counter();
+    private Counter droppedEvents = new Counter();
+
+    @Nullable
+    private ScheduledFuture<?> flushTask;
+
     public DropwizardUdpSocketAppender(String host, int port) {
         this.host = host;
         this.port = port;
     }
 
+    /**
+     * Sets how long the resolved address of the server is cached. A zero duration resolves it for every event.
+     *
+     * @since 4.0.11
+     */
+    public void setAddressTtl(Duration addressTtl) {
+        this.addressTtl = addressTtl;
+    }
+
+    /**
+     * Sets the size of the datagrams events are buffered in. Larger events are sent in a datagram of their own.
+     *
+     * @since 4.0.11
+     */
+    public void setMaxDatagramSize(DataSize maxDatagramSize) {
+        this.maxDatagramSize = maxDatagramSize;
+    }
+
+    /**
+     * Sets whether several events are sent in a single datagram.
+     *
+     * @since 4.0.11
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    /**
+     * Sets the maximum time batched events are buffered before they are sent.
+     *
+     * @since 4.0.11
+     */
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Sets the counters of the events which were sent and which were dropped because they could not be sent.
+     *
+     * @since 4.0.11
+     */
+    public void setCounters(Counter sentEvents, Counter droppedEvents) {
+        this.sentEvents = sentEvents;
+        this.droppedEvents = droppedEvents;
+    }
+
+    /**
+     * Returns the counter of the events which were sent.
+     *
+     * @since 4.0.11
+     */
+    public Counter getSentEvents() {
+        return sentEvents;
+    }
+
+    /**
+     * Returns the counter of the events which were dropped because they could not be sent.
+     *
+     * @since 4.0.11
+     */
+    public Counter getDroppedEvents() {
+        return droppedEvents;
+    }
+
     @Override
     public void start() {
         setOutputStream(datagramSocketOutputStream(host, port));
+        if (batching) {
+            setImmediateFlush(false);
+            final long interval = flushInterval.toMilliseconds();
+            final ScheduledFuture<?> task = getContext().getScheduledExecutorService()
+                .scheduleAtFixedRate(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+            getContext().addScheduledFuture(task);
+            flushTask = task;
+        }
         super.start();
     }
 
-    protected OutputStream datagramSocketOutputStream(String host, int port) {
-        try {
-            return new OutputStream() {
-                private final DatagramSocket datagramSocket = new DatagramSocket();
-
-                @Override
-                public void write(int b) throws IOException {
-                    throw new UnsupportedOperationException("Datagram doesn't work at byte level");
-                }
-
-                @Override
-                public void write(byte[] b, int off, int len) throws IOException {
-                    // Important not to cache InetAddress and let the JVM/OS to handle DNS caching.
-                    datagramSocket.send(new DatagramPacket(b, off, len, InetAddress.getByName(host), port));
-                }
-
-                @Override
-                public void close() throws IOException {
-                    datagramSocket.close();
-                }
-            };
-        } catch (SocketException e) {
-            throw new IllegalStateException("Unable to create a datagram socket", e);
+    @Override
+    public void stop() {
+        final ScheduledFuture<?> task = flushTask;
+        if (task != null) {
+            task.cancel(false);
+            flushTask = null;
         }
+        super.stop();
+    }
+
+    private void flush() {
+        final OutputStream outputStream = getOutputStream();
+        if (outputStream instanceof DatagramChannelOutputStream) {
+            ((DatagramChannelOutputStream) outputStream).flush();
+        }
+    }
+
+    protected OutputStream datagramSocketOutputStream(String host, int port) {
+        return new DatagramChannelOutputStream(host, port, addressTtl.toNanoseconds(),
+            (int) maxDatagramSize.toBytes(), batching, sentEvents, droppedEvents, this);
     }
 }
@@ -0,0 +1,158 @@
+package io.dropwizard.logging.common;
+
+import ch.qos.logback.core.ContextBase;
+import ch.qos.logback.core.spi.ContextAwareBase;
+import com.codahale.metrics.Counter;
+import org.junit.jupiter.api.Test;
+
+import javax.net.SocketFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncSocketOutputStreamTest {
+
+    private final Counter sentEvents = new Counter();
+    private final Counter droppedEvents = new Counter();
+    private final CountDownLatch connect = new CountDownLatch(1);
+
+    /**
+     * Connects only once {@link #connect} is released, so that events pile up in the buffer until then.
+     */
+    private final SocketFactory socketFactory = new SocketFactory() {
+        @Override
+        public Socket createSocket() throws IOException {
+            try {
+                connect.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            return new Socket();
+        }
+
+        @Override
+        public Socket createSocket(String host, int port) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Socket createSocket(String host, int port, InetAddress localHost, int localPort) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Socket createSocket(InetAddress host, int port) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    private AsyncSocketOutputStream outputStream(int port, int queueSize,
+                                                 AsyncSocketOutputStream.OverflowPolicy overflowPolicy) {
+        final ContextAwareBase status = new ContextAwareBase();
+        status.setContext(new ContextBase());
+        return new AsyncSocketOutputStream("localhost", port, 1000, 1024, socketFactory, queueSize, overflowPolicy,
+            true, 1000, 10, 100, 5000, sentEvents, droppedEvents, status);
+    }
+
+    private static void write(AsyncSocketOutputStream outputStream, String... messages) {
+        for (String message : messages) {
+            final byte[] bytes = (message + "\n").getBytes(UTF_8);
+            outputStream.write(bytes, 0, bytes.length);
+        }
+    }
+
+    @Test
+    void sendsEventsInOrder() throws Exception {
+        connect.countDown();
+        try (ServerSocket ss = new ServerSocket(0); TcpServer tcpServer = new TcpServer(ss)) {
+            Future<List<String>> receivedMessages = tcpServer.receive();
+            AsyncSocketOutputStream outputStream = outputStream(ss.getLocalPort(), 1024,
+                AsyncSocketOutputStream.OverflowPolicy.BLOCK);
+            for (int i = 0; i < 100; i++) {
+                write(outputStream, "Test message " + i);
+            }
+            outputStream.close();
+
+            assertThat(receivedMessages.get(1, TimeUnit.MINUTES))
+                .hasSize(100)
+                .startsWith("Test message 0", "Test message 1")
+                .endsWith("Test message 99");
+            assertThat(sentEvents.getCount()).isEqualTo(100);
+            assertThat(droppedEvents.getCount()).isZero();
+        }
+    }
+
+    @Test
+    void dropsOldestEventsIfFull() throws Exception {
+        try (ServerSocket ss = new ServerSocket(0); TcpServer tcpServer = new TcpServer(ss)) {
+            Future<List<String>> receivedMessages = tcpServer.receive();
+            AsyncSocketOutputStream outputStream = outputStream(ss.getLocalPort(), 2,
+                AsyncSocketOutputStream.OverflowPolicy.DROP_OLDEST);
+            write(outputStream, "1", "2", "3", "4", "5");
+            assertThat(outputStream.getQueueDepth()).isEqualTo(2);
+            connect.countDown();
+            outputStream.close();
+
+            assertThat(receivedMessages.get(1, TimeUnit.MINUTES)).containsExactly("4", "5");
+            assertThat(droppedEvents.getCount()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void dropsNewestEventsIfFull() throws Exception {
+        try (ServerSocket ss = new ServerSocket(0); TcpServer tcpServer = new TcpServer(ss)) {
+            Future<List<String>> receivedMessages = tcpServer.receive();
+            AsyncSocketOutputStream outputStream = outputStream(ss.getLocalPort(), 2,
+                AsyncSocketOutputStream.OverflowPolicy.DROP_NEWEST);
+            write(outputStream, "1", "2", "3", "4", "5");
+            connect.countDown();
+            outputStream.close();
+
+            assertThat(receivedMessages.get(1, TimeUnit.MINUTES)).containsExactly("1", "2");
+            assertThat(droppedEvents.getCount()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void blocksIfFull() throws Exception {
+        try (ServerSocket ss = new ServerSocket(0); TcpServer tcpServer = new TcpServer(ss)) {
+            Future<List<String>> receivedMessages = tcpServer.receive();
+            AsyncSocketOutputStream outputStream = outputStream(ss.getLocalPort(), 1,
+                AsyncSocketOutputStream.OverflowPolicy.BLOCK);
+            write(outputStream, "1");
+            Thread writer = new Thread(() -> write(outputStream, "2"));
+            writer.start();
+            writer.join(100);
+            assertThat(writer.isAlive()).isTrue();
+
+            connect.countDown();
+            writer.join(TimeUnit.MINUTES.toMillis(1));
+            outputStream.close();
+
+            assertThat(receivedMessages.get(1, TimeUnit.MINUTES)).containsExactly("1", "2");
+            assertThat(droppedEvents.getCount()).isZero();
+        }
+    }
+
+    @Test
+    void dropsEventsAfterClose() {
+        AsyncSocketOutputStream outputStream = outputStream(1, 2, AsyncSocketOutputStream.OverflowPolicy.BLOCK);
+        outputStream.close();
+        write(outputStream, "1");
+
+        assertThat(droppedEvents.getCount()).isEqualTo(1);
+    }
+}
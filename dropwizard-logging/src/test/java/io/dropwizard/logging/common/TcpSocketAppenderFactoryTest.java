@@ -102,6 +102,39 @@ class TcpSocketAppenderFactoryTest {
         }
     }
 
+    @Test
+    void testAsyncTcpLogging() throws Exception {
+        try (ServerSocket serverSocket = createServerSocket(); TcpServer tcpServer = new TcpServer(serverSocket)) {
+            Future<List<String>> receivedMessages = tcpServer.receive();
+            DefaultLoggingFactory loggingFactory = yamlConfigurationFactory.build(new SubstitutingSourceProvider(
+                    new ResourceConfigurationSourceProvider(),
+                    new StringSubstitutor(Collections.singletonMap("tcp.server.port", serverSocket.getLocalPort()))),
+                "yaml/logging-tcp-async.yml");
+            assertThat(loggingFactory.getAppenders())
+                .singleElement()
+                .isInstanceOfSatisfying(TcpSocketAppenderFactory.class, factory -> assertThat(factory.getAsyncSender())
+                    .satisfies(sender -> assertThat(sender.getQueueSize()).isEqualTo(1024))
+                    .satisfies(sender -> assertThat(sender.getOverflowPolicy())
+                        .isEqualTo(AsyncSocketOutputStream.OverflowPolicy.BLOCK))
+                    .satisfies(sender -> assertThat(sender.getFlushInterval()).isEqualTo(Duration.milliseconds(50))));
+            MetricRegistry metricRegistry = new MetricRegistry();
+            loggingFactory.configure(metricRegistry, "tcp-test");
+
+            List<String> loggedMessages = generateLogs(LoggerFactory.getLogger("com.example.app"));
+            loggingFactory.reset();
+
+            assertThat(receivedMessages.get(1, TimeUnit.MINUTES))
+                .allSatisfy(s -> assertThat(s).startsWith("INFO"))
+                .extracting(s -> s.substring(s.lastIndexOf("com.example.app: ") + "com.example.app: ".length()))
+                .containsExactlyElementsOf(loggedMessages);
+            String prefix = "io.dropwizard.logging.common.AsyncSocketOutputStream.localhost:" + serverSocket.getLocalPort();
+            assertThat(metricRegistry.getCounters())
+                .hasEntrySatisfying(prefix + ".sent", counter -> assertThat(counter.getCount()).isEqualTo(100))
+                .hasEntrySatisfying(prefix + ".dropped", counter -> assertThat(counter.getCount()).isZero());
+            assertThat(metricRegistry.getGauges()).containsKey(prefix + ".queued");
+        }
+    }
+
     private static List<String> generateLogs(final Logger logger) {
         return IntStream.range(0, 100)
             .mapToObj(i -> String.format("Application log %d", i))
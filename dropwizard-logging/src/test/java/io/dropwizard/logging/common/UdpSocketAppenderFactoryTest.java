@@ -10,13 +10,16 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.DatagramPacket;
 import java.net.DatagramSocket;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class UdpSocketAppenderFactoryTest {
@@ -51,6 +54,45 @@ class UdpSocketAppenderFactoryTest {
         }
     }
 
+    @Test
+    void testSendBatchedLogsByUdp() throws Exception {
+        final int messageCount = 100;
+        ObjectMapper objectMapper = Jackson.newObjectMapper();
+        objectMapper.getSubtypeResolver().registerSubtypes(UdpSocketAppenderFactory.class);
+        MetricRegistry metricRegistry = new MetricRegistry();
+
+        try (DatagramSocket datagramSocket = new DatagramSocket(UDP_PORT)) {
+            datagramSocket.setSoTimeout(5000);
+            DefaultLoggingFactory loggingFactory = new YamlConfigurationFactory<>(DefaultLoggingFactory.class,
+                BaseValidator.newValidator(), objectMapper, "dw-udp")
+                .build(new ResourceConfigurationSourceProvider(), "yaml/logging-udp-batching.yml");
+            loggingFactory.configure(metricRegistry, "udp-test");
+
+            Logger logger = LoggerFactory.getLogger("com.example.app");
+            List<String> loggedMessages = generateLogs(logger, messageCount);
+            loggingFactory.reset();
+
+            List<String> receivedMessages = new ArrayList<>();
+            int datagrams = 0;
+            while (receivedMessages.size() < messageCount) {
+                byte[] buffer = new byte[2048];
+                DatagramPacket datagramPacket = new DatagramPacket(buffer, buffer.length);
+                datagramSocket.receive(datagramPacket);
+                assertThat(datagramPacket.getLength()).isLessThanOrEqualTo(1024);
+                new String(buffer, 0, datagramPacket.getLength(), UTF_8).lines().forEach(receivedMessages::add);
+                datagrams++;
+            }
+
+            assertThat(datagrams).isLessThan(messageCount);
+            assertThat(receivedMessages)
+                .extracting(s -> s.substring(s.lastIndexOf("com.example.app: ") + "com.example.app: ".length()))
+                .containsExactlyElementsOf(loggedMessages);
+            assertThat(metricRegistry.getCounters())
+                .hasEntrySatisfying("io.dropwizard.logging.common.socket.DropwizardUdpSocketAppender.localhost:"
+                    + UDP_PORT + ".sent", counter -> assertThat(counter.getCount()).isEqualTo(messageCount));
+        }
+    }
+
     private static List<String> generateLogs(final Logger logger, final int messageCount) {
         return IntStream.range(0, messageCount)
             .mapToObj(i -> String.format("Application log %d", i))
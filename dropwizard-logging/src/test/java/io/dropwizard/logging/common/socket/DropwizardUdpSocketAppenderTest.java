@@ -1,12 +1,17 @@
 package io.dropwizard.logging.common.socket;
 
+import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Context;
 import ch.qos.logback.core.OutputStreamAppender;
 import io.dropwizard.logging.common.UdpServer;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.util.Duration;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.io.OutputStream;
+import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.util.List;
 import java.util.concurrent.Future;
@@ -34,4 +39,60 @@ class DropwizardUdpSocketAppenderTest {
         }
     }
 
+    @Test
+    void testBatchMessages() throws Exception {
+        final LoggerContext context = new LoggerContext();
+        try (DatagramSocket datagramSocket = new DatagramSocket()) {
+            datagramSocket.setSoTimeout(5000);
+            DropwizardUdpSocketAppender<ILoggingEvent> udpStreamAppender =
+                new DropwizardUdpSocketAppender<>("localhost", datagramSocket.getLocalPort());
+            udpStreamAppender.setContext(context);
+            udpStreamAppender.setBatching(true);
+            udpStreamAppender.setMaxDatagramSize(DataSize.bytes(16));
+            udpStreamAppender.setFlushInterval(Duration.milliseconds(50));
+            udpStreamAppender.start();
+
+            OutputStream outputStream = udpStreamAppender.getOutputStream();
+            outputStream.write("first\n".getBytes(UTF_8));
+            outputStream.write("second\n".getBytes(UTF_8));
+            outputStream.write("third\n".getBytes(UTF_8));
+            outputStream.write("a message larger than a datagram\n".getBytes(UTF_8));
+            outputStream.write("fourth\n".getBytes(UTF_8));
+
+            // The fourth message is only sent by the periodic flush
+            assertThat(receive(datagramSocket)).isEqualTo("first\nsecond\n");
+            assertThat(receive(datagramSocket)).isEqualTo("third\n");
+            assertThat(receive(datagramSocket)).isEqualTo("a message larger than a datagram\n");
+            assertThat(receive(datagramSocket)).isEqualTo("fourth\n");
+            assertThat(udpStreamAppender.getSentEvents().getCount()).isEqualTo(5);
+            udpStreamAppender.stop();
+        } finally {
+            context.stop();
+        }
+    }
+
+    @Test
+    void testDropMessagesToUnreachablePort() throws Exception {
+        final int port;
+        try (DatagramSocket datagramSocket = new DatagramSocket()) {
+            port = datagramSocket.getLocalPort();
+        }
+        DropwizardUdpSocketAppender<ILoggingEvent> udpStreamAppender = new DropwizardUdpSocketAppender<>("localhost", port);
+        udpStreamAppender.setContext(Mockito.mock(Context.class));
+        udpStreamAppender.start();
+        for (int i = 0; i < 10; i++) {
+            udpStreamAppender.getOutputStream().write("Test message".getBytes(UTF_8));
+        }
+
+        assertThat(udpStreamAppender.getSentEvents().getCount() + udpStreamAppender.getDroppedEvents().getCount())
+            .isEqualTo(10);
+        udpStreamAppender.stop();
+    }
+
+    private static String receive(DatagramSocket datagramSocket) throws Exception {
+        byte[] buffer = new byte[1024];
+        DatagramPacket datagramPacket = new DatagramPacket(buffer, buffer.length);
+        datagramSocket.receive(datagramPacket);
+        return new String(buffer, 0, datagramPacket.getLength(), UTF_8);
+    }
 }
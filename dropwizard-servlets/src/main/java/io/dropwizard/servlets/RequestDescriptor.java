@@ -0,0 +1,104 @@
+package io.dropwizard.servlets;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Describes the HTTP request being processed by the current thread.
+ * <p/>
+ * The descriptor is bound by {@link ThreadNameFilter} for the duration of a request and can be read with
+ * {@link #current()}, e.g. by {@link SlowRequestFilter} or by diagnostic code. The full URL is only built
+ * when it is first asked for.
+ */
+public final class RequestDescriptor {
+    private static final ThreadLocal<RequestDescriptor> CURRENT = new ThreadLocal<>();
+
+    private final HttpServletRequest request;
+
+    @Nullable
+    private String fullUrl;
+
+    private RequestDescriptor(HttpServletRequest request) {
+        this.request = request;
+    }
+
+    /**
+     * Returns the descriptor of the request being processed by the current thread.
+     *
+     * @return the current request descriptor, or {@code null} if the thread isn't processing a request
+     */
+    @Nullable
+    public static RequestDescriptor current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds a descriptor of the given request to the current thread.
+     *
+     * @param request the request processed by the current thread
+     * @return the descriptor which was previously bound to the current thread, if any
+     */
+    @Nullable
+    static RequestDescriptor bind(HttpServletRequest request) {
+        final RequestDescriptor previous = CURRENT.get();
+        CURRENT.set(new RequestDescriptor(request));
+        return previous;
+    }
+
+    /**
+     * Restores the descriptor which was bound to the current thread before {@link #bind(HttpServletRequest)}.
+     *
+     * @param previous the descriptor returned by {@link #bind(HttpServletRequest)}
+     */
+    static void restore(@Nullable RequestDescriptor previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Returns the full URL of the given request, reusing the URL of the current descriptor if it describes the
+     * same request.
+     *
+     * @param request an HTTP servlet request
+     * @return the full URL, including the query string
+     */
+    static String fullUrlOf(HttpServletRequest request) {
+        final RequestDescriptor current = CURRENT.get();
+        if (current != null && current.request == request) {
+            return current.getFullUrl();
+        }
+        return Servlets.getFullUrl(request);
+    }
+
+    public HttpServletRequest getRequest() {
+        return request;
+    }
+
+    public String getMethod() {
+        return request.getMethod();
+    }
+
+    public String getRequestURI() {
+        return request.getRequestURI();
+    }
+
+    /**
+     * @return the full URL of the request, including the query string
+     */
+    public String getFullUrl() {
+        String url = fullUrl;
+        if (url == null) {
+            url = Servlets.getFullUrl(request);
+            fullUrl = url;
+        }
+        return url;
+    }
+
+    @Override
+    public String toString() {
+        return getMethod() + ' ' + getFullUrl();
+    }
+}
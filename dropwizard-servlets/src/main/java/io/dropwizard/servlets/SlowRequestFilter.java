@@ -14,7 +14,6 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.function.Supplier;
 
-import static io.dropwizard.servlets.Servlets.getFullUrl;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
@@ -72,7 +71,7 @@ public class SlowRequestFilter implements Filter {
             if (elapsedNS >= threshold) {
                 logger.warn("Slow request: {} {} ({}ms)",
                             req.getMethod(),
-                            getFullUrl(req), elapsedMS);
+                            RequestDescriptor.fullUrlOf(req), elapsedMS);
             }
         }
     }
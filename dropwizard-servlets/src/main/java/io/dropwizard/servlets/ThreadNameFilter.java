@@ -7,19 +7,83 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.MDC;
 
 import java.io.IOException;
-
-import static io.dropwizard.servlets.Servlets.getFullUrl;
+import java.util.Locale;
 
 /**
- * A servlet filter which adds the request method and URI to the thread name processing the request
- * for the duration of the request.
+ * A servlet filter which makes the request method and URI of the request processed by a thread available for
+ * the duration of the request.
+ * <p/>
+ * By default, the request is described by a {@link RequestDescriptor} bound to the thread. Depending on the
+ * {@link Mode}, the method and URI are also put into the logging {@link MDC}, or are added to the thread name
+ * like in previous versions. Renaming threads builds a new name for every request and is comparatively
+ * expensive, so it should only be enabled if the request is needed in thread dumps.
  */
 public class ThreadNameFilter implements Filter {
+    /**
+     * The name of the filter init parameter selecting the {@link Mode}.
+     */
+    public static final String MODE_PARAM = "mode";
+
+    /**
+     * The {@link MDC} key of the request method.
+     */
+    public static final String METHOD_MDC_KEY = "requestMethod";
+
+    /**
+     * The {@link MDC} key of the request URI, without the query string.
+     */
+    public static final String URI_MDC_KEY = "requestUri";
+
+    /**
+     * Selects how the request processed by a thread is made available.
+     */
+    public enum Mode {
+        /**
+         * Only binds a {@link RequestDescriptor} to the thread.
+         */
+        DESCRIPTOR,
+
+        /**
+         * Binds a {@link RequestDescriptor} to the thread and puts the request method and URI into the
+         * logging {@link org.slf4j.MDC}.
+         */
+        MDC,
+
+        /**
+         * Binds a {@link RequestDescriptor} to the thread and adds the request method and full URL to the
+         * thread name.
+         */
+        RENAME
+    }
+
+    private Mode mode;
+
+    public ThreadNameFilter() {
+        this(Mode.DESCRIPTOR);
+    }
+
+    public ThreadNameFilter(Mode mode) {
+        this.mode = mode;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
 
     @Override
-    public void init(FilterConfig filterConfig) throws ServletException { /* unused */ }
+    public void init(FilterConfig filterConfig) throws ServletException {
+        final String modeParam = filterConfig.getInitParameter(MODE_PARAM);
+        if (modeParam != null) {
+            try {
+                mode = Mode.valueOf(modeParam.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ServletException("Unknown thread name filter mode: " + modeParam, e);
+            }
+        }
+    }
 
     @Override
     public void destroy() { /* unused */ }
@@ -29,17 +93,50 @@ public class ThreadNameFilter implements Filter {
                          ServletResponse response,
                          FilterChain chain) throws IOException, ServletException {
         final HttpServletRequest req = (HttpServletRequest) request;
+        final RequestDescriptor previous = RequestDescriptor.bind(req);
+        try {
+            switch (mode) {
+                case MDC:
+                    doFilterWithMdc(req, response, chain);
+                    break;
+                case RENAME:
+                    doFilterRenamed(req, response, chain);
+                    break;
+                default:
+                    chain.doFilter(request, response);
+            }
+        } finally {
+            RequestDescriptor.restore(previous);
+        }
+    }
+
+    private static void doFilterWithMdc(HttpServletRequest req,
+                                        ServletResponse response,
+                                        FilterChain chain) throws IOException, ServletException {
+        MDC.put(METHOD_MDC_KEY, req.getMethod());
+        MDC.put(URI_MDC_KEY, req.getRequestURI());
+        try {
+            chain.doFilter(req, response);
+        } finally {
+            MDC.remove(METHOD_MDC_KEY);
+            MDC.remove(URI_MDC_KEY);
+        }
+    }
+
+    private static void doFilterRenamed(HttpServletRequest req,
+                                        ServletResponse response,
+                                        FilterChain chain) throws IOException, ServletException {
         final Thread current = Thread.currentThread();
         final String oldName = current.getName();
         try {
             current.setName(formatName(req, oldName));
-            chain.doFilter(request, response);
+            chain.doFilter(req, response);
         } finally {
             current.setName(oldName);
         }
     }
 
     private static String formatName(HttpServletRequest req, String oldName) {
-        return oldName + " - " + req.getMethod() + ' ' + getFullUrl(req);
+        return oldName + " - " + req.getMethod() + ' ' + RequestDescriptor.fullUrlOf(req);
     }
 }
@@ -0,0 +1,42 @@
+package io.dropwizard.servlets.assets;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An asset served by an {@link AssetServlet}, either held in memory or streamed from a file.
+ *
+ * @see CachedAsset
+ * @see FileChannelAsset
+ * @since 4.0.11
+ */
+interface Asset {
+    /**
+     * Returns the {@code ETag} of the unencoded representation of this asset.
+     */
+    String getETag();
+
+    /**
+     * Returns the {@code ETag} of the given encoded representation of this asset, falling back to the
+     * {@code ETag} of the unencoded representation.
+     */
+    String getETag(@Nullable String encoding);
+
+    long getLastModifiedTime();
+
+    /**
+     * Returns the length of the unencoded representation of this asset in bytes.
+     */
+    long getLength();
+
+    boolean hasEncodedResources();
+
+    /**
+     * Picks the preferred encoded variant of this asset that is acceptable according to the given
+     * {@code Accept-Encoding} header.
+     *
+     * @param acceptEncoding the value of the {@code Accept-Encoding} header, may be {@code null}
+     * @return the chosen content coding, or {@code null} if the unencoded resource should be served
+     */
+    @Nullable
+    String negotiateEncoding(@Nullable String acceptEncoding);
+}
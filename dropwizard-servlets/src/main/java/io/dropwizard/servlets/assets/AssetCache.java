@@ -0,0 +1,119 @@
+package io.dropwizard.servlets.assets;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A bounded, in-memory cache of assets served by an {@link AssetServlet}.
+ * <p/>
+ * Entries are keyed by the resolved resource path and hold the asset's contents, its precomputed {@code ETag} and
+ * any precompressed variants. An entry is discarded as soon as the last modified time of the underlying resource
+ * changes. The cache is bounded by the total number of bytes held and evicts entries when that limit is reached.
+ * <p/>
+ * The following metrics are registered, prefixed with {@code io.dropwizard.servlets.assets.AssetServlet.<name>}:
+ * <ul>
+ *     <li>{@code cache.hits}: a meter of requests served from the cache</li>
+ *     <li>{@code cache.misses}: a meter of requests which had to load the asset</li>
+ *     <li>{@code cache.evictions}: a meter of entries evicted due to the size limit</li>
+ *     <li>{@code cache.size}: a gauge of the number of bytes currently held by the cache</li>
+ * </ul>
+ *
+ * @see AssetCacheConfiguration
+ * @since 4.0.11
+ */
+public class AssetCache {
+    private final Cache<String, CachedAsset> cache;
+    private final AssetCacheConfiguration configuration;
+    private final Meter hits;
+    private final Meter misses;
+    private final Meter evictions;
+
+    /**
+     * Creates a new asset cache.
+     *
+     * @param configuration  the configuration of the cache
+     * @param metricRegistry the application's registry of metrics
+     * @param name           the name of the cache, typically the name of the assets servlet
+     */
+    public AssetCache(AssetCacheConfiguration configuration, MetricRegistry metricRegistry, String name) {
+        this.configuration = configuration;
+        this.hits = metricRegistry.meter(name(AssetServlet.class, name, "cache", "hits"));
+        this.misses = metricRegistry.meter(name(AssetServlet.class, name, "cache", "misses"));
+        this.evictions = metricRegistry.meter(name(AssetServlet.class, name, "cache", "evictions"));
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(configuration.getMaximumSize().toBytes())
+            .weigher((String key, CachedAsset asset) -> (int) Math.min(asset.getWeight(), Integer.MAX_VALUE))
+            .evictionListener((key, asset, cause) -> {
+                if (cause.wasEvicted()) {
+                    evictions.mark();
+                }
+            })
+            .build();
+        metricRegistry.gauge(name(AssetServlet.class, name, "cache", "size"), () -> this::weightedSize);
+    }
+
+    public AssetCacheConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Returns the cached asset for the given resolved resource path if it is present and the underlying resource
+     * has not been modified since it was loaded.
+     */
+    @Nullable
+    CachedAsset getIfFresh(String resourcePath) {
+        final CachedAsset asset = cache.getIfPresent(resourcePath);
+        if (asset == null) {
+            misses.mark();
+            return null;
+        }
+
+        if (ResourceURL.getLastModified(asset.getResourceURL()) != asset.getSourceLastModifiedTime()) {
+            cache.asMap().remove(resourcePath, asset);
+            misses.mark();
+            return null;
+        }
+
+        hits.mark();
+        return asset;
+    }
+
+    /**
+     * Returns whether an asset of the given size is eligible for caching.
+     */
+    boolean isCacheable(long size) {
+        return size <= configuration.getMaximumAssetSize().toBytes();
+    }
+
+    void put(String resourcePath, CachedAsset asset) {
+        cache.put(resourcePath, asset);
+    }
+
+    /**
+     * Discards all cached assets.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the approximate number of cached assets.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Returns the approximate number of bytes held by the cache.
+     */
+    public long weightedSize() {
+        return cache.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+}
@@ -0,0 +1,132 @@
+package io.dropwizard.servlets.assets;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.DataSize;
+
+import java.util.StringJoiner;
+
+/**
+ * A factory for configuring the in-memory {@link AssetCache} of an {@link AssetServlet}.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>maximumSize</td>
+ *         <td>32 mebibytes</td>
+ *         <td>The maximum number of bytes held by the cache, including compressed variants.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>maximumAssetSize</td>
+ *         <td>1 mebibyte</td>
+ *         <td>Assets larger than this are never cached and are read on every request.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>precompressed</td>
+ *         <td>{@code true}</td>
+ *         <td>
+ *             Serve precompressed siblings of an asset (e.g. {@code app.js.br} and {@code app.js.gz} next to
+ *             {@code app.js}) to clients accepting the respective content coding.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>gzip</td>
+ *         <td>{@code true}</td>
+ *         <td>
+ *             Compress cached assets with gzip if no precompressed gzip variant exists. The compressed variant is
+ *             only kept if it is noticeably smaller than the original.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>minimumGzipSize</td>
+ *         <td>256 bytes</td>
+ *         <td>Assets smaller than this are not compressed with gzip.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 4.0.11
+ */
+public class AssetCacheConfiguration {
+    private DataSize maximumSize = DataSize.mebibytes(32);
+    private DataSize maximumAssetSize = DataSize.mebibytes(1);
+    private boolean precompressed = true;
+    private boolean gzip = true;
+    private DataSize minimumGzipSize = DataSize.bytes(256);
+
+    @JsonProperty
+    public DataSize getMaximumSize() {
+        return maximumSize;
+    }
+
+    @JsonProperty
+    public void setMaximumSize(DataSize maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    @JsonProperty
+    public DataSize getMaximumAssetSize() {
+        return maximumAssetSize;
+    }
+
+    @JsonProperty
+    public void setMaximumAssetSize(DataSize maximumAssetSize) {
+        this.maximumAssetSize = maximumAssetSize;
+    }
+
+    @JsonProperty
+    public boolean isPrecompressed() {
+        return precompressed;
+    }
+
+    @JsonProperty
+    public void setPrecompressed(boolean precompressed) {
+        this.precompressed = precompressed;
+    }
+
+    @JsonProperty
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    @JsonProperty
+    public void setGzip(boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    @JsonProperty
+    public DataSize getMinimumGzipSize() {
+        return minimumGzipSize;
+    }
+
+    @JsonProperty
+    public void setMinimumGzipSize(DataSize minimumGzipSize) {
+        this.minimumGzipSize = minimumGzipSize;
+    }
+
+    /**
+     * Builds a new {@link AssetCache} with this configuration.
+     *
+     * @param metricRegistry the application's registry of metrics
+     * @param name           the name of the cache, typically the name of the assets servlet
+     * @return a new {@link AssetCache}
+     */
+    public AssetCache build(MetricRegistry metricRegistry, String name) {
+        return new AssetCache(this, metricRegistry, name);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", AssetCacheConfiguration.class.getSimpleName() + "[", "]")
+                .add("maximumSize=" + maximumSize)
+                .add("maximumAssetSize=" + maximumAssetSize)
+                .add("precompressed=" + precompressed)
+                .add("gzip=" + gzip)
+                .add("minimumGzipSize=" + minimumGzipSize)
+                .toString();
+    }
+}
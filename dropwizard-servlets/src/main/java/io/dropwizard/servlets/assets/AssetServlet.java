@@ -1,5 +1,6 @@
 package io.dropwizard.servlets.assets;
 
+import io.dropwizard.util.DataSize;
 import io.dropwizard.util.Resources;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletOutputStream;
@@ -8,19 +9,25 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
 
 public class AssetServlet extends HttpServlet {
     private static final long serialVersionUID = 6393345594784987908L;
@@ -34,36 +41,15 @@ public class AssetServlet extends HttpServlet {
     private static final String CONTENT_RANGE = "Content-Range";
     private static final String ETAG = "ETag";
     private static final String LAST_MODIFIED = "Last-Modified";
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String VARY = "Vary";
 
-    private static class CachedAsset {
-        private final byte[] resource;
-        private final String eTag;
-        private final long lastModifiedTime;
+    private static final Pattern TRIM_SLASHES = Pattern.compile("^/*(.*?)/*$");
+    private static final Pattern TRIM_TRAILING_SLASHES = Pattern.compile("(.*?)/*$");
 
-        private CachedAsset(byte[] resource, long lastModifiedTime) {
-            this.resource = resource;
-            this.eTag = '"' + hash(resource) + '"';
-            this.lastModifiedTime = lastModifiedTime;
-        }
-
-        private static String hash(byte[] resource) {
-            final CRC32 crc32 = new CRC32();
-            crc32.update(resource);
-            return Long.toHexString(crc32.getValue());
-        }
-
-        public byte[] getResource() {
-            return resource;
-        }
-
-        public String getETag() {
-            return eTag;
-        }
-
-        public long getLastModifiedTime() {
-            return lastModifiedTime;
-        }
-    }
+    // Precompressed siblings, in order of preference
+    private static final String[][] PRECOMPRESSED_EXTENSIONS = {{"br", ".br"}, {"gzip", ".gz"}};
 
     private static final String DEFAULT_MEDIA_TYPE = "text/html";
 
@@ -78,6 +64,12 @@ public class AssetServlet extends HttpServlet {
     @Nullable
     private final Charset defaultCharset;
 
+    @Nullable
+    private final transient AssetCache cache;
+
+    @Nullable
+    private final DataSize fileStreamingThreshold;
+
     /**
      * Creates a new {@code AssetServlet} that serves static assets loaded from {@code resourceURL}
      * (typically a file: or jar: URL). The assets are served at URIs rooted at {@code uriPath}. For
@@ -124,6 +116,61 @@ public class AssetServlet extends HttpServlet {
                         @Nullable String indexFile,
                         @Nullable String defaultMediaType,
                         @Nullable Charset defaultCharset) {
+        this(resourcePath, uriPath, indexFile, defaultMediaType, defaultCharset, null);
+    }
+
+    /**
+     * Creates a new {@code AssetServlet} that serves static assets loaded from {@code resourceURL}
+     * (typically a file: or jar: URL) and keeps them in the given {@link AssetCache}. Cached assets are
+     * served without re-reading the resource and may be served in a compressed form to clients which
+     * accept it.
+     *
+     * @param resourcePath     the base URL from which assets are loaded
+     * @param uriPath          the URI path fragment in which all requests are rooted
+     * @param indexFile        the filename to use when directories are requested, or null to serve no
+     *                         indexes
+     * @param defaultMediaType the default media type
+     * @param defaultCharset   the default character set
+     * @param cache            the cache for loaded assets, or null to load assets on every request
+     * @see #AssetServlet(String, String, String, String, Charset)
+     * @since 4.0.11
+     */
+    public AssetServlet(String resourcePath,
+                        String uriPath,
+                        @Nullable String indexFile,
+                        @Nullable String defaultMediaType,
+                        @Nullable Charset defaultCharset,
+                        @Nullable AssetCache cache) {
+        this(resourcePath, uriPath, indexFile, defaultMediaType, defaultCharset, cache, null);
+    }
+
+    /**
+     * Creates a new {@code AssetServlet} that serves static assets loaded from {@code resourceURL}
+     * (typically a file: or jar: URL) and keeps them in the given {@link AssetCache}. Assets which
+     * are files on the local file system (e.g. from an exploded jar) and at least as large as
+     * {@code fileStreamingThreshold} are streamed from a {@link java.nio.channels.FileChannel}
+     * instead of being read onto the heap, so serving them uses a constant amount of memory.
+     *
+     * @param resourcePath           the base URL from which assets are loaded
+     * @param uriPath                the URI path fragment in which all requests are rooted
+     * @param indexFile              the filename to use when directories are requested, or null to
+     *                               serve no indexes
+     * @param defaultMediaType       the default media type
+     * @param defaultCharset         the default character set
+     * @param cache                  the cache for loaded assets, or null to load assets on every
+     *                               request
+     * @param fileStreamingThreshold the minimum size of files which are streamed, or null to never
+     *                               stream files
+     * @see #AssetServlet(String, String, String, String, Charset, AssetCache)
+     * @since 4.0.11
+     */
+    public AssetServlet(String resourcePath,
+                        String uriPath,
+                        @Nullable String indexFile,
+                        @Nullable String defaultMediaType,
+                        @Nullable Charset defaultCharset,
+                        @Nullable AssetCache cache,
+                        @Nullable DataSize fileStreamingThreshold) {
         final String trimmedPath = trimSlashes(resourcePath);
         this.resourcePath = trimmedPath.isEmpty() ? trimmedPath : trimmedPath + '/';
         final String trimmedUri = trimTrailingSlashes(uriPath);
@@ -131,10 +178,12 @@ public class AssetServlet extends HttpServlet {
         this.indexFile = indexFile;
         this.defaultMediaType = defaultMediaType == null ? DEFAULT_MEDIA_TYPE : defaultMediaType;
         this.defaultCharset = defaultCharset;
+        this.cache = cache;
+        this.fileStreamingThreshold = fileStreamingThreshold;
     }
 
     private static String trimSlashes(String s) {
-        final Matcher matcher = Pattern.compile("^/*(.*?)/*$").matcher(s);
+        final Matcher matcher = TRIM_SLASHES.matcher(s);
         if (matcher.find()) {
             return matcher.group(1);
         } else {
@@ -143,7 +192,7 @@ public class AssetServlet extends HttpServlet {
     }
 
     private static String trimTrailingSlashes(String s) {
-        final Matcher matcher = Pattern.compile("(.*?)/*$").matcher(s);
+        final Matcher matcher = TRIM_TRAILING_SLASHES.matcher(s);
         if (matcher.find()) {
             return matcher.group(1);
         } else {
@@ -180,6 +229,22 @@ public class AssetServlet extends HttpServlet {
         return defaultCharset;
     }
 
+    /**
+     * @since 4.0.11
+     */
+    @Nullable
+    public AssetCache getCache() {
+        return cache;
+    }
+
+    /**
+     * @since 4.0.11
+     */
+    @Nullable
+    public DataSize getFileStreamingThreshold() {
+        return fileStreamingThreshold;
+    }
+
     @Override
     protected void doGet(HttpServletRequest req,
                          HttpServletResponse resp) throws ServletException, IOException {
@@ -188,20 +253,31 @@ public class AssetServlet extends HttpServlet {
             if (req.getPathInfo() != null) {
                 builder.append(req.getPathInfo());
             }
-            final CachedAsset cachedAsset = loadAsset(builder.toString());
-            if (cachedAsset == null) {
+            final Asset asset = loadAsset(builder.toString());
+            if (asset == null) {
                 resp.sendError(HttpServletResponse.SC_NOT_FOUND);
                 return;
             }
 
-            if (isCachedClientSide(req, cachedAsset)) {
-                resp.sendError(HttpServletResponse.SC_NOT_MODIFIED);
-                return;
+            final String rangeHeader = req.getHeader(RANGE);
+
+            // Byte ranges always refer to the unencoded representation of the asset
+            final String contentEncoding = rangeHeader == null
+                    ? asset.negotiateEncoding(req.getHeader(ACCEPT_ENCODING))
+                    : null;
+            final String eTag = asset.getETag(contentEncoding);
+            // The representation depends on Accept-Encoding, so caches must know that for 304 responses too
+            if (asset.hasEncodedResources()) {
+                resp.addHeader(VARY, ACCEPT_ENCODING);
             }
 
-            final String rangeHeader = req.getHeader(RANGE);
+            if (isCachedClientSide(req, eTag, asset.getLastModifiedTime())) {
+                // sendError would discard the Vary header
+                resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
 
-            final int resourceLength = cachedAsset.getResource().length;
+            final long resourceLength = asset.getLength();
             List<ByteRange> ranges = Collections.emptyList();
 
             boolean usingRanges = false;
@@ -211,7 +287,7 @@ public class AssetServlet extends HttpServlet {
 
                 final String ifRange = req.getHeader(IF_RANGE);
 
-                if (ifRange == null || cachedAsset.getETag().equals(ifRange)) {
+                if (ifRange == null || asset.getETag().equals(ifRange)) {
                     ranges = parseRangeHeader(rangeHeader, resourceLength);
 
                     if (ranges.isEmpty()) {
@@ -222,15 +298,18 @@ public class AssetServlet extends HttpServlet {
                     resp.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
                     usingRanges = true;
 
-                    final String byteRanges = ranges.stream()
-                            .map(ByteRange::toString)
-                            .collect(Collectors.joining(","));
-                    resp.addHeader(CONTENT_RANGE, "bytes " + byteRanges + "/" + resourceLength);
+                    // Several ranges are sent as the parts of a multipart/byteranges response instead
+                    if (ranges.size() == 1) {
+                        resp.addHeader(CONTENT_RANGE, "bytes " + ranges.get(0) + "/" + resourceLength);
+                    }
                 }
             }
 
-            resp.setDateHeader(LAST_MODIFIED, cachedAsset.getLastModifiedTime());
-            resp.setHeader(ETAG, cachedAsset.getETag());
+            resp.setDateHeader(LAST_MODIFIED, asset.getLastModifiedTime());
+            resp.setHeader(ETAG, eTag);
+            if (contentEncoding != null) {
+                resp.setHeader(CONTENT_ENCODING, contentEncoding);
+            }
 
             final String requestUri = req.getRequestURI();
             final String mediaType = Optional.ofNullable(req.getServletContext().getMimeType(
@@ -240,19 +319,43 @@ public class AssetServlet extends HttpServlet {
                 resp.addHeader(ACCEPT_RANGES, "bytes");
             }
 
-            resp.setContentType(mediaType);
-            if (defaultCharset != null) {
-                resp.setCharacterEncoding(defaultCharset.toString());
+            final MultipartByteRanges multipart;
+            if (ranges.size() > 1) {
+                final String partType = defaultCharset == null ? mediaType : mediaType + ";charset=" + defaultCharset;
+                multipart = new MultipartByteRanges(ranges, resourceLength, partType);
+                resp.setContentType(multipart.getContentType());
+            } else {
+                multipart = null;
+                resp.setContentType(mediaType);
+                if (defaultCharset != null) {
+                    resp.setCharacterEncoding(defaultCharset.toString());
+                }
+            }
+
+            if (asset instanceof FileChannelAsset) {
+                ((FileChannelAsset) asset).send(req, resp, ranges, multipart);
+                return;
             }
 
+            final CachedAsset cachedAsset = (CachedAsset) asset;
+            if (multipart != null) {
+                resp.setContentLengthLong(multipart.getContentLength());
+            }
             try (ServletOutputStream output = resp.getOutputStream()) {
                 if (usingRanges) {
-                    for (ByteRange range : ranges) {
-                        output.write(cachedAsset.getResource(), range.getStart(),
-                                range.getEnd() - range.getStart() + 1);
+                    for (int i = 0; i < ranges.size(); i++) {
+                        final ByteRange range = ranges.get(i);
+                        if (multipart != null) {
+                            output.write(multipart.getSeparator(i));
+                        }
+                        // cached resources are held in an array, so their ranges fit into an int
+                        output.write(cachedAsset.getResource(), (int) range.getStart(), (int) range.getLength());
+                    }
+                    if (multipart != null) {
+                        output.write(multipart.getSeparator(ranges.size()));
                     }
                 } else {
-                    output.write(cachedAsset.getResource());
+                    output.write(cachedAsset.getResource(contentEncoding));
                 }
             }
         } catch (RuntimeException | URISyntaxException ignored) {
@@ -264,7 +367,7 @@ public class AssetServlet extends HttpServlet {
     }
 
     @Nullable
-    private CachedAsset loadAsset(String key) throws URISyntaxException, IOException {
+    private Asset loadAsset(String key) throws URISyntaxException, IOException {
         if (!key.startsWith(uriPath)) {
             throw new IllegalArgumentException("Cache key must start with " + uriPath);
         }
@@ -272,17 +375,40 @@ public class AssetServlet extends HttpServlet {
         final String requestedResourcePath = trimSlashes(key.substring(uriPath.length()));
         final String absoluteRequestedResourcePath = trimSlashes(this.resourcePath + requestedResourcePath);
 
+        final AssetCache assetCache = cache;
+        if (assetCache == null) {
+            return loadAsset(absoluteRequestedResourcePath, null);
+        }
+
+        final CachedAsset cachedAsset = assetCache.getIfFresh(absoluteRequestedResourcePath);
+        if (cachedAsset != null) {
+            return cachedAsset;
+        }
+
+        final Asset loadedAsset = loadAsset(absoluteRequestedResourcePath, assetCache);
+        if (loadedAsset instanceof CachedAsset && assetCache.isCacheable(((CachedAsset) loadedAsset).getWeight())) {
+            assetCache.put(absoluteRequestedResourcePath, (CachedAsset) loadedAsset);
+        }
+        return loadedAsset;
+    }
+
+    @Nullable
+    private Asset loadAsset(String absoluteRequestedResourcePath,
+                            @Nullable AssetCache assetCache) throws URISyntaxException, IOException {
+        String resolvedResourcePath = absoluteRequestedResourcePath;
         URL requestedResourceURL = getResourceURL(absoluteRequestedResourcePath);
         if (ResourceURL.isDirectory(requestedResourceURL)) {
             if (indexFile != null) {
-                requestedResourceURL = getResourceURL(absoluteRequestedResourcePath + '/' + indexFile);
+                resolvedResourcePath = absoluteRequestedResourcePath + '/' + indexFile;
+                requestedResourceURL = getResourceURL(resolvedResourcePath);
             } else {
                 // directory requested but no index file defined
                 return null;
             }
         }
 
-        long lastModified = ResourceURL.getLastModified(requestedResourceURL);
+        final long sourceLastModified = ResourceURL.getLastModified(requestedResourceURL);
+        long lastModified = sourceLastModified;
         if (lastModified < 1) {
             // Something went wrong trying to get the last modified time: just use the current time
             lastModified = System.currentTimeMillis();
@@ -290,7 +416,71 @@ public class AssetServlet extends HttpServlet {
 
         // zero out the millis since the date we get back from If-Modified-Since will not have them
         lastModified = (lastModified / 1000) * 1000;
-        return new CachedAsset(readResource(requestedResourceURL), lastModified);
+
+        final FileChannelAsset fileAsset = loadFileChannelAsset(requestedResourceURL, lastModified);
+        if (fileAsset != null) {
+            return fileAsset;
+        }
+
+        final byte[] resource = readResource(requestedResourceURL);
+        final CachedAsset asset = new CachedAsset(requestedResourceURL, resource, lastModified, sourceLastModified);
+        if (assetCache == null || !assetCache.isCacheable(resource.length)) {
+            return asset;
+        }
+
+        final Map<String, byte[]> encodedResources = loadEncodedResources(resolvedResourcePath, resource,
+                assetCache.getConfiguration());
+        return encodedResources.isEmpty() ? asset : asset.withEncodedResources(encodedResources);
+    }
+
+    @Nullable
+    private FileChannelAsset loadFileChannelAsset(URL requestedResourceURL, long lastModified)
+            throws URISyntaxException, IOException {
+        if (fileStreamingThreshold == null || !"file".equals(requestedResourceURL.getProtocol())) {
+            return null;
+        }
+
+        final Path file = Paths.get(requestedResourceURL.toURI());
+        final long size = Files.size(file);
+        if (size < fileStreamingThreshold.toBytes()) {
+            return null;
+        }
+        return new FileChannelAsset(file, size, lastModified);
+    }
+
+    private Map<String, byte[]> loadEncodedResources(String resolvedResourcePath, byte[] resource,
+                                                     AssetCacheConfiguration configuration) throws IOException {
+        final Map<String, byte[]> encodedResources = new LinkedHashMap<>();
+        if (configuration.isPrecompressed()) {
+            for (String[] precompressed : PRECOMPRESSED_EXTENSIONS) {
+                final URL precompressedURL;
+                try {
+                    precompressedURL = getResourceURL(resolvedResourcePath + precompressed[1]);
+                } catch (IllegalArgumentException e) {
+                    // no precompressed variant available
+                    continue;
+                }
+                encodedResources.put(precompressed[0], readResource(precompressedURL));
+            }
+        }
+
+        if (configuration.isGzip() && !encodedResources.containsKey("gzip")
+                && resource.length >= configuration.getMinimumGzipSize().toBytes()) {
+            final byte[] gzipped = gzip(resource);
+            // Only keep the compressed variant if it saves at least 10%
+            if (gzipped.length < resource.length - resource.length / 10) {
+                encodedResources.put("gzip", gzipped);
+            }
+        }
+        return encodedResources;
+    }
+
+    private static byte[] gzip(byte[] resource) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(resource.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(resource);
+        }
+        return output.toByteArray();
     }
 
     protected URL getResourceURL(String absoluteRequestedResourcePath) {
@@ -303,14 +493,14 @@ public class AssetServlet extends HttpServlet {
         }
     }
 
-    private boolean isCachedClientSide(HttpServletRequest req, CachedAsset cachedAsset) {
+    private boolean isCachedClientSide(HttpServletRequest req, String eTag, long lastModifiedTime) {
         // https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/If-Modified-Since
         // Indicates that with the presense of If-None-Match If-Modified-Since should be ignored.
         String ifNoneMatchHeader = req.getHeader(IF_NONE_MATCH);
         if (ifNoneMatchHeader != null) {
-            return cachedAsset.getETag().equals(ifNoneMatchHeader);
+            return eTag.equals(ifNoneMatchHeader);
         } else {
-            return req.getDateHeader(IF_MODIFIED_SINCE) >= cachedAsset.getLastModifiedTime();
+            return req.getDateHeader(IF_MODIFIED_SINCE) >= lastModifiedTime;
         }
     }
 
@@ -321,7 +511,7 @@ public class AssetServlet extends HttpServlet {
      * @param resourceLength Length of the resource in bytes
      * @return List of parsed ranges
      */
-    private List<ByteRange> parseRangeHeader(final String rangeHeader, final int resourceLength) {
+    private List<ByteRange> parseRangeHeader(final String rangeHeader, final long resourceLength) {
         try {
 			final List<ByteRange> byteRanges;
 			if (rangeHeader.contains("=")) {
@@ -11,33 +11,57 @@ import java.util.stream.Collectors;
 @Immutable
 public final class ByteRange {
 
-    private final int start;
-    private final int end;
+    private final long start;
+    private final long end;
 
-    public ByteRange(final int start, final int end) {
+    public ByteRange(final long start, final long end) {
         this.start = start;
         this.end = end;
     }
 
-    public int getStart() {
+    public long getStart() {
         return start;
     }
 
-    public int getEnd() {
+    public long getEnd() {
         return end;
     }
 
+    /**
+     * Returns the number of bytes in this range.
+     *
+     * @return the number of bytes in this range
+     * @since 4.0.11
+     */
+    public long getLength() {
+        return end - start + 1;
+    }
+
     public static ByteRange parse(final String byteRange,
                                   final int resourceLength) {
+        return parse(byteRange, (long) resourceLength);
+    }
+
+    /**
+     * Parses a single byte range of a {@code Range} header.
+     *
+     * @param byteRange      the byte range, e.g. {@code 0-499}, {@code 500-} or {@code -500}
+     * @param resourceLength the length of the resource in bytes
+     * @return the parsed range
+     * @throws NumberFormatException if the range isn't a valid byte range
+     * @since 4.0.11
+     */
+    public static ByteRange parse(final String byteRange,
+                                  final long resourceLength) {
         final String asciiString = new String(byteRange.getBytes(), StandardCharsets.US_ASCII);
         // missing separator
         if (!byteRange.contains("-")) {
-            final int start = Integer.parseInt(asciiString);
+            final long start = Long.parseLong(asciiString);
             return new ByteRange(start, resourceLength - 1);
         }
         // negative range
         if (byteRange.indexOf("-") == 0) {
-            final int start = Integer.parseInt(asciiString);
+            final long start = Long.parseLong(asciiString);
             return new ByteRange(resourceLength + start, resourceLength - 1);
         }
         final List<String> parts = Arrays.stream(asciiString.split("-", -1))
@@ -45,9 +69,9 @@ public final class ByteRange {
                 .filter(s -> !s.isEmpty())
                 .collect(Collectors.toList());
 
-        final int start = Integer.parseInt(parts.get(0));
+        final long start = Long.parseLong(parts.get(0));
         if (parts.size() == 2) {
-            int end = Integer.parseInt(parts.get(1));
+            long end = Long.parseLong(parts.get(1));
             if (end > resourceLength) {
                 end = resourceLength - 1;
             }
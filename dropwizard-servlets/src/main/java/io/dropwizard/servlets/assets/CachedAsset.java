@@ -0,0 +1,157 @@
+package io.dropwizard.servlets.assets;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * A loaded asset together with its precomputed {@code ETag} and, optionally, content-encoded variants of it.
+ *
+ * @since 4.0.11
+ */
+final class CachedAsset implements Asset {
+    private final URL resourceURL;
+    private final byte[] resource;
+    private final String eTag;
+    private final long lastModifiedTime;
+    private final long sourceLastModifiedTime;
+    private final Map<String, byte[]> encodedResources;
+    private final Map<String, String> encodedETags;
+
+    CachedAsset(URL resourceURL, byte[] resource, long lastModifiedTime, long sourceLastModifiedTime) {
+        this(resourceURL, resource, hash(resource), lastModifiedTime, sourceLastModifiedTime, Collections.emptyMap());
+    }
+
+    private CachedAsset(URL resourceURL, byte[] resource, String hash, long lastModifiedTime,
+                        long sourceLastModifiedTime, Map<String, byte[]> encodedResources) {
+        this.resourceURL = resourceURL;
+        this.resource = resource;
+        this.eTag = '"' + hash + '"';
+        this.lastModifiedTime = lastModifiedTime;
+        this.sourceLastModifiedTime = sourceLastModifiedTime;
+        this.encodedResources = encodedResources;
+
+        final Map<String, String> eTags = new LinkedHashMap<>();
+        for (String encoding : encodedResources.keySet()) {
+            eTags.put(encoding, '"' + hash + '-' + encoding + '"');
+        }
+        this.encodedETags = Collections.unmodifiableMap(eTags);
+    }
+
+    private static String hash(byte[] resource) {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(resource);
+        return Long.toHexString(crc32.getValue());
+    }
+
+    /**
+     * Returns a copy of this asset which additionally holds the given content-encoded variants, keyed by
+     * content coding (e.g. {@code gzip} or {@code br}) in order of preference.
+     */
+    CachedAsset withEncodedResources(Map<String, byte[]> encodedResources) {
+        final String hash = eTag.substring(1, eTag.length() - 1);
+        return new CachedAsset(resourceURL, resource, hash, lastModifiedTime, sourceLastModifiedTime,
+            Collections.unmodifiableMap(new LinkedHashMap<>(encodedResources)));
+    }
+
+    URL getResourceURL() {
+        return resourceURL;
+    }
+
+    byte[] getResource() {
+        return resource;
+    }
+
+    @Override
+    public String getETag() {
+        return eTag;
+    }
+
+    @Override
+    public long getLastModifiedTime() {
+        return lastModifiedTime;
+    }
+
+    @Override
+    public long getLength() {
+        return resource.length;
+    }
+
+    /**
+     * Returns the last modified time reported by the underlying resource when this asset was loaded, without the
+     * truncation applied to {@link #getLastModifiedTime()}.
+     */
+    long getSourceLastModifiedTime() {
+        return sourceLastModifiedTime;
+    }
+
+    @Override
+    public boolean hasEncodedResources() {
+        return !encodedResources.isEmpty();
+    }
+
+    byte[] getResource(@Nullable String encoding) {
+        final byte[] encoded = encoding == null ? null : encodedResources.get(encoding);
+        return encoded == null ? resource : encoded;
+    }
+
+    @Override
+    public String getETag(@Nullable String encoding) {
+        final String encodedETag = encoding == null ? null : encodedETags.get(encoding);
+        return encodedETag == null ? eTag : encodedETag;
+    }
+
+    /**
+     * Returns the number of bytes held by this asset, including all of its encoded variants.
+     */
+    long getWeight() {
+        long weight = resource.length;
+        for (byte[] encoded : encodedResources.values()) {
+            weight += encoded.length;
+        }
+        return weight;
+    }
+
+    @Override
+    @Nullable
+    public String negotiateEncoding(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null || encodedResources.isEmpty()) {
+            return null;
+        }
+
+        final Map<String, Boolean> accepted = new LinkedHashMap<>();
+        for (String part : acceptEncoding.split(",", -1)) {
+            final String[] params = part.split(";", -1);
+            final String coding = params[0].trim().toLowerCase(Locale.ENGLISH);
+            if (coding.isEmpty()) {
+                continue;
+            }
+            boolean acceptable = true;
+            for (int i = 1; i < params.length; i++) {
+                final String param = params[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        acceptable = Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        acceptable = false;
+                    }
+                }
+            }
+            accepted.put(coding, acceptable);
+        }
+
+        final Boolean wildcard = accepted.get("*");
+        for (String encoding : encodedResources.keySet()) {
+            final Boolean acceptable = accepted.get(encoding);
+            if (acceptable != null ? acceptable : Boolean.TRUE.equals(wildcard)) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,131 @@
+package io.dropwizard.servlets.assets;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.eclipse.jetty.server.HttpOutput;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * An asset which is backed by a file on the local file system and is streamed from a {@link FileChannel} instead of
+ * being read onto the heap. Only the file's metadata is held, so the memory used for serving it does not depend on
+ * its size.
+ *
+ * @since 4.0.11
+ */
+final class FileChannelAsset implements Asset {
+    private final Path file;
+    private final long length;
+    private final long lastModifiedTime;
+    private final String eTag;
+
+    FileChannelAsset(Path file, long length, long lastModifiedTime) {
+        this.file = file;
+        this.length = length;
+        this.lastModifiedTime = lastModifiedTime;
+        // Computing a content hash would require reading the whole file, so the ETag is derived from its metadata
+        this.eTag = '"' + Long.toHexString(lastModifiedTime) + '-' + Long.toHexString(length) + '"';
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    @Override
+    public String getETag() {
+        return eTag;
+    }
+
+    @Override
+    public String getETag(@Nullable String encoding) {
+        return eTag;
+    }
+
+    @Override
+    public long getLastModifiedTime() {
+        return lastModifiedTime;
+    }
+
+    @Override
+    public long getLength() {
+        return length;
+    }
+
+    @Override
+    public boolean hasEncodedResources() {
+        return false;
+    }
+
+    @Override
+    @Nullable
+    public String negotiateEncoding(@Nullable String acceptEncoding) {
+        return null;
+    }
+
+    /**
+     * Writes the given byte ranges of the file, or the whole file if no ranges are given, to the response. Several
+     * ranges are written as the parts of a {@code multipart/byteranges} response.
+     * <p/>
+     * If the request supports asynchronous processing and the response is written by Jetty, the file is sent
+     * through non-blocking writes of memory-mapped regions, so the request thread is released immediately.
+     * Otherwise the file is written on the calling thread.
+     *
+     * @param req    the request
+     * @param resp   the response
+     * @param ranges    the byte ranges to send, or an empty list to send the whole file
+     * @param multipart the framing of the ranges, or null if at most one range is sent
+     * @throws IOException if the file can't be opened or written
+     */
+    void send(HttpServletRequest req, HttpServletResponse resp, List<ByteRange> ranges,
+              @Nullable MultipartByteRanges multipart) throws IOException {
+        final long[] positions;
+        final long[] lengths;
+        if (ranges.isEmpty()) {
+            positions = new long[]{0};
+            lengths = new long[]{length};
+        } else {
+            positions = new long[ranges.size()];
+            lengths = new long[ranges.size()];
+            for (int i = 0; i < ranges.size(); i++) {
+                final ByteRange range = ranges.get(i);
+                positions[i] = range.getStart();
+                lengths[i] = range.getLength();
+            }
+        }
+
+        if (multipart != null) {
+            resp.setContentLengthLong(multipart.getContentLength());
+        } else {
+            long contentLength = 0;
+            for (long segmentLength : lengths) {
+                contentLength += segmentLength;
+            }
+            resp.setContentLengthLong(contentLength);
+        }
+
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            final ServletOutputStream output = resp.getOutputStream();
+            if (req.isAsyncSupported() && output instanceof HttpOutput) {
+                final AsyncContext asyncContext = req.startAsync();
+                // Large downloads are only bounded by the connection's idle timeout
+                asyncContext.setTimeout(0);
+                output.setWriteListener(new FileChannelWriter(channel, positions, lengths, multipart, output, asyncContext));
+            } else {
+                try (FileChannel ignored = channel; ServletOutputStream out = output) {
+                    new FileChannelWriter(channel, positions, lengths, multipart, out, null).writeFully();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.dropwizard.servlets.assets;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The framing of a {@code multipart/byteranges} response, which is sent for a request with several byte ranges.
+ * Each range is sent as a part with its own {@code Content-Type} and {@code Content-Range} headers.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc9110#name-media-type-multipart-byteran">RFC 9110, section 14.6</a>
+ * @since 4.0.11
+ */
+final class MultipartByteRanges {
+    private final String boundary;
+    private final byte[][] separators;
+    private final long contentLength;
+
+    /**
+     * @param ranges         the byte ranges to send
+     * @param resourceLength the length of the resource in bytes
+     * @param partType       the content type of each part, i.e. of the resource
+     */
+    MultipartByteRanges(List<ByteRange> ranges, long resourceLength, String partType) {
+        this.boundary = UUID.randomUUID().toString().replace("-", "");
+        this.separators = new byte[ranges.size() + 1][];
+        long length = 0;
+        for (int i = 0; i < ranges.size(); i++) {
+            final ByteRange range = ranges.get(i);
+            // the line break before a boundary belongs to the boundary
+            separators[i] = ascii((i == 0 ? "" : "\r\n") + "--" + boundary + "\r\n"
+                + "Content-Type: " + partType + "\r\n"
+                + "Content-Range: bytes " + range + "/" + resourceLength + "\r\n"
+                + "\r\n");
+            length += separators[i].length + range.getLength();
+        }
+        separators[ranges.size()] = ascii("\r\n--" + boundary + "--\r\n");
+        this.contentLength = length + separators[ranges.size()].length;
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the content type of the response, including its boundary.
+     */
+    String getContentType() {
+        return "multipart/byteranges; boundary=" + boundary;
+    }
+
+    /**
+     * Returns the length of the response body, i.e. of all parts and their framing.
+     */
+    long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Returns the bytes which are sent before the range at the given index, or after the last range if the index is
+     * the number of ranges.
+     */
+    byte[] getSeparator(int index) {
+        return separators[index];
+    }
+}
@@ -2,13 +2,17 @@ package io.dropwizard.servlets;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
 
+import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -36,8 +40,62 @@ class ThreadNameFilterTest {
         threadNameFilter.destroy();
     }
 
+    @Test
+    void bindsRequestDescriptorInChain() throws Exception {
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestURI()).thenReturn("/some/path");
+        when(request.getQueryString()).thenReturn("q=1");
+
+        doAnswer(invocationOnMock -> {
+            final RequestDescriptor descriptor = requireNonNull(RequestDescriptor.current());
+            assertThat(descriptor.getRequest()).isSameAs(request);
+            assertThat(descriptor).hasToString("GET /some/path?q=1");
+            assertThat(Thread.currentThread().getName()).isEqualTo("test-thread");
+            assertThat(MDC.get(ThreadNameFilter.METHOD_MDC_KEY)).isNull();
+            return null;
+        }).when(chain).doFilter(request, response);
+
+        Thread.currentThread().setName("test-thread");
+        threadNameFilter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        assertThat(RequestDescriptor.current()).isNull();
+    }
+
+    @Test
+    void putsRequestIntoMdcInChain() throws Exception {
+        when(filterConfig.getInitParameter(ThreadNameFilter.MODE_PARAM)).thenReturn("mdc");
+        threadNameFilter.init(filterConfig);
+        when(request.getMethod()).thenReturn("POST");
+        when(request.getRequestURI()).thenReturn("/some/path");
+
+        doAnswer(invocationOnMock -> {
+            assertThat(MDC.get(ThreadNameFilter.METHOD_MDC_KEY)).isEqualTo("POST");
+            assertThat(MDC.get(ThreadNameFilter.URI_MDC_KEY)).isEqualTo("/some/path");
+            assertThat(RequestDescriptor.current()).isNotNull();
+            return null;
+        }).when(chain).doFilter(request, response);
+
+        threadNameFilter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        assertThat(MDC.get(ThreadNameFilter.METHOD_MDC_KEY)).isNull();
+        assertThat(MDC.get(ThreadNameFilter.URI_MDC_KEY)).isNull();
+        assertThat(RequestDescriptor.current()).isNull();
+    }
+
+    @Test
+    void rejectsUnknownMode() {
+        when(filterConfig.getInitParameter(ThreadNameFilter.MODE_PARAM)).thenReturn("unknown");
+
+        assertThatExceptionOfType(ServletException.class)
+            .isThrownBy(() -> threadNameFilter.init(filterConfig))
+            .withMessage("Unknown thread name filter mode: unknown");
+    }
+
     @Test
     void setsThreadNameInChain() throws Exception {
+        threadNameFilter = new ThreadNameFilter(ThreadNameFilter.Mode.RENAME);
         when(request.getMethod()).thenReturn("GET");
         when(request.getRequestURI()).thenReturn("/some/path");
 
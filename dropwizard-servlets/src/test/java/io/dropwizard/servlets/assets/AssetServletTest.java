@@ -1,5 +1,8 @@
 package io.dropwizard.servlets.assets;
 
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.util.DataSize;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpTester;
@@ -10,6 +13,8 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -29,6 +34,9 @@ public class AssetServletTest {
     private static final String NOCHARSET_SERVLET = "/nocharset_servlet/";
     private static final String NOMEDIATYPE_SERVLET = "/nomediatype_servlet/";
     private static final String MEDIATYPE_SERVLET = "/mediatype_servlet/";
+    private static final String CACHING_SERVLET = "/caching_servlet/";
+    private static final String STREAMING_SERVLET = "/streaming_servlet/";
+    private static final String ASYNC_STREAMING_SERVLET = "/async_streaming_servlet/";
     private static final String ROOT_SERVLET = "/";
     private static final String RESOURCE_PATH = "/assets";
 
@@ -82,6 +90,35 @@ public class AssetServletTest {
         }
     }
 
+    private static final MetricRegistry METRIC_REGISTRY = new MetricRegistry();
+
+    public static class CachingAssetServlet extends AssetServlet {
+        private static final long serialVersionUID = 1L;
+
+        public CachingAssetServlet() {
+            super(RESOURCE_PATH, CACHING_SERVLET, "index.htm", null, StandardCharsets.UTF_8,
+                new AssetCacheConfiguration().build(METRIC_REGISTRY, "caching"));
+        }
+    }
+
+    public static class StreamingAssetServlet extends AssetServlet {
+        private static final long serialVersionUID = 1L;
+
+        public StreamingAssetServlet() {
+            super(RESOURCE_PATH, STREAMING_SERVLET, "index.htm", null, StandardCharsets.UTF_8, null,
+                DataSize.bytes(0));
+        }
+    }
+
+    public static class AsyncStreamingAssetServlet extends AssetServlet {
+        private static final long serialVersionUID = 1L;
+
+        public AsyncStreamingAssetServlet() {
+            super(RESOURCE_PATH, ASYNC_STREAMING_SERVLET, "index.htm", null, StandardCharsets.UTF_8, null,
+                DataSize.bytes(0));
+        }
+    }
+
     private static final ServletTester SERVLET_TESTER = new ServletTester();
     private final HttpTester.Request request = HttpTester.newRequest();
     private HttpTester.@Nullable Response response;
@@ -93,6 +130,10 @@ public class AssetServletTest {
         SERVLET_TESTER.addServlet(NoCharsetAssetServlet.class, NOCHARSET_SERVLET + '*');
         SERVLET_TESTER.addServlet(NoDefaultMediaTypeAssetServlet.class, NOMEDIATYPE_SERVLET + '*');
         SERVLET_TESTER.addServlet(DefaultMediaTypeAssetServlet.class, MEDIATYPE_SERVLET + '*');
+        SERVLET_TESTER.addServlet(CachingAssetServlet.class, CACHING_SERVLET + '*');
+        SERVLET_TESTER.addServlet(StreamingAssetServlet.class, STREAMING_SERVLET + '*');
+        SERVLET_TESTER.addServlet(AsyncStreamingAssetServlet.class, ASYNC_STREAMING_SERVLET + '*')
+            .setAsyncSupported(true);
         SERVLET_TESTER.addServlet(RootAssetServlet.class, ROOT_SERVLET + '*');
         SERVLET_TESTER.start();
 
@@ -358,21 +399,40 @@ public class AssetServletTest {
         response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request
                 .generate()));
         assertThat(response.getStatus()).isEqualTo(206);
-        assertThat(response.getContent()).isEqualTo("HE");
         assertThat(response.get(HttpHeader.ACCEPT_RANGES)).isEqualTo("bytes");
-        assertThat(response.get(HttpHeader.CONTENT_RANGE)).isEqualTo(
-                "bytes 0-0,10-10/11");
-        assertThat(response.get(HttpHeader.CONTENT_LENGTH)).isEqualTo("2");
+        assertThat(response.get(HttpHeader.CONTENT_RANGE)).isNull();
+        assertByteRangeParts(response, "text/plain;charset=UTF-8", "0-0/11", "H", "10-10/11", "E");
 
         request.setHeader(HttpHeader.RANGE.asString(), "bytes=5-6,7-10");
         response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request
                 .generate()));
         assertThat(response.getStatus()).isEqualTo(206);
-        assertThat(response.getContent()).isEqualTo(" THERE");
         assertThat(response.get(HttpHeader.ACCEPT_RANGES)).isEqualTo("bytes");
-        assertThat(response.get(HttpHeader.CONTENT_RANGE)).isEqualTo(
-                "bytes 5-6,7-10/11");
-        assertThat(response.get(HttpHeader.CONTENT_LENGTH)).isEqualTo("6");
+        assertThat(response.get(HttpHeader.CONTENT_RANGE)).isNull();
+        assertByteRangeParts(response, "text/plain;charset=UTF-8", "5-6/11", " T", "7-10/11", "HERE");
+    }
+
+    /**
+     * Asserts that the response is a {@code multipart/byteranges} response with the given parts, each given by its
+     * content range followed by its content.
+     */
+    private static void assertByteRangeParts(HttpTester.Response response, String partType, String... parts) {
+        final String contentType = response.get(HttpHeader.CONTENT_TYPE);
+        assertThat(contentType).startsWith("multipart/byteranges; boundary=");
+        final String boundary = contentType.substring(contentType.indexOf('=') + 1);
+
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < parts.length; i += 2) {
+            expected.append(i == 0 ? "" : "\r\n").append("--").append(boundary).append("\r\n")
+                .append("Content-Type: ").append(partType).append("\r\n")
+                .append("Content-Range: bytes ").append(parts[i]).append("\r\n")
+                .append("\r\n")
+                .append(parts[i + 1]);
+        }
+        expected.append("\r\n--").append(boundary).append("--\r\n");
+
+        assertThat(response.getContent()).isEqualTo(expected.toString());
+        assertThat(response.get(HttpHeader.CONTENT_LENGTH)).isEqualTo(Integer.toString(expected.length()));
     }
 
     @Test
@@ -534,4 +594,136 @@ public class AssetServletTest {
         assertThat(response.getStatus())
                 .isEqualTo(200);
     }
+
+    @Test
+    void servesCachedAssets() throws Exception {
+        final Meter hits = METRIC_REGISTRY.meter("io.dropwizard.servlets.assets.AssetServlet.caching.cache.hits");
+        final long hitsBefore = hits.getCount();
+
+        request.setURI(CACHING_SERVLET + "example.txt");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        final String firstEtag = response.get(HttpHeader.ETAG);
+
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.getContent())
+                .isEqualTo("HELLO THERE");
+        assertThat(response.get(HttpHeader.ETAG))
+                .isEqualTo(firstEtag);
+        assertThat(hits.getCount())
+                .isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    void servesGzippedAssetsFromCacheIfAccepted() throws Exception {
+        request.setURI(CACHING_SERVLET + "compressible.txt");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.get(HttpHeader.CONTENT_ENCODING))
+                .isNull();
+        assertThat(response.get(HttpHeader.VARY))
+                .isEqualTo("Accept-Encoding");
+        final String identityEtag = response.get(HttpHeader.ETAG);
+        final int identityLength = response.getContentBytes().length;
+
+        request.setHeader(HttpHeader.ACCEPT_ENCODING.asString(), "deflate, gzip;q=0.8");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.get(HttpHeader.CONTENT_ENCODING))
+                .isEqualTo("gzip");
+        assertThat(response.get(HttpHeader.ETAG))
+                .isNotEqualTo(identityEtag);
+        assertThat(response.getContentBytes())
+                .hasSizeLessThan(identityLength);
+
+        request.setHeader(HttpHeader.IF_NONE_MATCH.asString(), response.get(HttpHeader.ETAG));
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(304);
+        assertThat(response.get(HttpHeader.VARY))
+                .isEqualTo("Accept-Encoding");
+    }
+
+    @Test
+    void servesPrecompressedAssetsFromCacheIfAccepted() throws Exception {
+        request.setURI(CACHING_SERVLET + "precompressed.js");
+        request.setHeader(HttpHeader.ACCEPT_ENCODING.asString(), "gzip, br");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.get(HttpHeader.CONTENT_ENCODING))
+                .isEqualTo("br");
+        assertThat(response.getContent())
+                .isEqualTo("BROTLI");
+
+        request.setHeader(HttpHeader.ACCEPT_ENCODING.asString(), "gzip, br;q=0");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.get(HttpHeader.CONTENT_ENCODING))
+                .isNull();
+        assertThat(response.getContent())
+                .isEqualTo("console.log(\"hello\");\n");
+    }
+
+    @Test
+    void servesUnencodedByteRangesFromCache() throws Exception {
+        request.setURI(CACHING_SERVLET + "compressible.txt");
+        request.setHeader(HttpHeader.ACCEPT_ENCODING.asString(), "gzip");
+        request.setHeader(HttpHeader.RANGE.asString(), "bytes=0-3");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(206);
+        assertThat(response.get(HttpHeader.CONTENT_ENCODING))
+                .isNull();
+        assertThat(response.getContent())
+                .isEqualTo("line");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {STREAMING_SERVLET, ASYNC_STREAMING_SERVLET})
+    void streamsFiles(String servlet) throws Exception {
+        request.setURI(servlet + "example.txt");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.getContent())
+                .isEqualTo("HELLO THERE");
+        assertThat(response.get(HttpHeader.CONTENT_LENGTH))
+                .isEqualTo("11");
+
+        request.setHeader(HttpHeader.IF_NONE_MATCH.asString(), response.get(HttpHeader.ETAG));
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(304);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {STREAMING_SERVLET, ASYNC_STREAMING_SERVLET})
+    void streamsByteRangesOfFiles(String servlet) throws Exception {
+        request.setURI(servlet + "example.txt");
+        request.setHeader(HttpHeader.RANGE.asString(), "bytes=6-");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContent()).isEqualTo("THERE");
+        assertThat(response.get(HttpHeader.CONTENT_RANGE)).isEqualTo("bytes 6-10/11");
+        assertThat(response.get(HttpHeader.CONTENT_LENGTH)).isEqualTo("5");
+
+        request.setHeader(HttpHeader.RANGE.asString(), "bytes=0-0,-1");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.get(HttpHeader.CONTENT_RANGE)).isNull();
+        assertByteRangeParts(response, "text/plain;charset=UTF-8", "0-0/11", "H", "10-10/11", "E");
+    }
+
+    @Test
+    void streamsIndexFiles() throws Exception {
+        request.setURI(ASYNC_STREAMING_SERVLET);
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(MimeTypes.CACHE.get(response.get(HttpHeader.CONTENT_TYPE))).isEqualTo(MimeTypes.Type.TEXT_HTML_UTF_8);
+    }
 }
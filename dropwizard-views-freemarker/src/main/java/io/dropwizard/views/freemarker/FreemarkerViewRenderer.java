@@ -30,7 +30,7 @@ public class FreemarkerViewRenderer implements ViewRenderer {
     private static final Pattern FILE_PATTERN = Pattern.compile("\\.ftl[hx]?");
     private final TemplateLoader loader;
 
-    private static class TemplateLoader implements CacheLoader<Class<?>, Configuration> {
+    private static class TemplateLoader implements CacheLoader<ClassLoader, Configuration> {
         private final Version incompatibleImprovementsVersion;
         private Map<String, String> baseConfig = Collections.emptyMap();
 
@@ -39,12 +39,12 @@ public class FreemarkerViewRenderer implements ViewRenderer {
         }
 
         @Override
-        public Configuration load(@NonNull Class<?> key) throws Exception {
+        public Configuration load(@NonNull ClassLoader key) throws Exception {
             final Configuration configuration = new Configuration(incompatibleImprovementsVersion);
             configuration.setObjectWrapper(new DefaultObjectWrapperBuilder(incompatibleImprovementsVersion).build());
             configuration.loadBuiltInEncodingMap();
             configuration.setDefaultEncoding(StandardCharsets.UTF_8.name());
-            configuration.setClassForTemplateLoading(key, "/");
+            configuration.setClassLoaderForTemplateLoading(key, "");
             // setting the outputformat implicitly enables auto escaping
             configuration.setOutputFormat(HTMLOutputFormat.INSTANCE);
             for (Map.Entry<String, String> entry : baseConfig.entrySet()) {
@@ -58,7 +58,7 @@ public class FreemarkerViewRenderer implements ViewRenderer {
         }
     }
 
-    private final LoadingCache<Class<?>, Configuration> configurationCache;
+    private final LoadingCache<ClassLoader, Configuration> configurationCache;
 
     /**
      * @deprecated Use {@link #FreemarkerViewRenderer(Version)} instead.
@@ -79,20 +79,25 @@ public class FreemarkerViewRenderer implements ViewRenderer {
 
     @Override
     public boolean isRenderable(View view) {
-        return FILE_PATTERN.matcher(view.getTemplateName()).find();
+        return isRenderable(view.getTemplateName());
+    }
+
+    @Override
+    public boolean isRenderable(String templateName) {
+        return FILE_PATTERN.matcher(templateName).find();
     }
 
     @Override
     public void render(View view,
                        Locale locale,
                        OutputStream output) throws IOException {
-        final Configuration configuration = configurationCache.get(view.getClass());
+        final Configuration configuration = configurationCache.get(view.getClass().getClassLoader());
         if (configuration == null) {
             throw new ViewRenderException("Couldn't find view class " + view.getClass());
         }
 
         try {
-            final Charset charset = view.getCharset().orElseGet(() -> Charset.forName(configuration.getEncoding(locale)));
+            final Charset charset = view.getCharset().orElseGet(() -> getDefaultCharset(configuration, locale));
             final Template template = configuration.getTemplate(view.getTemplateName(), locale, charset.name());
             template.process(view, new OutputStreamWriter(output, template.getEncoding()));
         } catch (Exception e) {
@@ -100,6 +105,37 @@ public class FreemarkerViewRenderer implements ViewRenderer {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * FreeMarker caches a template per locale and encoding, so the template is compiled for the locale of the
+     * FreeMarker configuration and its encoding, which is what views without a charset of their own look up for
+     * requests in this locale. Other locales and views with a charset of their own still compile the template when
+     * they render it for the first time.
+     */
+    @Override
+    public void precompile(String templateName, ClassLoader classLoader) throws ViewRenderException {
+        final Configuration configuration = configurationCache.get(classLoader);
+        if (configuration == null) {
+            throw new ViewRenderException("Couldn't load templates of " + classLoader);
+        }
+
+        try {
+            final Locale locale = configuration.getLocale();
+            configuration.getTemplate(templateName, locale, getDefaultCharset(configuration, locale).name());
+        } catch (Exception e) {
+            throw new ViewRenderException("Freemarker template error: " + templateName, e);
+        }
+    }
+
+    /**
+     * Returns the charset of views without a charset of their own. The template cache of FreeMarker is keyed by the
+     * name of the encoding, so rendering and precompiling a template both use the canonical name of this charset.
+     */
+    private static Charset getDefaultCharset(Configuration configuration, Locale locale) {
+        return Charset.forName(configuration.getEncoding(locale));
+    }
+
     @Override
     public void configure(Map<String, String> baseConfig) {
         this.loader.setBaseConfig(baseConfig);
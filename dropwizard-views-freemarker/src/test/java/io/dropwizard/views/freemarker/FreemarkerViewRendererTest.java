@@ -4,6 +4,7 @@ import com.codahale.metrics.MetricRegistry;
 import freemarker.template.Configuration;
 import io.dropwizard.logging.common.BootstrapLogging;
 import io.dropwizard.views.common.ViewMessageBodyWriter;
+import io.dropwizard.views.common.ViewRenderException;
 import io.dropwizard.views.common.ViewRenderExceptionMapper;
 import io.dropwizard.views.common.ViewRenderer;
 import jakarta.ws.rs.FormParam;
@@ -135,4 +136,24 @@ class FreemarkerViewRendererTest extends JerseyTest {
         assertThat(response.getHeaderString("content-type")).isEqualToIgnoringCase(MediaType.TEXT_HTML);
         assertThat(response.readEntity(String.class)).doesNotContain(unsafe);
     }
+
+    @Test
+    void precompilesTemplates() throws Exception {
+        final FreemarkerViewRenderer renderer = new FreemarkerViewRenderer(Configuration.VERSION_2_3_30);
+        renderer.configure(Collections.emptyMap());
+
+        assertThat(renderer.isRenderable("/example.ftlh")).isTrue();
+        assertThat(renderer.isRenderable("/example.mustache")).isFalse();
+        renderer.precompile("/example.ftlh", getClass().getClassLoader());
+    }
+
+    @Test
+    void failsToPrecompileInvalidTemplates() {
+        final FreemarkerViewRenderer renderer = new FreemarkerViewRenderer(Configuration.VERSION_2_3_30);
+        renderer.configure(Collections.emptyMap());
+
+        assertThatExceptionOfType(ViewRenderException.class)
+            .isThrownBy(() -> renderer.precompile("/unclosed.ftl", getClass().getClassLoader()))
+            .withMessage("Freemarker template error: /unclosed.ftl");
+    }
 }
@@ -1,7 +1,6 @@
 package io.dropwizard.views.mustache;
 
 import com.github.mustachejava.MustacheResolver;
-import io.dropwizard.views.common.View;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.BufferedReader;
@@ -12,19 +11,20 @@ import java.nio.charset.StandardCharsets;
 
 /**
  * {@link MustacheResolver} implementation that resolves mustache
- * files from the classpath relatively from a provided class.
+ * files from the classpath of a provided class loader.
  */
-class PerClassMustacheResolver implements MustacheResolver {
-    private final Class<? extends View> klass;
+class ClassLoaderMustacheResolver implements MustacheResolver {
+    private final ClassLoader classLoader;
 
-    PerClassMustacheResolver(Class<? extends View> klass) {
-        this.klass = klass;
+    ClassLoaderMustacheResolver(ClassLoader classLoader) {
+        this.classLoader = classLoader;
     }
 
     @Override
     @Nullable
     public Reader getReader(String resourceName) {
-        final InputStream is = klass.getResourceAsStream(resourceName);
+        final InputStream is = classLoader.getResourceAsStream(
+            resourceName.startsWith("/") ? resourceName.substring(1) : resourceName);
         if (is == null) {
             return null;
         }
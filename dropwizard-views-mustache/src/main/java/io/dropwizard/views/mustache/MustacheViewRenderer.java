@@ -27,14 +27,14 @@ import java.util.regex.Pattern;
  */
 public class MustacheViewRenderer implements ViewRenderer {
     private static final Pattern FILE_PATTERN = Pattern.compile("\\.mustache");
-    private final LoadingCache<Class<? extends View>, MustacheFactory> factories;
+    private final LoadingCache<ClassLoader, MustacheFactory> factories;
     private boolean useCache = true;
     private Optional<File> fileRoot = Optional.empty();
 
     public MustacheViewRenderer() {
-        this.factories = Caffeine.newBuilder().build(new CacheLoader<Class<? extends View>, MustacheFactory>() {
+        this.factories = Caffeine.newBuilder().build(new CacheLoader<ClassLoader, MustacheFactory>() {
             @Override
-            public MustacheFactory load(Class<? extends View> key) throws Exception {
+            public MustacheFactory load(ClassLoader key) throws Exception {
                 return createNewMustacheFactory(key);
             }
         });
@@ -42,15 +42,19 @@ public class MustacheViewRenderer implements ViewRenderer {
 
     @Override
     public boolean isRenderable(View view) {
-        return FILE_PATTERN.matcher(view.getTemplateName()).find();
+        return isRenderable(view.getTemplateName());
+    }
+
+    @Override
+    public boolean isRenderable(String templateName) {
+        return FILE_PATTERN.matcher(templateName).find();
     }
 
     @Override
     public void render(View view, Locale locale, OutputStream output) throws IOException {
         try {
-            final MustacheFactory mustacheFactory = useCache ? factories.get(view.getClass())
-                    : createNewMustacheFactory(view.getClass());
-            final Mustache template = mustacheFactory.compile(view.getTemplateName());
+            final Mustache template = mustacheFactory(view.getClass().getClassLoader())
+                    .compile(view.getTemplateName());
             final Charset charset = view.getCharset().orElse(StandardCharsets.UTF_8);
             try (OutputStreamWriter writer = new OutputStreamWriter(output, charset)) {
                 template.execute(writer, view);
@@ -60,6 +64,19 @@ public class MustacheViewRenderer implements ViewRenderer {
         }
     }
 
+    /**
+     * Compiles the template into the cache of the renderer. If the cache is disabled, the template is only checked
+     * for errors.
+     */
+    @Override
+    public void precompile(String templateName, ClassLoader classLoader) throws ViewRenderException {
+        try {
+            mustacheFactory(classLoader).compile(templateName);
+        } catch (RuntimeException e) {
+            throw new ViewRenderException("Mustache template error: " + templateName, e);
+        }
+    }
+
     @Override
     public void configure(Map<String, String> options) {
         useCache = Optional.ofNullable(options.get("cache")).map(Boolean::parseBoolean).orElse(true);
@@ -75,9 +92,13 @@ public class MustacheViewRenderer implements ViewRenderer {
         return "mustache";
     }
 
-    private MustacheFactory createNewMustacheFactory(Class<? extends View> key) {
-        return new DefaultMustacheFactory(
-                fileRoot.isPresent() ? new FileSystemResolver(fileRoot.get()) : new PerClassMustacheResolver(key));
+    private MustacheFactory mustacheFactory(ClassLoader classLoader) {
+        return useCache ? factories.get(classLoader) : createNewMustacheFactory(classLoader);
+    }
+
+    private MustacheFactory createNewMustacheFactory(ClassLoader classLoader) {
+        return new DefaultMustacheFactory(fileRoot.isPresent() ? new FileSystemResolver(fileRoot.get())
+                : new ClassLoaderMustacheResolver(classLoader));
     }
 
 }
@@ -4,6 +4,7 @@ import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.jersey.DropwizardResourceConfig;
 import io.dropwizard.logging.common.BootstrapLogging;
 import io.dropwizard.views.common.ViewMessageBodyWriter;
+import io.dropwizard.views.common.ViewRenderException;
 import io.dropwizard.views.common.ViewRenderExceptionMapper;
 import io.dropwizard.views.common.ViewRenderer;
 import jakarta.ws.rs.GET;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 
 class MustacheViewRendererTest extends JerseyTest {
@@ -131,4 +133,24 @@ class MustacheViewRendererTest extends JerseyTest {
         mustacheViewRenderer.configure(Collections.singletonMap("cache", "false"));
         assertThat(mustacheViewRenderer.isUseCache()).isFalse();
     }
+
+    @Test
+    void precompilesTemplates() throws Exception {
+        MustacheViewRenderer mustacheViewRenderer = new MustacheViewRenderer();
+        mustacheViewRenderer.configure(Collections.emptyMap());
+
+        assertThat(mustacheViewRenderer.isRenderable("/example.mustache")).isTrue();
+        assertThat(mustacheViewRenderer.isRenderable("/example.ftl")).isFalse();
+        mustacheViewRenderer.precompile("/example.mustache", getClass().getClassLoader());
+    }
+
+    @Test
+    void failsToPrecompileInvalidTemplates() {
+        MustacheViewRenderer mustacheViewRenderer = new MustacheViewRenderer();
+        mustacheViewRenderer.configure(Collections.emptyMap());
+
+        assertThatExceptionOfType(ViewRenderException.class)
+            .isThrownBy(() -> mustacheViewRenderer.precompile("/example-error.mustache", getClass().getClassLoader()))
+            .withMessage("Mustache template error: /example-error.mustache");
+    }
 }
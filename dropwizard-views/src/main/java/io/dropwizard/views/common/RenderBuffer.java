@@ -0,0 +1,96 @@
+package io.dropwizard.views.common;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Buffers a rendered view up to a limit, so that its length is known before it's written. Once the limit is
+ * exceeded, the buffered bytes and all further bytes are written to the entity stream directly.
+ * <p/>
+ * Instances are reused across renders and are not thread-safe.
+ */
+final class RenderBuffer extends OutputStream {
+    private static final int INITIAL_SIZE = 4096;
+
+    private final int limit;
+    private byte[] buffer;
+    private int count;
+    @Nullable
+    private OutputStream entityStream;
+    private boolean spilled;
+
+    RenderBuffer(int limit) {
+        this.limit = limit;
+        this.buffer = new byte[Math.min(limit, INITIAL_SIZE)];
+    }
+
+    void open(OutputStream entityStream) {
+        this.entityStream = entityStream;
+        this.count = 0;
+        this.spilled = false;
+    }
+
+    void release() {
+        this.entityStream = null;
+        this.count = 0;
+    }
+
+    /**
+     * Returns whether the rendered view exceeded the limit and was written to the entity stream directly.
+     */
+    boolean isSpilled() {
+        return spilled;
+    }
+
+    int size() {
+        return count;
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, count);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        final OutputStream out = requireOpen();
+        if (spilled) {
+            out.write(b, off, len);
+            return;
+        }
+        if (count + len > limit) {
+            spilled = true;
+            out.write(buffer, 0, count);
+            count = 0;
+            out.write(b, off, len);
+            return;
+        }
+        if (count + len > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.min(limit, Math.max(buffer.length * 2, count + len)));
+        }
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (spilled) {
+            requireOpen().flush();
+        }
+    }
+
+    private OutputStream requireOpen() throws IOException {
+        final OutputStream out = entityStream;
+        if (out == null) {
+            throw new IOException("The render buffer is not open");
+        }
+        return out;
+    }
+}
@@ -0,0 +1,215 @@
+package io.dropwizard.views.common;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Discovers the templates below a set of classpath directories and compiles them in parallel with the
+ * {@link ViewRenderer renderers} which can render them.
+ */
+class TemplatePrecompiler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TemplatePrecompiler.class);
+
+    private final MetricRegistry metricRegistry;
+    private final Iterable<ViewRenderer> renderers;
+    private final ClassLoader classLoader;
+    private final int parallelism;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    TemplatePrecompiler(MetricRegistry metricRegistry, Iterable<ViewRenderer> renderers, ClassLoader classLoader,
+                        int parallelism) {
+        this.metricRegistry = metricRegistry;
+        this.renderers = renderers;
+        this.classLoader = classLoader;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Compiles all templates below the given classpath directories.
+     *
+     * @param paths the classpath directories to search for templates, e.g. {@code com/example/views}
+     * @return the number of compiled templates
+     * @throws IOException if the classpath can't be searched or a template can't be compiled
+     */
+    int precompile(Iterable<String> paths) throws IOException {
+        final List<Compilation> compilations = new ArrayList<>();
+        for (String template : findTemplates(paths)) {
+            for (ViewRenderer renderer : renderers) {
+                if (renderer.isRenderable(template)) {
+                    compilations.add(new Compilation(template, renderer));
+                }
+            }
+        }
+        if (compilations.isEmpty()) {
+            return 0;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(parallelism, compilations.size())), new PrecompilerThreadFactory());
+        try {
+            final List<Future<?>> futures = new ArrayList<>(compilations.size());
+            for (Compilation compilation : compilations) {
+                futures.add(executor.submit(() -> {
+                    compilation.run();
+                    return null;
+                }));
+            }
+
+            final List<String> failedTemplates = new ArrayList<>();
+            final List<Throwable> failures = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    failedTemplates.add(compilations.get(i).template);
+                    failures.add(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ViewRenderException("Interrupted while precompiling templates", e);
+                }
+            }
+            if (!failures.isEmpty()) {
+                final ViewRenderException failure =
+                    new ViewRenderException("Unable to precompile templates " + failedTemplates, failures.get(0));
+                failures.stream().skip(1).forEach(failure::addSuppressed);
+                throw failure;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        LOGGER.info("Precompiled {} templates", compilations.size());
+        return compilations.size();
+    }
+
+    /**
+     * Returns the absolute names of all resources below the given classpath directories.
+     */
+    Set<String> findTemplates(Iterable<String> paths) throws IOException {
+        final TreeSet<String> templates = new TreeSet<>();
+        for (String path : paths) {
+            final String directory = trimSlashes(path);
+            final Enumeration<URL> urls = classLoader.getResources(directory);
+            while (urls.hasMoreElements()) {
+                final URL url = urls.nextElement();
+                switch (url.getProtocol()) {
+                    case "file":
+                        findFiles(url, directory, templates);
+                        break;
+                    case "jar":
+                        findJarEntries(url, directory, templates);
+                        break;
+                    default:
+                        LOGGER.warn("Unable to search {} for templates", url);
+                        break;
+                }
+            }
+        }
+        return templates;
+    }
+
+    private static void findFiles(URL url, String directory, Set<String> templates) throws IOException {
+        final Path root;
+        try {
+            root = Paths.get(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid classpath directory " + url, e);
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            templates.addAll(files.filter(Files::isRegularFile)
+                .map(file -> "/" + directory + "/" + root.relativize(file).toString().replace('\\', '/'))
+                .collect(Collectors.toList()));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void findJarEntries(URL url, String directory, Set<String> templates) throws IOException {
+        final JarURLConnection connection = (JarURLConnection) url.openConnection();
+        connection.setUseCaches(false);
+        final String prefix = directory + "/";
+        try (JarFile jar = connection.getJarFile()) {
+            final Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                if (!entry.isDirectory() && entry.getName().startsWith(prefix)) {
+                    templates.add("/" + entry.getName());
+                }
+            }
+        }
+    }
+
+    private static String trimSlashes(String path) {
+        int start = 0;
+        int end = path.length();
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(start, end);
+    }
+
+    private class Compilation {
+        private final String template;
+        private final ViewRenderer renderer;
+
+        private Compilation(String template, ViewRenderer renderer) {
+            this.template = template;
+            this.renderer = renderer;
+        }
+
+        private void run() throws ViewRenderException {
+            final Timer timer = timers.computeIfAbsent(renderer.getConfigurationKey(),
+                key -> metricRegistry.timer(name(ViewRenderer.class, key, "precompile")));
+            try (Timer.Context ignored = timer.time()) {
+                renderer.precompile(template, classLoader);
+            } catch (ViewRenderException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw new ViewRenderException("Unable to precompile " + template, e);
+            }
+        }
+    }
+
+    private static class PrecompilerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "view-precompiler-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
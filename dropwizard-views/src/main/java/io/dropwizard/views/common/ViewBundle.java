@@ -2,9 +2,11 @@ package io.dropwizard.views.common;
 
 import io.dropwizard.core.ConfiguredBundle;
 import io.dropwizard.core.setup.Environment;
+import io.dropwizard.util.DataSize;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
@@ -84,6 +86,14 @@ import java.util.Set;
  * <p>In this template, {@code {{person.name}}} calls {@code getPerson().getName()}.</p>
  *
  * See Also: <a href="http://mustache.github.io/mustache.5.html">Mustache Manual</a>
+ *
+ * <p>By default, rendered views are streamed to the client with chunked transfer encoding. Override
+ * {@link #getRenderBufferSize(Object)} to buffer views up to a given size, so that they are sent with a
+ * {@code Content-Length} header instead.</p>
+ *
+ * <p>Templates are compiled when they are rendered for the first time. Override
+ * {@link #getPrecompiledTemplatePaths(Object)} to compile all templates below a set of classpath directories in
+ * parallel while the application starts instead. A template which fails to compile then fails the startup.</p>
  */
 public class ViewBundle<T> implements ConfiguredBundle<T>, ViewConfigurable<T> {
     private final Iterable<ViewRenderer> viewRenderers;
@@ -105,6 +115,32 @@ public class ViewBundle<T> implements ConfiguredBundle<T>, ViewConfigurable<T> {
         return Map.of();
     }
 
+    /**
+     * Returns the maximum size of a rendered view which is buffered in memory, so that it can be sent with a
+     * {@code Content-Length} header. Larger views are streamed to the client. Defaults to zero, which streams all
+     * views.
+     *
+     * @param configuration the application's configuration
+     * @return the maximum size of a buffered view
+     * @since 4.0.11
+     */
+    public DataSize getRenderBufferSize(T configuration) {
+        return DataSize.bytes(0);
+    }
+
+    /**
+     * Returns the classpath directories, e.g. {@code com/example/views}, whose templates are compiled while the
+     * application starts, so that the first requests don't have to. Defaults to none, which compiles every template
+     * when it is rendered for the first time.
+     *
+     * @param configuration the application's configuration
+     * @return the classpath directories containing templates
+     * @since 4.0.11
+     */
+    public List<String> getPrecompiledTemplatePaths(T configuration) {
+        return List.of();
+    }
+
     @Override
     public void run(T configuration, Environment environment) throws Exception {
         final Map<String, Map<String, String>> options = getViewConfiguration(configuration);
@@ -112,6 +148,12 @@ public class ViewBundle<T> implements ConfiguredBundle<T>, ViewConfigurable<T> {
             final Map<String, String> viewOptions = options.get(viewRenderer.getConfigurationKey());
             viewRenderer.configure(viewOptions == null ? Map.of() : viewOptions);
         }
-        environment.jersey().register(new ViewMessageBodyWriter(environment.metrics(), viewRenderers));
+        final List<String> precompiledTemplatePaths = getPrecompiledTemplatePaths(configuration);
+        if (!precompiledTemplatePaths.isEmpty()) {
+            new TemplatePrecompiler(environment.metrics(), viewRenderers, getClass().getClassLoader(),
+                Runtime.getRuntime().availableProcessors()).precompile(precompiledTemplatePaths);
+        }
+        environment.jersey().register(new ViewMessageBodyWriter(environment.metrics(), viewRenderers,
+            Math.toIntExact(getRenderBufferSize(configuration).toBytes())));
     }
 }
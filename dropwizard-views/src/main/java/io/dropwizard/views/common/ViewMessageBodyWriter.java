@@ -20,6 +20,10 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.codahale.metrics.MetricRegistry.name;
 import static java.util.Objects.requireNonNull;
@@ -27,6 +31,7 @@ import static java.util.Objects.requireNonNull;
 @Provider
 @Produces({MediaType.TEXT_HTML, MediaType.APPLICATION_XHTML_XML})
 public class ViewMessageBodyWriter implements MessageBodyWriter<View> {
+    private static final int BUFFER_POOL_SIZE = 2 * Runtime.getRuntime().availableProcessors();
 
     @Context
     @Nullable
@@ -38,10 +43,27 @@ public class ViewMessageBodyWriter implements MessageBodyWriter<View> {
 
     private final Iterable<ViewRenderer> renderers;
     private final MetricRegistry metricRegistry;
+    private final int bufferSize;
+    private final ConcurrentMap<Class<?>, ViewDispatch> dispatches = new ConcurrentHashMap<>();
+    private final BlockingQueue<RenderBuffer> buffers = new ArrayBlockingQueue<>(BUFFER_POOL_SIZE);
 
     public ViewMessageBodyWriter(MetricRegistry metricRegistry, Iterable<ViewRenderer> viewRenderers) {
+        this(metricRegistry, viewRenderers, 0);
+    }
+
+    /**
+     * Creates a writer which buffers rendered views of up to {@code bufferSize} bytes, so that they are sent with a
+     * {@code Content-Length} header instead of chunked. Larger views are streamed once they exceed the buffer.
+     *
+     * @param metricRegistry the registry of the rendering timers
+     * @param viewRenderers  the renderers of views
+     * @param bufferSize     the maximum size of a buffered view in bytes, or {@code 0} to always stream views
+     * @since 4.0.11
+     */
+    public ViewMessageBodyWriter(MetricRegistry metricRegistry, Iterable<ViewRenderer> viewRenderers, int bufferSize) {
         this.metricRegistry = metricRegistry;
         this.renderers = viewRenderers;
+        this.bufferSize = bufferSize;
     }
 
     @Override
@@ -66,15 +88,17 @@ public class ViewMessageBodyWriter implements MessageBodyWriter<View> {
                         MediaType mediaType,
                         MultivaluedMap<String, Object> httpHeaders,
                         OutputStream entityStream) throws IOException {
-        final Timer.Context context = metricRegistry.timer(name(t.getClass(), "rendering")).time();
+        final ViewDispatch dispatch = dispatches.computeIfAbsent(t.getClass(),
+            viewClass -> new ViewDispatch(metricRegistry.timer(name(viewClass, "rendering"))));
+        final Timer.Context context = dispatch.timer.time();
         try {
-            for (ViewRenderer renderer : renderers) {
-                if (renderer.isRenderable(t)) {
-                    renderer.render(t, detectLocale(requireNonNull(headers)), entityStream);
-                    return;
-                }
+            final ViewRenderer renderer = dispatch.renderer(t);
+            final Locale locale = detectLocale(requireNonNull(headers));
+            if (bufferSize > 0) {
+                renderBuffered(renderer, t, locale, httpHeaders, entityStream);
+            } else {
+                renderer.render(t, locale, entityStream);
             }
-            throw new ViewRenderException("Unable to find a renderer for " + t.getTemplateName());
         } catch (ViewRenderException e) {
             throw new WebApplicationException(e);
         } finally {
@@ -82,6 +106,24 @@ public class ViewMessageBodyWriter implements MessageBodyWriter<View> {
         }
     }
 
+    private void renderBuffered(ViewRenderer renderer, View view, Locale locale,
+                                MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+        throws IOException {
+        final RenderBuffer pooled = buffers.poll();
+        final RenderBuffer buffer = pooled == null ? new RenderBuffer(bufferSize) : pooled;
+        buffer.open(entityStream);
+        try {
+            renderer.render(view, locale, buffer);
+            if (!buffer.isSpilled()) {
+                httpHeaders.putSingle(HttpHeaders.CONTENT_LENGTH, buffer.size());
+                buffer.writeTo(entityStream);
+            }
+        } finally {
+            buffer.release();
+            buffers.offer(buffer);
+        }
+    }
+
     protected Locale detectLocale(HttpHeaders headers) {
         final List<Locale> languages;
         try {
@@ -101,4 +143,32 @@ public class ViewMessageBodyWriter implements MessageBodyWriter<View> {
     Iterable<ViewRenderer> getRenderers() {
         return renderers;
     }
+
+    /**
+     * The rendering timer of a view class and the renderers of its templates.
+     */
+    private final class ViewDispatch {
+        private final Timer timer;
+        private final ConcurrentMap<String, ViewRenderer> renderersByTemplate = new ConcurrentHashMap<>();
+
+        private ViewDispatch(Timer timer) {
+            this.timer = timer;
+        }
+
+        private ViewRenderer renderer(View view) throws ViewRenderException {
+            // Renderers choose by the template, which may differ between views of the same class
+            final String templateName = view.getTemplateName();
+            final ViewRenderer cached = renderersByTemplate.get(templateName);
+            if (cached != null) {
+                return cached;
+            }
+            for (ViewRenderer candidate : renderers) {
+                if (candidate.isRenderable(view)) {
+                    renderersByTemplate.putIfAbsent(templateName, candidate);
+                    return candidate;
+                }
+            }
+            throw new ViewRenderException("Unable to find a renderer for " + templateName);
+        }
+    }
 }
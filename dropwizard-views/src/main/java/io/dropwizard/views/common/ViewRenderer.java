@@ -19,6 +19,30 @@ public interface ViewRenderer {
      */
     boolean isRenderable(View view);
 
+    /**
+     * Returns {@code true} if the renderer can render the template with the given name. Renderers which don't
+     * override this method are never asked to {@link #precompile(String, ClassLoader) precompile} a template.
+     *
+     * @param templateName the absolute name of a template resource
+     * @return {@code true} if the template can be rendered
+     * @since 4.0.11
+     */
+    default boolean isRenderable(String templateName) {
+        return false;
+    }
+
+    /**
+     * Compiles the template with the given name, so that the first view rendering it doesn't have to.
+     *
+     * @param templateName the absolute name of the template resource
+     * @param classLoader  the class loader of the views rendering the template
+     * @throws ViewRenderException if the template can't be compiled
+     * @since 4.0.11
+     */
+    default void precompile(String templateName, ClassLoader classLoader) throws ViewRenderException {
+        // Renderers without a template cache have nothing to compile ahead of time
+    }
+
     /**
      * Renders the given {@link View} for the given {@link Locale} to the given {@link
      * OutputStream}.
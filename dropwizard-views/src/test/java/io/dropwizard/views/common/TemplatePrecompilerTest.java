@@ -0,0 +1,143 @@
+package io.dropwizard.views.common;
+
+import com.codahale.metrics.MetricRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class TemplatePrecompilerTest {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final RecordingRenderer renderer = new RecordingRenderer();
+
+    @Test
+    void findsTemplatesInDirectoriesAndJars(@TempDir Path tempDir) throws Exception {
+        final Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        write(classes.resolve("views/index.tmpl"));
+        write(classes.resolve("views/partials/header.tmpl"));
+        write(classes.resolve("other/ignored.tmpl"));
+
+        final Path jar = tempDir.resolve("views.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("views/"));
+            out.closeEntry();
+            out.putNextEntry(new JarEntry("views/footer.tmpl"));
+            out.write("footer".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+
+        try (URLClassLoader classLoader = classLoader(classes, jar)) {
+            assertThat(precompiler(classLoader).findTemplates(List.of("/views/")))
+                .containsExactly("/views/footer.tmpl", "/views/index.tmpl", "/views/partials/header.tmpl");
+        }
+    }
+
+    @Test
+    void compilesRenderableTemplates(@TempDir Path tempDir) throws Exception {
+        final Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        write(classes.resolve("views/index.tmpl"));
+        write(classes.resolve("views/about.tmpl"));
+        write(classes.resolve("views/style.css"));
+
+        try (URLClassLoader classLoader = classLoader(classes)) {
+            assertThat(precompiler(classLoader).precompile(List.of("views"))).isEqualTo(2);
+            assertThat(renderer.compiled).containsOnly("/views/index.tmpl", "/views/about.tmpl");
+            assertThat(metricRegistry.getTimers())
+                .hasEntrySatisfying("io.dropwizard.views.common.ViewRenderer.test.precompile",
+                    timer -> assertThat(timer.getCount()).isEqualTo(2));
+        }
+    }
+
+    @Test
+    void failsIfATemplateDoesNotCompile(@TempDir Path tempDir) throws Exception {
+        final Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        write(classes.resolve("views/index.tmpl"));
+        write(classes.resolve("views/broken.tmpl"));
+
+        try (URLClassLoader classLoader = classLoader(classes)) {
+            assertThatExceptionOfType(ViewRenderException.class)
+                .isThrownBy(() -> precompiler(classLoader).precompile(List.of("views")))
+                .withMessage("Unable to precompile templates [/views/broken.tmpl]")
+                .withRootCauseInstanceOf(IllegalStateException.class);
+            assertThat(renderer.compiled).containsOnly("/views/index.tmpl");
+        }
+    }
+
+    @Test
+    void ignoresMissingDirectories(@TempDir Path tempDir) throws Exception {
+        try (URLClassLoader classLoader = classLoader(tempDir)) {
+            assertThat(precompiler(classLoader).precompile(List.of("missing"))).isZero();
+        }
+    }
+
+    private TemplatePrecompiler precompiler(ClassLoader classLoader) {
+        return new TemplatePrecompiler(metricRegistry, List.of(renderer), classLoader, 2);
+    }
+
+    private static URLClassLoader classLoader(Path... paths) throws IOException {
+        final URL[] urls = new URL[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            urls[i] = paths[i].toUri().toURL();
+        }
+        return new URLClassLoader(urls, null);
+    }
+
+    private static void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, file.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class RecordingRenderer implements ViewRenderer {
+        private final Set<String> compiled = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean isRenderable(View view) {
+            return isRenderable(view.getTemplateName());
+        }
+
+        @Override
+        public boolean isRenderable(String templateName) {
+            return templateName.endsWith(".tmpl");
+        }
+
+        @Override
+        public void precompile(String templateName, ClassLoader classLoader) throws ViewRenderException {
+            if (templateName.contains("broken")) {
+                throw new ViewRenderException("Unable to compile " + templateName,
+                    new IllegalStateException("Unexpected end of template"));
+            }
+            compiled.add(templateName);
+        }
+
+        @Override
+        public void render(View view, Locale locale, OutputStream output) {
+            // Never rendered
+        }
+
+        @Override
+        public void configure(Map<String, String> options) {
+            // Nothing to configure
+        }
+
+        @Override
+        public String getConfigurationKey() {
+            return "test";
+        }
+    }
+}
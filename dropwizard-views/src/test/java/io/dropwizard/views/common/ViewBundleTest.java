@@ -1,6 +1,7 @@
 package io.dropwizard.views.common;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.core.Configuration;
 import io.dropwizard.core.setup.Environment;
 import io.dropwizard.jersey.setup.JerseyEnvironment;
@@ -12,12 +13,15 @@ import org.mockito.ArgumentCaptor;
 
 import java.io.OutputStream;
 import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -99,4 +103,52 @@ class ViewBundleTest {
             .hasSize(1)
             .contains(renderer);
     }
+
+    @Test
+    void failsIfAPrecompiledTemplateDoesNotCompile() {
+        when(environment.metrics()).thenReturn(new MetricRegistry());
+        final ViewRenderer renderer = new ViewRenderer() {
+            @Override
+            public boolean isRenderable(View view) {
+                return isRenderable(view.getTemplateName());
+            }
+
+            @Override
+            public boolean isRenderable(String templateName) {
+                return templateName.endsWith(".class");
+            }
+
+            @Override
+            public void precompile(String templateName, ClassLoader classLoader) throws ViewRenderException {
+                throw new ViewRenderException("Unable to compile " + templateName);
+            }
+
+            @Override
+            public void render(View view, Locale locale, OutputStream output) {
+                //nothing to do
+            }
+
+            @Override
+            public void configure(Map<String, String> options) {
+                //nothing to do
+            }
+
+            @Override
+            public String getConfigurationKey() {
+                return "broken";
+            }
+        };
+
+        final ViewBundle<MyConfiguration> bundle = new ViewBundle<MyConfiguration>(Collections.singletonList(renderer)) {
+            @Override
+            public List<String> getPrecompiledTemplatePaths(MyConfiguration configuration) {
+                return List.of("io/dropwizard/views/common");
+            }
+        };
+
+        assertThatExceptionOfType(ViewRenderException.class)
+            .isThrownBy(() -> bundle.run(new MyConfiguration(), environment))
+            .withMessageStartingWith("Unable to precompile templates [/io/dropwizard/views/common/");
+        verify(jerseyEnvironment, never()).register(any());
+    }
 }
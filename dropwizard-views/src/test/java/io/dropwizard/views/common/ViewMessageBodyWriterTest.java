@@ -8,8 +8,11 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedHashMap;
 import org.glassfish.jersey.message.internal.HeaderValueException;
 import org.glassfish.jersey.server.ContainerRequest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
@@ -17,6 +20,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Locale;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.any;
@@ -24,7 +29,9 @@ import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -38,6 +45,11 @@ class ViewMessageBodyWriterTest {
     public Timer timer = mock(Timer.class);
     public Timer.Context timerContext = mock(Timer.Context.class);
 
+    @BeforeEach
+    void setUp() {
+        when(view.getTemplateName()).thenReturn("/example.ftl");
+    }
+
     @Test
     void writeToShouldUseValidRenderer() throws IOException {
         final ViewRenderer renderable = mock(ViewRenderer.class);
@@ -100,6 +112,109 @@ class ViewMessageBodyWriterTest {
         verify(timerContext).stop();
     }
 
+    @Test
+    void writeToShouldCacheRendererAndTimerPerViewClass() throws IOException {
+        final ViewRenderer renderable = mock(ViewRenderer.class);
+        final ViewRenderer nonRenderable = mock(ViewRenderer.class);
+        final Locale locale = new Locale("en-US");
+
+        when(metricRegistry.timer(anyString())).thenReturn(timer);
+        when(timer.time()).thenReturn(timerContext);
+
+        when(renderable.isRenderable(view)).thenReturn(true);
+        when(nonRenderable.isRenderable(view)).thenReturn(false);
+
+        final ViewMessageBodyWriter writer = spy(new ViewMessageBodyWriter(metricRegistry, Arrays.asList(nonRenderable, renderable)));
+        doReturn(locale).when(writer).detectLocale(any());
+        writer.setHeaders(mock(HttpHeaders.class));
+
+        for (int i = 0; i < 3; i++) {
+            writer.writeTo(view, Class.class, Class.class, new Annotation[]{}, new MediaType(),
+                new MultivaluedHashMap<>(), stream);
+        }
+
+        verify(metricRegistry).timer(anyString());
+        verify(nonRenderable).isRenderable(view);
+        verify(renderable, times(3)).render(view, locale, stream);
+        verify(timerContext, times(3)).stop();
+    }
+
+    @Test
+    void writeToShouldUseTheFirstValidRendererForEachTemplate() throws IOException {
+        final ViewRenderer first = mock(ViewRenderer.class);
+        final ViewRenderer second = mock(ViewRenderer.class);
+        final View other = mock(View.class);
+        final Locale locale = new Locale("en-US");
+
+        when(metricRegistry.timer(anyString())).thenReturn(timer);
+        when(timer.time()).thenReturn(timerContext);
+
+        when(other.getTemplateName()).thenReturn("/example.mustache");
+        when(first.isRenderable(view)).thenReturn(true);
+        when(first.isRenderable(other)).thenReturn(false);
+        when(second.isRenderable(view)).thenReturn(true);
+        when(second.isRenderable(other)).thenReturn(true);
+
+        final ViewMessageBodyWriter writer = spy(new ViewMessageBodyWriter(metricRegistry, Arrays.asList(first, second)));
+        doReturn(locale).when(writer).detectLocale(any());
+        writer.setHeaders(mock(HttpHeaders.class));
+
+        writer.writeTo(other, Class.class, Class.class, new Annotation[]{}, new MediaType(),
+            new MultivaluedHashMap<>(), stream);
+        writer.writeTo(view, Class.class, Class.class, new Annotation[]{}, new MediaType(),
+            new MultivaluedHashMap<>(), stream);
+
+        verify(second).render(other, locale, stream);
+        verify(first).render(view, locale, stream);
+        verify(second, times(0)).render(view, locale, stream);
+    }
+
+    @Test
+    void writeToShouldSetContentLengthOfBufferedViews() throws IOException {
+        final ByteArrayOutputStream entity = new ByteArrayOutputStream();
+        final MultivaluedHashMap<String, Object> httpHeaders = new MultivaluedHashMap<>();
+
+        writeBuffered("Hello, world!", 64, httpHeaders, entity);
+
+        assertThat(entity.toString(UTF_8)).isEqualTo("Hello, world!");
+        assertThat(httpHeaders.getFirst(HttpHeaders.CONTENT_LENGTH)).isEqualTo(13);
+    }
+
+    @Test
+    void writeToShouldStreamViewsLargerThanTheBuffer() throws IOException {
+        final ByteArrayOutputStream entity = new ByteArrayOutputStream();
+        final MultivaluedHashMap<String, Object> httpHeaders = new MultivaluedHashMap<>();
+
+        writeBuffered("Hello, world!", 8, httpHeaders, entity);
+
+        assertThat(entity.toString(UTF_8)).isEqualTo("Hello, world!");
+        assertThat(httpHeaders).doesNotContainKey(HttpHeaders.CONTENT_LENGTH);
+    }
+
+    private void writeBuffered(String content, int bufferSize, MultivaluedHashMap<String, Object> httpHeaders,
+                               OutputStream entity) throws IOException {
+        final ViewRenderer renderer = mock(ViewRenderer.class);
+        final Locale locale = new Locale("en-US");
+
+        when(metricRegistry.timer(anyString())).thenReturn(timer);
+        when(timer.time()).thenReturn(timerContext);
+        when(renderer.isRenderable(view)).thenReturn(true);
+        doAnswer((Answer<Void>) invocation -> {
+            final OutputStream output = invocation.getArgument(2);
+            // Write in two parts to exercise spilling the buffered part
+            output.write(content.substring(0, 5).getBytes(UTF_8));
+            output.write(content.substring(5).getBytes(UTF_8));
+            return null;
+        }).when(renderer).render(any(), any(), any());
+
+        final ViewMessageBodyWriter writer = spy(new ViewMessageBodyWriter(metricRegistry,
+            Collections.singletonList(renderer), bufferSize));
+        doReturn(locale).when(writer).detectLocale(any());
+        writer.setHeaders(mock(HttpHeaders.class));
+
+        writer.writeTo(view, Class.class, Class.class, new Annotation[]{}, new MediaType(), httpHeaders, entity);
+    }
+
     @Test
     void detectLocaleShouldHandleBadlyFormedHeader() {
         when(headers.getAcceptableLanguages()).thenThrow(HeaderValueException.class);